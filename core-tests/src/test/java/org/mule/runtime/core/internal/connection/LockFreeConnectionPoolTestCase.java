@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.mule.tck.probe.PollingProber.probe;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.core.internal.connection.ConnectionPool.ConnectionLifecycle;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class LockFreeConnectionPoolTestCase extends AbstractMuleTestCase {
+
+  private final AtomicInteger connected = new AtomicInteger();
+  private final AtomicInteger disconnected = new AtomicInteger();
+
+  private final SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+
+  private LockFreeConnectionPool<Object> pool;
+
+  @After
+  public void after() throws Exception {
+    if (pool != null) {
+      pool.close();
+    }
+    schedulerService.stop();
+  }
+
+  @Test
+  public void reusesReturnedConnection() throws Exception {
+    pool = createPool(new PoolingProfile(2, 2, 1000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    PooledConnection<Object> first = pool.borrowConnection();
+    pool.returnConnection(first);
+
+    assertThat(pool.borrowConnection(), is(sameInstance(first)));
+    assertThat(connected.get(), is(1));
+    assertThat(pool.getBorrowedCount(), is(2L));
+    assertThat(pool.getReturnedCount(), is(1L));
+  }
+
+  @Test
+  public void maxIdleExceededDisconnects() throws Exception {
+    pool = createPool(new PoolingProfile(3, 1, 1000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    PooledConnection<Object> first = pool.borrowConnection();
+    PooledConnection<Object> second = pool.borrowConnection();
+    pool.returnConnection(first);
+    pool.returnConnection(second);
+
+    assertThat(pool.getNumIdle(), is(1));
+    assertThat(pool.getNumActive(), is(0));
+    assertThat(disconnected.get(), is(1));
+  }
+
+  @Test
+  public void growWhenExhausted() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, 1000, WHEN_EXHAUSTED_GROW, INITIALISE_NONE));
+
+    pool.borrowConnection();
+    pool.borrowConnection();
+
+    assertThat(pool.getNumActive(), is(2));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void waitTimesOut() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, 100, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    pool.borrowConnection();
+    pool.borrowConnection();
+  }
+
+  @Test
+  public void returnedConnectionHandedOffToWaiter() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, -1, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    PooledConnection<Object> first = pool.borrowConnection();
+    CompletableFuture<PooledConnection<Object>> waiter = new CompletableFuture<>();
+    new Thread(() -> {
+      try {
+        waiter.complete(pool.borrowConnection());
+      } catch (Exception e) {
+        waiter.completeExceptionally(e);
+      }
+    }).start();
+
+    pool.returnConnection(first);
+    assertThat(waiter.get(5, SECONDS), is(sameInstance(first)));
+  }
+
+  @Test
+  public void invalidatedConnectionFreesCapacityForWaiter() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, -1, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    PooledConnection<Object> first = pool.borrowConnection();
+    CompletableFuture<PooledConnection<Object>> waiter = new CompletableFuture<>();
+    new Thread(() -> {
+      try {
+        waiter.complete(pool.borrowConnection());
+      } catch (Exception e) {
+        waiter.completeExceptionally(e);
+      }
+    }).start();
+
+    pool.invalidateConnection(first);
+    waiter.get(5, SECONDS);
+    assertThat(connected.get(), is(2));
+    assertThat(disconnected.get(), is(1));
+  }
+
+  @Test
+  public void evictsIdleConnections() throws Exception {
+    PoolingProfile poolingProfile = new PoolingProfile(2, 2, 1000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE);
+    poolingProfile.setMinEvictionMillis(10);
+    poolingProfile.setEvictionCheckIntervalMillis(10);
+    pool = createPool(poolingProfile);
+
+    pool.addConnection();
+    PooledConnection<Object> active = pool.borrowConnection();
+    pool.addConnection();
+
+    probe(() -> pool.getNumIdle() == 0 && disconnected.get() == 1);
+    assertThat(pool.getNumActive(), is(1));
+    pool.returnConnection(active);
+  }
+
+  @Test
+  public void closeDisconnectsIdleConnections() throws Exception {
+    pool = createPool(new PoolingProfile(2, 2, 1000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    pool.addConnection();
+    pool.addConnection();
+    pool.close();
+
+    assertThat(disconnected.get(), is(2));
+  }
+
+  private LockFreeConnectionPool<Object> createPool(PoolingProfile poolingProfile) {
+    return new LockFreeConnectionPool<>(poolingProfile, new ConnectionLifecycle<Object>() {
+
+      @Override
+      public Object create() {
+        connected.incrementAndGet();
+        return new Object();
+      }
+
+      @Override
+      public void destroy(Object connection) {
+        disconnected.incrementAndGet();
+      }
+    }, schedulerService::ioScheduler);
+  }
+}
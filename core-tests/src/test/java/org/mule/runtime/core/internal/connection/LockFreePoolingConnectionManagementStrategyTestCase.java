@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static org.mule.runtime.core.internal.connection.ConnectionPoolEngine.LOCK_FREE;
+
+public class LockFreePoolingConnectionManagementStrategyTestCase extends PoolingConnectionManagementStrategyTestCase {
+
+  @Override
+  protected ConnectionPoolEngine getPoolEngine() {
+    return LOCK_FREE;
+  }
+}
@@ -23,13 +23,13 @@ import static org.slf4j.event.Level.DEBUG;
 
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.PoolingListener;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.slf4j.Logger;
 
 import org.junit.After;
@@ -56,7 +56,13 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   public MockitoRule mockitorule = MockitoJUnit.rule();
 
   @Mock
-  private GenericObjectPool<Object> pool;
+  private ConnectionPool<Object> pool;
+
+  @Mock
+  private PooledConnection<Object> pooledConnection;
+
+  @Mock
+  private ConnectionPoolStatistics poolStatistics;
 
   @Mock
   private Object config;
@@ -74,7 +80,9 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
 
   @Before
   public void before() throws Exception {
-    managedConnection = new PoolingConnectionHandler<>(connection, pool, poolId, poolingListener, connectionProvider);
+    when(pooledConnection.getConnection()).thenReturn(connection);
+    when(pool.getStatistics()).thenReturn(poolStatistics);
+    managedConnection = new PoolingConnectionHandler<>(pooledConnection, pool, poolId, poolingListener, connectionProvider);
     debugMessages = new ArrayList<>();
     logger = createMockLogger(debugMessages, DEBUG);
     oldLogger = setLogger(PoolingConnectionHandler.class, LOGGER_FIELD_NAME, logger);
@@ -93,7 +101,7 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Test
   public void release() throws Exception {
     managedConnection.release();
-    verify(pool).returnObject(connection);
+    verify(pool).returnConnection(pooledConnection);
     verify(poolingListener).onReturn(connection);
     assertDisconnected();
   }
@@ -101,7 +109,7 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Test
   public void invalidate() throws Exception {
     managedConnection.invalidate();
-    verify(pool).invalidateObject(connection);
+    verify(pool).invalidateConnection(pooledConnection);
     assertDisconnected();
   }
 
@@ -117,7 +125,7 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
     new Thread(release).start();
 
     Thread.sleep(DELAY);
-    verify(pool, times(0)).returnObject(null);
+    verify(pool, times(0)).returnConnection(null);
   }
 
   private void assertDisconnected() throws org.mule.runtime.api.connection.ConnectionException {
@@ -132,7 +140,7 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Test
   public void close() throws Exception {
     managedConnection.close();
-    verify(pool, never()).returnObject(anyObject());
+    verify(pool, never()).returnConnection(anyObject());
   }
 
   @Test
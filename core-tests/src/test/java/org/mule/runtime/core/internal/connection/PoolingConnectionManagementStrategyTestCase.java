@@ -15,6 +15,8 @@ import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyObject;
 import static org.mockito.ArgumentMatchers.anyVararg;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -30,6 +32,7 @@ import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
 import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
 import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
 import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.mule.runtime.core.internal.connection.ConnectionPoolEngine.COMMONS_POOL;
 import static org.mule.runtime.core.privileged.util.LoggingTestUtils.createMockLogger;
 import static org.mule.runtime.core.privileged.util.LoggingTestUtils.setLogger;
 import static org.mule.runtime.core.privileged.util.LoggingTestUtils.verifyLogRegex;
@@ -253,6 +256,34 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
     verifyConnections(3);
   }
 
+  @Test
+  public void poolStatistics() throws Exception {
+    initStrategy();
+    connection1 = strategy.getConnectionHandler();
+    connection2 = strategy.getConnectionHandler();
+    connection2.release();
+
+    ConnectionPoolStatistics statistics = strategy.getPoolStatistics();
+    assertThat(statistics.getNumActive(), is(1));
+    assertThat(statistics.getNumIdle(), is(1));
+    assertThat(statistics.getMaxActive(), is(MAX_ACTIVE));
+    assertThat(statistics.getBorrowedCount(), is(2L));
+    assertThat(statistics.getReturnedCount(), is(1L));
+    assertThat(statistics.getCreatedCount(), is(2L));
+    assertThat(statistics.getDestroyedCount(), is(0L));
+  }
+
+  @Test
+  public void statisticsListenerGivenPoolStatistics() throws Exception {
+    PoolingStatisticsListener<Object> statisticsListener = mock(PoolingStatisticsListener.class);
+    poolingListener = statisticsListener;
+    initStrategy();
+
+    verify(statisticsListener).onPoolCreated(startsWith(ownerConfigName), eq(strategy.getPoolStatistics()));
+    connection1 = strategy.getConnectionHandler();
+    verify(statisticsListener).onBorrow(connection1.getConnection());
+  }
+
   @Test
   public void logInitialization() {
     poolingProfile =
@@ -317,7 +348,11 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
 
   private void initStrategy() {
     strategy = new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile, poolingListener, muleContext,
-                                                         ownerConfigName);
+                                                         ownerConfigName, getPoolEngine());
+  }
+
+  protected ConnectionPoolEngine getPoolEngine() {
+    return COMMONS_POOL;
   }
 
   private void verifyConnections(int numToCreate) throws ConnectionException {
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.DEFAULT_OVERFLOW_POLICY;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.resolveOverflowPolicy;
+import static org.mule.runtime.core.internal.context.notification.NotificationOverflowPolicy.BLOCK;
+import static org.mule.runtime.core.internal.context.notification.NotificationOverflowPolicy.DROP_OLDEST;
+import static org.mule.runtime.core.internal.context.notification.NotificationOverflowPolicy.SAMPLE;
+import static org.mule.test.allure.AllureConstants.NotificationsFeature.NOTIFICATIONS;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedList;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.notification.NotificationListener;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(NOTIFICATIONS)
+public class AsyncNotificationListenerGroupTestCase extends AbstractMuleTestCase {
+
+  private static final int BUFFER_SIZE = 4;
+  private static final int BATCH_SIZE = 2;
+  private static final long BLOCK_TIMEOUT = 10000;
+
+  private final List<Notification> received = new ArrayList<>();
+  private final List<Runnable> submittedTasks = synchronizedList(new ArrayList<>());
+  private final LongAdder droppedNotifications = new LongAdder();
+  private Scheduler scheduler;
+  private NotificationListener listener;
+  private boolean blockingAllowed = true;
+  private long blockTimeout = BLOCK_TIMEOUT;
+
+  @Before
+  public void before() {
+    scheduler = mock(Scheduler.class);
+    when(scheduler.submit(any(Runnable.class))).thenAnswer(inv -> {
+      submittedTasks.add(inv.getArgument(0));
+      return null;
+    });
+
+    listener = new NotificationListener() {
+
+      @Override
+      public void onNotification(Notification notification) {
+        received.add(notification);
+      }
+    };
+  }
+
+  private AsyncNotificationListenerGroup createGroup(NotificationOverflowPolicy overflowPolicy) {
+    return new AsyncNotificationListenerGroup(listener, () -> scheduler, BUFFER_SIZE, BATCH_SIZE, overflowPolicy, 2,
+                                              () -> blockingAllowed, blockTimeout, droppedNotifications);
+  }
+
+  private List<Notification> dispatch(AsyncNotificationListenerGroup group, int count) {
+    final List<Notification> notifications = new ArrayList<>();
+    for (int i = 0; i < count; ++i) {
+      final Notification notification = mock(Notification.class);
+      notifications.add(notification);
+      group.dispatch(notification);
+    }
+    return notifications;
+  }
+
+  private void runSubmittedTasks() {
+    while (!submittedTasks.isEmpty()) {
+      submittedTasks.remove(0).run();
+    }
+  }
+
+  @Test
+  public void singleTaskSubmittedForManyNotifications() {
+    final AsyncNotificationListenerGroup group = createGroup(DROP_OLDEST);
+    final List<Notification> notifications = dispatch(group, 3);
+
+    assertThat(submittedTasks, hasSize(1));
+    assertThat(group.getPendingNotifications(), is(3));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.toArray()));
+    assertThat(group.getPendingNotifications(), is(0));
+  }
+
+  @Test
+  public void drainsInBatches() {
+    final AsyncNotificationListenerGroup group = createGroup(DROP_OLDEST);
+    final List<Notification> notifications = dispatch(group, 3);
+
+    submittedTasks.remove(0).run();
+    assertThat(received, contains(notifications.get(0), notifications.get(1)));
+    assertThat("Remaining notifications not rescheduled", submittedTasks, hasSize(1));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.toArray()));
+  }
+
+  @Test
+  public void dropOldest() {
+    final AsyncNotificationListenerGroup group = createGroup(DROP_OLDEST);
+    final List<Notification> notifications = dispatch(group, BUFFER_SIZE + 2);
+
+    assertThat(group.getDroppedNotifications(), is(2L));
+    assertThat(droppedNotifications.sum(), is(2L));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.subList(2, BUFFER_SIZE + 2).toArray()));
+  }
+
+  @Test
+  public void sample() {
+    final AsyncNotificationListenerGroup group = createGroup(SAMPLE);
+    final List<Notification> notifications = dispatch(group, BUFFER_SIZE + 2);
+
+    // The first overflown notification is discarded, the second one displaces the oldest pending one
+    assertThat(group.getDroppedNotifications(), is(2L));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.get(1), notifications.get(2), notifications.get(3),
+                                  notifications.get(BUFFER_SIZE + 1)));
+  }
+
+  @Test
+  public void blockWaitsForRoom() throws Exception {
+    final AsyncNotificationListenerGroup group = createGroup(BLOCK);
+    final List<Notification> notifications = dispatch(group, BUFFER_SIZE);
+
+    final Notification blocked = mock(Notification.class);
+    final Thread producer = new Thread(() -> group.dispatch(blocked));
+    producer.start();
+
+    producer.join(200);
+    assertThat(producer.isAlive(), is(true));
+    assertThat(received, is(empty()));
+
+    submittedTasks.remove(0).run();
+    producer.join();
+
+    runSubmittedTasks();
+    final List<Notification> expected = new ArrayList<>(notifications);
+    expected.add(blocked);
+    assertThat(received, contains(expected.toArray()));
+    assertThat(group.getDroppedNotifications(), is(0L));
+  }
+
+  @Test
+  public void blockDoesNotWaitIfCannotBeDelivered() {
+    final AsyncNotificationListenerGroup group = createGroup(BLOCK);
+    doThrow(new RejectedExecutionException()).when(scheduler).submit(any(Runnable.class));
+
+    dispatch(group, BUFFER_SIZE + 1);
+
+    assertThat(group.getDroppedNotifications(), is(1L));
+    assertThat(group.getPendingNotifications(), is(BUFFER_SIZE));
+  }
+
+  @Test
+  public void blockDoesNotWaitIfBlockingNotAllowed() {
+    blockingAllowed = false;
+    final AsyncNotificationListenerGroup group = createGroup(BLOCK);
+    final List<Notification> notifications = dispatch(group, BUFFER_SIZE + 1);
+
+    assertThat(group.getDroppedNotifications(), is(1L));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.subList(1, BUFFER_SIZE + 1).toArray()));
+  }
+
+  @Test
+  public void blockWaitsUpToTimeout() {
+    blockTimeout = 50;
+    final AsyncNotificationListenerGroup group = createGroup(BLOCK);
+    final List<Notification> notifications = dispatch(group, BUFFER_SIZE + 1);
+
+    assertThat(group.getDroppedNotifications(), is(1L));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.subList(1, BUFFER_SIZE + 1).toArray()));
+  }
+
+  @Test
+  public void overflowPolicyResolution() {
+    assertThat(resolveOverflowPolicy(null), is(DEFAULT_OVERFLOW_POLICY));
+    assertThat(resolveOverflowPolicy("block"), is(BLOCK));
+    assertThat(resolveOverflowPolicy(" SAMPLE "), is(SAMPLE));
+    assertThat(resolveOverflowPolicy("DROP_NEWEST"), is(DEFAULT_OVERFLOW_POLICY));
+    assertThat(DEFAULT_OVERFLOW_POLICY, is(DROP_OLDEST));
+  }
+
+  @Test
+  public void rejectedNotificationsDeliveredLater() {
+    final AsyncNotificationListenerGroup group = createGroup(DROP_OLDEST);
+    doThrow(new RejectedExecutionException()).when(scheduler).submit(any(Runnable.class));
+    final List<Notification> notifications = dispatch(group, 2);
+
+    doAnswer(inv -> {
+      submittedTasks.add(inv.getArgument(0));
+      return null;
+    }).when(scheduler).submit(any(Runnable.class));
+    notifications.addAll(dispatch(group, 1));
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.toArray()));
+  }
+
+  @Test
+  public void listenerExceptionDoesNotStopDelivery() {
+    final Notification failing = mock(Notification.class);
+    listener = new NotificationListener() {
+
+      @Override
+      public void onNotification(Notification notification) {
+        if (notification == failing) {
+          throw new IllegalStateException("Expected");
+        }
+        received.add(notification);
+      }
+    };
+    final AsyncNotificationListenerGroup group = createGroup(DROP_OLDEST);
+
+    group.dispatch(failing);
+    final List<Notification> notifications = dispatch(group, 1);
+
+    runSubmittedTasks();
+    assertThat(received, contains(notifications.toArray()));
+  }
+
+  @Test
+  public void ringBufferCapacityRoundedToPowerOfTwo() {
+    assertThat(asList(new NotificationRingBuffer<>(1).capacity(), new NotificationRingBuffer<>(3).capacity(),
+                      new NotificationRingBuffer<>(1024).capacity(), new NotificationRingBuffer<>(1025).capacity()),
+               contains(2, 4, 1024, 2048));
+  }
+}
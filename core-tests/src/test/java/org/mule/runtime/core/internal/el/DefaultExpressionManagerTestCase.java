@@ -44,6 +44,8 @@ import org.mule.runtime.api.metadata.FunctionParameter;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledLogTemplate;
+import org.mule.runtime.core.api.el.CompiledTemplate;
 import org.mule.runtime.core.api.el.ExpressionManagerSession;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
@@ -290,6 +292,65 @@ public class DefaultExpressionManagerTestCase extends AbstractMuleContextTestCas
                both(startsWith("this is ")).and(containsString(stream.getClass().getSimpleName())));
   }
 
+  @Test
+  @Description("Verifies that a compiled log template renders the same as parsing the template, for many events.")
+  public void compiledLogTemplate() throws MuleException {
+    CompiledLogTemplate template = expressionManager.compileLogTemplate("this is #[payload] and #[vars.myVar]!");
+    for (String value : new String[] {"first", "second"}) {
+      CoreEvent event = getEventBuilder().message(Message.of(value)).addVariable("myVar", value + "Var").build();
+      assertThat(template.render(event, TEST_CONNECTOR_LOCATION, NULL_BINDING_CONTEXT),
+                 is(expressionManager.parseLogTemplate(template.getTemplate(), event, TEST_CONNECTOR_LOCATION,
+                                                       NULL_BINDING_CONTEXT)));
+    }
+  }
+
+  @Test
+  @Description("Verifies that a malformed log template can be compiled, and fails when rendered as when parsing it.")
+  public void compiledLogTemplateMalformed() throws MuleException {
+    CompiledLogTemplate template = expressionManager.compileLogTemplate("this is #[payload");
+    expectedException.expect(IllegalArgumentException.class);
+    template.render(testEvent(), TEST_CONNECTOR_LOCATION, NULL_BINDING_CONTEXT);
+  }
+
+  @Test
+  @Description("Verifies that a compiled log template handles values with escaped strings the same as parsing the template.")
+  public void compiledLogTemplateJsonWithEscapedStrings() throws MuleException {
+    CoreEvent event = getEventBuilder().message(Message.builder()
+        .value("{\"key1\": \"{\\\"key1\\\": \\\"value1\\\"}\"}")
+        .mediaType(MediaType.JSON)
+        .build())
+        .build();
+    assertThat(expressionManager.compileLogTemplate("this is #[payload]").render(event, TEST_CONNECTOR_LOCATION,
+                                                                              NULL_BINDING_CONTEXT),
+               is("this is {\"key1\": \"{\\\"key1\\\": \\\"value1\\\"}\"}"));
+  }
+
+  @Test
+  @Description("Verifies that a compiled template renders the same as parsing the template, for many events.")
+  public void compiledTemplate() throws MuleException {
+    CompiledTemplate template = expressionManager.compileTemplate("#['this is ' ++ payload ++ ' and ' ++ vars.myVar]");
+    for (String value : new String[] {"first", "second"}) {
+      CoreEvent event = getEventBuilder().message(Message.of(value)).addVariable("myVar", value + "Var").build();
+      assertThat(template.render(event, TEST_CONNECTOR_LOCATION),
+                 is(expressionManager.parse(template.getTemplate(), event, TEST_CONNECTOR_LOCATION)));
+    }
+  }
+
+  @Test
+  @Description("Verifies that a compiled template without expressions renders to itself.")
+  public void compiledTemplatePlainString() throws MuleException {
+    String template = "this is a test";
+    assertThat(expressionManager.compileTemplate(template).render(testEvent(), TEST_CONNECTOR_LOCATION), is(template));
+  }
+
+  @Test
+  @Description("Verifies that a template that is not a valid expression fails when rendered, as when parsing it.")
+  public void compiledTemplateInvalidExpression() throws MuleException {
+    CompiledTemplate template = expressionManager.compileTemplate("this is #[payload]");
+    expectedException.expect(RuntimeException.class);
+    template.render(testEvent(), TEST_CONNECTOR_LOCATION);
+  }
+
   @Test
   public void isValid() {
     String expression = "2*2";
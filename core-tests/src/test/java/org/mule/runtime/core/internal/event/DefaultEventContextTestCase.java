@@ -9,10 +9,12 @@ package org.mule.runtime.core.internal.event;
 import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -51,6 +53,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -84,6 +89,7 @@ public class DefaultEventContextTestCase extends AbstractMuleContextTestCase {
 
   private static final int GC_POLLING_TIMEOUT = 10000;
   private static final String TEST_CORRELATION_ID = "Gracia al fulbo";
+  private static final int CONCURRENCY = 8;
 
   @Rule
   public ExpectedException expectedException = ExpectedException.none();
@@ -696,6 +702,129 @@ public class DefaultEventContextTestCase extends AbstractMuleContextTestCase {
     assertThat(callbacks, contains("onResponse", "onComplete", "onTerminated"));
   }
 
+  @Test
+  @Description("Callbacks of the same kind are signalled in the order they were registered.")
+  public void callbacksRegistrationOrder() {
+    List<String> callbacks = new ArrayList<>();
+
+    final DefaultEventContext eventContext = context.get();
+
+    eventContext.onResponse((e, t) -> callbacks.add("onResponse1"));
+    eventContext.onResponse((e, t) -> callbacks.add("onResponse2"));
+    eventContext.onResponse((e, t) -> callbacks.add("onResponse3"));
+
+    eventContext.success();
+
+    assertThat(callbacks, contains("onResponse1", "onResponse2", "onResponse3"));
+  }
+
+  @Test
+  @Description("When many threads complete the context concurrently, only the first response is taken and each callback is signalled once.")
+  public void concurrentResponses() throws Exception {
+    final DefaultEventContext eventContext = context.get();
+    final AtomicInteger responses = new AtomicInteger();
+    final AtomicInteger terminations = new AtomicInteger();
+
+    final Latch start = new Latch();
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < CONCURRENCY; ++i) {
+      final boolean fail = i % 2 == 0;
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        eventContext.onResponse((e, t) -> responses.incrementAndGet());
+        eventContext.onTerminated((e, t) -> terminations.incrementAndGet());
+        if (fail) {
+          eventContext.error(new NullPointerException());
+        } else {
+          eventContext.success();
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+
+    start.release();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(eventContext.isTerminated(), is(true));
+    assertThat(responses.get(), is(CONCURRENCY));
+    assertThat(terminations.get(), is(CONCURRENCY));
+  }
+
+  @Test
+  @Description("Parent EventContext terminates once, after all of its child contexts are completed concurrently.")
+  public void concurrentChildrenCompletion() throws Exception {
+    final List<BaseEventContext> children = new ArrayList<>();
+    for (int i = 0; i < CONCURRENCY; ++i) {
+      children.add(child(parent, empty()));
+    }
+    final AtomicInteger completions = new AtomicInteger();
+    parent.onComplete((e, t) -> completions.incrementAndGet());
+
+    final Latch start = new Latch();
+    final List<Thread> threads = new ArrayList<>();
+    for (BaseEventContext childContext : children) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        childContext.success();
+      });
+      threads.add(thread);
+      thread.start();
+    }
+
+    parent.success();
+    start.release();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertParent(nullValue(), nullValue(), true, true);
+    assertThat(completions.get(), is(1));
+  }
+
+  @Test
+  @Description("The response publisher gets the response when it is requested while the response is being set.")
+  public void concurrentResponseAndResponsePublisher() throws Exception {
+    final ExecutorService executor = newFixedThreadPool(2);
+    try {
+      for (int i = 0; i < 1000; ++i) {
+        final DefaultEventContext eventContext = context.get();
+        // Keeps the context from terminating once it has its response
+        final BaseEventContext pendingChild = child(eventContext, empty());
+        final CoreEvent event = mock(CoreEvent.class);
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        final Future<?> response = executor.submit(() -> {
+          barrier.await();
+          eventContext.success(event);
+          return null;
+        });
+        final Future<Publisher<CoreEvent>> responsePublisher = executor.submit(() -> {
+          barrier.await();
+          return eventContext.getResponsePublisher();
+        });
+
+        response.get();
+        assertThat(from(responsePublisher.get()).block(), sameInstance(event));
+        pendingChild.success();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void rootIdIsCorrelationId() {
     EventContext context = EventContextFactory.create("someId", "theServer", null, TEST_CORRELATION_ID, empty());
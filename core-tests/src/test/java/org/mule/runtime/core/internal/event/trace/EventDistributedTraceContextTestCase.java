@@ -10,6 +10,7 @@ package org.mule.runtime.core.internal.event.trace;
 import static org.junit.Assert.fail;
 import static org.mule.runtime.core.internal.event.trace.extractor.w3c.TraceParentContextFieldExtractor.TRACEPARENT;
 import static org.mule.runtime.core.internal.event.trace.extractor.w3c.TraceStateContextFieldExtractor.TRACESTATE;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
 import static org.mule.test.allure.AllureConstants.EventContextFeature.EVENT_CONTEXT;
 import static org.mule.test.allure.AllureConstants.EventContextFeature.EventContextStory.DISTRIBUTED_TRACE_CONTEXT;
 
@@ -17,6 +18,7 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -65,4 +67,14 @@ public class EventDistributedTraceContextTestCase {
     assertThat(eventDistributedTraceContext.baggageItemsAsMap(), aMapWithSize(1));
   }
 
+  @Test
+  public void unsampledSpanIsKeptWhenEnded() {
+    DistributedTraceContext eventDistributedTraceContext = EventDistributedTraceContext.emptyDistributedTraceContext();
+    eventDistributedTraceContext.setCurrentSpan(UNSAMPLED_SPAN);
+
+    eventDistributedTraceContext.endCurrentContextSpan();
+
+    assertThat(eventDistributedTraceContext.getCurrentSpan().get(), sameInstance(UNSAMPLED_SPAN));
+  }
+
 }
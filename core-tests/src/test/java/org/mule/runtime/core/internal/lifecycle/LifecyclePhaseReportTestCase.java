@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static org.mule.runtime.core.internal.lifecycle.LifecyclePhaseReport.MAX_REPORTED_OBJECTS;
+import static org.mule.test.allure.AllureConstants.LifecycleAndDependencyInjectionFeature.LIFECYCLE_AND_DEPENDENCY_INJECTION;
+import static org.mule.test.allure.AllureConstants.LifecycleAndDependencyInjectionFeature.LifecyclePhaseStory.LIFECYCLE_PHASE_STORY;
+
+import static java.lang.System.lineSeparator;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.Test;
+
+@Feature(LIFECYCLE_AND_DEPENDENCY_INJECTION)
+@Story(LIFECYCLE_PHASE_STORY)
+public class LifecyclePhaseReportTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void slowestObjectsFirst() {
+    LifecyclePhaseReport report = new LifecyclePhaseReport("app", Startable.PHASE_NAME);
+    report.record(named("fast"), MILLISECONDS.toNanos(1));
+    report.record(named("slow"), MILLISECONDS.toNanos(30));
+    report.record(new Object(), MILLISECONDS.toNanos(10));
+
+    String[] lines = report.generate().split(lineSeparator());
+    assertThat(lines.length, is(4));
+    assertThat(lines[0], startsWith("Lifecycle phase 'start' of 'app' took "));
+    assertThat(lines[0].endsWith(" ms for 3 objects (41 ms accumulated). Slowest objects:"), is(true));
+    assertThat(lines[1], is("  30 ms - TestNamedObject: slow [" + currentThread().getName() + "]"));
+    assertThat(lines[2], is("  10 ms - Object [" + currentThread().getName() + "]"));
+    assertThat(lines[3], is("  1 ms - TestNamedObject: fast [" + currentThread().getName() + "]"));
+  }
+
+  @Test
+  public void reportedObjectsAreLimited() {
+    LifecyclePhaseReport report = new LifecyclePhaseReport("app", Startable.PHASE_NAME);
+    for (int i = 0; i < MAX_REPORTED_OBJECTS + 5; ++i) {
+      report.record(named("object" + i), MILLISECONDS.toNanos(i));
+    }
+
+    String[] lines = report.generate().split(lineSeparator());
+    assertThat(lines.length, is(MAX_REPORTED_OBJECTS + 1));
+    assertThat(lines[0].contains("for " + (MAX_REPORTED_OBJECTS + 5) + " objects"), is(true));
+    assertThat(lines[1], startsWith("  " + (MAX_REPORTED_OBJECTS + 4) + " ms - TestNamedObject: object"
+        + (MAX_REPORTED_OBJECTS + 4)));
+    assertThat(lines[MAX_REPORTED_OBJECTS], startsWith("  5 ms - TestNamedObject: object5 "));
+  }
+
+  private static NamedObject named(String name) {
+    return new TestNamedObject(name);
+  }
+
+  private static final class TestNamedObject implements NamedObject {
+
+    private final String name;
+
+    private TestNamedObject(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.internal.lifecycle.RegistryLifecycleManager.MULE_LIFECYCLE_REPORT;
+import static org.mule.runtime.core.internal.lifecycle.RegistryLifecycleManager.MULE_PARALLEL_LIFECYCLE;
+import static org.mule.runtime.core.internal.lifecycle.RegistryLifecycleManager.MULE_PARALLEL_LIFECYCLE_THREADS;
+import static org.mule.runtime.core.privileged.util.LoggingTestUtils.createMockLogger;
+import static org.mule.runtime.core.privileged.util.LoggingTestUtils.setLogger;
+import static org.mule.runtime.core.privileged.util.LoggingTestUtils.verifyLogRegex;
+import static org.mule.test.allure.AllureConstants.LifecycleAndDependencyInjectionFeature.LIFECYCLE_AND_DEPENDENCY_INJECTION;
+import static org.mule.test.allure.AllureConstants.LifecycleAndDependencyInjectionFeature.LifecyclePhaseStory.LIFECYCLE_PHASE_STORY;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.regex.Pattern.quote;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.slf4j.event.Level.INFO;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.lifecycle.LifecycleCallback;
+import org.mule.runtime.core.internal.lifecycle.phases.LifecyclePhase;
+import org.mule.runtime.core.internal.registry.Registry;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@Feature(LIFECYCLE_AND_DEPENDENCY_INJECTION)
+@Story(LIFECYCLE_PHASE_STORY)
+public class RegistryLifecycleCallbackTestCase extends AbstractMuleTestCase {
+
+  private static final String APP_ID = "app";
+  private static final String PARALLEL_THREADS_PREFIX = "[" + APP_ID + "].lifecycle." + Initialisable.PHASE_NAME;
+  private static final long BARRIER_TIMEOUT = 5000;
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+  private final Properties deploymentProperties = new Properties();
+  private MuleContext muleContext;
+
+  @Before
+  public void before() {
+    muleContext = mock(MuleContext.class);
+    when(muleContext.getId()).thenReturn(APP_ID);
+    when(muleContext.getDeploymentProperties()).thenReturn(deploymentProperties);
+    doAnswer(inv -> {
+      inv.getArgument(0, Runnable.class).run();
+      return null;
+    }).when(muleContext).withLifecycleLock(any());
+  }
+
+  @After
+  public void after() {
+    System.clearProperty(MULE_PARALLEL_LIFECYCLE);
+  }
+
+  @Test
+  public void sequentialByDefault() throws Exception {
+    TrackedObject a = new TrackedObject("a");
+    TrackedObject b = new TrackedObject("b");
+
+    initialise(asList(asList(a, b)));
+
+    assertThat(events, is(asList("before:a", "after:a", "before:b", "after:b")));
+    assertThat(a.thread, is(currentThread().getName()));
+    assertThat(b.thread, is(currentThread().getName()));
+  }
+
+  @Test
+  public void groupsAppliedInOrder() throws Exception {
+    deploymentProperties.setProperty(MULE_PARALLEL_LIFECYCLE, "true");
+    // The barrier is only passed if both objects of the first group are initialised at the same time
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    TrackedObject a = new TrackedObject("a", barrier, false);
+    TrackedObject b = new TrackedObject("b", barrier, false);
+    TrackedObject c = new TrackedObject("c");
+    TrackedObject d = new TrackedObject("d");
+
+    initialise(asList(asList(a, b), singletonList(c), singletonList(d)));
+
+    assertThat(events.indexOf("before:c"), greaterThan(events.indexOf("after:a")));
+    assertThat(events.indexOf("before:c"), greaterThan(events.indexOf("after:b")));
+    assertThat(events.subList(4, events.size()), is(asList("before:c", "after:c", "before:d", "after:d")));
+    assertThat(a.thread, startsWith(PARALLEL_THREADS_PREFIX));
+    assertThat(b.thread, startsWith(PARALLEL_THREADS_PREFIX));
+    // Groups of a single object don't need to be handed off to another thread
+    assertThat(c.thread, is(currentThread().getName()));
+  }
+
+  @Test
+  public void failureInGroupStopsPhase() throws Exception {
+    deploymentProperties.setProperty(MULE_PARALLEL_LIFECYCLE, "true");
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    TrackedObject a = new TrackedObject("a", barrier, false);
+    TrackedObject failing = new TrackedObject("failing", barrier, true);
+    TrackedObject c = new TrackedObject("c");
+
+    try {
+      initialise(asList(asList(a, failing), singletonList(c)));
+      fail("Expected the phase to fail");
+    } catch (MuleException e) {
+      assertThat(e, is(instanceOf(LifecycleException.class)));
+    }
+
+    // The rest of the failed group is awaited, but the following groups are not processed
+    assertThat(events, hasItem("after:a"));
+    assertThat(events, not(hasItem("after:failing")));
+    assertThat(events, not(hasItem("before:c")));
+  }
+
+  @Test
+  public void deploymentPropertyEnablesParallelLifecycle() throws Exception {
+    System.setProperty(MULE_PARALLEL_LIFECYCLE, "false");
+    deploymentProperties.setProperty(MULE_PARALLEL_LIFECYCLE, "true");
+    deploymentProperties.setProperty(MULE_PARALLEL_LIFECYCLE_THREADS, "3");
+    CyclicBarrier barrier = new CyclicBarrier(3);
+    TrackedObject a = new TrackedObject("a", barrier, false);
+    TrackedObject b = new TrackedObject("b", barrier, false);
+    TrackedObject c = new TrackedObject("c", barrier, false);
+
+    TestRegistryLifecycleManager manager = initialise(asList(asList(a, b, c)));
+
+    assertThat(manager.isParallelLifecycleEnabled(), is(true));
+    assertThat(manager.getParallelLifecycleThreads(), is(3));
+    assertThat(a.thread, startsWith(PARALLEL_THREADS_PREFIX));
+    assertThat(b.thread, startsWith(PARALLEL_THREADS_PREFIX));
+    assertThat(c.thread, startsWith(PARALLEL_THREADS_PREFIX));
+  }
+
+  @Test
+  public void deploymentPropertyDisablesParallelLifecycle() throws Exception {
+    System.setProperty(MULE_PARALLEL_LIFECYCLE, "true");
+    deploymentProperties.setProperty(MULE_PARALLEL_LIFECYCLE, "false");
+    TrackedObject a = new TrackedObject("a");
+    TrackedObject b = new TrackedObject("b");
+
+    TestRegistryLifecycleManager manager = initialise(asList(asList(a, b)));
+
+    assertThat(manager.isParallelLifecycleEnabled(), is(false));
+    assertThat(events, is(asList("before:a", "after:a", "before:b", "after:b")));
+    assertThat(a.thread, is(currentThread().getName()));
+    assertThat(b.thread, is(currentThread().getName()));
+  }
+
+  @Test
+  public void systemPropertyEnablesParallelLifecycle() throws Exception {
+    System.setProperty(MULE_PARALLEL_LIFECYCLE, "true");
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    TrackedObject a = new TrackedObject("a", barrier, false);
+    TrackedObject b = new TrackedObject("b", barrier, false);
+
+    initialise(asList(asList(a, b)));
+
+    assertThat(a.thread, startsWith(PARALLEL_THREADS_PREFIX));
+    assertThat(b.thread, startsWith(PARALLEL_THREADS_PREFIX));
+  }
+
+  @Test
+  public void phaseReport() throws Exception {
+    deploymentProperties.setProperty(MULE_PARALLEL_LIFECYCLE, "true");
+    deploymentProperties.setProperty(MULE_LIFECYCLE_REPORT, "true");
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    TrackedObject a = new TrackedObject("a", barrier, false);
+    TrackedObject b = new TrackedObject("b", barrier, false);
+    TrackedObject c = new TrackedObject("c");
+
+    List<String> messages = new ArrayList<>();
+    Logger oldLogger = setLogger(RegistryLifecycleCallback.class, "LOGGER", createMockLogger(messages, INFO));
+    try {
+      initialise(asList(asList(a, b), singletonList(c)));
+    } finally {
+      setLogger(RegistryLifecycleCallback.class, "LOGGER", oldLogger);
+    }
+
+    verifyLogRegex(messages, "(?s)Lifecycle phase 'initialise' of 'app' took \\d+ ms for 3 objects \\(\\d+ ms accumulated\\)"
+        + "\\. Slowest objects:.*");
+    verifyLogRegex(messages, "(?s).*\\d+ ms - TrackedObject: a \\[" + quote(a.thread) + "\\].*");
+    verifyLogRegex(messages, "(?s).*\\d+ ms - TrackedObject: b \\[" + quote(b.thread) + "\\].*");
+    verifyLogRegex(messages, "(?s).*\\d+ ms - TrackedObject: c \\[" + quote(c.thread) + "\\].*");
+  }
+
+  @Test
+  public void noReportByDefault() throws Exception {
+    List<String> messages = new ArrayList<>();
+    Logger oldLogger = setLogger(RegistryLifecycleCallback.class, "LOGGER", createMockLogger(messages, INFO));
+    try {
+      initialise(asList(singletonList(new TrackedObject("a"))));
+    } finally {
+      setLogger(RegistryLifecycleCallback.class, "LOGGER", oldLogger);
+    }
+
+    assertThat(messages.stream().filter(m -> m.startsWith("Lifecycle phase")).collect(toList()), is(new ArrayList<>()));
+  }
+
+  private TestRegistryLifecycleManager initialise(List<List<Object>> groups) throws Exception {
+    TestRegistryLifecycleManager manager = new TestRegistryLifecycleManager(muleContext, groups);
+    LifecycleCallback<Object> callback = manager.callbacks.get(Initialisable.PHASE_NAME);
+    callback.onTransition(Initialisable.PHASE_NAME, manager.getLifecycleObject());
+    return manager;
+  }
+
+  private static class TestRegistryLifecycleManager extends RegistryLifecycleManager {
+
+    private final List<List<Object>> groups;
+
+    private TestRegistryLifecycleManager(MuleContext muleContext, List<List<Object>> groups) {
+      super(APP_ID, mock(Registry.class), muleContext, new NullLifecycleInterceptor());
+      this.groups = groups;
+    }
+
+    @Override
+    protected List<Object> getObjectsForPhase(LifecyclePhase phase) {
+      return groups.stream().flatMap(List::stream).collect(toList());
+    }
+
+    @Override
+    protected List<List<Object>> getObjectGroupsForPhase(LifecyclePhase phase) {
+      return groups;
+    }
+  }
+
+  private class TrackedObject implements Initialisable, NamedObject {
+
+    private final String name;
+    private final CyclicBarrier barrier;
+    private final boolean fail;
+    private volatile String thread;
+
+    private TrackedObject(String name) {
+      this(name, null, false);
+    }
+
+    private TrackedObject(String name, CyclicBarrier barrier, boolean fail) {
+      this.name = name;
+      this.barrier = barrier;
+      this.fail = fail;
+    }
+
+    @Override
+    public void initialise() throws InitialisationException {
+      thread = currentThread().getName();
+      events.add("before:" + name);
+      if (barrier != null) {
+        try {
+          barrier.await(BARRIER_TIMEOUT, MILLISECONDS);
+        } catch (Exception e) {
+          throw new InitialisationException(e, this);
+        }
+      }
+      if (fail) {
+        throw new InitialisationException(createStaticMessage("Expected failure of " + name), this);
+      }
+      events.add("after:" + name);
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
@@ -47,6 +47,48 @@ public class InstanceLockGroupTestCase extends AbstractMuleTestCase {
     testHighConcurrency(true);
   }
 
+  @Test
+  public void testUnfairLockUnlock() throws Exception {
+    instanceLockGroup = new InstanceLockGroup(new SingleServerLockProvider(false));
+    testHighConcurrency(false);
+  }
+
+  @Test
+  public void testUnfairTryLockUnlock() throws Exception {
+    instanceLockGroup = new InstanceLockGroup(new SingleServerLockProvider(false));
+    testHighConcurrency(true);
+  }
+
+  @Test
+  public void testWhenTryLockFailsThenDestroyOnUnlock() throws Exception {
+    mockLockProvider = Mockito.spy(new SingleServerLockProvider());
+    InstanceLockGroup instanceLockGroup = new InstanceLockGroup(mockLockProvider);
+    Latch locked = new Latch();
+    Latch release = new Latch();
+    Thread holder = new Thread(() -> {
+      instanceLockGroup.lock("lockId");
+      locked.release();
+      try {
+        release.await(5000, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        instanceLockGroup.unlock("lockId");
+      }
+    });
+    holder.start();
+    locked.await(5000, TimeUnit.MILLISECONDS);
+
+    assertThat(instanceLockGroup.tryLock("lockId"), is(false));
+    assertThat(instanceLockGroup.tryLock("lockId", 10, TimeUnit.MILLISECONDS), is(false));
+    release.release();
+    holder.join();
+
+    instanceLockGroup.lock("lockId");
+    instanceLockGroup.unlock("lockId");
+    Mockito.verify(mockLockProvider, VerificationModeFactory.times(2)).createLock("lockId");
+  }
+
   @Test
   public void testWhenUnlockThenDestroy() throws Exception {
     lockUnlockThenDestroy(1);
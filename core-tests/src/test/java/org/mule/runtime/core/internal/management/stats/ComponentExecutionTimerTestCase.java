@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+
+import static java.util.Optional.empty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.ComponentStatistics;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ComponentExecutionTimerTestCase extends AbstractMuleTestCase {
+
+  private final ComponentStatistics statistics = new ComponentStatistics();
+  private final ComponentExecutionTimer timer = new ComponentExecutionTimer(statistics);
+
+  private CoreEvent event;
+
+  @Before
+  public void before() {
+    statistics.setEnabled(true);
+    event = CoreEvent.builder(create("id", "server", TEST_CONNECTOR_LOCATION, null, empty())).message(of("")).build();
+  }
+
+  @Test
+  public void executionTimeRecorded() {
+    timer.start(event);
+    timer.stop(event);
+
+    assertThat(statistics.getExecutedEvents(), is(1L));
+    assertThat(timer.getPendingExecutions(), is(0));
+  }
+
+  @Test
+  public void filteredEventReleasedOnTermination() {
+    timer.start(event);
+    assertThat(timer.getPendingExecutions(), is(1));
+
+    // The component doesn't emit a result for the event
+    ((BaseEventContext) event.getContext()).success();
+
+    assertThat(timer.getPendingExecutions(), is(0));
+    assertThat(statistics.getExecutedEvents(), is(0L));
+  }
+
+  @Test
+  public void eventFailedWithoutMessagingExceptionReleasedOnTermination() {
+    timer.start(event);
+
+    ((BaseEventContext) event.getContext()).error(new IllegalStateException("Expected"));
+
+    assertThat(timer.getPendingExecutions(), is(0));
+    assertThat(statistics.getExecutedEvents(), is(0L));
+  }
+
+  @Test
+  public void nothingTrackedWhileDisabled() {
+    statistics.setEnabled(false);
+
+    timer.start(event);
+
+    assertThat(timer.getPendingExecutions(), is(0));
+  }
+}
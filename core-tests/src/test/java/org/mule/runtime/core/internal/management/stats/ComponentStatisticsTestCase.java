@@ -58,6 +58,23 @@ public class ComponentStatisticsTestCase extends AbstractMuleTestCase {
     assertValues(stats, 1L, 50L, 50L, 50L, 50L);
   }
 
+  @Test
+  public void executionTimeSnapshot() {
+    ComponentStatistics stats = new ComponentStatistics();
+    stats.addExecutionTime(100L);
+    stats.addExecutionBranchTime(true, 25L, 25L);
+    stats.addCompleteExecutionTime(50L);
+    assertThat(stats.getExecutionTimeSnapshot().getCount(), equalTo(2L));
+    assertThat(stats.getExecutionTimeSnapshot().getValueAtPercentile(0), equalTo(50L));
+    assertThat(stats.getExecutionTimeIntervalSnapshot().getCount(), equalTo(2L));
+
+    stats.addExecutionTime(10L);
+    assertThat(stats.getExecutionTimeIntervalSnapshot().getCount(), equalTo(1L));
+
+    stats.clear();
+    assertThat(stats.getExecutionTimeSnapshot().getCount(), equalTo(0L));
+  }
+
   @Test
   public void clearStats() {
     ComponentStatistics stats = new ComponentStatistics();
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.MAX_TRACKABLE_VALUE;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.SUB_BUCKETS;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.highestValueFor;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.indexFor;
+
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Test;
+
+@SmallTest
+public class LatencyHistogramTestCase extends AbstractMuleTestCase {
+
+  private final LatencyHistogram histogram = new LatencyHistogram(4);
+
+  @Test
+  public void emptySnapshot() {
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(0L));
+    assertThat(snapshot.getP99(), is(0L));
+    assertThat(snapshot.getMax(), is(0L));
+  }
+
+  @Test
+  public void bucketsBoundRelativeError() {
+    int previousIndex = indexFor(0);
+    for (long value = 1; value <= MAX_TRACKABLE_VALUE; value += 1 + value / 1000) {
+      final int index = indexFor(value);
+      final long highest = highestValueFor(index);
+      assertThat(index, greaterThanOrEqualTo(previousIndex));
+      assertThat(highest, allOf(greaterThanOrEqualTo(value), lessThanOrEqualTo(value + value / SUB_BUCKETS)));
+      previousIndex = index;
+    }
+  }
+
+  @Test
+  public void valuesAboveMaxTrackableGoToLastBucket() {
+    assertThat(indexFor(Long.MAX_VALUE), is(indexFor(MAX_TRACKABLE_VALUE)));
+    assertThat(indexFor(-1), is(0));
+  }
+
+  @Test
+  public void percentiles() {
+    for (int i = 1; i <= 1000; ++i) {
+      histogram.record(i);
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(1000L));
+    assertWithinPrecision(snapshot.getP50(), 500);
+    assertWithinPrecision(snapshot.getP90(), 900);
+    assertWithinPrecision(snapshot.getP99(), 990);
+    assertWithinPrecision(snapshot.getMax(), 1000);
+    assertThat(snapshot.getValueAtPercentile(0), is(1L));
+  }
+
+  @Test
+  public void tailIsNotHiddenByAverage() {
+    for (int i = 0; i < 990; ++i) {
+      histogram.record(10);
+    }
+    for (int i = 0; i < 10; ++i) {
+      histogram.record(5000);
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getP50(), is(10L));
+    assertThat(snapshot.getP99(), is(10L));
+    assertWithinPrecision(snapshot.getP999(), 5000);
+  }
+
+  @Test
+  public void clear() {
+    histogram.record(10);
+    histogram.clear();
+    histogram.record(20);
+
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(1L));
+    assertThat(snapshot.getMax(), is(20L));
+  }
+
+  @Test
+  public void intervalSnapshots() {
+    histogram.record(10);
+    histogram.record(20);
+    assertThat(histogram.intervalSnapshot().getCount(), is(2L));
+
+    histogram.record(30);
+    LatencySnapshot interval = histogram.intervalSnapshot();
+    assertThat(interval.getCount(), is(1L));
+    assertThat(interval.getMax(), is(30L));
+
+    assertThat(histogram.intervalSnapshot().getCount(), is(0L));
+    assertThat(histogram.snapshot().getCount(), is(3L));
+  }
+
+  @Test
+  public void merge() {
+    LatencyHistogram other = new LatencyHistogram(1);
+    histogram.record(10);
+    histogram.record(30);
+    other.record(20);
+    other.record(30);
+
+    LatencySnapshot merged = histogram.snapshot().merge(other.snapshot());
+    assertThat(merged.getCount(), is(4L));
+    assertThat(merged.getP50(), is(20L));
+    assertThat(merged.getMax(), is(30L));
+    assertThat(merged.merge(LatencySnapshot.empty()).getCount(), is(4L));
+  }
+
+  @Test
+  public void concurrentRecording() throws Exception {
+    final int threads = 8;
+    final int recordsPerThread = 10000;
+    ExecutorService executor = newFixedThreadPool(threads);
+    CountDownLatch latch = new CountDownLatch(threads);
+    try {
+      for (int i = 0; i < threads; ++i) {
+        executor.submit(() -> {
+          for (int j = 0; j < recordsPerThread; ++j) {
+            histogram.record(j % 100);
+          }
+          latch.countDown();
+        });
+      }
+      latch.await(10, SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(histogram.snapshot().getCount(), equalTo((long) threads * recordsPerThread));
+  }
+
+  private void assertWithinPrecision(long actual, long expected) {
+    assertThat(actual, allOf(greaterThanOrEqualTo(expected), lessThanOrEqualTo(expected + expected / SUB_BUCKETS)));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.processor.strategy.AbstractStreamProcessingStrategyFactory.resolveSinkSelection;
+import static org.mule.test.allure.AllureConstants.ExecutionEngineFeature.EXECUTION_ENGINE;
+import static org.mule.test.allure.AllureConstants.ExecutionEngineFeature.ExecutionEngineStory.REACTOR;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.processor.strategy.AbstractProcessingStrategy.ReactorSink;
+import org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.StreamEmitterProcessingStrategy.LeastLoadedReactorSink;
+import org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.StreamEmitterProcessingStrategy.PowerOfTwoChoicesReactorSink;
+import org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.StreamEmitterProcessingStrategy.RoundRobinReactorSink;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+@Feature(EXECUTION_ENGINE)
+@Story(REACTOR)
+public class StreamEmitterSinkSelectionTestCase extends AbstractMuleTestCase {
+
+  private ReactorSink<CoreEvent> idleSink;
+  private ReactorSink<CoreEvent> busySink;
+  private List<ReactorSink<CoreEvent>> sinks;
+
+  @Before
+  public void before() {
+    idleSink = mock(ReactorSink.class);
+    busySink = mock(ReactorSink.class);
+    when(idleSink.remainingCapacity()).thenReturn(64L);
+    when(busySink.remainingCapacity()).thenReturn(1L);
+    sinks = asList(busySink, idleSink);
+  }
+
+  @Test
+  public void roundRobinIgnoresLoad() {
+    emit(new RoundRobinReactorSink<>(sinks), 4);
+
+    verify(busySink, times(2)).emit(null);
+    verify(idleSink, times(2)).emit(null);
+  }
+
+  @Test
+  public void leastLoadedAvoidsBusySink() {
+    emit(new LeastLoadedReactorSink<>(sinks), 4);
+
+    verify(busySink, never()).emit(null);
+    verify(idleSink, times(4)).emit(null);
+  }
+
+  @Test
+  public void leastLoadedRotatesOnTies() {
+    when(busySink.remainingCapacity()).thenReturn(64L);
+    emit(new LeastLoadedReactorSink<>(sinks), 4);
+
+    verify(busySink, times(2)).emit(null);
+    verify(idleSink, times(2)).emit(null);
+  }
+
+  @Test
+  public void powerOfTwoChoicesAvoidsBusySink() {
+    // With two sinks, both are always compared
+    emit(new PowerOfTwoChoicesReactorSink<>(sinks), 4);
+
+    verify(busySink, never()).emit(null);
+    verify(idleSink, times(4)).emit(null);
+  }
+
+  @Test
+  public void powerOfTwoChoicesSingleSink() {
+    PowerOfTwoChoicesReactorSink<CoreEvent> sink = new PowerOfTwoChoicesReactorSink<>(asList(busySink));
+    assertThat(sink.nextIndex(), is(0));
+  }
+
+  @Test
+  public void sinkSelectionResolution() {
+    assertThat(resolveSinkSelection(null), is(SinkSelection.ROUND_ROBIN));
+    assertThat(resolveSinkSelection("LEAST_LOADED"), is(SinkSelection.LEAST_LOADED));
+    assertThat(resolveSinkSelection(" power_of_two_choices "), is(SinkSelection.POWER_OF_TWO_CHOICES));
+    assertThat(resolveSinkSelection("invalid"), is(SinkSelection.ROUND_ROBIN));
+  }
+
+  private void emit(ReactorSink<CoreEvent> sink, int times) {
+    for (int i = 0; i < times; ++i) {
+      sink.emit(null);
+    }
+  }
+}
@@ -11,6 +11,8 @@ import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.ComponentSpanIdentifier.componentSpanIdentifierFrom;
 import static org.mule.runtime.core.internal.profiling.tracing.event.tracer.impl.DefaultCoreEventTracer.getCoreEventTracerBuilder;
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanUtils.getSpanName;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
+import static org.mule.runtime.core.internal.event.trace.EventDistributedTraceContext.emptyDistributedTraceContext;
 import static org.mule.test.allure.AllureConstants.Profiling.PROFILING;
 import static org.mule.test.allure.AllureConstants.Profiling.ProfilingServiceStory.DEFAULT_CORE_EVENT_TRACER;
 
@@ -20,9 +22,12 @@ import static java.util.Optional.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.mule.runtime.api.component.Component;
@@ -44,6 +49,7 @@ import org.mule.runtime.core.api.message.GroupCorrelation;
 import org.mule.runtime.core.internal.execution.tracing.DistributedTraceContextAware;
 import org.mule.runtime.core.internal.profiling.tracing.event.span.InternalSpan;
 import org.mule.runtime.core.internal.profiling.tracing.event.span.export.InternalSpanExportManager;
+import org.mule.runtime.core.internal.profiling.tracing.event.span.sampling.CoreEventSpanSampler;
 import org.mule.runtime.core.internal.profiling.tracing.event.tracer.CoreEventTracer;
 import org.mule.runtime.core.internal.profiling.tracing.export.InternalSpanExporter;
 import org.mule.runtime.core.internal.profiling.tracing.export.InternalSpanExporterVisitor;
@@ -116,6 +122,33 @@ public class DefaultCoreEventTracerTestCase {
     verify(distributedTraceContext).endCurrentContextSpan();
   }
 
+  @Test
+  public void unsampledEventContextDoesNotCreateSpans() {
+    MuleConfiguration mockedMuleConfiguration = mock(MuleConfiguration.class);
+    when(mockedMuleConfiguration.getId()).thenReturn(TEST_APP);
+    CoreEventSpanSampler spanSampler = mock(CoreEventSpanSampler.class);
+    when(spanSampler.isSampled(any())).thenReturn(false);
+    CoreEventTracer coreEventTracer = getCoreEventTracerBuilder()
+        .withSpanExporterManager(TestSpanExportManager.getTestSpanExportManagerInstance())
+        .withMuleConfiguration(mockedMuleConfiguration)
+        .withArtifactType(APP)
+        .withSpanSampler(spanSampler)
+        .build();
+    DistributedTraceContext distributedTraceContext = emptyDistributedTraceContext();
+    CoreEvent coreEvent = new FakeCoreEvent(new FakeCoreEventContext(distributedTraceContext));
+    Component component = mock(Component.class);
+
+    assertThat(coreEventTracer.startComponentSpan(coreEvent, component), sameInstance(UNSAMPLED_SPAN));
+    assertThat(coreEventTracer.startComponentSpan(coreEvent, component), sameInstance(UNSAMPLED_SPAN));
+    coreEventTracer.endCurrentSpan(coreEvent);
+    coreEventTracer.endCurrentSpan(coreEvent);
+
+    assertThat(distributedTraceContext.getCurrentSpan().orElse(null), sameInstance(UNSAMPLED_SPAN));
+    assertThat(coreEventTracer.startComponentSpan(coreEvent, component), sameInstance(UNSAMPLED_SPAN));
+    // The decision is taken once for the event context
+    verify(spanSampler, times(1)).isSampled(any());
+  }
+
   @NotNull
   private CoreEventTracer getTestCoreEventTracer(InternalSpanExportManager<EventContext> mockedSpanExporterManager,
                                                  MuleConfiguration mockedMuleConfiguration) {
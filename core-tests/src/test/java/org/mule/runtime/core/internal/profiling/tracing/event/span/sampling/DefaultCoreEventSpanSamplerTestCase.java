@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.profiling.tracing.event.span.sampling;
+
+import static org.mule.test.allure.AllureConstants.Profiling.PROFILING;
+import static org.mule.test.allure.AllureConstants.Profiling.ProfilingServiceStory.DEFAULT_CORE_EVENT_TRACER;
+
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.internal.execution.tracing.DistributedTraceContextAware;
+import org.mule.runtime.core.internal.trace.DistributedTraceContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.Test;
+
+@SmallTest
+@Feature(PROFILING)
+@Story(DEFAULT_CORE_EVENT_TRACER)
+public class DefaultCoreEventSpanSamplerTestCase extends AbstractMuleTestCase {
+
+  private static final String SAMPLED_TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+  private static final String UNSAMPLED_TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00";
+
+  private static EventContext eventContext(String rootId) {
+    EventContext eventContext = mock(EventContext.class);
+    when(eventContext.getRootId()).thenReturn(rootId);
+    return eventContext;
+  }
+
+  private static EventContext remoteEventContext(String traceparent) {
+    EventContext eventContext = mock(EventContext.class, withSettings().extraInterfaces(DistributedTraceContextAware.class));
+    DistributedTraceContext distributedTraceContext = mock(DistributedTraceContext.class);
+    when(distributedTraceContext.tracingFieldsAsMap()).thenReturn(singletonMap("traceparent", traceparent));
+    when(((DistributedTraceContextAware) eventContext).getDistributedTraceContext()).thenReturn(distributedTraceContext);
+    return eventContext;
+  }
+
+  @Test
+  public void alwaysSample() {
+    CoreEventSpanSampler sampler = new DefaultCoreEventSpanSampler(1, 0);
+    for (int i = 0; i < 100; ++i) {
+      assertThat(sampler.isSampled(eventContext("root" + i)), is(true));
+    }
+  }
+
+  @Test
+  public void neverSample() {
+    CoreEventSpanSampler sampler = new DefaultCoreEventSpanSampler(0, 0);
+    for (int i = 0; i < 100; ++i) {
+      assertThat(sampler.isSampled(eventContext("root" + i)), is(false));
+    }
+  }
+
+  @Test
+  public void sampleRatio() {
+    CoreEventSpanSampler sampler = new DefaultCoreEventSpanSampler(0.1, 0);
+    int sampled = 0;
+    for (int i = 0; i < 10000; ++i) {
+      if (sampler.isSampled(eventContext("root" + i))) {
+        sampled++;
+      }
+    }
+    assertThat(sampled, allOf(greaterThan(800), lessThan(1200)));
+  }
+
+  @Test
+  public void sameDecisionForSameRoot() {
+    CoreEventSpanSampler sampler = new DefaultCoreEventSpanSampler(0.5, 0);
+    for (int i = 0; i < 100; ++i) {
+      boolean sampled = sampler.isSampled(eventContext("root" + i));
+      assertThat(sampler.isSampled(eventContext("root" + i)), is(sampled));
+    }
+  }
+
+  @Test
+  public void remoteSampledFlagHonored() {
+    assertThat(new DefaultCoreEventSpanSampler(0, 0).isSampled(remoteEventContext(SAMPLED_TRACEPARENT)), is(true));
+    assertThat(new DefaultCoreEventSpanSampler(1, 0).isSampled(remoteEventContext(UNSAMPLED_TRACEPARENT)), is(false));
+  }
+
+  @Test
+  public void rateLimited() {
+    EventContext[] eventContexts = new EventContext[100];
+    for (int i = 0; i < eventContexts.length; ++i) {
+      eventContexts[i] = eventContext("root" + i);
+    }
+
+    CoreEventSpanSampler sampler = new DefaultCoreEventSpanSampler(1, 10);
+    int sampled = 0;
+    for (EventContext eventContext : eventContexts) {
+      if (sampler.isSampled(eventContext)) {
+        sampled++;
+      }
+    }
+    // A second worth of traces is allowed in a burst
+    assertThat(sampled, allOf(greaterThan(0), lessThanOrEqualTo(11)));
+  }
+}
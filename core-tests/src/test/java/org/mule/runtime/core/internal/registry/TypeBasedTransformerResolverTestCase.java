@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.registry;
 
 import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.core.internal.registry.TransformerResolver.RegistryAction.ADDED;
 import static org.mule.test.allure.AllureConstants.RegistryFeature.REGISTRY;
 import static org.mule.test.allure.AllureConstants.RegistryFeature.TransfromersStory.TRANSFORMERS;
 
@@ -15,6 +16,7 @@ import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -106,6 +108,55 @@ public class TypeBasedTransformerResolverTestCase extends AbstractMuleTestCase {
     assertEquals(betterAToBConverter, resolvedTransformer);
   }
 
+  @Test
+  public void cachesResolvedTransformer() throws ResolverException, TransformerException {
+    TransformersRegistry transformersRegistry = mock(TransformersRegistry.class);
+    Transformer aToBConverter = new MockConverterBuilder().from(dataTypeA).to(dataTypeB).build();
+
+    List<Transformer> transformers = new ArrayList<>();
+    transformers.add(aToBConverter);
+    when(transformersRegistry.lookupTransformers(dataTypeA, dataTypeB)).thenReturn(transformers);
+
+    TypeBasedTransformerResolver resolver = new TypeBasedTransformerResolver();
+    resolver.setTransformersRegistry(transformersRegistry);
+
+    assertEquals(aToBConverter, resolver.resolve(dataTypeA, dataTypeB));
+    assertEquals(aToBConverter, resolver.resolve(fromType(A.class), fromType(B.class)));
+    verify(transformersRegistry, times(1)).lookupTransformers(dataTypeA, dataTypeB);
+  }
+
+  @Test
+  public void cachesMissingTransformer() throws ResolverException, TransformerException {
+    TransformersRegistry transformersRegistry = mock(TransformersRegistry.class);
+    when(transformersRegistry.lookupTransformers(dataTypeA, dataTypeB)).thenReturn(new ArrayList<>());
+
+    TypeBasedTransformerResolver resolver = new TypeBasedTransformerResolver();
+    resolver.setTransformersRegistry(transformersRegistry);
+
+    assertNull(resolver.resolve(dataTypeA, dataTypeB));
+    assertNull(resolver.resolve(dataTypeA, dataTypeB));
+    verify(transformersRegistry, times(1)).lookupTransformers(dataTypeA, dataTypeB);
+  }
+
+  @Test
+  public void converterAddedInvalidatesCache() throws ResolverException, TransformerException {
+    TransformersRegistry transformersRegistry = mock(TransformersRegistry.class);
+    Transformer aToBConverter = new MockConverterBuilder().from(dataTypeA).to(dataTypeB).build();
+
+    List<Transformer> transformers = new ArrayList<>();
+    when(transformersRegistry.lookupTransformers(dataTypeA, dataTypeB)).thenReturn(transformers);
+
+    TypeBasedTransformerResolver resolver = new TypeBasedTransformerResolver();
+    resolver.setTransformersRegistry(transformersRegistry);
+    resolver.graphTransformerResolver = mock(TransformerResolver.class);
+
+    assertNull(resolver.resolve(dataTypeA, dataTypeB));
+
+    transformers.add(aToBConverter);
+    resolver.transformerChange(aToBConverter, ADDED);
+    assertEquals(aToBConverter, resolver.resolve(dataTypeA, dataTypeB));
+  }
+
   @Test
   public void fallbacksNotRegistered() throws Exception {
     TransformersRegistry transformersRegistry = mock(TransformersRegistry.class);
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
+import static org.mule.tck.util.MuleContextUtils.eventBuilder;
+import static org.mule.test.allure.AllureConstants.SerializationFeature.SERIALIZATION;
+import static org.mule.test.allure.AllureConstants.SerializationFeature.SerializationStory.MESSAGE_SERIALIZATION;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.message.ErrorBuilder;
+import org.mule.runtime.core.internal.message.ErrorTypeBuilder;
+import org.mule.runtime.core.internal.util.store.MonitoredObjectStoreWrapper.StoredObject;
+import org.mule.runtime.core.privileged.event.PrivilegedEvent;
+import org.mule.tck.core.internal.serialization.AbstractSerializerProtocolContractTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(SERIALIZATION)
+@Story(MESSAGE_SERIALIZATION)
+public class CompactSerializationProtocolTestCase extends AbstractSerializerProtocolContractTestCase {
+
+  @Before
+  public void setUp() {
+    currentMuleContext.set(muleContext);
+  }
+
+  @After
+  public void teardown() {
+    currentMuleContext.set(null);
+  }
+
+  @Override
+  protected void doSetUp() throws Exception {
+    CompactSerializationProtocol compactSerializationProtocol = new CompactSerializationProtocol();
+    compactSerializationProtocol.setMuleContext(muleContext);
+    serializationProtocol = compactSerializationProtocol;
+  }
+
+  @Test(expected = SerializationException.class)
+  public void notSerializable() throws Exception {
+    serializationProtocol.serialize(new Object());
+  }
+
+  @Test(expected = SerializationException.class)
+  public void unsupportedVersion() throws Exception {
+    byte[] bytes = serializationProtocol.serialize("value");
+    bytes[1] = 99;
+    serializationProtocol.deserialize(bytes);
+  }
+
+  @Test
+  public void simpleValues() throws Exception {
+    List<Object> values = new ArrayList<>();
+    values.add("ascii");
+    values.add("\u00f1and\u00fa");
+    values.add(-42);
+    values.add(Long.MAX_VALUE);
+    values.add(Long.MIN_VALUE);
+    values.add(true);
+    values.add(3.5d);
+    Map<String, Object> map = new HashMap<>();
+    map.put("key", values);
+
+    Map<String, Object> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(map));
+    assertThat(deserialized, equalTo(map));
+  }
+
+  @Test
+  public void typedValue() throws Exception {
+    TypedValue<String> typedValue = new TypedValue<>("{}", DataType.JSON_STRING);
+
+    TypedValue<String> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(typedValue));
+    assertThat(deserialized.getValue(), is("{}"));
+    assertThat(deserialized.getDataType(), equalTo(DataType.JSON_STRING));
+  }
+
+  @Test
+  public void event() throws Exception {
+    CoreEvent event = eventBuilder(muleContext)
+        .message(of("payload"))
+        .addVariable("var", "value")
+        .addVariable("number", 1)
+        .build();
+
+    PrivilegedEvent deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(event));
+    assertThat(deserialized.getContext().getId(), is(event.getContext().getId()));
+    assertThat(deserialized.getMessage().getPayload().getValue(), is("payload"));
+    assertThat(deserialized.getVariables().get("var").getValue(), is("value"));
+    assertThat(deserialized.getVariables().get("VAR").getDataType(), equalTo(event.getVariables().get("var").getDataType()));
+    assertThat(deserialized.getVariables().get("number").getValue(), is(1));
+    assertThat(deserialized.getCorrelationId(), is(event.getCorrelationId()));
+  }
+
+  @Test
+  public void eventSmallerThanJavaSerialization() throws Exception {
+    CoreEvent event = eventBuilder(muleContext)
+        .message(of("payload"))
+        .addVariable("var1", "value")
+        .addVariable("var2", "value")
+        .addVariable("var3", "value")
+        .build();
+
+    byte[] javaSerialized = muleContext.getObjectSerializer().getExternalProtocol().serialize(event);
+    assertThat(serializationProtocol.serialize(event).length, lessThan(javaSerialized.length));
+  }
+
+  @Test
+  public void error() throws Exception {
+    ErrorType errorType = ErrorTypeBuilder.builder().namespace("MULE").identifier("ANY").build();
+    Error error = ErrorBuilder.builder(new IllegalStateException("failed"))
+        .errorType(ErrorTypeBuilder.builder().namespace("APP").identifier("FAILED").parentErrorType(errorType).build())
+        .description("description")
+        .detailedDescription("detailed description")
+        .build();
+
+    Error deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(error));
+    assertThat(deserialized.getCause(), instanceOf(IllegalStateException.class));
+    assertThat(deserialized.getDescription(), is("description"));
+    assertThat(deserialized.getDetailedDescription(), is("detailed description"));
+    assertThat(deserialized.getErrorType(), equalTo(error.getErrorType()));
+    assertThat(deserialized.getErrorType().getParentErrorType(), equalTo(errorType));
+  }
+
+  @Test
+  public void storedObject() throws Exception {
+    StoredObject<String> storedObject = new StoredObject<>("item", 1234L, "key");
+
+    StoredObject<String> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(storedObject));
+    assertThat(deserialized.getItem(), is("item"));
+    assertThat(deserialized.getTimestamp(), is(1234L));
+    assertThat(deserialized.getKey(), is("key"));
+  }
+}
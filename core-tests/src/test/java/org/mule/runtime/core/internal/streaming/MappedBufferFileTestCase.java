@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+import static java.nio.ByteBuffer.wrap;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+import io.qameta.allure.Feature;
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+@Feature(STREAMING)
+public class MappedBufferFileTestCase extends AbstractMuleTestCase {
+
+  private static final int REGION_SIZE = 64;
+
+  private final MappedBufferFile bufferFile = new MappedBufferFile("test", REGION_SIZE);
+
+  @After
+  public void after() {
+    bufferFile.close();
+  }
+
+  @Test
+  public void appendAcrossRegions() throws Exception {
+    byte[] first = randomAlphanumeric(100).getBytes();
+    byte[] second = randomAlphanumeric(50).getBytes();
+
+    assertThat(bufferFile.append(wrap(first)), is(0L));
+    assertThat(bufferFile.append(wrap(second)), is(100L));
+    assertThat(bufferFile.size(), is(150L));
+
+    byte[] read = new byte[first.length];
+    bufferFile.read(0, read);
+    assertThat(read, is(first));
+
+    read = new byte[second.length];
+    bufferFile.read(100, read);
+    assertThat(read, is(second));
+  }
+
+  @Test
+  public void sliceIsTruncatedAtRegionEnd() throws Exception {
+    byte[] data = randomAlphanumeric(100).getBytes();
+    bufferFile.append(wrap(data));
+
+    ByteBuffer slice = bufferFile.slice(60, 20);
+    assertThat(slice.remaining(), is(REGION_SIZE - 60));
+    assertThat(slice.get(), is(data[60]));
+
+    slice = bufferFile.slice(90, 20);
+    assertThat(slice.remaining(), is(10));
+    assertThat(bufferFile.slice(100, 20), is(nullValue()));
+  }
+
+  @Test
+  public void closeDeletesFile() throws Exception {
+    bufferFile.append(wrap(new byte[] {1, 2, 3}));
+    File file = bufferFile.getFile();
+    assertThat(file, is(notNullValue()));
+    assertThat(file.exists(), is(true));
+
+    bufferFile.close();
+    assertThat(file.exists(), is(false));
+  }
+
+  @Test
+  public void fileIsCreatedLazily() {
+    assertThat(bufferFile.getFile(), is(nullValue()));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.util.DataUnit.BYTE;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.runtime.api.streaming.exception.StreamingBufferSizeExceededException;
+import org.mule.runtime.api.util.DataSize;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import io.qameta.allure.Feature;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+@Feature(STREAMING)
+public class SegmentedInMemoryStreamBufferTestCase extends AbstractByteStreamingTestCase {
+
+  private static final int DATA_SIZE = 100;
+  private static final int CHUNK_SIZE = 16;
+
+  private PoolingByteBufferManager bufferManager;
+  private SegmentedInMemoryStreamBuffer buffer;
+
+  public SegmentedInMemoryStreamBufferTestCase() {
+    super(DATA_SIZE);
+  }
+
+  @Before
+  public void before() {
+    bufferManager = new PoolingByteBufferManager();
+  }
+
+  @After
+  public void after() {
+    if (buffer != null) {
+      buffer.close();
+    }
+    bufferManager.dispose();
+  }
+
+  @Test
+  public void readsAreSlicedAtChunkBoundaries() throws Exception {
+    buffer = createBuffer(DATA_SIZE, 10, 0);
+
+    ByteBuffer read = buffer.get(10, 20);
+    assertThat(read.remaining(), is(CHUNK_SIZE - 10));
+    assertThat(toString(read), is(data.substring(10, CHUNK_SIZE)));
+
+    read = buffer.get(CHUNK_SIZE, 20);
+    assertThat(read.remaining(), is(CHUNK_SIZE));
+    assertThat(toString(read), is(data.substring(CHUNK_SIZE, CHUNK_SIZE * 2)));
+  }
+
+  @Test
+  public void readAcrossChunksFromCursor() throws Exception {
+    buffer = createBuffer(DATA_SIZE, 10, 0);
+
+    StringBuilder builder = new StringBuilder();
+    long position = 0;
+    ByteBuffer read;
+    while ((read = buffer.get(position, DATA_SIZE)) != null) {
+      position += read.remaining();
+      builder.append(toString(read));
+    }
+
+    assertEquals(builder.toString(), data);
+  }
+
+  @Test
+  public void growthDoesNotMoveBufferedData() throws Exception {
+    buffer = createBuffer(DATA_SIZE, 10, 0);
+
+    byte[] firstChunk = buffer.get(0, 1).array();
+    buffer.get(DATA_SIZE - 1, 1);
+
+    assertThat(buffer.getChunksCount(), is((DATA_SIZE + CHUNK_SIZE - 1) / CHUNK_SIZE));
+    assertThat(buffer.get(0, 1).array(), is(sameInstance(firstChunk)));
+    assertThat(toString(buffer.get(0, CHUNK_SIZE)), is(data.substring(0, CHUNK_SIZE)));
+  }
+
+  @Test
+  public void endOfStream() {
+    buffer = createBuffer(DATA_SIZE, 10, 0);
+
+    assertThat(buffer.get(DATA_SIZE - 1, 10).remaining(), is(1));
+    assertThat(buffer.get(DATA_SIZE, 10), is(nullValue()));
+  }
+
+  @Test
+  public void dataMatchesMaxBufferSizeExactly() throws Exception {
+    buffer = createBuffer(DATA_SIZE / 2, 10, DATA_SIZE);
+
+    assertThat(toString(buffer.get(DATA_SIZE - 4, 4)), is(data.substring(DATA_SIZE - 4)));
+    assertThat(buffer.get(DATA_SIZE, 10), is(nullValue()));
+  }
+
+  @Test(expected = StreamingBufferSizeExceededException.class)
+  public void maxBufferSizeExceeded() {
+    buffer = createBuffer(10, 10, DATA_SIZE / 2);
+    buffer.get(DATA_SIZE / 2, 1);
+  }
+
+  @Test(expected = StreamingBufferSizeExceededException.class)
+  public void initialBufferSizeExceededWithoutIncrement() {
+    buffer = createBuffer(DATA_SIZE / 2, 0, DATA_SIZE);
+    buffer.get(DATA_SIZE / 2, 1);
+  }
+
+  private SegmentedInMemoryStreamBuffer createBuffer(int initialSize, int increment, int maxSize) {
+    InMemoryCursorStreamConfig config =
+        new InMemoryCursorStreamConfig(new DataSize(initialSize, BYTE),
+                                       new DataSize(increment, BYTE),
+                                       new DataSize(maxSize, BYTE));
+
+    return new SegmentedInMemoryStreamBuffer(new ByteArrayInputStream(data.getBytes()), config, bufferManager, CHUNK_SIZE);
+  }
+}
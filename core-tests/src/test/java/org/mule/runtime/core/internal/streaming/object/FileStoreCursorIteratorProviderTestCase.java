@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.object;
+
+import static java.lang.Math.toIntExact;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.StreamingStory.OBJECT_STREAMING;
+
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.streaming.object.FileStoreCursorIteratorConfig;
+import org.mule.runtime.core.api.util.func.CheckedConsumer;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.util.List;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+@Feature(STREAMING)
+@Story(OBJECT_STREAMING)
+public class FileStoreCursorIteratorProviderTestCase extends AbstractObjectStreamingTestCase {
+
+  private static final int DATA_SIZE = 500;
+  private static final int MAX_IN_MEMORY_INSTANCES = 50;
+
+  private CursorIteratorProvider streamProvider;
+
+  public FileStoreCursorIteratorProviderTestCase() {
+    super(DATA_SIZE);
+  }
+
+  @Before
+  public void before() {
+    streamProvider = new FileStoreCursorIteratorProvider(toStreamingIterator(data),
+                                                         new FileStoreCursorIteratorConfig(MAX_IN_MEMORY_INSTANCES),
+                                                         muleContext.getObjectSerializer().getInternalProtocol(),
+                                                         from("log"), false);
+  }
+
+  @After
+  public void after() {
+    streamProvider.close();
+  }
+
+  @Test
+  @Description("Fully consume a stream which doesn't fit in memory")
+  public void readFullyWithInSingleCursor() throws IOException {
+    withCursor(cursor -> checkEquals(data, cursor));
+  }
+
+  @Test
+  @Description("Go back to items that were written to disk after the stream was consumed")
+  public void randomSeekOnOverflownItems() throws Exception {
+    withCursor(cursor -> {
+      checkEquals(data, cursor);
+
+      seekAndAssert(cursor, 0, 10);
+      seekAndAssert(cursor, DATA_SIZE / 2, 10);
+      seekAndAssert(cursor, MAX_IN_MEMORY_INSTANCES - 5, 10);
+    });
+  }
+
+  @Test
+  @Description("Two cursors read the overflown items")
+  public void twoOpenCursors() throws Exception {
+    withCursor(cursor1 -> withCursor(cursor2 -> {
+      seekAndAssert(cursor1, 0, DATA_SIZE);
+      seekAndAssert(cursor2, DATA_SIZE - 100, 100);
+    }));
+  }
+
+  @Test
+  @Description("Direct access to the last items of the stream without traversing the whole cursor")
+  public void getLastTwoItems() throws Exception {
+    withCursor(cursor -> {
+      cursor.seek(DATA_SIZE - 2);
+
+      assertThat(cursor.hasNext(), is(true));
+      assertThat(cursor.next(), is(data.get(DATA_SIZE - 2)));
+      assertThat(cursor.next(), is(data.get(DATA_SIZE - 1)));
+      assertThat(cursor.hasNext(), is(false));
+    });
+  }
+
+  private void seekAndAssert(CursorIterator<Object> cursor, long position, int size) throws Exception {
+    cursor.seek(position);
+    List<Object> read = read(cursor, size);
+    checkEquals(read, data.subList(toIntExact(position), toIntExact(position + size)));
+  }
+
+  private void withCursor(CheckedConsumer<CursorIterator> consumer) throws IOException {
+    try (CursorIterator cursor = streamProvider.openCursor()) {
+      consumer.accept(cursor);
+    }
+  }
+}
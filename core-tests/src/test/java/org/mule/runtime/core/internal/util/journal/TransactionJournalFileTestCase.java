@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.util.journal;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertThat;
 import org.mule.runtime.core.internal.util.journal.queue.LocalQueueTxJournalEntry;
 import org.mule.runtime.core.internal.util.journal.queue.LocalTxQueueTransactionJournal;
@@ -16,7 +17,12 @@ import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.Rule;
@@ -51,6 +57,54 @@ public class TransactionJournalFileTestCase extends AbstractMuleContextTestCase
     assertThat(entry.getValue(), equalTo(payload));
   }
 
+  @Test
+  public void groupCommitConcurrentOperations() throws Exception {
+    final int threads = 8;
+    final int operationsPerThread = 50;
+
+    TransactionJournalFile<Integer, LocalQueueTxJournalEntry> journal = openGroupCommitJournal();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        final int txId = i;
+        results.add(executor.submit(() -> {
+          for (int j = 0; j < operationsPerThread; j++) {
+            journal.logOperation(new LocalQueueTxJournalEntry(txId, (byte) 6, "queue", j));
+          }
+        }));
+      }
+      for (Future<?> result : results) {
+        result.get(10, SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    journal.close();
+
+    journal = openGroupCommitJournal();
+    for (int i = 0; i < threads; i++) {
+      assertThat(journal.getLogEntries(i).size(), equalTo(operationsPerThread));
+    }
+    journal.close();
+  }
+
+  @Test
+  public void groupCommitClear() throws Exception {
+    TransactionJournalFile<Integer, LocalQueueTxJournalEntry> journal = openGroupCommitJournal();
+    journal.logOperation(new LocalQueueTxJournalEntry(1, (byte) 6, "queue", "Hello World!"));
+    journal.clear();
+    assertThat(journal.fileLength(), is(0L));
+
+    journal.logOperation(new LocalQueueTxJournalEntry(2, (byte) 6, "queue", "Hello World!"));
+    journal.close();
+
+    journal = openGroupCommitJournal();
+    assertThat(journal.containsTx(1), is(false));
+    assertThat(journal.getLogEntries(2).size(), equalTo(1));
+    journal.close();
+  }
+
   private TransactionJournalFile<Integer, LocalQueueTxJournalEntry> openJournal() {
     File journalFile = new File(temporaryFolder.getRoot(), "journal");
     JournalEntrySerializer serializer = LocalTxQueueTransactionJournal.createLocalTxQueueJournalEntrySerializer(muleContext);
@@ -58,4 +112,11 @@ public class TransactionJournalFileTestCase extends AbstractMuleContextTestCase
     return new TransactionJournalFile(journalFile, serializer, journalEntry -> false, KB_500);
   }
 
+  private TransactionJournalFile<Integer, LocalQueueTxJournalEntry> openGroupCommitJournal() {
+    File journalFile = new File(temporaryFolder.getRoot(), "journal");
+    JournalEntrySerializer serializer = LocalTxQueueTransactionJournal.createLocalTxQueueJournalEntrySerializer(muleContext);
+
+    return new TransactionJournalFile(journalFile, serializer, journalEntry -> false, KB_500, 16, 100);
+  }
+
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.tck.SerializationTestUtils.addJavaSerializerToMockMuleContext;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class MappedSegmentQueueStoreDelegateTestCase extends AbstractMuleTestCase {
+
+  private static final String TEST_QUEUE_NAME = "test-queue";
+  private static final int SEGMENT_SIZE = 256;
+
+  @Rule
+  public TemporaryFolder workingDirectory = new TemporaryFolder();
+
+  private MuleContext muleContext;
+  private MappedSegmentQueueStoreDelegate queue;
+
+  @Before
+  public void before() {
+    muleContext = mock(MuleContext.class);
+    when(muleContext.getExecutionClassLoader()).thenReturn(getClass().getClassLoader());
+    addJavaSerializerToMockMuleContext(muleContext);
+    queue = createQueue(0);
+  }
+
+  @After
+  public void after() {
+    queue.dispose();
+  }
+
+  @Test
+  public void keepsOrderAcrossSegments() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      queue.putNow(i);
+    }
+
+    assertThat(queue.getSize(), is(100));
+    for (int i = 0; i < 100; i++) {
+      assertThat(queue.poll(0), is((Serializable) i));
+    }
+    assertThat(queue.poll(0), is(nullValue()));
+  }
+
+  @Test
+  public void restoresPendingElements() throws Exception {
+    for (int i = 0; i < 50; i++) {
+      queue.putNow(i);
+    }
+    for (int i = 0; i < 20; i++) {
+      queue.poll(0);
+    }
+    queue.close();
+
+    queue = createQueue(0);
+    assertThat(queue.getSize(), is(30));
+    assertThat(queue.peek(), is((Serializable) 20));
+    queue.putNow(50);
+    for (int i = 20; i <= 50; i++) {
+      assertThat(queue.poll(0), is((Serializable) i));
+    }
+  }
+
+  @Test
+  public void untakenElementGoesFirst() throws Exception {
+    queue.putNow("a");
+    queue.putNow("b");
+    Serializable taken = queue.poll(0);
+    queue.untake(taken);
+
+    assertThat(queue.getSize(), is(2));
+    assertThat(queue.poll(0), is((Serializable) "a"));
+    assertThat(queue.poll(0), is((Serializable) "b"));
+  }
+
+  @Test
+  public void removeAndContains() throws Exception {
+    queue.addAll(asList("a", "b", "c"));
+    assertThat(queue.contains("b"), is(true));
+
+    queue.remove("b");
+    assertThat(queue.contains("b"), is(false));
+    assertThat(queue.getSize(), is(2));
+
+    queue.close();
+    queue = createQueue(0);
+    assertThat(queue.poll(0), is((Serializable) "a"));
+    assertThat(queue.poll(0), is((Serializable) "c"));
+  }
+
+  @Test
+  public void drain() throws Exception {
+    List<Serializable> items = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      items.add(i);
+    }
+    queue.addAll(items);
+
+    List<Serializable> drained = new ArrayList<>();
+    assertThat(queue.drainTo(drained, 10), is(10));
+    assertThat(drained.get(9), is((Serializable) 9));
+    assertThat(queue.drainTo(drained, 100), is(20));
+    assertThat(drained, is(items));
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  public void offerTimesOutWhenFull() throws Exception {
+    queue.dispose();
+    queue = createQueue(2);
+    assertThat(queue.offer("a", 0, 10), is(true));
+    assertThat(queue.offer("b", 0, 10), is(true));
+    assertThat(queue.offer("c", 0, 10), is(false));
+
+    queue.poll(0);
+    assertThat(queue.offer("c", 0, 10), is(true));
+  }
+
+  @Test
+  public void clear() throws Exception {
+    queue.addAll(asList("a", "b", "c"));
+    queue.clear();
+    assertThat(queue.getSize(), is(0));
+
+    queue.putNow("d");
+    assertThat(queue.poll(0), is((Serializable) "d"));
+  }
+
+  @Test
+  public void concurrentProducerAndConsumer() throws Exception {
+    final int elements = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> producer = executor.submit(() -> {
+        for (int i = 0; i < elements; i++) {
+          queue.putNow(i);
+        }
+      });
+      Future<List<Serializable>> consumer = executor.submit(() -> {
+        List<Serializable> consumed = new ArrayList<>();
+        while (consumed.size() < elements) {
+          Serializable item = queue.poll(1000);
+          if (item != null) {
+            consumed.add(item);
+          }
+        }
+        return consumed;
+      });
+
+      producer.get(10, SECONDS);
+      List<Serializable> consumed = consumer.get(10, SECONDS);
+      for (int i = 0; i < elements; i++) {
+        assertThat(consumed.get(i), is((Serializable) i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void migratesDualFileQueue() throws Exception {
+    queue.dispose();
+    DualRandomAccessFileQueueStoreDelegate legacy =
+        new DualRandomAccessFileQueueStoreDelegate(TEST_QUEUE_NAME, workingDirectory.getRoot().getAbsolutePath(), muleContext, 0);
+    legacy.putNow("a");
+    legacy.putNow("b");
+    legacy.close();
+
+    queue = createQueue(0);
+    List<Serializable> drained = new ArrayList<>();
+    queue.drainTo(drained, 10);
+    assertThat(drained, contains("a", "b"));
+  }
+
+  @Test
+  public void discardsCorruptedRecordOnRestore() throws Exception {
+    queue.addAll(asList("a", "b", "c"));
+    queue.close();
+
+    // Flip a byte of the element of the last record, as if its page didn't make it to disk
+    int recordSize = 9 + muleContext.getObjectSerializer().getInternalProtocol().serialize("c").length;
+    try (RandomAccessFile segment = new RandomAccessFile(new File(segmentsDirectory(), "segment-0000000000000000"), "rw")) {
+      long position = 2 * recordSize + recordSize - 1;
+      segment.seek(position);
+      byte value = segment.readByte();
+      segment.seek(position);
+      segment.writeByte(value ^ 0xFF);
+    }
+
+    queue = createQueue(0);
+    assertThat(queue.getSize(), is(2));
+    queue.putNow("d");
+    queue.close();
+
+    queue = createQueue(0);
+    List<Serializable> drained = new ArrayList<>();
+    queue.drainTo(drained, 10);
+    assertThat(drained, contains("a", "b", "d"));
+  }
+
+  @Test
+  public void restartsInterruptedMigration() throws Exception {
+    // The first element was migrated before a crash
+    queue.addAll(asList("a"));
+    queue.close();
+    Files.write(new File(segmentsDirectory(), "migration").toPath(), "0 0".getBytes(UTF_8));
+    createLegacyQueue("a", "b");
+
+    queue = createQueue(0);
+    List<Serializable> drained = new ArrayList<>();
+    queue.drainTo(drained, 10);
+    assertThat(drained, contains("a", "b"));
+    assertThat(DualRandomAccessFileQueueStoreDelegate.hasQueueFiles(TEST_QUEUE_NAME, workingDirectory.getRoot()
+        .getAbsolutePath()), is(false));
+  }
+
+  @Test
+  public void doesNotMigrateAgainAfterCompletedMigration() throws Exception {
+    // All the elements were migrated but the legacy files weren't deleted before a crash
+    queue.addAll(asList("a", "b"));
+    queue.close();
+    Files.write(new File(segmentsDirectory(), "migrated").toPath(), new byte[0]);
+    createLegacyQueue("a", "b");
+
+    queue = createQueue(0);
+    List<Serializable> drained = new ArrayList<>();
+    queue.drainTo(drained, 10);
+    assertThat(drained, contains("a", "b"));
+    assertThat(DualRandomAccessFileQueueStoreDelegate.hasQueueFiles(TEST_QUEUE_NAME, workingDirectory.getRoot()
+        .getAbsolutePath()), is(false));
+  }
+
+  private void createLegacyQueue(Serializable... elements) {
+    DualRandomAccessFileQueueStoreDelegate legacy =
+        new DualRandomAccessFileQueueStoreDelegate(TEST_QUEUE_NAME, workingDirectory.getRoot().getAbsolutePath(), muleContext, 0);
+    for (Serializable element : elements) {
+      legacy.putNow(element);
+    }
+    legacy.close();
+  }
+
+  private File segmentsDirectory() {
+    return new File(workingDirectory.getRoot(), "queuestore" + File.separator + TEST_QUEUE_NAME + "-mapped");
+  }
+
+  private MappedSegmentQueueStoreDelegate createQueue(int capacity) {
+    return new MappedSegmentQueueStoreDelegate(TEST_QUEUE_NAME, workingDirectory.getRoot().getAbsolutePath(), muleContext,
+                                               capacity, SEGMENT_SIZE, false);
+  }
+}
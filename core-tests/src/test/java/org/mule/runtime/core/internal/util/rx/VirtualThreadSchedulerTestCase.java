@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.rx;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.util.concurrent.Latch;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class VirtualThreadSchedulerTestCase extends AbstractMuleTestCase {
+
+  private Scheduler timer;
+  private VirtualThreadScheduler scheduler;
+
+  @Before
+  public void before() {
+    assumeThat("Virtual threads not supported", VirtualThreadScheduler.isSupported(), is(true));
+    timer = mock(Scheduler.class);
+    scheduler = new VirtualThreadScheduler("test", timer, 1, 5000);
+  }
+
+  @After
+  public void after() {
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+  }
+
+  @Test
+  public void runsTask() throws Exception {
+    assertThat(scheduler.submit(() -> true).get(5, SECONDS), is(true));
+  }
+
+  @Test(expected = RejectedExecutionException.class)
+  public void rejectsOverMaxConcurrent() throws Exception {
+    Latch latch = new Latch();
+    try {
+      scheduler.execute(() -> {
+        try {
+          latch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      scheduler.execute(() -> {
+      });
+    } finally {
+      latch.release();
+    }
+  }
+
+  @Test
+  public void delayedCallableDoesNotHoldTimerThread() throws Exception {
+    Latch latch = new Latch();
+    ScheduledFuture<Boolean> future = scheduler.schedule(() -> {
+      latch.await();
+      return true;
+    }, 10, MILLISECONDS);
+
+    ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+    verify(timer).schedule(trigger.capture(), eq(10L), eq(MILLISECONDS));
+    // Runs on the test thread as if it were the timer; must return without waiting for the callable
+    trigger.getValue().run();
+    assertThat(future.isDone(), is(false));
+
+    latch.release();
+    assertThat(future.get(5, SECONDS), is(true));
+  }
+
+  @Test
+  public void stopWaitsForRunningTasks() throws Exception {
+    Latch started = new Latch();
+    AtomicBoolean completed = new AtomicBoolean();
+    scheduler.execute(() -> {
+      started.release();
+      try {
+        Thread.sleep(200);
+        completed.set(true);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    started.await(5, SECONDS);
+
+    scheduler.stop();
+    assertThat(completed.get(), is(true));
+    assertThat(scheduler.isTerminated(), is(true));
+  }
+
+  @Test
+  public void stopAlsoStopsTimer() {
+    scheduler.stop();
+    verify(timer).stop();
+    assertThat(scheduler.isShutdown(), is(true));
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.core.internal.util.store;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.util.store.LogStructuredObjectStorePartition.SEGMENT_FILE_EXTENSION;
+import static org.mule.tck.SerializationTestUtils.addJavaSerializerToMockMuleContext;
+import static org.mule.tck.util.MuleContextUtils.mockMuleContext;
+
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class LogStructuredObjectStorePartitionTestCase extends AbstractMuleTestCase {
+
+  private static final long SEGMENT_SIZE = 512;
+
+  @Rule
+  public TemporaryFolder objectStoreFolder = new TemporaryFolder();
+
+  private MuleContext muleContext = mockMuleContext();
+
+  private LogStructuredObjectStorePartition<String> partition;
+
+  @Before
+  public void setUp() throws Exception {
+    when(muleContext.getExecutionClassLoader()).thenReturn(getClass().getClassLoader());
+    when(muleContext.getConfiguration().getWorkingDirectory()).thenReturn(objectStoreFolder.getRoot().getParentFile().getPath());
+    addJavaSerializerToMockMuleContext(muleContext);
+    partition = createPartition();
+  }
+
+  @After
+  public void tearDown() {
+    partition.dispose();
+  }
+
+  @Test
+  public void storeRetrieveAndRemove() throws ObjectStoreException {
+    partition.store("key", "value");
+    assertThat(partition.contains("key"), is(true));
+    assertThat(partition.retrieve("key"), is("value"));
+
+    assertThat(partition.remove("key"), is("value"));
+    assertThat(partition.contains("key"), is(false));
+  }
+
+  @Test(expected = ObjectAlreadyExistsException.class)
+  public void storeSameKeyTwice() throws ObjectStoreException {
+    partition.store("key", "value");
+    partition.store("key", "value");
+  }
+
+  @Test(expected = ObjectDoesNotExistException.class)
+  public void removeNonExistentKey() throws ObjectStoreException {
+    partition.remove("key");
+  }
+
+  @Test
+  public void entriesSurviveReopening() throws ObjectStoreException {
+    storeEntries(50);
+    partition.remove("key-10");
+    partition.dispose();
+
+    partition = createPartition();
+    assertThat(partition.allKeys().size(), is(49));
+    assertThat(partition.contains("key-10"), is(false));
+    assertThat(partition.retrieve("key-49"), is("value-49"));
+  }
+
+  @Test
+  public void appendsToSegmentsInsteadOfFilePerEntry() throws ObjectStoreException {
+    storeEntries(50);
+    assertThat(segmentFiles().length < 50, is(true));
+  }
+
+  @Test
+  public void compactionKeepsOnlyLiveEntries() throws ObjectStoreException {
+    storeEntries(50);
+    for (int i = 0; i < 40; i++) {
+      partition.remove("key-" + i);
+    }
+
+    partition.compact();
+    assertThat(partition.allKeys().size(), is(10));
+    assertThat(partition.retrieve("key-45"), is("value-45"));
+
+    partition.dispose();
+    partition = createPartition();
+    assertThat(partition.allKeys().size(), is(10));
+    assertThat(partition.contains("key-5"), is(false));
+    assertThat(partition.retrieve("key-45"), is("value-45"));
+  }
+
+  @Test
+  public void expireByMaxEntriesRemovesOldest() throws ObjectStoreException {
+    storeEntries(5);
+    partition.expire(MuleObjectStoreManager.UNBOUNDED, 2);
+    assertThat(partition.allKeys(), contains("key-3", "key-4"));
+  }
+
+  @Test
+  public void tornWriteIsDiscarded() throws Exception {
+    storeEntries(3);
+    partition.dispose();
+
+    File[] segments = segmentFiles();
+    File last = segments[segments.length - 1];
+    try (RandomAccessFile file = new RandomAccessFile(last, "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    partition = createPartition();
+    assertThat(partition.allKeys(), contains("key-0", "key-1"));
+    partition.store("key-2", "value-2");
+    assertThat(partition.retrieve("key-2"), is("value-2"));
+  }
+
+  @Test
+  public void migratesFilePerEntryPartition() throws ObjectStoreException {
+    partition.dispose();
+    PersistentObjectStorePartition<String> legacy =
+        new PersistentObjectStorePartition<>(muleContext, "test", objectStoreFolder.getRoot());
+    legacy.open();
+    legacy.store("key", "value");
+
+    partition = createPartition();
+    assertThat(partition.retrieve("key"), is("value"));
+    assertThat(objectStoreFolder.getRoot().listFiles(file -> file.getName().endsWith(".obj")), arrayWithSize(0));
+  }
+
+  @Test
+  public void clear() throws ObjectStoreException {
+    storeEntries(10);
+    partition.clear();
+    assertThat(partition.allKeys().size(), is(0));
+    assertThat(new File(objectStoreFolder.getRoot(), "partition-descriptor").exists(), is(true));
+  }
+
+  @Test
+  public void storeAndRemoveBatches() throws ObjectStoreException {
+    storeEntries(3);
+    Map<String, String> batch = new LinkedHashMap<>();
+    batch.put("key-1", "other-1");
+    batch.put("key-3", "value-3");
+    partition.storeAll(batch);
+    partition.removeAll(asList("key-0", "missing"));
+
+    assertThat(partition.allKeys(), containsInAnyOrder("key-1", "key-2", "key-3"));
+    assertThat(partition.retrieve("key-1"), is("other-1"));
+
+    partition.dispose();
+    partition = createPartition();
+    assertThat(partition.allKeys(), containsInAnyOrder("key-1", "key-2", "key-3"));
+    assertThat(partition.retrieve("key-1"), is("other-1"));
+  }
+
+  private LogStructuredObjectStorePartition<String> createPartition() throws ObjectStoreException {
+    LogStructuredObjectStorePartition<String> created =
+        new LogStructuredObjectStorePartition<>(muleContext, "test", objectStoreFolder.getRoot(), SEGMENT_SIZE, 1, 0);
+    created.open();
+    return created;
+  }
+
+  private void storeEntries(int count) throws ObjectStoreException {
+    for (int i = 0; i < count; i++) {
+      partition.store("key-" + i, "value-" + i);
+    }
+  }
+
+  private File[] segmentFiles() {
+    File[] files = objectStoreFolder.getRoot().listFiles(file -> file.getName().endsWith(SEGMENT_FILE_EXTENSION));
+    Arrays.sort(files);
+    return files;
+  }
+}
@@ -12,11 +12,15 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.junit.MockitoJUnit.rule;
 import static org.mule.tck.probe.PollingProber.DEFAULT_POLLING_INTERVAL;
+import static org.mule.runtime.core.internal.util.store.MonitoredObjectStoreWrapper.EXPIRY_INDEX_LOAD_BATCH_SIZE;
 import static org.mule.tck.probe.PollingProber.check;
 
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
@@ -33,6 +37,7 @@ import org.mule.tck.size.SmallTest;
 import java.io.Serializable;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Rule;
@@ -183,6 +188,79 @@ public class MonitoredObjectStoreWrapperTestCase extends AbstractMuleTestCase {
     });
   }
 
+  @Test
+  public void expireStoredEntriesWithoutRetrievingThem() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(empty());
+    when(settings.getEntryTTL()).thenReturn(of(0L));
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+    wrapper.expire();
+
+    wrapper.store(KEY, "");
+    verify(objectStore).store(anyString(), any(StoredObject.class));
+    when(objectStore.contains(KEY)).thenReturn(true);
+    when(objectStore.remove(KEY)).thenReturn(new StoredObject<>("", 0L, KEY));
+
+    wrapper.expire();
+    wrapper.expire();
+
+    verify(objectStore).remove(KEY);
+    verify(objectStore, times(1)).allKeys();
+    verify(objectStore, never()).retrieve(anyString());
+  }
+
+  @Test
+  public void expireOldestStoredEntriesWithMaxEntries() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(of(1));
+    when(settings.getEntryTTL()).thenReturn(empty());
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+    wrapper.expire();
+
+    wrapper.store(KEY, "");
+    Thread.sleep(2);
+    wrapper.store(OTHER_KEY, "");
+    when(objectStore.contains(KEY)).thenReturn(true);
+    when(objectStore.remove(KEY)).thenReturn(new StoredObject<>("", 0L, KEY));
+
+    wrapper.expire();
+
+    verify(objectStore).remove(KEY);
+    verify(objectStore, never()).remove(OTHER_KEY);
+    verify(objectStore, never()).retrieve(anyString());
+  }
+
+  @Test
+  public void existingEntriesIndexedInBatches() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(of(1));
+    when(settings.getEntryTTL()).thenReturn(of(1L));
+
+    // In the future, so that they are not expired by TTL
+    long timestamp = currentTimeMillis() + 60000;
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < EXPIRY_INDEX_LOAD_BATCH_SIZE + 1; ++i) {
+      String key = KEY + i;
+      keys.add(key);
+      when(objectStore.retrieve(key)).thenReturn(new StoredObject<>("", timestamp + i, key));
+    }
+    when(objectStore.allKeys()).thenReturn(keys);
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+
+    wrapper.expire();
+    verify(objectStore, times(EXPIRY_INDEX_LOAD_BATCH_SIZE)).retrieve(anyString());
+    // The size is not enforced over a partial index
+    verify(objectStore, never()).remove(anyString());
+
+    when(objectStore.contains(anyString())).thenReturn(true);
+    when(objectStore.remove(anyString())).thenAnswer(inv -> new StoredObject<>("", 0L, inv.getArgument(0)));
+    wrapper.expire();
+    verify(objectStore, times(EXPIRY_INDEX_LOAD_BATCH_SIZE + 1)).retrieve(anyString());
+    verify(objectStore, times(1)).allKeys();
+    verify(objectStore, times(EXPIRY_INDEX_LOAD_BATCH_SIZE)).remove(anyString());
+    verify(objectStore, never()).remove(keys.get(EXPIRY_INDEX_LOAD_BATCH_SIZE));
+  }
+
   @Test
   @Issue("MULE-18579")
   public void expirationQueueDoesntHoldObjects() throws ObjectStoreException, InterruptedException {
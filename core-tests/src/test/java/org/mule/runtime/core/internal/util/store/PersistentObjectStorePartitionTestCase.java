@@ -7,6 +7,7 @@
 
 package org.mule.runtime.core.internal.util.store;
 
+import static java.util.Arrays.asList;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
@@ -26,6 +27,8 @@ import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -136,4 +139,20 @@ public class PersistentObjectStorePartitionTestCase extends AbstractMuleTestCase
     partition.clear();
     assertEquals(0, partition.allKeys().size());
   }
+
+  @Test
+  public void storeAndRemoveBatches() throws Exception {
+    partition.store("key-0", "value-0");
+    partition.store("key-1", "value-1");
+    Map<String, String> batch = new LinkedHashMap<>();
+    batch.put("key-1", "other-1");
+    batch.put("key-2", "value-2");
+    partition.storeAll(batch);
+    partition.removeAll(asList("key-0", "missing"));
+
+    assertThat(partition.contains("key-0"), is(false));
+    assertThat(partition.retrieve("key-1"), is("other-1"));
+    assertThat(partition.retrieve("key-2"), is("value-2"));
+    assertEquals(2, partition.allKeys().size());
+  }
 }
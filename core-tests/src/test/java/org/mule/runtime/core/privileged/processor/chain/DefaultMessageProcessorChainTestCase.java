@@ -62,6 +62,7 @@ import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.FlowExceptionHandler;
 import org.mule.runtime.core.api.exception.NullExceptionHandler;
+import org.mule.runtime.core.api.management.stats.ComponentStatistics;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategyFactory;
@@ -810,6 +811,31 @@ public class DefaultMessageProcessorChainTestCase extends AbstractReactiveProces
     }
   }
 
+  @Test
+  public void processorExecutionTimeRecorded() throws Exception {
+    muleContext.getStatistics().clear();
+    muleContext.getStatistics().setEnabled(true);
+    try {
+      final ComponentLocation location = from("flow/processors/0");
+      DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
+      builder.chain(new NonBlockingAppendingMP("1") {
+
+        @Override
+        public ComponentLocation getLocation() {
+          return location;
+        }
+      });
+      messageProcessor = builder.build();
+      process(messageProcessor, getTestEventUsingFlow("0"));
+
+      ComponentStatistics statistics = muleContext.getStatistics().getComponentStatistics(location.getLocation());
+      assertThat(statistics.getExecutedEvents(), is(1L));
+      assertThat(statistics.getExecutionTimeSnapshot().getCount(), is(1L));
+    } finally {
+      muleContext.getStatistics().setEnabled(false);
+    }
+  }
+
   @Test
   public void testErrorNotificationsMessagingException() throws Exception {
     List<MessageProcessorNotification> notificationList = new ArrayList<>();
@@ -14,6 +14,7 @@ import static org.mule.runtime.core.privileged.util.TemplateParser.createAntStyl
 import static org.mule.runtime.core.privileged.util.TemplateParser.createMuleStyleParser;
 import static org.mule.runtime.core.privileged.util.TemplateParser.createSquareBracesStyleParser;
 
+import org.mule.runtime.core.privileged.util.TemplateParser.TemplatePart;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
@@ -465,6 +466,42 @@ public class TemplateParserTestCase extends AbstractMuleTestCase {
     assertEquals(expectedResult, result);
   }
 
+  @Test
+  public void muleSplit() {
+    TemplateParser tp = createMuleStyleParser();
+    List<TemplatePart> parts = tp.split("start \\#[escaped] #[first]#[second ['a']] end");
+
+    assertEquals(4, parts.size());
+    assertFalse(parts.get(0).isExpression());
+    assertEquals("start #[escaped] ", parts.get(0).getValue());
+    assertTrue(parts.get(1).isExpression());
+    assertEquals("first", parts.get(1).getValue());
+    assertTrue(parts.get(2).isExpression());
+    assertEquals("second ['a']", parts.get(2).getValue());
+    assertFalse(parts.get(3).isExpression());
+    assertEquals(" end", parts.get(3).getValue());
+  }
+
+  @Test
+  public void muleSplitRendersAsParse() {
+    TemplateParser tp = createMuleStyleParser();
+    String template = "value: #[a], nested: #[b], quoted: #[c], null: #[d]";
+    Map<String, Object> values = new HashMap<>();
+    values.put("a", "plain");
+    values.put("b", "#[a]");
+    values.put("c", "with \\ and \"");
+    values.put("d", null);
+    TemplateParser.TemplateCallback callback = values::get;
+
+    StringBuilder rendered = new StringBuilder();
+    for (TemplatePart part : tp.split(template)) {
+      rendered.append(part.isExpression()
+          ? tp.resolveExpressionValue(part.getValue(), callback.match(part.getValue()), callback)
+          : part.getValue());
+    }
+    assertEquals(tp.parse(callback, template), rendered.toString());
+  }
+
   private Map<String, Object> buildMap() {
     Map<String, Object> props = new HashMap<String, Object>();
     props.put("prop1", "value1");
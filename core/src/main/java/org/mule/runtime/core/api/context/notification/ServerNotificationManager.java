@@ -6,6 +6,20 @@
  */
 package org.mule.runtime.core.api.context.notification;
 
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.BATCH_SIZE_PROPERTY;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.BLOCK_TIMEOUT_PROPERTY;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.BUFFER_SIZE_PROPERTY;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.DEFAULT_BATCH_SIZE;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.DEFAULT_BLOCK_TIMEOUT;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.DEFAULT_BUFFER_SIZE;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.DEFAULT_SAMPLE_RATE;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.OVERFLOW_POLICY_PROPERTY;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.SAMPLE_RATE_PROPERTY;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup.resolveOverflowPolicy;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.System.getProperty;
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
@@ -53,7 +67,9 @@ import org.mule.runtime.api.util.concurrent.Latch;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.ClassUtils;
+import org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerGroup;
 import org.mule.runtime.core.internal.context.notification.Configuration;
+import org.mule.runtime.core.internal.context.notification.NotificationOverflowPolicy;
 import org.mule.runtime.core.internal.context.notification.Policy;
 import org.mule.runtime.core.internal.profiling.notification.ProfilingNotificationListener;
 import org.mule.runtime.core.internal.profiling.notification.ProfilingNotification;
@@ -62,8 +78,10 @@ import org.mule.runtime.core.privileged.context.notification.OptimisedNotificati
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 import org.slf4j.Logger;
@@ -93,6 +111,12 @@ import org.slf4j.Logger;
  * <li>Disabling an event or interface disables all uses of that class or any subclass.</li>
  * <li>Enquiring whether an event is enabled returns true if any subclass is enabled.</li>
  * </ul>
+ *
+ * <p>
+ * Asynchronous notifications are not submitted to a scheduler one by one. Instead, each listener has a bounded buffer of pending
+ * notifications that is drained in batches by a single task (see {@link AsyncNotificationListenerGroup}), so each listener gets
+ * its notifications one at a time, in order. The size of the buffers and what to do when one is full may be configured through
+ * the system properties in {@link AsyncNotificationListenerGroup}.
  */
 @NoExtend
 public class ServerNotificationManager implements ServerNotificationHandler, MuleContextAware {
@@ -110,6 +134,15 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
   private LazyValue<String> serverId = new LazyValue<>(() -> muleContext.getId());
   private LazyValue<SchedulerService> schedulerService = new LazyValue<>(() -> muleContext.getSchedulerService());
 
+  private final Map<NotificationListener, AsyncNotificationListenerGroup> asyncListenerGroups = new ConcurrentHashMap<>();
+  private final LongAdder droppedNotifications = new LongAdder();
+  private final int asyncBufferSize = getInteger(BUFFER_SIZE_PROPERTY, DEFAULT_BUFFER_SIZE);
+  private final int asyncBatchSize = getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE);
+  private final NotificationOverflowPolicy asyncOverflowPolicy =
+      resolveOverflowPolicy(getProperty(OVERFLOW_POLICY_PROPERTY));
+  private final int asyncSampleRate = getInteger(SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE);
+  private final long asyncBlockTimeout = getLong(BLOCK_TIMEOUT_PROPERTY, DEFAULT_BLOCK_TIMEOUT);
+
   public ServerNotificationManager() {}
 
   public ServerNotificationManager(LazyValue<SchedulerService> schedulerService, LazyValue<String> serverId) {
@@ -163,6 +196,7 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
    */
   public void removeListener(NotificationListener<?> listener) {
     configuration.removeListener(listener);
+    asyncListenerGroups.remove(listener);
   }
 
   public void disableInterface(Class<? extends NotificationListener> iface) {
@@ -203,13 +237,7 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
       if (notification.isSynchronous()) {
         notifyListeners(notification, (listener, nfn) -> listener.onNotification(nfn));
       } else {
-        notifyListeners(notification, (listener, nfn) -> {
-          if (listener.isBlocking()) {
-            notificationsIoScheduler.submit(() -> listener.onNotification(nfn));
-          } else {
-            notificationsLiteScheduler.submit(() -> listener.onNotification(nfn));
-          }
-        });
+        notifyListeners(notification, (listener, nfn) -> getAsyncListenerGroup(listener).dispatch(nfn));
       }
     } finally {
       if (0 == activeFires.decrementAndGet() && disposed.get()) {
@@ -218,6 +246,29 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
     }
   }
 
+  private AsyncNotificationListenerGroup getAsyncListenerGroup(NotificationListener listener) {
+    // Avoid the locking of computeIfAbsent for the groups that already exist
+    AsyncNotificationListenerGroup group = asyncListenerGroups.get(listener);
+    if (group == null) {
+      group = asyncListenerGroups.computeIfAbsent(listener, this::createAsyncListenerGroup);
+    }
+    return group;
+  }
+
+  private AsyncNotificationListenerGroup createAsyncListenerGroup(NotificationListener listener) {
+    return new AsyncNotificationListenerGroup(listener,
+                                              listener.isBlocking()
+                                                  ? () -> notificationsIoScheduler
+                                                  : () -> notificationsLiteScheduler,
+                                              asyncBufferSize, asyncBatchSize, asyncOverflowPolicy, asyncSampleRate,
+                                              this::isBlockingAllowed, asyncBlockTimeout, droppedNotifications);
+  }
+
+  private boolean isBlockingAllowed() {
+    // cpu-light threads must never block, and the notifications of non blocking listeners are delivered in that same pool
+    return !schedulerService.get().isCurrentThreadForCpuWork();
+  }
+
   protected void notifyListeners(Notification notification, NotifierCallback notifier) {
     configuration.getPolicy().dispatch(notification, notifier);
   }
@@ -259,9 +310,31 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
       notificationsIoScheduler = null;
     }
 
+    asyncListenerGroups.clear();
     configuration = null;
   }
 
+  /**
+   * @return the amount of asynchronous notifications discarded because the buffer of pending notifications of their listener was
+   *         full.
+   * @since 4.5.0
+   */
+  public long getDroppedNotificationsCount() {
+    return droppedNotifications.sum();
+  }
+
+  /**
+   * @return the amount of asynchronous notifications fired but not yet delivered to their listeners.
+   * @since 4.5.0
+   */
+  public long getPendingNotificationsCount() {
+    long pending = 0;
+    for (AsyncNotificationListenerGroup group : asyncListenerGroups.values()) {
+      pending += group.getPendingNotifications();
+    }
+    return pending;
+  }
+
   /**
    * Support string or class parameters
    */
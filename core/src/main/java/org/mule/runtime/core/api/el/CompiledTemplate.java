@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.el;
+
+import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
+
+/**
+ * A string template with embedded expressions that has already been parsed, so it can be rendered for many events without
+ * parsing it again.
+ * <p>
+ * Rendering a compiled template gives the same result as {@link ExtendedExpressionManager#parse(String, CoreEvent, ComponentLocation)}
+ * for the same template.
+ *
+ * @since 4.5.0
+ */
+@NoImplement
+public interface CompiledTemplate {
+
+  /**
+   * @return the template this was compiled from.
+   */
+  String getTemplate();
+
+  /**
+   * Renders this template, evaluating each of its expressions.
+   *
+   * @param event             the current event being processed
+   * @param componentLocation the location of the component where the event is being processed
+   * @return the result of the evaluation
+   * @throws ExpressionRuntimeException if a problem occurs evaluating the expressions
+   */
+  String render(CoreEvent event, ComponentLocation componentLocation) throws ExpressionRuntimeException;
+}
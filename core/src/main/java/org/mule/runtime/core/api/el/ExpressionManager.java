@@ -239,6 +239,29 @@ public interface ExpressionManager extends MuleExpressionLanguage {
   String parseLogTemplate(String template, CoreEvent event, ComponentLocation componentLocation, BindingContext bindingContext)
       throws ExpressionRuntimeException;
 
+  /**
+   * Parses a logging expression template once, so it can be rendered for many events without the cost of parsing it each time.
+   * Useful for templates that are known beforehand, such as the message of a logger.
+   *
+   * @param template the string template featuring inner expressions to parse
+   * @return the compiled template
+   * @since 4.5.0
+   */
+  default CompiledLogTemplate compileLogTemplate(String template) {
+    return new CompiledLogTemplate() {
+
+      @Override
+      public String getTemplate() {
+        return template;
+      }
+
+      @Override
+      public String render(CoreEvent event, ComponentLocation componentLocation, BindingContext bindingContext) {
+        return parseLogTemplate(template, event, componentLocation, bindingContext);
+      }
+    };
+  }
+
   /**
    * Returns an object that caches computation results. Provides better performance when evaluation multiple expressions on the
    * same bindings.
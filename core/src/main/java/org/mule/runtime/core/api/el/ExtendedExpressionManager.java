@@ -66,4 +66,28 @@ public interface ExtendedExpressionManager extends ExpressionManager {
   @Deprecated
   String parse(String expression, CoreEvent event, ComponentLocation componentLocation) throws ExpressionRuntimeException;
 
+  /**
+   * Parses a template with expressions embedded in a literal string once, so it can be rendered for many events without the cost
+   * of parsing it each time, as {@link #parse(String, CoreEvent, ComponentLocation)} does. Useful for templates that are known
+   * beforehand, such as the value of a component's attribute.
+   *
+   * @param template one or more expressions embedded in a literal string
+   * @return the compiled template
+   * @since 4.5.0
+   */
+  default CompiledTemplate compileTemplate(String template) {
+    return new CompiledTemplate() {
+
+      @Override
+      public String getTemplate() {
+        return template;
+      }
+
+      @Override
+      public String render(CoreEvent event, ComponentLocation componentLocation) {
+        return parse(template, event, componentLocation);
+      }
+    };
+  }
+
 }
@@ -21,7 +21,9 @@ import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <code>AllStatistics</code> TODO
@@ -35,6 +37,7 @@ public class AllStatistics {
   private final ApplicationStatistics appStats;
   private final Map<String, FlowConstructStatistics> flowConstructStats = new HashMap<>();
   private final Map<String, PayloadStatistics> payloadStatistics = emptyMap();
+  private final Map<String, ComponentStatistics> componentStatistics = new ConcurrentHashMap<>();
 
   /**
    *
@@ -50,6 +53,9 @@ public class AllStatistics {
     for (FlowConstructStatistics statistics : getServiceStatistics()) {
       statistics.clear();
     }
+    for (ComponentStatistics statistics : componentStatistics.values()) {
+      statistics.clear();
+    }
     startTime = currentTimeMillis();
   }
 
@@ -69,6 +75,9 @@ public class AllStatistics {
     for (FlowConstructStatistics statistics : flowConstructStats.values()) {
       statistics.setEnabled(enable);
     }
+    for (ComponentStatistics statistics : componentStatistics.values()) {
+      statistics.setEnabled(enable);
+    }
   }
 
   /**
@@ -110,6 +119,73 @@ public class AllStatistics {
     return appStats;
   }
 
+  /**
+   * @return the distribution of the processing time of each flow construct since last cleared, by name. Includes the totals for
+   *         the application.
+   * @since 4.5.0
+   */
+  public synchronized Map<String, LatencySnapshot> getProcessingTimeSnapshots() {
+    Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+    for (FlowConstructStatistics statistics : flowConstructStats.values()) {
+      snapshots.put(statistics.getName(), statistics.getProcessingTimeSnapshot());
+    }
+    return snapshots;
+  }
+
+  /**
+   * Starts a new interval on every flow construct, so interval snapshots are meant to be taken by a single reporter.
+   *
+   * @return the distribution of the processing time of each flow construct since the previous call to this method, by name.
+   *         Includes the totals for the application.
+   * @since 4.5.0
+   */
+  public synchronized Map<String, LatencySnapshot> getProcessingTimeIntervalSnapshots() {
+    Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+    LatencySnapshot appSnapshot = LatencySnapshot.empty();
+    for (FlowConstructStatistics statistics : flowConstructStats.values()) {
+      if (statistics != appStats) {
+        LatencySnapshot snapshot = statistics.getProcessingTimeIntervalSnapshot();
+        snapshots.put(statistics.getName(), snapshot);
+        appSnapshot = appSnapshot.merge(snapshot);
+      }
+    }
+    snapshots.put(appStats.getName(), appSnapshot);
+    return snapshots;
+  }
+
+  /**
+   * @param componentLocation the location of the component to get the statistics for.
+   * @return the execution statistics for the component with the provided {@code componentLocation}, created if absent.
+   * @since 4.5.0
+   */
+  public ComponentStatistics computeComponentStatisticsIfAbsent(String componentLocation) {
+    return componentStatistics.computeIfAbsent(componentLocation, loc -> {
+      ComponentStatistics statistics = new ComponentStatistics();
+      statistics.setEnabled(isStatisticsEnabled);
+      return statistics;
+    });
+  }
+
+  /**
+   * @param componentLocation the location of the component to get the statistics for.
+   * @return the execution statistics for the component with the provided {@code componentLocation}, or {@code null} if it
+   *         hasn't got any.
+   * @since 4.5.0
+   */
+  public ComponentStatistics getComponentStatistics(String componentLocation) {
+    return componentStatistics.get(componentLocation);
+  }
+
+  /**
+   * @return the distribution of the execution time of each component since last cleared, by component location.
+   * @since 4.5.0
+   */
+  public Map<String, LatencySnapshot> getExecutionTimeSnapshots() {
+    Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+    componentStatistics.forEach((location, statistics) -> snapshots.put(location, statistics.getExecutionTimeSnapshot()));
+    return snapshots;
+  }
+
   /**
    * @return the available payload statistics for all components.
    * @since 4.4, 4.3.1
@@ -8,6 +8,7 @@ package org.mule.runtime.core.api.management.stats;
 
 import org.mule.api.annotation.NoExtend;
 import org.mule.runtime.core.api.util.StringUtils;
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +16,9 @@ import org.slf4j.LoggerFactory;
 /**
  * ComponentStatistics is a basic metrics aggregation class that is accessible via the JMX api. This class is not thread-safe -
  * occasional errors in reported statistics should be expected, especially when the {@link #clear()} method is used.
+ * <p/>
+ * Besides the aggregated values, the execution times of each event are recorded in a lock-free histogram, from which percentiles
+ * can be obtained through {@link #getExecutionTimeSnapshot()} and {@link #getExecutionTimeIntervalSnapshot()}.
  */
 @NoExtend
 public class ComponentStatistics implements Statistics {
@@ -36,6 +40,9 @@ public class ComponentStatistics implements Statistics {
   private long currentIntervalStartTime = 0;
   private boolean statIntervalTimeEnabled = false;
 
+  // Transient to avoid de-serialization backward compatibility problems
+  private transient final LatencyHistogram executionTimeHistogram = new LatencyHistogram();
+
   /**
    * The constructor added to initialize the interval time in ms that stats are measured for from the property statIntervalTime.
    * If the property is not set or cannot be parsed, disable interval time and just compute stats from start of mule.
@@ -70,6 +77,9 @@ public class ComponentStatistics implements Statistics {
     executedEvent = 0;
     totalExecTime = 0;
     averageExecutionTime = 0;
+    if (executionTimeHistogram != null) {
+      executionTimeHistogram.clear();
+    }
   }
 
   /**
@@ -181,13 +191,21 @@ public class ComponentStatistics implements Statistics {
    * 
    * @param time the total time required to process this event
    */
-  public synchronized void addCompleteExecutionTime(long time) {
+  public void addCompleteExecutionTime(long time) {
+    long effectiveTime = ProcessingTime.getEffectiveTime(time);
+    if (updateMinExecutionTime(effectiveTime)) {
+      recordExecutionTime(effectiveTime);
+    }
+  }
+
+  private synchronized boolean updateMinExecutionTime(long effectiveTime) {
     if (executedEvent > 0) {
-      long effectiveTime = ProcessingTime.getEffectiveTime(time);
       if (minExecutionTime == 0 || effectiveTime < minExecutionTime) {
         minExecutionTime = effectiveTime;
       }
+      return true;
     }
+    return false;
   }
 
   /**
@@ -197,7 +215,12 @@ public class ComponentStatistics implements Statistics {
    *
    * @param time The total event time to be logged/recorded.
    */
-  public synchronized void addExecutionTime(long time) {
+  public void addExecutionTime(long time) {
+    updateExecutionTime(time);
+    recordExecutionTime(ProcessingTime.getEffectiveTime(time));
+  }
+
+  private synchronized void updateExecutionTime(long time) {
     if (statIntervalTimeEnabled) {
       long currentTime = System.currentTimeMillis();
       if (currentIntervalStartTime == 0) {
@@ -233,4 +256,35 @@ public class ComponentStatistics implements Statistics {
     return averageExecutionTime;
   }
 
+  private void recordExecutionTime(long effectiveTime) {
+    if (executionTimeHistogram != null) {
+      executionTimeHistogram.record(effectiveTime);
+    }
+  }
+
+  /**
+   * The distribution of the total event execution times seen since last cleared.
+   * <p/>
+   * Taking a snapshot doesn't block the threads recording execution times.
+   *
+   * @return a {@link LatencySnapshot} from which percentiles of the execution time can be obtained.
+   * @since 4.5.0
+   */
+  public LatencySnapshot getExecutionTimeSnapshot() {
+    return executionTimeHistogram != null ? executionTimeHistogram.snapshot() : LatencySnapshot.empty();
+  }
+
+  /**
+   * The distribution of the total event execution times seen since the previous call to this method, or since last cleared if
+   * there was no such call after that.
+   * <p/>
+   * Taking a snapshot doesn't block the threads recording execution times.
+   *
+   * @return a {@link LatencySnapshot} from which percentiles of the execution time in the current interval can be obtained.
+   * @since 4.5.0
+   */
+  public LatencySnapshot getExecutionTimeIntervalSnapshot() {
+    return executionTimeHistogram != null ? executionTimeHistogram.intervalSnapshot() : LatencySnapshot.empty();
+  }
+
 }
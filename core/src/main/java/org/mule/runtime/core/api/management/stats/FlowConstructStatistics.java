@@ -100,4 +100,22 @@ public interface FlowConstructStatistics extends Statistics {
   default long getConnectionErrors() {
     return 0;
   }
+
+  /**
+   * @return the distribution of the time required to process an event, since last cleared
+   * @since 4.5.0
+   */
+  default LatencySnapshot getProcessingTimeSnapshot() {
+    return LatencySnapshot.empty();
+  }
+
+  /**
+   * Each call starts a new interval, so interval snapshots are meant to be taken by a single reporter.
+   *
+   * @return the distribution of the time required to process an event, since the previous call to this method
+   * @since 4.5.0
+   */
+  default LatencySnapshot getProcessingTimeIntervalSnapshot() {
+    return LatencySnapshot.empty();
+  }
 }
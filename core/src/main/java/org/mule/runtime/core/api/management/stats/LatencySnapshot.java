@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.api.annotation.NoExtend;
+
+import java.io.Serializable;
+
+/**
+ * An immutable view of the latencies recorded by a statistics collector at a given point in time, from which percentiles can be
+ * obtained.
+ * <p>
+ * Latencies are grouped in buckets, so the value reported for a percentile is the highest value that falls in the same bucket as
+ * the actual one. The relative error of each value is bounded by the precision of the histogram that created the snapshot.
+ *
+ * @since 4.5.0
+ */
+@NoExtend
+public final class LatencySnapshot implements Serializable {
+
+  private static final long serialVersionUID = 3457186720916458121L;
+
+  private static final LatencySnapshot EMPTY = new LatencySnapshot(new long[0], new long[0]);
+
+  private final long[] values;
+  private final long[] counts;
+  private final long totalCount;
+
+  /**
+   * @return a snapshot with no recorded values
+   */
+  public static LatencySnapshot empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a new snapshot
+   *
+   * @param values the highest value of each non-empty bucket, in ascending order
+   * @param counts the amount of values recorded in each bucket
+   */
+  public LatencySnapshot(long[] values, long[] counts) {
+    checkArgument(values.length == counts.length, "values and counts must have the same length");
+    this.values = values;
+    this.counts = counts;
+
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    this.totalCount = total;
+  }
+
+  /**
+   * @return the amount of values recorded
+   */
+  public long getCount() {
+    return totalCount;
+  }
+
+  /**
+   * @param percentile a number between 0 and 100
+   * @return the value below which the given {@code percentile} of the recorded values fall, or zero if there are no values
+   */
+  public long getValueAtPercentile(double percentile) {
+    checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+    if (totalCount == 0) {
+      return 0;
+    }
+
+    final long rank = max(1, (long) ceil(percentile / 100 * totalCount));
+    long accumulated = 0;
+    for (int i = 0; i < counts.length; ++i) {
+      accumulated += counts[i];
+      if (accumulated >= rank) {
+        return values[i];
+      }
+    }
+    return values[values.length - 1];
+  }
+
+  /**
+   * @return the median of the recorded values
+   */
+  public long getP50() {
+    return getValueAtPercentile(50);
+  }
+
+  /**
+   * @return the 90th percentile of the recorded values
+   */
+  public long getP90() {
+    return getValueAtPercentile(90);
+  }
+
+  /**
+   * @return the 99th percentile of the recorded values
+   */
+  public long getP99() {
+    return getValueAtPercentile(99);
+  }
+
+  /**
+   * @return the 99.9th percentile of the recorded values
+   */
+  public long getP999() {
+    return getValueAtPercentile(99.9);
+  }
+
+  /**
+   * @return the highest recorded value, or zero if there are no values
+   */
+  public long getMax() {
+    return values.length == 0 ? 0 : values[values.length - 1];
+  }
+
+  /**
+   * Combines this snapshot with another one, as if all the values had been recorded on the same histogram.
+   *
+   * @param other the snapshot to combine with
+   * @return a new snapshot with the values of both
+   */
+  public LatencySnapshot merge(LatencySnapshot other) {
+    if (other.totalCount == 0) {
+      return this;
+    } else if (totalCount == 0) {
+      return other;
+    }
+
+    long[] mergedValues = new long[values.length + other.values.length];
+    long[] mergedCounts = new long[mergedValues.length];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < values.length || j < other.values.length) {
+      long value = min(i < values.length ? values[i] : Long.MAX_VALUE,
+                       j < other.values.length ? other.values[j] : Long.MAX_VALUE);
+      long count = 0;
+      if (i < values.length && values[i] == value) {
+        count += counts[i++];
+      }
+      if (j < other.values.length && other.values[j] == value) {
+        count += other.counts[j++];
+      }
+      mergedValues[k] = value;
+      mergedCounts[k++] = count;
+    }
+
+    return new LatencySnapshot(copyOf(mergedValues, k), copyOf(mergedCounts, k));
+  }
+
+  @Override
+  public String toString() {
+    return "count: " + totalCount + ", p50: " + getP50() + ", p90: " + getP90() + ", p99: " + getP99() + ", p99.9: " + getP999()
+        + ", max: " + getMax();
+  }
+}
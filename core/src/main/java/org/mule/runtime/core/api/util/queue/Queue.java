@@ -12,6 +12,7 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.meta.NamedObject;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * Interface for mule queues used for VM.
@@ -44,6 +45,17 @@ public interface Queue extends NamedObject {
 
   boolean offer(Serializable object, long timeout) throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxElements} objects from this queue without waiting, and adds them to the given collection. This is
+   * cheaper than polling them one by one, since the queue storage is accessed once for all of them.
+   *
+   * @param target      the collection to transfer the objects to
+   * @param maxElements the maximum number of objects to transfer
+   * @return the number of objects transferred
+   * @since 4.5.0
+   */
+  int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException;
+
   /**
    * Discards all the elements in the queue
    * 
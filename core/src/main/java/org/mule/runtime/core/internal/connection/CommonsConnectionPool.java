@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.Integer.MAX_VALUE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+
+import org.mule.runtime.api.config.PoolingProfile;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
+/**
+ * {@link ConnectionPool} backed by a commons-pool2 {@link GenericObjectPool}.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.5.0
+ */
+final class CommonsConnectionPool<C> implements ConnectionPool<C>, ConnectionPoolStatistics {
+
+  private final GenericObjectPool<C> pool;
+
+  CommonsConnectionPool(PoolingProfile poolingProfile, ConnectionLifecycle<C> lifecycle) {
+    GenericObjectPoolConfig<C> config = new GenericObjectPoolConfig<>();
+
+    config.setMaxIdle(poolingProfile.getMaxIdle());
+
+    switch (poolingProfile.getExhaustedAction()) {
+      case WHEN_EXHAUSTED_GROW:
+        config.setMaxTotal(MAX_VALUE);
+        config.setBlockWhenExhausted(false);
+        break;
+      case WHEN_EXHAUSTED_FAIL:
+        config.setMaxTotal(poolingProfile.getMaxActive());
+        config.setBlockWhenExhausted(false);
+        break;
+      case WHEN_EXHAUSTED_WAIT:
+        config.setMaxTotal(poolingProfile.getMaxActive());
+        config.setBlockWhenExhausted(true);
+        break;
+    }
+
+    config.setMaxWaitMillis(poolingProfile.getMaxWait());
+    config.setMinEvictableIdleTimeMillis(poolingProfile.getMinEvictionMillis());
+    config.setTimeBetweenEvictionRunsMillis(poolingProfile.getEvictionCheckIntervalMillis());
+    pool = new GenericObjectPool<>(new ObjectFactoryAdapter<>(lifecycle), config);
+  }
+
+  @Override
+  public PooledConnection<C> borrowConnection() throws Exception {
+    C connection = pool.borrowObject();
+    return () -> connection;
+  }
+
+  @Override
+  public void returnConnection(PooledConnection<C> connection) throws Exception {
+    pool.returnObject(connection.getConnection());
+  }
+
+  @Override
+  public void invalidateConnection(PooledConnection<C> connection) throws Exception {
+    pool.invalidateObject(connection.getConnection());
+  }
+
+  @Override
+  public void addConnection() throws Exception {
+    pool.addObject();
+  }
+
+  @Override
+  public void close() throws Exception {
+    pool.close();
+  }
+
+  @Override
+  public ConnectionPoolStatistics getStatistics() {
+    return this;
+  }
+
+  @Override
+  public int getNumActive() {
+    return pool.getNumActive();
+  }
+
+  @Override
+  public int getNumIdle() {
+    return pool.getNumIdle();
+  }
+
+  @Override
+  public int getMaxActive() {
+    return pool.getMaxTotal();
+  }
+
+  @Override
+  public int getMaxIdle() {
+    return pool.getMaxIdle();
+  }
+
+  @Override
+  public long getBorrowedCount() {
+    return pool.getBorrowedCount();
+  }
+
+  @Override
+  public long getReturnedCount() {
+    return pool.getReturnedCount();
+  }
+
+  @Override
+  public long getCreatedCount() {
+    return pool.getCreatedCount();
+  }
+
+  @Override
+  public long getDestroyedCount() {
+    return pool.getDestroyedCount();
+  }
+
+  @Override
+  public long getMeanBorrowWaitTimeMillis() {
+    return pool.getMeanBorrowWaitTimeMillis();
+  }
+
+  private static class ObjectFactoryAdapter<C> extends BasePooledObjectFactory<C> {
+
+    private final ConnectionLifecycle<C> lifecycle;
+
+    private ObjectFactoryAdapter(ConnectionLifecycle<C> lifecycle) {
+      this.lifecycle = lifecycle;
+    }
+
+    @Override
+    public PooledObject<C> wrap(C obj) {
+      return new DefaultPooledObject<>(obj);
+    }
+
+    @Override
+    public C create() throws Exception {
+      return lifecycle.create();
+    }
+
+    @Override
+    public void destroyObject(final PooledObject<C> connection) throws Exception {
+      lifecycle.destroy(connection.getObject());
+    }
+
+    @Override
+    public boolean validateObject(final PooledObject<C> obj) {
+      return false;
+    }
+  }
+}
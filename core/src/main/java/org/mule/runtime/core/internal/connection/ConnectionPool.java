@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import org.mule.runtime.api.config.PoolingProfile;
+
+/**
+ * A pool of connections, configured through a {@link PoolingProfile}.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.5.0
+ */
+interface ConnectionPool<C> {
+
+  /**
+   * Obtains a connection from the pool, creating a new one if none is idle and the {@link PoolingProfile} allows it.
+   *
+   * @return the borrowed connection
+   * @throws java.util.NoSuchElementException if the pool is exhausted
+   * @throws Exception                        if the connection could not be created
+   */
+  PooledConnection<C> borrowConnection() throws Exception;
+
+  /**
+   * Returns a connection obtained through {@link #borrowConnection()}, so it can be borrowed again.
+   *
+   * @param connection the connection to return
+   * @throws Exception if the connection could not be returned
+   */
+  void returnConnection(PooledConnection<C> connection) throws Exception;
+
+  /**
+   * Removes a connection obtained through {@link #borrowConnection()} from the pool and disconnects it.
+   *
+   * @param connection the connection to invalidate
+   * @throws Exception if the connection could not be disconnected
+   */
+  void invalidateConnection(PooledConnection<C> connection) throws Exception;
+
+  /**
+   * Creates a new connection and adds it to the pool as idle.
+   *
+   * @throws Exception if the connection could not be created
+   */
+  void addConnection() throws Exception;
+
+  /**
+   * Closes the pool, disconnecting its idle connections.
+   *
+   * @throws Exception if the pool could not be closed
+   */
+  void close() throws Exception;
+
+  /**
+   * @return the current statistics of this pool.
+   */
+  ConnectionPoolStatistics getStatistics();
+
+  /**
+   * A connection held by a {@link ConnectionPool}.
+   *
+   * @param <C> the generic type of the connection
+   */
+  interface PooledConnection<C> {
+
+    /**
+     * @return the pooled connection
+     */
+    C getConnection();
+  }
+
+  /**
+   * Creates and disconnects the connections of a {@link ConnectionPool}.
+   *
+   * @param <C> the generic type of the connections
+   */
+  interface ConnectionLifecycle<C> {
+
+    /**
+     * @return a new connection
+     * @throws Exception if the connection could not be created
+     */
+    C create() throws Exception;
+
+    /**
+     * @param connection the connection to disconnect
+     * @throws Exception if the connection could not be disconnected
+     */
+    void destroy(C connection) throws Exception;
+  }
+}
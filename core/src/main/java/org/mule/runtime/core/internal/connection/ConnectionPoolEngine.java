@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.System.getProperty;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.internal.connection.ConnectionPool.ConnectionLifecycle;
+
+import java.util.function.Supplier;
+
+/**
+ * The implementations of {@link ConnectionPool} available for {@link PoolingConnectionManagementStrategy}.
+ * <p>
+ * The one to use is set through the {@link #POOL_ENGINE_PROPERTY} system property.
+ *
+ * @since 4.5.0
+ */
+enum ConnectionPoolEngine {
+
+  /**
+   * Pool backed by commons-pool2.
+   */
+  COMMONS_POOL {
+
+    @Override
+    <C> ConnectionPool<C> createPool(PoolingProfile poolingProfile, ConnectionLifecycle<C> lifecycle,
+                                     Supplier<Scheduler> evictionSchedulerSupplier) {
+      // commons-pool2 evicts with its own timer
+      return new CommonsConnectionPool<>(poolingProfile, lifecycle);
+    }
+  },
+
+  /**
+   * Pool that doesn't take locks when borrowing or returning connections.
+   *
+   * @see LockFreeConnectionPool
+   */
+  LOCK_FREE {
+
+    @Override
+    <C> ConnectionPool<C> createPool(PoolingProfile poolingProfile, ConnectionLifecycle<C> lifecycle,
+                                     Supplier<Scheduler> evictionSchedulerSupplier) {
+      return new LockFreeConnectionPool<>(poolingProfile, lifecycle, evictionSchedulerSupplier);
+    }
+  };
+
+  static final String POOL_ENGINE_PROPERTY = "mule.connection.pool.engine";
+
+  /**
+   * @return the engine set through the {@link #POOL_ENGINE_PROPERTY} system property, {@link #COMMONS_POOL} if not set.
+   */
+  static ConnectionPoolEngine getDefault() {
+    return valueOf(getProperty(POOL_ENGINE_PROPERTY, COMMONS_POOL.name()));
+  }
+
+  /**
+   * Creates a new pool.
+   *
+   * @param poolingProfile            the {@link PoolingProfile} that configures the pool
+   * @param lifecycle                 creates and disconnects the connections of the pool
+   * @param evictionSchedulerSupplier provides the {@link Scheduler} to evict idle connections with, which the pool stops when
+   *                                  closed
+   * @param <C>                       the generic type of the pooled connections
+   * @return a new pool
+   */
+  abstract <C> ConnectionPool<C> createPool(PoolingProfile poolingProfile, ConnectionLifecycle<C> lifecycle,
+                                            Supplier<Scheduler> evictionSchedulerSupplier);
+}
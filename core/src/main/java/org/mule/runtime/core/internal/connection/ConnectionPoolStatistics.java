@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+/**
+ * Live view of the state of a connection pool. The values are updated as the pool is used, so the same instance may be queried
+ * many times.
+ *
+ * @since 4.5.0
+ */
+public interface ConnectionPoolStatistics {
+
+  /**
+   * @return the number of connections currently borrowed from the pool.
+   */
+  int getNumActive();
+
+  /**
+   * @return the number of connections currently idle in the pool.
+   */
+  int getNumIdle();
+
+  /**
+   * @return the maximum number of connections the pool may hold, a negative value or {@link Integer#MAX_VALUE} if unlimited.
+   */
+  int getMaxActive();
+
+  /**
+   * @return the maximum number of idle connections the pool may hold, a negative value if unlimited.
+   */
+  int getMaxIdle();
+
+  /**
+   * @return the total number of connections borrowed from the pool.
+   */
+  long getBorrowedCount();
+
+  /**
+   * @return the total number of connections returned to the pool.
+   */
+  long getReturnedCount();
+
+  /**
+   * @return the total number of connections created by the pool.
+   */
+  long getCreatedCount();
+
+  /**
+   * @return the total number of connections disconnected by the pool, either because they were invalidated, evicted or exceeded
+   *         the maximum idle.
+   */
+  long getDestroyedCount();
+
+  /**
+   * @return the mean time, in milliseconds, that borrowing a connection took.
+   */
+  long getMeanBorrowWaitTimeMillis();
+}
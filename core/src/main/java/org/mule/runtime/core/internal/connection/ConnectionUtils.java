@@ -18,7 +18,6 @@ import org.mule.runtime.core.internal.util.InjectionUtils;
 
 import java.util.Optional;
 
-import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.slf4j.Logger;
 
 /**
@@ -92,14 +91,18 @@ public final class ConnectionUtils {
     return InjectionUtils.getInjectionTarget(unwrap(connectionProvider));
   }
 
-  public static <C> void logPoolStatus(Logger logger, GenericObjectPool<C> pool, String poolId) {
+  public static void logPoolStatus(Logger logger, ConnectionPoolStatistics pool, String poolId) {
     if (logger.isDebugEnabled()) {
       String maxActive =
-          pool.getMaxTotal() < 0 || pool.getMaxTotal() == MAX_VALUE ? "unlimited" : String.valueOf(pool.getMaxTotal());
+          pool.getMaxActive() < 0 || pool.getMaxActive() == MAX_VALUE ? "unlimited" : String.valueOf(pool.getMaxActive());
       String maxIdle = pool.getMaxIdle() < 0 ? "unlimited" : String.valueOf(pool.getMaxIdle());
       logger
           .debug("Status for pool {}: {} connections are active out of {} max active limit, {} connections are idle out of {} max idle limit",
                  poolId, pool.getNumActive(), maxActive, pool.getNumIdle(), maxIdle);
+      logger
+          .debug("Totals for pool {}: {} borrowed, {} returned, {} created, {} destroyed, {} ms mean borrow wait",
+                 poolId, pool.getBorrowedCount(), pool.getReturnedCount(), pool.getCreatedCount(), pool.getDestroyedCount(),
+                 pool.getMeanBorrowWaitTimeMillis());
     }
   }
 }
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.scheduler.Scheduler;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link ConnectionPool} that doesn't take locks when borrowing or returning connections.
+ * <p>
+ * The idle connections are kept in a lock-free deque. Returned connections are pushed to its head and borrowed connections are
+ * taken from it, so the most recently used connection is reused first, as commons-pool2 does by default, and the oldest idle
+ * connections gather at its tail where the eviction looks for them. Each connection also has an atomic state, so that the
+ * eviction and the borrowers never take the same connection. When the pool is exhausted and the {@link PoolingProfile} says to
+ * wait, returned connections are handed off directly to the waiting threads.
+ * <p>
+ * Idle connections are evicted by a task on a {@link Scheduler} owned by the pool, which is stopped when the pool is closed.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.5.0
+ */
+final class LockFreeConnectionPool<C> implements ConnectionPool<C>, ConnectionPoolStatistics {
+
+  private static final Logger LOGGER = getLogger(LockFreeConnectionPool.class);
+
+  private static final int IDLE = 0;
+  private static final int IN_USE = 1;
+  private static final int REMOVED = -1;
+
+  // Waiting threads check again for idle connections or free capacity at least this often
+  private static final long WAIT_SLICE_NANOS = MILLISECONDS.toNanos(50);
+
+  // Handed off to a waiting thread when a connection is destroyed, so it can create a new one
+  private final Entry<C> capacityAvailable = new Entry<>(null, REMOVED);
+
+  private final ConnectionLifecycle<C> lifecycle;
+  private final int exhaustedAction;
+  private final int maxTotal;
+  private final int maxIdle;
+  private final long maxWaitNanos;
+  private final long minEvictableIdleNanos;
+
+  private final ConcurrentLinkedDeque<Entry<C>> idle = new ConcurrentLinkedDeque<>();
+  private final SynchronousQueue<Entry<C>> handoff = new SynchronousQueue<>();
+  private final AtomicInteger totalCount = new AtomicInteger();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final AtomicInteger waiters = new AtomicInteger();
+
+  private final LongAdder borrowedCount = new LongAdder();
+  private final LongAdder returnedCount = new LongAdder();
+  private final LongAdder createdCount = new LongAdder();
+  private final LongAdder destroyedCount = new LongAdder();
+  private final LongAdder borrowWaitNanos = new LongAdder();
+
+  private final Scheduler evictionScheduler;
+  private volatile boolean closed = false;
+
+  /**
+   * Creates a new pool.
+   *
+   * @param poolingProfile            the {@link PoolingProfile} that configures the pool
+   * @param lifecycle                 creates and disconnects the connections of the pool
+   * @param evictionSchedulerSupplier provides the {@link Scheduler} for evicting idle connections. Only called if the
+   *                                  {@code poolingProfile} has eviction enabled.
+   */
+  LockFreeConnectionPool(PoolingProfile poolingProfile, ConnectionLifecycle<C> lifecycle,
+                         Supplier<Scheduler> evictionSchedulerSupplier) {
+    this.lifecycle = lifecycle;
+    this.exhaustedAction = poolingProfile.getExhaustedAction();
+    this.maxTotal = exhaustedAction == WHEN_EXHAUSTED_GROW || poolingProfile.getMaxActive() < 0
+        ? MAX_VALUE
+        : poolingProfile.getMaxActive();
+    this.maxIdle = poolingProfile.getMaxIdle();
+    this.maxWaitNanos = poolingProfile.getMaxWait() < 0 ? -1 : MILLISECONDS.toNanos(poolingProfile.getMaxWait());
+    this.minEvictableIdleNanos = MILLISECONDS.toNanos(poolingProfile.getMinEvictionMillis());
+
+    long evictionInterval = poolingProfile.getEvictionCheckIntervalMillis();
+    if (evictionInterval > 0) {
+      evictionScheduler = evictionSchedulerSupplier.get();
+      evictionScheduler.scheduleWithFixedDelay(this::evict, evictionInterval, evictionInterval, MILLISECONDS);
+    } else {
+      evictionScheduler = null;
+    }
+  }
+
+  @Override
+  public PooledConnection<C> borrowConnection() throws Exception {
+    checkOpen();
+    long start = nanoTime();
+
+    Entry<C> entry = acquireIdle();
+    if (entry == null) {
+      entry = create(IN_USE);
+    }
+    if (entry == null) {
+      if (exhaustedAction != WHEN_EXHAUSTED_WAIT) {
+        throw new NoSuchElementException("Pool exhausted");
+      }
+      entry = awaitConnection(start);
+    }
+
+    borrowedCount.increment();
+    borrowWaitNanos.add(nanoTime() - start);
+    return entry;
+  }
+
+  private Entry<C> acquireIdle() {
+    Entry<C> entry;
+    while ((entry = idle.pollFirst()) != null) {
+      // Entries evicted or destroyed on close after being polled are just skipped
+      if (entry.acquire()) {
+        idleCount.decrementAndGet();
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private Entry<C> awaitConnection(long start) throws Exception {
+    waiters.incrementAndGet();
+    try {
+      while (true) {
+        checkOpen();
+
+        Entry<C> entry = acquireIdle();
+        if (entry == null) {
+          entry = create(IN_USE);
+        }
+        if (entry != null) {
+          return entry;
+        }
+
+        long wait = WAIT_SLICE_NANOS;
+        if (maxWaitNanos >= 0) {
+          long remaining = maxWaitNanos - (nanoTime() - start);
+          if (remaining <= 0) {
+            throw new NoSuchElementException("Timeout waiting for idle object");
+          }
+          wait = min(remaining, WAIT_SLICE_NANOS);
+        }
+
+        entry = handoff.poll(wait, NANOSECONDS);
+        if (entry != null && entry != capacityAvailable) {
+          // Handed off while still in use, so it already belongs to this thread
+          return entry;
+        }
+      }
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  private Entry<C> create(int state) throws Exception {
+    int total;
+    do {
+      total = totalCount.get();
+      if (total >= maxTotal) {
+        return null;
+      }
+    } while (!totalCount.compareAndSet(total, total + 1));
+
+    C connection;
+    try {
+      connection = lifecycle.create();
+    } catch (Exception e) {
+      totalCount.decrementAndGet();
+      signalCapacity();
+      throw e;
+    }
+
+    Entry<C> entry = new Entry<>(connection, state);
+    createdCount.increment();
+    if (state == IDLE) {
+      entry.lastReturnedNanos = nanoTime();
+      idleCount.incrementAndGet();
+      idle.offerFirst(entry);
+    }
+    return entry;
+  }
+
+  @Override
+  public void returnConnection(PooledConnection<C> connection) throws Exception {
+    Entry<C> entry = (Entry<C>) connection;
+    if (entry.state.get() != IN_USE) {
+      throw new IllegalStateException("Connection is not currently in use by this pool");
+    }
+    returnedCount.increment();
+
+    if (!closed && waiters.get() > 0 && handoff.offer(entry)) {
+      // A waiting thread took it as it was
+      return;
+    }
+
+    if (closed || (maxIdle >= 0 && idleCount.get() >= maxIdle)) {
+      if (entry.state.compareAndSet(IN_USE, REMOVED)) {
+        destroy(entry);
+      }
+      return;
+    }
+
+    entry.lastReturnedNanos = nanoTime();
+    idleCount.incrementAndGet();
+    entry.state.set(IDLE);
+    idle.offerFirst(entry);
+    if (closed && entry.state.compareAndSet(IDLE, REMOVED)) {
+      // The pool was closed while returning the connection
+      idleCount.decrementAndGet();
+      idle.remove(entry);
+      destroy(entry);
+    }
+  }
+
+  @Override
+  public void invalidateConnection(PooledConnection<C> connection) throws Exception {
+    Entry<C> entry = (Entry<C>) connection;
+    if (entry.state.compareAndSet(IN_USE, REMOVED)) {
+      destroy(entry);
+    }
+  }
+
+  @Override
+  public void addConnection() throws Exception {
+    checkOpen();
+    create(IDLE);
+  }
+
+  private void destroy(Entry<C> entry) throws Exception {
+    totalCount.decrementAndGet();
+    destroyedCount.increment();
+    try {
+      lifecycle.destroy(entry.connection);
+    } finally {
+      signalCapacity();
+    }
+  }
+
+  private void signalCapacity() {
+    if (waiters.get() > 0) {
+      handoff.offer(capacityAvailable);
+    }
+  }
+
+  private void evict() {
+    if (closed) {
+      return;
+    }
+
+    long now = nanoTime();
+    // The least recently returned connections are at the tail
+    Iterator<Entry<C>> iterator = idle.descendingIterator();
+    while (iterator.hasNext()) {
+      Entry<C> entry = iterator.next();
+      if (now - entry.lastReturnedNanos <= minEvictableIdleNanos) {
+        return;
+      }
+      if (entry.state.compareAndSet(IDLE, REMOVED)) {
+        iterator.remove();
+        idleCount.decrementAndGet();
+        try {
+          destroy(entry);
+        } catch (Exception e) {
+          LOGGER.warn("Failed to disconnect evicted connection", e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    if (evictionScheduler != null) {
+      evictionScheduler.stop();
+    }
+
+    Exception firstFailure = null;
+    Entry<C> entry;
+    while ((entry = idle.pollFirst()) != null) {
+      if (entry.state.compareAndSet(IDLE, REMOVED)) {
+        idleCount.decrementAndGet();
+        try {
+          destroy(entry);
+        } catch (Exception e) {
+          if (firstFailure == null) {
+            firstFailure = e;
+          } else {
+            firstFailure.addSuppressed(e);
+          }
+        }
+      }
+    }
+
+    // Wake up the waiting threads so they see that the pool is closed
+    boolean handedOff = true;
+    while (handedOff && waiters.get() > 0) {
+      handedOff = handoff.offer(capacityAvailable);
+    }
+
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Pool not open");
+    }
+  }
+
+  @Override
+  public ConnectionPoolStatistics getStatistics() {
+    return this;
+  }
+
+  @Override
+  public int getNumActive() {
+    return max(totalCount.get() - idleCount.get(), 0);
+  }
+
+  @Override
+  public int getNumIdle() {
+    return max(idleCount.get(), 0);
+  }
+
+  @Override
+  public int getMaxActive() {
+    return maxTotal;
+  }
+
+  @Override
+  public int getMaxIdle() {
+    return maxIdle;
+  }
+
+  @Override
+  public long getBorrowedCount() {
+    return borrowedCount.sum();
+  }
+
+  @Override
+  public long getReturnedCount() {
+    return returnedCount.sum();
+  }
+
+  @Override
+  public long getCreatedCount() {
+    return createdCount.sum();
+  }
+
+  @Override
+  public long getDestroyedCount() {
+    return destroyedCount.sum();
+  }
+
+  @Override
+  public long getMeanBorrowWaitTimeMillis() {
+    long borrowed = borrowedCount.sum();
+    return borrowed == 0 ? 0 : NANOSECONDS.toMillis(borrowWaitNanos.sum() / borrowed);
+  }
+
+  private static final class Entry<C> implements PooledConnection<C> {
+
+    private final C connection;
+    private final AtomicInteger state;
+    private volatile long lastReturnedNanos;
+
+    private Entry(C connection, int state) {
+      this.connection = connection;
+      this.state = new AtomicInteger(state);
+    }
+
+    private boolean acquire() {
+      return state.get() == IDLE && state.compareAndSet(IDLE, IN_USE);
+    }
+
+    @Override
+    public C getConnection() {
+      return connection;
+    }
+  }
+}
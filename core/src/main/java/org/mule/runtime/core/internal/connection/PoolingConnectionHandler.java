@@ -13,10 +13,10 @@ import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.PoolingListener;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,7 +31,8 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   private static final Logger LOGGER = LoggerFactory.getLogger(PoolingConnectionHandler.class);
 
   private C connection;
-  private final GenericObjectPool<C> pool;
+  private final PooledConnection<C> pooledConnection;
+  private final ConnectionPool<C> pool;
   private final String poolId;
   private final PoolingListener poolingListener;
   private final ConnectionProvider connectionProvider;
@@ -40,12 +41,13 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   /**
    * Creates a new instance
    *
-   * @param connection the connection to be wrapped
-   * @param pool       the pool from which the {@code connection} was obtained and to which it has to be returned
+   * @param pooledConnection the connection to be wrapped
+   * @param pool             the pool from which the {@code connection} was obtained and to which it has to be returned
    */
-  PoolingConnectionHandler(C connection, GenericObjectPool<C> pool, String poolId, PoolingListener poolingListener,
-                           ConnectionProvider connectionProvider) {
-    this.connection = connection;
+  PoolingConnectionHandler(PooledConnection<C> pooledConnection, ConnectionPool<C> pool, String poolId,
+                           PoolingListener poolingListener, ConnectionProvider connectionProvider) {
+    this.pooledConnection = pooledConnection;
+    this.connection = pooledConnection.getConnection();
     this.pool = pool;
     this.poolId = poolId;
     this.poolingListener = poolingListener;
@@ -75,8 +77,8 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
       LOGGER.debug("Returning back connection {} to pool {}", connection.toString(), poolId);
       poolingListener.onReturn(connection);
 
-      pool.returnObject(connection);
-      logPoolStatus(LOGGER, pool, poolId);
+      pool.returnConnection(pooledConnection);
+      logPoolStatus(LOGGER, pool.getStatistics(), poolId);
       returnAttempted = true;
     } catch (Exception e) {
       LOGGER.warn("Could not return connection to the pool. Connection will be terminated", e);
@@ -98,8 +100,8 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   public void invalidate() {
     try {
       LOGGER.debug("Invalidating connection {} from pool {}", connection.toString(), poolId);
-      pool.invalidateObject(connection);
-      logPoolStatus(LOGGER, pool, poolId);
+      pool.invalidateConnection(pooledConnection);
+      logPoolStatus(LOGGER, pool.getStatistics(), poolId);
     } catch (Exception e) {
       LOGGER.warn("Exception was thrown trying to invalidate connection of type " + connection.getClass().getName(), e);
     } finally {
@@ -6,12 +6,10 @@
  */
 package org.mule.runtime.core.internal.connection;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.lang.Integer.min;
 import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
 import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
 import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
-import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.internal.connection.ConnectionUtils.logPoolStatus;
 
@@ -23,21 +21,20 @@ import org.mule.runtime.api.connection.PoolingListener;
 import org.mule.runtime.api.exception.DefaultMuleException;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.connection.ConnectionPool.ConnectionLifecycle;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
 
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
-import org.apache.commons.pool2.BasePooledObjectFactory;
-import org.apache.commons.pool2.ObjectPool;
-import org.apache.commons.pool2.PooledObject;
-import org.apache.commons.pool2.impl.DefaultPooledObject;
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A {@link ConnectionManagementStrategy} which returns connections obtained from a {@link #pool}
+ * <p>
+ * The {@link ConnectionPool} implementation is chosen through the {@link ConnectionPoolEngine#POOL_ENGINE_PROPERTY} system
+ * property.
  *
  * @param <C> the generic type of the connections to be managed
  * @since 4.0
@@ -47,7 +44,7 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   private static final Logger LOGGER = LoggerFactory.getLogger(PoolingConnectionManagementStrategy.class);
 
   private final PoolingProfile poolingProfile;
-  private final GenericObjectPool<C> pool;
+  private final ConnectionPool<C> pool;
   private final String poolId;
   private final PoolingListener<C> poolingListener;
 
@@ -61,11 +58,27 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
    */
   PoolingConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile,
                                       PoolingListener<C> poolingListener, MuleContext muleContext, String ownerConfigName) {
+    this(connectionProvider, poolingProfile, poolingListener, muleContext, ownerConfigName, ConnectionPoolEngine.getDefault());
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param connectionProvider the {@link ConnectionProvider} used to manage the connections
+   * @param poolingProfile     the {@link PoolingProfile} which configures the {@link #pool}
+   * @param poolingListener    a {@link PoolingListener}
+   * @param muleContext        the application's {@link MuleContext}
+   * @param poolEngine         the implementation of the {@link #pool}
+   * @since 4.5.0
+   */
+  PoolingConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile,
+                                      PoolingListener<C> poolingListener, MuleContext muleContext, String ownerConfigName,
+                                      ConnectionPoolEngine poolEngine) {
     super(connectionProvider, muleContext);
     this.poolingProfile = poolingProfile;
     this.poolingListener = poolingListener;
     this.poolId = ownerConfigName.concat("-").concat(generateId());
-    this.pool = createPool(ownerConfigName);
+    this.pool = createPool(ownerConfigName, poolEngine);
   }
 
   /**
@@ -87,18 +100,19 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     }
   }
 
-  private C borrowConnection() throws Exception {
-    C connection = pool.borrowObject();
+  private PooledConnection<C> borrowConnection() throws Exception {
+    PooledConnection<C> pooled = pool.borrowConnection();
+    C connection = pooled.getConnection();
     LOGGER.debug("Acquiring connection {} from the pool {}", connection.toString(), poolId);
-    logPoolStatus(LOGGER, pool, poolId);
+    logPoolStatus(LOGGER, pool.getStatistics(), poolId);
     try {
       poolingListener.onBorrow(connection);
     } catch (Exception e) {
-      pool.invalidateObject(connection);
+      pool.invalidateConnection(pooled);
       throw e;
     }
 
-    return connection;
+    return pooled;
   }
 
   /**
@@ -110,7 +124,7 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   @Override
   public void close() throws MuleException {
     try {
-      logPoolStatus(LOGGER, pool, poolId);
+      logPoolStatus(LOGGER, pool.getStatistics(), poolId);
       LOGGER.debug("Closing pool {}", poolId);
       pool.close();
     } catch (Exception e) {
@@ -118,39 +132,24 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     }
   }
 
-  private GenericObjectPool<C> createPool(String ownerConfigName) {
-    GenericObjectPoolConfig<C> config = new GenericObjectPoolConfig<>();
+  private ConnectionPool<C> createPool(String ownerConfigName, ConnectionPoolEngine poolEngine) {
+    ConnectionPool<C> connectionPool = poolEngine.createPool(poolingProfile, new PooledConnectionLifecycle(),
+                                                             () -> muleContext.getSchedulerService()
+                                                                 .ioScheduler(muleContext.getSchedulerBaseConfig()
+                                                                     .withName(poolId + "-evictor")));
+    LOGGER.debug("Creating pool with ID {} for config {}", poolId, ownerConfigName);
 
-    config.setMaxIdle(poolingProfile.getMaxIdle());
+    applyInitialisationPolicy(connectionPool);
+    logPoolStatus(LOGGER, connectionPool.getStatistics(), poolId);
 
-    switch (poolingProfile.getExhaustedAction()) {
-      case WHEN_EXHAUSTED_GROW:
-        config.setMaxTotal(MAX_VALUE);
-        config.setBlockWhenExhausted(false);
-        break;
-      case PoolingProfile.WHEN_EXHAUSTED_FAIL:
-        config.setMaxTotal(poolingProfile.getMaxActive());
-        config.setBlockWhenExhausted(false);
-        break;
-      case PoolingProfile.WHEN_EXHAUSTED_WAIT:
-        config.setMaxTotal(poolingProfile.getMaxActive());
-        config.setBlockWhenExhausted(true);
-        break;
+    if (poolingListener instanceof PoolingStatisticsListener) {
+      ((PoolingStatisticsListener<C>) poolingListener).onPoolCreated(poolId, connectionPool.getStatistics());
     }
 
-    config.setMaxWaitMillis(poolingProfile.getMaxWait());
-    config.setMinEvictableIdleTimeMillis(poolingProfile.getMinEvictionMillis());
-    config.setTimeBetweenEvictionRunsMillis(poolingProfile.getEvictionCheckIntervalMillis());
-    GenericObjectPool<C> genericPool = new GenericObjectPool<>(new ObjectFactoryAdapter(), config);
-    LOGGER.debug("Creating pool with ID {} for config {}", poolId, ownerConfigName);
-
-    applyInitialisationPolicy(genericPool);
-    logPoolStatus(LOGGER, genericPool, poolId);
-
-    return genericPool;
+    return connectionPool;
   }
 
-  protected void applyInitialisationPolicy(GenericObjectPool pool) {
+  protected void applyInitialisationPolicy(ConnectionPool<C> pool) {
     int initialConnections;
     switch (poolingProfile.getInitialisationPolicy()) {
       case INITIALISE_NONE:
@@ -176,7 +175,7 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     LOGGER.debug("Initializing pool {} with {} initial connections", poolId, initialConnections);
     for (int t = 0; t < initialConnections; t++) {
       try {
-        pool.addObject();
+        pool.addConnection();
       } catch (Exception e) {
         LOGGER.warn("Failed to create a connection while applying the pool initialization policy.", e);
       }
@@ -187,12 +186,15 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     return poolingProfile;
   }
 
-  private class ObjectFactoryAdapter extends BasePooledObjectFactory<C> {
+  /**
+   * @return a live view of the statistics of the {@link #pool}
+   * @since 4.5.0
+   */
+  public ConnectionPoolStatistics getPoolStatistics() {
+    return pool.getStatistics();
+  }
 
-    @Override
-    public PooledObject<C> wrap(C obj) {
-      return new DefaultPooledObject<>(obj);
-    }
+  private class PooledConnectionLifecycle implements ConnectionLifecycle<C> {
 
     @Override
     public C create() throws Exception {
@@ -202,14 +204,9 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     }
 
     @Override
-    public void destroyObject(final PooledObject<C> connection) throws Exception {
-      LOGGER.debug("Disconnecting connection {}", connection.getObject().toString());
-      connectionProvider.disconnect(connection.getObject());
-    }
-
-    @Override
-    public boolean validateObject(final PooledObject<C> obj) {
-      return false;
+    public void destroy(C connection) throws Exception {
+      LOGGER.debug("Disconnecting connection {}", connection.toString());
+      connectionProvider.disconnect(connection);
     }
 
   }
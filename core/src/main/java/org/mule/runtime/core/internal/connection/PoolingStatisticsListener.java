@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import org.mule.runtime.api.connection.PoolingListener;
+
+/**
+ * A {@link PoolingListener} that is also given access to the {@link ConnectionPoolStatistics} of the pool it listens to.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.5.0
+ */
+public interface PoolingStatisticsListener<C> extends PoolingListener<C> {
+
+  /**
+   * Invoked once, when the pool is created.
+   *
+   * @param poolId     the id of the pool
+   * @param statistics a live view of the statistics of the pool
+   */
+  void onPoolCreated(String poolId, ConnectionPoolStatistics statistics);
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.notification.NotificationListener;
+import org.mule.runtime.api.scheduler.Scheduler;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Delivers the asynchronous notifications for a {@link NotificationListener}.
+ * <p>
+ * Instead of submitting a task to a {@link Scheduler} for each notification, the notifications are put in a bounded
+ * {@link NotificationRingBuffer} that is drained in batches by a single task at a time. That task is only submitted when there
+ * isn't one already scheduled, so the notifications for the listener are delivered in the same order they were fired.
+ * <p>
+ * Note that this means that notifications are delivered to each listener serially, one at a time. Previously each notification
+ * was a separate task, so a listener that blocked while handling a notification could be handling several of them in parallel.
+ * Now, such a listener holds up the delivery of its own pending notifications (but not the ones of other listeners) until it
+ * returns.
+ * <p>
+ * What happens when the buffer is full is determined by the {@link NotificationOverflowPolicy}. By default, the oldest pending
+ * notification is discarded ({@link NotificationOverflowPolicy#DROP_OLDEST}), so firing a notification never blocks the thread.
+ * With {@link NotificationOverflowPolicy#BLOCK}, only threads that are allowed to block wait for room in the buffer, and only up
+ * to a timeout. Every other case falls back to discarding the oldest notification.
+ * <p>
+ * When notifications get discarded, a warning is logged the first time and then at most once a minute.
+ *
+ * @since 4.5.0
+ */
+public final class AsyncNotificationListenerGroup {
+
+  private static final Logger LOGGER = getLogger(AsyncNotificationListenerGroup.class);
+
+  /**
+   * The maximum amount of asynchronous notifications pending delivery for each listener.
+   */
+  public static final String BUFFER_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.bufferSize";
+
+  /**
+   * The maximum amount of notifications delivered to a listener before yielding the thread to other tasks.
+   */
+  public static final String BATCH_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.batchSize";
+
+  /**
+   * The name of the {@link NotificationOverflowPolicy} to apply when the buffer of a listener is full.
+   */
+  public static final String OVERFLOW_POLICY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.overflowPolicy";
+
+  /**
+   * For the {@link NotificationOverflowPolicy#SAMPLE} policy, one of how many notifications to keep while the buffer is full.
+   */
+  public static final String SAMPLE_RATE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.sampleRate";
+
+  /**
+   * For the {@link NotificationOverflowPolicy#BLOCK} policy, the maximum time in milliseconds to wait for room in the buffer
+   * before discarding the oldest pending notification.
+   */
+  public static final String BLOCK_TIMEOUT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.blockTimeout";
+
+  public static final int DEFAULT_BUFFER_SIZE = 4096;
+  public static final int DEFAULT_BATCH_SIZE = 128;
+  public static final NotificationOverflowPolicy DEFAULT_OVERFLOW_POLICY = NotificationOverflowPolicy.DROP_OLDEST;
+  public static final int DEFAULT_SAMPLE_RATE = 10;
+  public static final long DEFAULT_BLOCK_TIMEOUT = 1000;
+
+  private static final long BLOCK_PARK_NANOS = MICROSECONDS.toNanos(100);
+  private static final long DROPPED_WARNING_INTERVAL_NANOS = MINUTES.toNanos(1);
+
+  private final NotificationListener listener;
+  private final Supplier<Scheduler> schedulerSupplier;
+  private final NotificationRingBuffer<Notification> buffer;
+  private final int batchSize;
+  private final NotificationOverflowPolicy overflowPolicy;
+  private final int sampleRate;
+  private final BooleanSupplier blockingAllowed;
+  private final long blockTimeoutNanos;
+  private final LongAdder droppedNotifications;
+
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private final AtomicLong overflownNotifications = new AtomicLong();
+  private final LongAdder groupDroppedNotifications = new LongAdder();
+  private final AtomicLong lastDroppedWarning = new AtomicLong();
+  private volatile boolean droppedWarningLogged;
+  private final Runnable drainTask = this::drain;
+  private volatile Thread drainingThread;
+
+  /**
+   * Creates a new group.
+   *
+   * @param listener             the listener to deliver the notifications to
+   * @param schedulerSupplier    provides the {@link Scheduler} where the notifications are delivered
+   * @param bufferSize           the maximum amount of notifications pending delivery
+   * @param batchSize            the maximum amount of notifications delivered by each task submitted to the {@link Scheduler}
+   * @param overflowPolicy       what to do with notifications fired while the buffer is full
+   * @param sampleRate           for {@link NotificationOverflowPolicy#SAMPLE}, one of how many notifications to keep while the
+   *                             buffer is full
+   * @param blockingAllowed      for {@link NotificationOverflowPolicy#BLOCK}, whether the thread firing a notification may wait
+   *                             for room in the buffer
+   * @param blockTimeout         for {@link NotificationOverflowPolicy#BLOCK}, the maximum time in milliseconds to wait for room
+   *                             in the buffer
+   * @param droppedNotifications a counter, possibly shared with other groups, of the discarded notifications
+   */
+  public AsyncNotificationListenerGroup(NotificationListener listener, Supplier<Scheduler> schedulerSupplier, int bufferSize,
+                                        int batchSize, NotificationOverflowPolicy overflowPolicy, int sampleRate,
+                                        BooleanSupplier blockingAllowed, long blockTimeout,
+                                        LongAdder droppedNotifications) {
+    this.listener = listener;
+    this.schedulerSupplier = schedulerSupplier;
+    this.buffer = new NotificationRingBuffer<>(bufferSize);
+    this.batchSize = max(1, batchSize);
+    this.overflowPolicy = overflowPolicy;
+    this.sampleRate = max(1, sampleRate);
+    this.blockingAllowed = blockingAllowed;
+    this.blockTimeoutNanos = MILLISECONDS.toNanos(max(0, blockTimeout));
+    this.droppedNotifications = droppedNotifications;
+  }
+
+  /**
+   * Resolves the {@link NotificationOverflowPolicy} named by the value of the {@link #OVERFLOW_POLICY_PROPERTY} system property.
+   *
+   * @param value the name of the policy, may be {@code null}
+   * @return the named policy, or {@link #DEFAULT_OVERFLOW_POLICY} if there is no value or it doesn't name a policy.
+   */
+  public static NotificationOverflowPolicy resolveOverflowPolicy(String value) {
+    if (value == null) {
+      return DEFAULT_OVERFLOW_POLICY;
+    }
+
+    try {
+      return NotificationOverflowPolicy.valueOf(value.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Invalid value '{}' for system property '{}', using '{}' instead", value, OVERFLOW_POLICY_PROPERTY,
+                  DEFAULT_OVERFLOW_POLICY);
+      return DEFAULT_OVERFLOW_POLICY;
+    }
+  }
+
+  /**
+   * Enqueues the notification to be delivered to the listener of this group.
+   *
+   * @param notification the notification to deliver
+   */
+  public void dispatch(Notification notification) {
+    if (!buffer.offer(notification)) {
+      overflow(notification);
+    }
+    scheduleDrain();
+  }
+
+  private void overflow(Notification notification) {
+    switch (overflowPolicy) {
+      case BLOCK:
+        if (blockingAllowed.getAsBoolean()) {
+          final long deadline = nanoTime() + blockTimeoutNanos;
+          // The thread delivering the notifications can't wait for itself to make room in the buffer
+          while (currentThread() != drainingThread && nanoTime() - deadline < 0 && scheduleDrain()) {
+            parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(notification)) {
+              return;
+            }
+          }
+        }
+        dropOldestAndOffer(notification);
+        break;
+      case SAMPLE:
+        if (overflownNotifications.incrementAndGet() % sampleRate == 0) {
+          dropOldestAndOffer(notification);
+        } else {
+          dropped(notification);
+        }
+        break;
+      default:
+        dropOldestAndOffer(notification);
+    }
+  }
+
+  private void dropOldestAndOffer(Notification notification) {
+    while (!buffer.offer(notification)) {
+      final Notification oldest = buffer.poll();
+      if (oldest != null) {
+        dropped(oldest);
+      }
+    }
+  }
+
+  private void dropped(Notification notification) {
+    groupDroppedNotifications.increment();
+    droppedNotifications.increment();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Notification {} for listener {} discarded, the buffer of pending notifications is full", notification,
+                   listener);
+    }
+    warnDropped();
+  }
+
+  private void warnDropped() {
+    final long now = nanoTime();
+    final long last = lastDroppedWarning.get();
+    if ((!droppedWarningLogged || now - last >= DROPPED_WARNING_INTERVAL_NANOS)
+        && lastDroppedWarning.compareAndSet(last, now)) {
+      droppedWarningLogged = true;
+      LOGGER.warn("{} notifications for listener {} have been discarded because its buffer of pending notifications was full. "
+          + "Check the listener for slow processing, or tune the '{}' and '{}' system properties.",
+                  groupDroppedNotifications.sum(), listener, BUFFER_SIZE_PROPERTY, OVERFLOW_POLICY_PROPERTY);
+    }
+  }
+
+  /**
+   * Makes sure there is a task delivering the pending notifications.
+   *
+   * @return {@code false} if the task could not be submitted to the {@link Scheduler}, {@code true} otherwise.
+   */
+  private boolean scheduleDrain() {
+    if (!draining.compareAndSet(false, true)) {
+      return true;
+    }
+
+    try {
+      schedulerSupplier.get().submit(drainTask);
+      return true;
+    } catch (RejectedExecutionException e) {
+      draining.set(false);
+      LOGGER.debug("Delivery of notifications to listener {} rejected, they will be delivered with the next notification",
+                   listener, e);
+      return false;
+    } catch (RuntimeException e) {
+      draining.set(false);
+      throw e;
+    }
+  }
+
+  private void drain() {
+    drainingThread = currentThread();
+    try {
+      for (int i = 0; i < batchSize; ++i) {
+        final Notification notification = buffer.poll();
+        if (notification == null) {
+          break;
+        }
+
+        try {
+          listener.onNotification(notification);
+        } catch (Throwable e) {
+          LOGGER.info("NotificationListener {} was unable to fire notification {} due to an exception: {}.", listener,
+                      notification, e);
+        }
+      }
+    } finally {
+      drainingThread = null;
+      draining.set(false);
+    }
+
+    // Notifications may have been added after the last poll but before the draining flag was cleared
+    if (!buffer.isEmpty()) {
+      scheduleDrain();
+    }
+  }
+
+  /**
+   * @return the amount of notifications fired but not yet delivered to the listener.
+   */
+  public int getPendingNotifications() {
+    return buffer.size();
+  }
+
+  /**
+   * @return the amount of notifications of this group discarded because the buffer was full.
+   */
+  public long getDroppedNotifications() {
+    return groupDroppedNotifications.sum();
+  }
+
+  /**
+   * @return the listener the notifications of this group are delivered to.
+   */
+  public NotificationListener getListener() {
+    return listener;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+/**
+ * What to do with an asynchronous notification when the buffer of pending notifications of its listener is full.
+ *
+ * @since 4.5.0
+ */
+public enum NotificationOverflowPolicy {
+
+  /**
+   * Discard the oldest pending notification to make room for the new one.
+   */
+  DROP_OLDEST,
+
+  /**
+   * Make the thread firing the notification wait until there is room in the buffer.
+   */
+  BLOCK,
+
+  /**
+   * Keep only one of every {@code sampleRate} notifications fired while the buffer is full, discarding the oldest pending
+   * notification to make room for it. The rest of the notifications fired while the buffer is full are discarded.
+   */
+  SAMPLE
+}
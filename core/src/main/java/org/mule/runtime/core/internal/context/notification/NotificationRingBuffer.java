@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.max;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer that may be concurrently written and read by many threads.
+ * <p>
+ * Each slot has a sequence number that tells whether it is ready to be written or read for a given position, so producers and
+ * consumers only contend on the position counters and never block each other.
+ *
+ * @param <T> the type of the elements in the buffer
+ * @since 4.5.0
+ */
+final class NotificationRingBuffer<T> {
+
+  private final int mask;
+  private final AtomicReferenceArray<T> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * @param capacity the minimum capacity of the buffer. The actual capacity is rounded up to the next power of two.
+   */
+  NotificationRingBuffer(int capacity) {
+    final int actualCapacity = capacity <= 2 ? 2 : highestOneBit(max(2, capacity - 1)) << 1;
+    this.mask = actualCapacity - 1;
+    this.elements = new AtomicReferenceArray<>(actualCapacity);
+    this.sequences = new AtomicLongArray(actualCapacity);
+    for (int i = 0; i < actualCapacity; ++i) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds an element at the end of the buffer.
+   *
+   * @param element the element to add
+   * @return {@code true} if the element was added, {@code false} if the buffer is full.
+   */
+  boolean offer(T element) {
+    while (true) {
+      final long position = tail.get();
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Removes the element at the head of the buffer.
+   *
+   * @return the removed element, or {@code null} if there are no elements ready to be read.
+   */
+  T poll() {
+    while (true) {
+      final long position = head.get();
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - (position + 1);
+
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          final T element = elements.get(index);
+          elements.lazySet(index, null);
+          sequences.lazySet(index, position + mask + 1);
+          return element;
+        }
+      } else if (difference < 0) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * @return the amount of elements in the buffer, including the ones that are still being written.
+   */
+  int size() {
+    return (int) max(0, tail.get() - head.get());
+  }
+
+  /**
+   * @return {@code true} if there are no elements in the buffer, including the ones that are still being written.
+   */
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return the maximum amount of elements the buffer may hold.
+   */
+  int capacity() {
+    return mask + 1;
+  }
+}
@@ -31,6 +31,8 @@ import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.util.LazyValue;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.el.CompiledLogTemplate;
+import org.mule.runtime.core.api.el.CompiledTemplate;
 import org.mule.runtime.core.api.el.ExpressionManagerSession;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
@@ -41,8 +43,11 @@ import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.internal.util.OneTimeWarning;
 import org.mule.runtime.core.privileged.transformer.TransformersRegistry;
 import org.mule.runtime.core.privileged.util.TemplateParser;
+import org.mule.runtime.core.privileged.util.TemplateParser.TemplateCallback;
+import org.mule.runtime.core.privileged.util.TemplateParser.TemplatePart;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
@@ -57,6 +62,10 @@ public class DefaultExpressionManager implements ExtendedExpressionManager {
   public static final int DW_PREFIX_LENGTH = (DW_PREFIX + PREFIX_EXPR_SEPARATOR).length();
   private static final Logger LOGGER = getLogger(DefaultExpressionManager.class);
 
+  // Buffers bigger than this are not kept, so a single big rendered template doesn't retain that memory for the thread
+  private static final int MAX_TEMPLATE_BUFFER_CAPACITY = 16 * 1024;
+  private static final ThreadLocal<StringBuilder> TEMPLATE_BUFFER = new ThreadLocal<>();
+
   private final OneTimeWarning parseWarning = new OneTimeWarning(LOGGER,
                                                                  "Expression parsing is deprecated, regular expressions should be used instead.");
 
@@ -209,20 +218,14 @@ public class DefaultExpressionManager implements ExtendedExpressionManager {
   @Override
   public String parse(String expression, CoreEvent event, ComponentLocation componentLocation)
       throws ExpressionRuntimeException {
-    Builder eventBuilder = CoreEvent.builder(event);
-
-    if ((!hasDwExpression(expression) && !hasMelExpression(expression) && melDefault) || hasMelExpression(expression)) {
+    if (isMelTemplate(expression)) {
       parseWarning.warn();
-      return parser.parse(token -> melParseEvaluation(event, componentLocation, eventBuilder, token), expression);
+      return parser.parse(new MelTemplateCallback(event, componentLocation), expression);
     } else if (isExpression(expression)) {
-      TypedValue evaluation = evaluate(expression, event, eventBuilder, componentLocation);
-      try {
-        return (String) transform(evaluation, evaluation.getDataType(), STRING).getValue();
-      } catch (TransformerException e) {
-        throw new ExpressionRuntimeException(createStaticMessage(format("Failed to transform %s to %s.", evaluation.getDataType(),
-                                                                        STRING)),
-                                             e);
-      }
+      // Only MEL mutates the event, so no event builder is needed here
+      return parseEvaluationValue(updateTypedValueForStreaming(expressionLanguage.evaluate(expression, event, componentLocation,
+                                                                                           NULL_BINDING_CONTEXT),
+                                                               event, getStreamingManager()));
     } else {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug(format("No expression marker found in expression '%s'. Parsing as plain String.", expression));
@@ -249,26 +252,119 @@ public class DefaultExpressionManager implements ExtendedExpressionManager {
                                  BindingContext bindingContext)
       throws ExpressionRuntimeException {
 
-    if ((!hasDwExpression(template) && !hasMelExpression(template) && melDefault) || hasMelExpression(template)) {
-      Builder eventBuilder = CoreEvent.builder(event);
-      return parser.parse(token -> melParseEvaluation(event, componentLocation, eventBuilder, token), template);
+    if (isMelTemplate(template)) {
+      return parser.parse(new MelTemplateCallback(event, componentLocation), template);
     } else {
-      return parser.parse(token -> {
-        TypedValue<?> evaluation = expressionLanguage.evaluateLogExpression(token, event, componentLocation, bindingContext);
-        if (evaluation.getValue() instanceof Message) {
-          // Do not apply transformation to Message since payload will be considered then
-          return evaluation.getValue();
-        }
+      return parser.parse(token -> logEvaluationValue(expressionLanguage
+          .evaluateLogExpression(token, event, componentLocation, bindingContext)), template);
+    }
+  }
+
+  @Override
+  public CompiledLogTemplate compileLogTemplate(String template) {
+    if (isMelTemplate(template)) {
+      // MEL expressions are not compiled
+      return ExtendedExpressionManager.super.compileLogTemplate(template);
+    }
+
+    List<TemplatePart> templateParts;
+    try {
+      templateParts = parser.split(template);
+    } catch (IllegalArgumentException e) {
+      // A malformed template is reported when rendering, as when the template is not compiled
+      LOGGER.debug("Unable to compile log template '{}', it will be parsed each time", template, e);
+      return ExtendedExpressionManager.super.compileLogTemplate(template);
+    }
+    Object[] parts = new Object[templateParts.size()];
+    boolean hasCompiledExpressions = false;
+    for (int i = 0; i < parts.length; ++i) {
+      TemplatePart part = templateParts.get(i);
+      if (part.isExpression()) {
         try {
-          return transform(evaluation, evaluation.getDataType(), STRING).getValue();
-        } catch (TransformerException e) {
-          throw new ExpressionRuntimeException(
-                                               createStaticMessage(format("Failed to transform %s to %s.",
-                                                                          evaluation.getDataType(),
-                                                                          STRING)),
-                                               e);
+          parts[i] = new LogTemplateExpression(part.getValue(), expressionLanguage.compile(part.getValue(), NULL_BINDING_CONTEXT));
+          hasCompiledExpressions = true;
+        } catch (ExpressionCompilationException e) {
+          // Compilation errors are reported when rendering, as when the template is not compiled
+          LOGGER.debug("Unable to compile log expression '{}', it will be evaluated each time", part.getValue(), e);
+          parts[i] = new LogTemplateExpression(part.getValue(), null);
         }
-      }, template);
+      } else {
+        parts[i] = part.getValue();
+      }
+    }
+
+    return new DefaultCompiledLogTemplate(template, parts, hasCompiledExpressions);
+  }
+
+  @Override
+  public CompiledTemplate compileTemplate(String template) {
+    if (isMelTemplate(template)) {
+      List<TemplatePart> templateParts;
+      try {
+        templateParts = parser.split(template);
+      } catch (IllegalArgumentException e) {
+        // A malformed template is reported when rendering, as when the template is not compiled
+        LOGGER.debug("Unable to compile template '{}', it will be parsed each time", template, e);
+        return ExtendedExpressionManager.super.compileTemplate(template);
+      }
+      Object[] parts = new Object[templateParts.size()];
+      for (int i = 0; i < parts.length; ++i) {
+        TemplatePart part = templateParts.get(i);
+        parts[i] = part.isExpression() ? new MelTemplateExpression(part.getValue()) : part.getValue();
+      }
+      return new MelCompiledTemplate(template, parts);
+    } else if (isExpression(template)) {
+      // The whole template is evaluated as a single expression, as in parse
+      CompiledExpression compiled = null;
+      try {
+        compiled = expressionLanguage.compile(template, NULL_BINDING_CONTEXT);
+        if (compiled instanceof IllegalCompiledExpression) {
+          compiled = null;
+        }
+      } catch (ExpressionCompilationException e) {
+        LOGGER.debug("Unable to compile template '{}', it will be evaluated each time", template, e);
+      }
+      if (compiled == null) {
+        // Compilation errors are reported when rendering, as when the template is not compiled
+        return ExtendedExpressionManager.super.compileTemplate(template);
+      }
+      return new ExpressionCompiledTemplate(template, compiled);
+    } else {
+      return new LiteralCompiledTemplate(template);
+    }
+  }
+
+  /**
+   * @return whether the given template has to be evaluated with MEL, either because it has MEL expressions or because MEL is the
+   *         default language and it has no DataWeave expressions.
+   */
+  private boolean isMelTemplate(String template) {
+    return hasMelExpression(template) || (melDefault && !hasDwExpression(template));
+  }
+
+  private String parseEvaluationValue(TypedValue<?> evaluation) {
+    try {
+      return (String) transform(evaluation, evaluation.getDataType(), STRING).getValue();
+    } catch (TransformerException e) {
+      throw new ExpressionRuntimeException(createStaticMessage(format("Failed to transform %s to %s.", evaluation.getDataType(),
+                                                                      STRING)),
+                                           e);
+    }
+  }
+
+  private Object logEvaluationValue(TypedValue<?> evaluation) {
+    if (evaluation.getValue() instanceof Message) {
+      // Do not apply transformation to Message since payload will be considered then
+      return evaluation.getValue();
+    }
+    try {
+      return transform(evaluation, evaluation.getDataType(), STRING).getValue();
+    } catch (TransformerException e) {
+      throw new ExpressionRuntimeException(
+                                           createStaticMessage(format("Failed to transform %s to %s.",
+                                                                      evaluation.getDataType(),
+                                                                      STRING)),
+                                           e);
     }
   }
 
@@ -392,4 +488,219 @@ public class DefaultExpressionManager implements ExtendedExpressionManager {
   public String toString() {
     return this.getClass().getName() + "[" + (expressionLanguage != null ? expressionLanguage.toString() : "null") + "]";
   }
+
+  private static final class LogTemplateExpression {
+
+    private final String expression;
+    private final CompiledExpression compiled;
+
+    private LogTemplateExpression(String expression, CompiledExpression compiled) {
+      this.expression = expression;
+      this.compiled = compiled;
+    }
+  }
+
+  /**
+   * Renders a template split with {@link TemplateParser#split(String)}. Each part is either a literal {@link String} or a
+   * {@link LogTemplateExpression}.
+   */
+  private final class DefaultCompiledLogTemplate implements CompiledLogTemplate {
+
+    private final String template;
+    private final Object[] parts;
+    private final boolean hasCompiledExpressions;
+
+    private DefaultCompiledLogTemplate(String template, Object[] parts, boolean hasCompiledExpressions) {
+      this.template = template;
+      this.parts = parts;
+      this.hasCompiledExpressions = hasCompiledExpressions;
+    }
+
+    @Override
+    public String getTemplate() {
+      return template;
+    }
+
+    @Override
+    public String render(CoreEvent event, ComponentLocation componentLocation, BindingContext bindingContext) {
+      StringBuilder builder = acquireTemplateBuffer(template);
+      try {
+        if (hasCompiledExpressions) {
+          try (ExpressionLanguageSessionAdaptor session = expressionLanguage.openSession(componentLocation, event, bindingContext)) {
+            appendParts(builder, session, event, componentLocation, bindingContext);
+          }
+        } else {
+          appendParts(builder, null, event, componentLocation, bindingContext);
+        }
+        return builder.toString();
+      } finally {
+        releaseTemplateBuffer(builder);
+      }
+    }
+
+    private void appendParts(StringBuilder builder, ExpressionLanguageSessionAdaptor session, CoreEvent event,
+                             ComponentLocation componentLocation, BindingContext bindingContext) {
+      TemplateCallback nestedCallback = null;
+      for (Object part : parts) {
+        if (part instanceof String) {
+          builder.append((String) part);
+          continue;
+        }
+
+        LogTemplateExpression expression = (LogTemplateExpression) part;
+        TypedValue<?> evaluation = expression.compiled != null
+            ? session.evaluateLogExpression(expression.compiled)
+            : expressionLanguage.evaluateLogExpression(expression.expression, event, componentLocation, bindingContext);
+
+        if (nestedCallback == null) {
+          nestedCallback = token -> logEvaluationValue(expressionLanguage
+              .evaluateLogExpression(token, event, componentLocation, bindingContext));
+        }
+        builder.append(parser.resolveExpressionValue(expression.expression, logEvaluationValue(evaluation), nestedCallback));
+      }
+    }
+  }
+
+  private static StringBuilder acquireTemplateBuffer(String template) {
+    // Taken out of the thread local while in use, in case an expression ends up rendering another template
+    StringBuilder builder = TEMPLATE_BUFFER.get();
+    if (builder == null) {
+      return new StringBuilder(template.length() * 2);
+    }
+    TEMPLATE_BUFFER.set(null);
+    return builder;
+  }
+
+  private static void releaseTemplateBuffer(StringBuilder builder) {
+    if (builder.capacity() <= MAX_TEMPLATE_BUFFER_CAPACITY) {
+      builder.setLength(0);
+      TEMPLATE_BUFFER.set(builder);
+    }
+  }
+
+  /**
+   * Evaluates the MEL expressions of a template. The event builder that MEL evaluation needs is only created once an expression is
+   * actually evaluated.
+   */
+  private final class MelTemplateCallback implements TemplateCallback {
+
+    private final CoreEvent event;
+    private final ComponentLocation componentLocation;
+    private Builder eventBuilder;
+
+    private MelTemplateCallback(CoreEvent event, ComponentLocation componentLocation) {
+      this.event = event;
+      this.componentLocation = componentLocation;
+    }
+
+    @Override
+    public Object match(String token) {
+      if (eventBuilder == null) {
+        eventBuilder = CoreEvent.builder(event);
+      }
+      return melParseEvaluation(event, componentLocation, eventBuilder, token);
+    }
+  }
+
+  private static final class MelTemplateExpression {
+
+    private final String expression;
+
+    private MelTemplateExpression(String expression) {
+      this.expression = expression;
+    }
+  }
+
+  /**
+   * Renders a MEL template split with {@link TemplateParser#split(String)}. Each part is either a literal {@link String} or a
+   * {@link MelTemplateExpression}.
+   */
+  private final class MelCompiledTemplate implements CompiledTemplate {
+
+    private final String template;
+    private final Object[] parts;
+
+    private MelCompiledTemplate(String template, Object[] parts) {
+      this.template = template;
+      this.parts = parts;
+    }
+
+    @Override
+    public String getTemplate() {
+      return template;
+    }
+
+    @Override
+    public String render(CoreEvent event, ComponentLocation componentLocation) {
+      parseWarning.warn();
+      StringBuilder builder = acquireTemplateBuffer(template);
+      try {
+        MelTemplateCallback callback = null;
+        for (Object part : parts) {
+          if (part instanceof String) {
+            builder.append((String) part);
+            continue;
+          }
+
+          if (callback == null) {
+            callback = new MelTemplateCallback(event, componentLocation);
+          }
+          String expression = ((MelTemplateExpression) part).expression;
+          builder.append(parser.resolveExpressionValue(expression, callback.match(expression), callback));
+        }
+        return builder.toString();
+      } finally {
+        releaseTemplateBuffer(builder);
+      }
+    }
+  }
+
+  /**
+   * Renders a template that is evaluated as a single expression, already compiled.
+   */
+  private final class ExpressionCompiledTemplate implements CompiledTemplate {
+
+    private final String template;
+    private final CompiledExpression compiled;
+
+    private ExpressionCompiledTemplate(String template, CompiledExpression compiled) {
+      this.template = template;
+      this.compiled = compiled;
+    }
+
+    @Override
+    public String getTemplate() {
+      return template;
+    }
+
+    @Override
+    public String render(CoreEvent event, ComponentLocation componentLocation) {
+      try (ExpressionLanguageSessionAdaptor session =
+          expressionLanguage.openSession(componentLocation, event, NULL_BINDING_CONTEXT)) {
+        return parseEvaluationValue(updateTypedValueForStreaming(session.evaluate(compiled), event, getStreamingManager()));
+      }
+    }
+  }
+
+  /**
+   * A template without expressions, which renders to itself.
+   */
+  private static final class LiteralCompiledTemplate implements CompiledTemplate {
+
+    private final String template;
+
+    private LiteralCompiledTemplate(String template) {
+      this.template = template;
+    }
+
+    @Override
+    public String getTemplate() {
+      return template;
+    }
+
+    @Override
+    public String render(CoreEvent event, ComponentLocation componentLocation) {
+      return template;
+    }
+  }
 }
@@ -7,9 +7,11 @@
 package org.mule.runtime.core.internal.event;
 
 import static com.google.common.base.Functions.identity;
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.StringUtils.leftPad;
 import static org.mule.runtime.api.functional.Either.left;
@@ -18,7 +20,6 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded
 import static reactor.core.publisher.Mono.empty;
 
 import org.mule.runtime.api.functional.Either;
-import org.mule.runtime.api.util.LazyValue;
 import org.mule.runtime.core.api.context.notification.FlowCallStack;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.FlowExceptionHandler;
@@ -27,13 +28,12 @@ import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.execution.tracing.DistributedTraceContextAware;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -46,37 +46,67 @@ import reactor.core.publisher.MonoSink;
 
 /**
  * Base class for implementations of {@link BaseEventContext}
+ * <p>
+ * Many contexts are created for each event that goes through a flow, since components such as flow-refs or scopes create child
+ * contexts, so this class avoids allocating anything that isn't needed and doesn't use monitors:
+ * <ul>
+ * <li>Callbacks are kept in a stack of nodes which is only allocated when a callback is registered. When the state transition
+ * that signals them happens, the stack is closed and any callback registered after that is signalled right away.
+ * <li>Child contexts are kept in a concurrent queue which is only allocated when the first child is added.
+ * <li>State transitions are done with atomic compare-and-set operations, so that each transition and its callbacks happen only
+ * once.
+ * </ul>
  *
  * @since 4.0
  */
 abstract class AbstractEventContext implements DistributedTraceContextAware, BaseEventContext {
 
-  private static final byte STATE_READY = 0;
-  private static final byte STATE_RESPONSE = 1;
-  private static final byte STATE_COMPLETE = 2;
-  private static final byte STATE_TERMINATED = 3;
+  // Transient state of the context while a response is being set, before callbacks can be signalled.
+  private static final int STATE_RESPONDING = -1;
+  private static final int STATE_READY = 0;
+  private static final int STATE_RESPONSE = 1;
+  private static final int STATE_COMPLETE = 2;
+  private static final int STATE_TERMINATED = 3;
 
   private static final int TO_STRING_TAB_SIZE = 4;
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractEventContext.class);
   private static final FlowExceptionHandler NULL_EXCEPTION_HANDLER = NullExceptionHandler.getInstance();
 
+  private static final AtomicIntegerFieldUpdater<AbstractEventContext> STATE_UPDATER =
+      newUpdater(AbstractEventContext.class, "state");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, Queue> CHILD_CONTEXTS_UPDATER =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, Queue.class, "childContexts");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> ON_BEFORE_RESPONSE_UPDATER =
+      callbacksUpdater("onBeforeResponseCallbacks");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> ON_RESPONSE_UPDATER =
+      callbacksUpdater("onResponseCallbacks");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> ON_COMPLETION_UPDATER =
+      callbacksUpdater("onCompletionCallbacks");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> ON_TERMINATED_UPDATER =
+      callbacksUpdater("onTerminatedCallbacks");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, ResponsePublisher> RESPONSE_PUBLISHER_UPDATER =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, ResponsePublisher.class, "responsePublisher");
+
+  /**
+   * Marks a stack of callbacks that was already signalled.
+   */
+  private static final CallbackNode SIGNALLED = new CallbackNode(null, null);
+
   private final boolean debugLogEnabled = LOGGER.isDebugEnabled();
-  private transient final List<BaseEventContext> childContexts = new ArrayList<>();
+  private transient volatile Queue<BaseEventContext> childContexts;
   private transient final FlowExceptionHandler exceptionHandler;
   private transient final CompletableFuture<Void> externalCompletion;
-  private transient List<BiConsumer<CoreEvent, Throwable>> onBeforeResponseConsumerList = new ArrayList<>();
-  private transient List<BiConsumer<CoreEvent, Throwable>> onResponseConsumerList = new ArrayList<>();
-  private transient List<BiConsumer<CoreEvent, Throwable>> onCompletionConsumerList = new ArrayList<>(2);
-  private transient List<BiConsumer<CoreEvent, Throwable>> onTerminatedConsumerList = new ArrayList<>();
-
-  private final ReadWriteLock childContextsReadWriteLock = new ReentrantReadWriteLock();
+  private transient volatile CallbackNode onBeforeResponseCallbacks;
+  private transient volatile CallbackNode onResponseCallbacks;
+  private transient volatile CallbackNode onCompletionCallbacks;
+  private transient volatile CallbackNode onTerminatedCallbacks;
 
   private final int depthLevel;
 
-  private volatile byte state = STATE_READY;
+  private volatile int state = STATE_READY;
   private volatile Either<Throwable, CoreEvent> result;
 
-  private LazyValue<ResponsePublisher> responsePublisher = new LazyValue<>(ResponsePublisher::new);
+  private transient volatile ResponsePublisher responsePublisher;
 
   protected FlowCallStack flowCallStack;
 
@@ -98,31 +128,17 @@ abstract class AbstractEventContext implements DistributedTraceContextAware, Bas
     this.exceptionHandler = exceptionHandler;
   }
 
-  protected void initCompletionLists() {
-    if (onBeforeResponseConsumerList == null) {
-      onBeforeResponseConsumerList = new ArrayList<>();
-    }
-
-    if (onResponseConsumerList == null) {
-      onResponseConsumerList = new ArrayList<>();
-    }
-
-    if (onCompletionConsumerList == null) {
-      onCompletionConsumerList = new ArrayList<>(2);
-    }
-
-    if (onTerminatedConsumerList == null) {
-      onTerminatedConsumerList = new ArrayList<>();
-    }
+  private static AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> callbacksUpdater(String fieldName) {
+    return AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, CallbackNode.class, fieldName);
   }
 
   void addChildContext(BaseEventContext childContext) {
-    childContextsReadWriteLock.writeLock().lock();
-    try {
-      childContexts.add(childContext);
-    } finally {
-      childContextsReadWriteLock.writeLock().unlock();
+    Queue<BaseEventContext> children = childContexts;
+    if (children == null) {
+      CHILD_CONTEXTS_UPDATER.compareAndSet(this, null, new ConcurrentLinkedQueue<>());
+      children = childContexts;
     }
+    children.add(childContext);
   }
 
   /**
@@ -196,81 +212,77 @@ abstract class AbstractEventContext implements DistributedTraceContextAware, Bas
     return empty();
   }
 
-  private synchronized void responseDone(Either<Throwable, CoreEvent> result) {
+  private void responseDone(Either<Throwable, CoreEvent> result) {
+    if (!STATE_UPDATER.compareAndSet(this, STATE_READY, STATE_RESPONDING)) {
+      if (debugLogEnabled) {
+        LOGGER.debug("{} response was already completed, ignoring.", this);
+      }
+      return;
+    }
+
     this.result = result;
-    responsePublisher.ifComputed(rp -> rp.result = result);
+    final ResponsePublisher rp = responsePublisher;
+    if (rp != null) {
+      rp.result = result;
+    }
 
     state = STATE_RESPONSE;
 
-    for (BiConsumer<CoreEvent, Throwable> onBeforeResponseConsumer : onBeforeResponseConsumerList) {
-      signalConsumerSilently(onBeforeResponseConsumer);
-    }
-    onBeforeResponseConsumerList.clear();
-
-    for (BiConsumer<CoreEvent, Throwable> onResponseConsumer : onResponseConsumerList) {
-      signalConsumerSilently(onResponseConsumer);
-    }
-    onResponseConsumerList.clear();
+    signalCallbacks(ON_BEFORE_RESPONSE_UPDATER);
+    signalCallbacks(ON_RESPONSE_UPDATER);
     tryComplete();
   }
 
   protected void tryComplete() {
-    boolean allChildrenComplete;
-
-    getChildContextsReadLock().lock();
-    try {
-      allChildrenComplete = childContexts.stream().allMatch(BaseEventContext::isComplete);
-    } finally {
-      getChildContextsReadLock().unlock();
+    if (state != STATE_RESPONSE || !allChildrenComplete()) {
+      return;
     }
 
-    synchronized (this) {
-      if (state == STATE_RESPONSE && allChildrenComplete) {
-        if (debugLogEnabled) {
-          LOGGER.debug("{} completed.", this);
+    if (STATE_UPDATER.compareAndSet(this, STATE_RESPONSE, STATE_COMPLETE)) {
+      if (debugLogEnabled) {
+        LOGGER.debug("{} completed.", this);
+      }
+
+      signalCallbacks(ON_COMPLETION_UPDATER);
+      getParentContext().ifPresent(context -> {
+        if (context instanceof AbstractEventContext) {
+          ((AbstractEventContext) context).tryComplete();
         }
-        this.state = STATE_COMPLETE;
+      });
+      tryTerminate();
+    }
+  }
 
-        for (BiConsumer<CoreEvent, Throwable> consumer : onCompletionConsumerList) {
-          signalConsumerSilently(consumer);
+  private boolean allChildrenComplete() {
+    final Queue<BaseEventContext> children = childContexts;
+    if (children != null) {
+      for (BaseEventContext child : children) {
+        if (!child.isComplete()) {
+          return false;
         }
-        onCompletionConsumerList.clear();
-        getParentContext().ifPresent(context -> {
-          if (context instanceof AbstractEventContext) {
-            ((AbstractEventContext) context).tryComplete();
-          }
-        });
-        tryTerminate();
       }
     }
+    return true;
   }
 
-  protected synchronized void tryTerminate() {
-    if (this.state == STATE_COMPLETE && (externalCompletion == null || externalCompletion.isDone())) {
+  protected void tryTerminate() {
+    if (this.state == STATE_COMPLETE && (externalCompletion == null || externalCompletion.isDone())
+        && STATE_UPDATER.compareAndSet(this, STATE_COMPLETE, STATE_TERMINATED)) {
       if (debugLogEnabled) {
         LOGGER.debug("{} terminated.", this);
       }
-      this.state = STATE_TERMINATED;
 
-      for (BiConsumer<CoreEvent, Throwable> consumer : onTerminatedConsumerList) {
-        signalConsumerSilently(consumer);
-      }
-      onTerminatedConsumerList.clear();
+      signalCallbacks(ON_TERMINATED_UPDATER);
 
-      getChildContextsWriteLock().lock();
-      try {
-        this.childContexts.clear();
-      } finally {
-        getChildContextsWriteLock().unlock();
+      final Queue<BaseEventContext> children = childContexts;
+      if (children != null) {
+        children.clear();
       }
 
       getParentContext().ifPresent(context -> {
-        AbstractEventContext parent = (AbstractEventContext) context;
-        parent.getChildContextsWriteLock().lock();
-        try {
-          parent.childContexts.remove(this);
-        } finally {
-          parent.getChildContextsWriteLock().unlock();
+        final Queue<BaseEventContext> siblings = ((AbstractEventContext) context).childContexts;
+        if (siblings != null) {
+          siblings.remove(this);
         }
       });
 
@@ -279,6 +291,58 @@ abstract class AbstractEventContext implements DistributedTraceContextAware, Bas
     }
   }
 
+  /**
+   * Closes the given stack of callbacks and signals them in the order they were registered.
+   */
+  private void signalCallbacks(AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> callbacksUpdater) {
+    CallbackNode node = callbacksUpdater.getAndSet(this, SIGNALLED);
+    if (node == null || node == SIGNALLED) {
+      return;
+    }
+
+    if (node.next == null) {
+      signalConsumerSilently(node.consumer);
+      return;
+    }
+
+    CallbackNode reversed = null;
+    while (node != null) {
+      reversed = new CallbackNode(node.consumer, reversed);
+      node = node.next;
+    }
+    for (; reversed != null; reversed = reversed.next) {
+      signalConsumerSilently(reversed.consumer);
+    }
+  }
+
+  /**
+   * Registers the given {@code consumer} to be signalled on the state transition for the given stack of callbacks, or signals it
+   * right away if that transition already happened.
+   */
+  private void addCallback(AtomicReferenceFieldUpdater<AbstractEventContext, CallbackNode> callbacksUpdater, int signalState,
+                           BiConsumer<CoreEvent, Throwable> consumer) {
+    requireNonNull(consumer);
+    if (state >= signalState) {
+      signalConsumerSilently(consumer);
+      return;
+    }
+
+    final CallbackNode node = new CallbackNode(consumer, null);
+    while (true) {
+      final CallbackNode head = callbacksUpdater.get(this);
+      if (head == SIGNALLED) {
+        signalConsumerSilently(consumer);
+        return;
+      }
+
+      // Safe to reuse on retries since the node is only published by a successful CAS
+      node.next = head;
+      if (callbacksUpdater.compareAndSet(this, head, node)) {
+        return;
+      }
+    }
+  }
+
   private void signalConsumerSilently(BiConsumer<CoreEvent, Throwable> consumer) {
     try {
       consumer.accept(result.getRight(), result.getLeft());
@@ -315,61 +379,61 @@ abstract class AbstractEventContext implements DistributedTraceContextAware, Bas
   }
 
   @Override
-  public synchronized void onTerminated(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_TERMINATED) {
-      signalConsumerSilently(consumer);
-    } else {
-      onTerminatedConsumerList.add(requireNonNull(consumer));
-    }
+  public void onTerminated(BiConsumer<CoreEvent, Throwable> consumer) {
+    addCallback(ON_TERMINATED_UPDATER, STATE_TERMINATED, consumer);
   }
 
   @Override
-  public synchronized void onComplete(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_COMPLETE) {
-      signalConsumerSilently(consumer);
-    } else {
-      onCompletionConsumerList.add(requireNonNull(consumer));
-    }
+  public void onComplete(BiConsumer<CoreEvent, Throwable> consumer) {
+    addCallback(ON_COMPLETION_UPDATER, STATE_COMPLETE, consumer);
   }
 
   @Override
-  public synchronized void onBeforeResponse(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_RESPONSE) {
-      signalConsumerSilently(consumer);
-    } else {
-      onBeforeResponseConsumerList.add(requireNonNull(consumer));
-    }
+  public void onBeforeResponse(BiConsumer<CoreEvent, Throwable> consumer) {
+    addCallback(ON_BEFORE_RESPONSE_UPDATER, STATE_RESPONSE, consumer);
   }
 
   @Override
-  public synchronized void onResponse(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_RESPONSE) {
-      signalConsumerSilently(consumer);
-    } else {
-      onResponseConsumerList.add(requireNonNull(consumer));
-    }
+  public void onResponse(BiConsumer<CoreEvent, Throwable> consumer) {
+    addCallback(ON_RESPONSE_UPDATER, STATE_RESPONSE, consumer);
   }
 
   @Override
-  public synchronized Publisher<CoreEvent> getResponsePublisher() {
+  public Publisher<CoreEvent> getResponsePublisher() {
     if (isTerminated()) {
       throw new IllegalStateException("getResponsePublisher() cannot be called after eventContext termination.");
     }
 
-    return Mono.create(responsePublisher.get());
+    ResponsePublisher rp = responsePublisher;
+    if (rp == null) {
+      RESPONSE_PUBLISHER_UPDATER.compareAndSet(this, null, new ResponsePublisher(result));
+      rp = responsePublisher;
+      if (rp == null) {
+        // terminated concurrently
+        throw new IllegalStateException("getResponsePublisher() cannot be called after eventContext termination.");
+      }
+      if (rp.result == null) {
+        // The response may have been set after the publisher was created but before it was installed, in which case it was
+        // not visible to be updated.
+        rp.result = result;
+      }
+    }
+    return Mono.create(rp);
   }
 
   public void forEachChild(Consumer<BaseEventContext> childConsumer) {
-    getChildContextsReadLock().lock();
-    try {
-      childContexts.stream().filter(context -> !context.isTerminated()).forEach(context -> {
+    final Queue<BaseEventContext> children = childContexts;
+    if (children == null) {
+      return;
+    }
+
+    for (BaseEventContext context : children) {
+      if (!context.isTerminated()) {
         childConsumer.accept(context);
         if (context instanceof AbstractEventContext) {
           ((AbstractEventContext) context).forEachChild(childConsumer);
         }
-      });
-    } finally {
-      getChildContextsReadLock().unlock();
+      }
     }
   }
 
@@ -381,32 +445,35 @@ abstract class AbstractEventContext implements DistributedTraceContextAware, Bas
 
     private volatile Either<Throwable, CoreEvent> result;
 
+    private ResponsePublisher(Either<Throwable, CoreEvent> result) {
+      this.result = result;
+    }
+
     @Override
     public void accept(MonoSink<CoreEvent> sink) {
       if (isResponseDone()) {
         signalPublisherSink(sink);
       } else {
-        synchronized (AbstractEventContext.this) {
-          if (isResponseDone()) {
-            signalPublisherSink(sink);
+        onResponse((event, throwable) -> {
+          if (throwable != null) {
+            sink.error(throwable);
           } else {
-            onResponse((event, throwable) -> {
-              if (throwable != null) {
-                sink.error(throwable);
-              } else {
-                sink.success(event);
-              }
-            });
+            sink.success(event);
           }
-        }
+        });
       }
     }
 
     private void signalPublisherSink(MonoSink<CoreEvent> sink) {
-      if (result.isLeft()) {
-        sink.error(result.getLeft());
+      Either<Throwable, CoreEvent> response = result;
+      if (response == null) {
+        response = AbstractEventContext.this.result;
+      }
+
+      if (response.isLeft()) {
+        sink.error(response.getLeft());
       } else {
-        sink.success(result.getRight());
+        sink.success(response.getRight());
       }
     }
   }
@@ -416,27 +483,33 @@ abstract class AbstractEventContext implements DistributedTraceContextAware, Bas
     return depthLevel;
   }
 
-  public Lock getChildContextsReadLock() {
-    return childContextsReadWriteLock.readLock();
-  }
-
-  public Lock getChildContextsWriteLock() {
-    return childContextsReadWriteLock.writeLock();
-  }
-
   protected abstract String basicToString();
 
   protected final String detailedToString(int level, BaseEventContext highlight) {
     return (this == highlight ? "=> " : "") + basicToString()
         + lineSeparator()
-        + childContexts.stream()
+        + (childContexts == null ? "" : childContexts.stream()
             .map(ctx -> leftPad("", (1 + level) * TO_STRING_TAB_SIZE)
                 + ((AbstractEventContext) ctx).detailedToString(1 + level, highlight))
-            .collect(joining(lineSeparator()));
+            .collect(joining(lineSeparator())));
   }
 
   protected byte getState() {
-    return state;
+    return (byte) max(STATE_READY, state);
+  }
+
+  /**
+   * A node in a stack of callbacks, the most recently registered one first. Nodes are not modified once they are in the stack.
+   */
+  private static final class CallbackNode {
+
+    private final BiConsumer<CoreEvent, Throwable> consumer;
+    private CallbackNode next;
+
+    private CallbackNode(BiConsumer<CoreEvent, Throwable> consumer, CallbackNode next) {
+      this.consumer = consumer;
+      this.next = next;
+    }
   }
 
 }
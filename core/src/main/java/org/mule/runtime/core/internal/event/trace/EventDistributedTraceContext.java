@@ -10,6 +10,7 @@ package org.mule.runtime.core.internal.event.trace;
 import static org.mule.runtime.core.internal.event.trace.extractor.RuntimeEventTraceExtractors.getDefaultBaggageExtractor;
 import static org.mule.runtime.core.internal.event.trace.extractor.RuntimeEventTraceExtractors.getDefaultTraceContextFieldsExtractor;
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.InternalSpan.getAsInternalSpan;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
 
 import static java.util.Optional.ofNullable;
 
@@ -87,7 +88,8 @@ public class EventDistributedTraceContext implements DistributedTraceContext {
 
   @Override
   public void endCurrentContextSpan() {
-    if (currentSpan != null) {
+    // The unsampled span is kept as the current one, so the decision holds for the rest of the processing
+    if (currentSpan != null && currentSpan != UNSAMPLED_SPAN) {
       currentSpan.end();
       currentSpan = resolveParentAsInternalSpan();
     }
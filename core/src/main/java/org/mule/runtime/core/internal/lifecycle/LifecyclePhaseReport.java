@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.lang.System.lineSeparator;
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.meta.NamedObject;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps track of the time it takes to apply a lifecycle phase to each object of a registry, so that the slowest ones may be
+ * reported once the phase completes.
+ * <p>
+ * Instances of this class are thread safe, since the phase may be applied concurrently to many objects.
+ *
+ * @since 4.5.0
+ */
+public final class LifecyclePhaseReport {
+
+  /**
+   * The maximum amount of objects to include in the report
+   */
+  static final int MAX_REPORTED_OBJECTS = 20;
+
+  private final String registryId;
+  private final String phaseName;
+  private final long startNanos = nanoTime();
+  private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+  public LifecyclePhaseReport(String registryId, String phaseName) {
+    this.registryId = registryId;
+    this.phaseName = phaseName;
+  }
+
+  /**
+   * Records the time it took to apply the phase to the given {@code object}
+   *
+   * @param object        the object the phase was applied to
+   * @param durationNanos the time it took, in nanoseconds
+   */
+  public void record(Object object, long durationNanos) {
+    entries.add(new Entry(describe(object), Thread.currentThread().getName(), durationNanos));
+  }
+
+  /**
+   * @return a human-readable breakdown of the time the phase took, listing the slowest objects first.
+   */
+  public String generate() {
+    final long elapsedNanos = nanoTime() - startNanos;
+    long totalObjectNanos = 0;
+    for (Entry entry : entries) {
+      totalObjectNanos += entry.durationNanos;
+    }
+
+    final List<Entry> slowest = entries.stream()
+        .sorted(comparingLong((Entry e) -> e.durationNanos).reversed())
+        .limit(MAX_REPORTED_OBJECTS)
+        .collect(toList());
+
+    final StringBuilder report = new StringBuilder()
+        .append("Lifecycle phase '").append(phaseName).append("' of '").append(registryId).append("' took ")
+        .append(NANOSECONDS.toMillis(elapsedNanos)).append(" ms for ").append(entries.size())
+        .append(" objects (").append(NANOSECONDS.toMillis(totalObjectNanos)).append(" ms accumulated). Slowest objects:");
+    for (Entry entry : slowest) {
+      report.append(lineSeparator())
+          .append("  ").append(NANOSECONDS.toMillis(entry.durationNanos)).append(" ms - ")
+          .append(entry.description).append(" [").append(entry.threadName).append("]");
+    }
+    return report.toString();
+  }
+
+  private static String describe(Object object) {
+    final String className = object.getClass().getSimpleName();
+    if (object instanceof Component && ((Component) object).getLocation() != null) {
+      return className + ": " + ((Component) object).getLocation().getLocation();
+    } else if (object instanceof NamedObject) {
+      return className + ": " + ((NamedObject) object).getName();
+    }
+    return className;
+  }
+
+  private static final class Entry {
+
+    private final String description;
+    private final String threadName;
+    private final long durationNanos;
+
+    private Entry(String description, String threadName, long durationNanos) {
+      this.description = description;
+      this.threadName = threadName;
+      this.durationNanos = durationNanos;
+    }
+  }
+}
@@ -12,8 +12,13 @@ import static org.mule.runtime.core.api.util.ExceptionUtils.extractOfType;
 
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -21,16 +26,25 @@ import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.core.api.lifecycle.LifecycleCallback;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.core.api.util.func.CheckedRunnable;
 import org.mule.runtime.core.internal.lifecycle.phases.LifecyclePhase;
 import org.mule.runtime.core.internal.registry.Registry;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 
@@ -72,12 +86,94 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
       LOGGER.debug("Applying lifecycle phase: {} for registry: {}", phase, object.getClass().getSimpleName());
     }
 
-    doApplyLifecycle(phase, new HashSet<>(), registryLifecycleManager.getObjectsForPhase(phase));
+    final LifecyclePhaseReport report = registryLifecycleManager.isLifecycleReportEnabled()
+        ? new LifecyclePhaseReport(registryLifecycleManager.muleContext.getId(), phase.getName())
+        : null;
+
+    if (isParallelizable(phase) && registryLifecycleManager.isParallelLifecycleEnabled()) {
+      doApplyLifecycleInParallel(phase, registryLifecycleManager.getObjectGroupsForPhase(phase), report);
+    } else {
+      doApplyLifecycle(phase, new HashSet<>(), registryLifecycleManager.getObjectsForPhase(phase), report);
+    }
+
+    if (report != null) {
+      LOGGER.info(report.generate());
+    }
 
     interceptor.onPhaseCompleted(phase);
   }
 
-  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects)
+  private boolean isParallelizable(LifecyclePhase phase) {
+    return phase.getName().equals(Initialisable.PHASE_NAME) || phase.getName().equals(Startable.PHASE_NAME);
+  }
+
+  /**
+   * Applies the {@code phase} to each group of objects in turn. The objects within a group are processed concurrently, and the
+   * next group is only processed once all of them are done. If the phase fails for any object of a group, the following groups
+   * are not processed.
+   */
+  private void doApplyLifecycleInParallel(LifecyclePhase phase, List<List<Object>> targetGroups, LifecyclePhaseReport report)
+      throws LifecycleException {
+    final Set<Object> duplicates = newSetFromMap(new ConcurrentHashMap<>());
+    ExecutorService executor = null;
+    try {
+      for (List<Object> group : targetGroups) {
+        if (group.size() == 1) {
+          doApplyLifecycle(phase, duplicates, group, report);
+          continue;
+        }
+
+        if (executor == null) {
+          executor = newFixedThreadPool(registryLifecycleManager.getParallelLifecycleThreads(),
+                                        new NamedThreadFactory(format("[%s].lifecycle.%s",
+                                                                      registryLifecycleManager.muleContext.getId(),
+                                                                      phase.getName()),
+                                                               currentThread().getContextClassLoader()));
+        }
+
+        final List<Future<?>> results = new ArrayList<>(group.size());
+        for (Object target : group) {
+          results.add(executor.submit(() -> {
+            doApplyLifecycle(phase, duplicates, singletonList(target), report);
+            return null;
+          }));
+        }
+
+        awaitGroup(group, results);
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private void awaitGroup(List<Object> group, List<Future<?>> results) throws LifecycleException {
+    LifecycleException failure = null;
+    for (int i = 0; i < results.size(); ++i) {
+      try {
+        results.get(i).get();
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof LifecycleException
+              ? (LifecycleException) e.getCause()
+              : new LifecycleException(e.getCause(), group.get(i));
+        }
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+        if (failure == null) {
+          failure = new LifecycleException(e, group.get(i));
+        }
+      }
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects,
+                                LifecyclePhaseReport report)
       throws LifecycleException {
     for (Object target : targetObjects) {
       if (target == null || duplicates.contains(target)) {
@@ -86,14 +182,19 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("lifecycle phase: {} for object: {}", phase.getName(), target.getClass().getSimpleName());
       }
-      applyLifecycle(phase, duplicates, target);
+      applyLifecycle(phase, duplicates, target, report);
     }
   }
 
-  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target) throws LifecycleException {
+  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target, LifecyclePhaseReport report)
+      throws LifecycleException {
     try {
       if (interceptor.beforePhaseExecution(phase, target)) {
+        final long startNanos = report != null ? nanoTime() : 0;
         phase.applyLifecycle(target);
+        if (report != null) {
+          report.record(target, nanoTime() - startNanos);
+        }
         duplicates.add(target);
         interceptor.afterPhaseExecution(phase, target, empty());
       } else {
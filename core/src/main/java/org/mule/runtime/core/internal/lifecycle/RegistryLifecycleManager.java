@@ -6,6 +6,12 @@
  */
 package org.mule.runtime.core.internal.lifecycle;
 
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.getProperty;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
@@ -31,12 +37,38 @@ import org.mule.runtime.core.privileged.lifecycle.AbstractLifecycleManager;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 
 public class RegistryLifecycleManager extends AbstractLifecycleManager<Registry> {
 
+  /**
+   * Whether the initialise and start phases are applied concurrently to the objects that don't depend on each other. May be set
+   * as a system property or as a deployment property of each artifact, which takes precedence. Defaults to {@code false}.
+   *
+   * @since 4.5.0
+   */
+  public static final String MULE_PARALLEL_LIFECYCLE = SYSTEM_PROPERTY_PREFIX + "lifecycle.parallel";
+
+  /**
+   * The maximum amount of threads used to apply a lifecycle phase when {@link #MULE_PARALLEL_LIFECYCLE} is enabled. May be set as
+   * a system property or as a deployment property of each artifact, which takes precedence.
+   *
+   * @since 4.5.0
+   */
+  public static final String MULE_PARALLEL_LIFECYCLE_THREADS = SYSTEM_PROPERTY_PREFIX + "lifecycle.parallel.threads";
+
+  /**
+   * Whether to log, for each lifecycle phase, a breakdown of the time it took to apply it to each object. May be set as a system
+   * property or as a deployment property of each artifact, which takes precedence. Defaults to {@code false}.
+   *
+   * @since 4.5.0
+   */
+  public static final String MULE_LIFECYCLE_REPORT = SYSTEM_PROPERTY_PREFIX + "lifecycle.report";
+
+  private static final int DEFAULT_PARALLEL_LIFECYCLE_THREADS = min(16, getRuntime().availableProcessors() * 2);
 
   protected Map<String, LifecyclePhase> phases = new SmallMap<>();
   protected SortedMap<String, LifecycleCallback> callbacks = new TreeMap<>();
@@ -182,6 +214,20 @@ public class RegistryLifecycleManager extends AbstractLifecycleManager<Registry>
   }
 
   protected List<Object> getObjectsForPhase(LifecyclePhase phase) {
+    return createSorterForPhase(phase).getSortedObjects();
+  }
+
+  /**
+   * @param phase the phase to apply
+   * @return the objects to apply the {@code phase} to, grouped as described in
+   *         {@link LifecycleObjectSorter#getSortedObjectGroups()}.
+   * @since 4.5.0
+   */
+  protected List<List<Object>> getObjectGroupsForPhase(LifecyclePhase phase) {
+    return createSorterForPhase(phase).getSortedObjectGroups();
+  }
+
+  private LifecycleObjectSorter createSorterForPhase(LifecyclePhase phase) {
     LifecycleObjectSorter sorter = phase.newLifecycleObjectSorter();
     Map<String, Object> lookupObjectsForLifecycle = lookupObjectsForLifecycle();
     List<String> lookupObjects = new ArrayList<>();
@@ -191,7 +237,40 @@ public class RegistryLifecycleManager extends AbstractLifecycleManager<Registry>
       lookupObjects.add(key);
     });
     sorter.setLifeCycleObjectNameOrder(lookupObjects);
-    return sorter.getSortedObjects();
+    return sorter;
+  }
+
+  /**
+   * @return whether {@link #MULE_PARALLEL_LIFECYCLE} is enabled for this registry's artifact.
+   * @since 4.5.0
+   */
+  public boolean isParallelLifecycleEnabled() {
+    return parseBoolean(getLifecycleProperty(MULE_PARALLEL_LIFECYCLE));
+  }
+
+  /**
+   * @return the value of {@link #MULE_PARALLEL_LIFECYCLE_THREADS} for this registry's artifact.
+   * @since 4.5.0
+   */
+  public int getParallelLifecycleThreads() {
+    final String threads = getLifecycleProperty(MULE_PARALLEL_LIFECYCLE_THREADS);
+    return threads == null ? DEFAULT_PARALLEL_LIFECYCLE_THREADS : Integer.parseInt(threads.trim());
+  }
+
+  /**
+   * @return whether {@link #MULE_LIFECYCLE_REPORT} is enabled for this registry's artifact.
+   * @since 4.5.0
+   */
+  public boolean isLifecycleReportEnabled() {
+    return parseBoolean(getLifecycleProperty(MULE_LIFECYCLE_REPORT));
+  }
+
+  private String getLifecycleProperty(String propertyName) {
+    final Properties deploymentProperties = muleContext != null ? muleContext.getDeploymentProperties() : null;
+    if (deploymentProperties != null && deploymentProperties.getProperty(propertyName) != null) {
+      return deploymentProperties.getProperty(propertyName);
+    }
+    return getProperty(propertyName);
   }
 
   protected Map<String, Object> lookupObjectsForLifecycle() {
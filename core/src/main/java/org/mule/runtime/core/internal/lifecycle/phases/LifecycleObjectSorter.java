@@ -6,8 +6,11 @@
  */
 package org.mule.runtime.core.internal.lifecycle.phases;
 
+import static java.util.stream.Collectors.toList;
+
 import org.mule.runtime.core.internal.registry.Registry;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +34,20 @@ public interface LifecycleObjectSorter {
    */
   List<Object> getSortedObjects();
 
+  /**
+   * Groups the objects previously added through {@link #addObject(String, Object)} so that a lifecycle phase may be applied
+   * concurrently to the objects of each group. The objects in a group don't depend on each other, and a group may only be
+   * processed once all the previous ones have been.
+   * <p>
+   * This default implementation puts each object in a group of its own, following the order of {@link #getSortedObjects()}.
+   *
+   * @return the groups of objects, in the order in which they must be processed
+   * @since 4.5.0
+   */
+  default List<List<Object>> getSortedObjectGroups() {
+    return getSortedObjects().stream().map(Collections::singletonList).collect(toList());
+  }
+
   /**
    * Provides the order of objects as reference for initialise/dispose phases
    *
@@ -28,7 +28,7 @@ public class MuleLockFactory implements LockFactory, Initialisable, Disposable {
   private SchedulerService schedulerService;
 
   @Override
-  public synchronized Lock createLock(String lockId) {
+  public Lock createLock(String lockId) {
     return new LockAdapter(lockId, lockGroup, schedulerService);
   }
 
@@ -6,6 +6,11 @@
  */
 package org.mule.runtime.core.internal.lock;
 
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
+
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -14,9 +19,34 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class SingleServerLockProvider implements LockProvider {
 
+  /**
+   * Whether the created locks are granted to the waiting threads in arrival order. Defaults to {@code true}.
+   * <p>
+   * Unfair locks allow a much higher throughput when the same lock ids are heavily contended, at the cost of not guaranteeing the
+   * order in which the waiting threads get the lock.
+   *
+   * @since 4.5.0
+   */
+  public static final String FAIR_LOCKS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lock.fair";
+
+  private final boolean fair;
+
+  public SingleServerLockProvider() {
+    this(parseBoolean(getProperty(FAIR_LOCKS_PROPERTY, "true")));
+  }
+
+  /**
+   * @param fair whether the created locks use a fair ordering policy.
+   *
+   * @since 4.5.0
+   */
+  public SingleServerLockProvider(boolean fair) {
+    this.fair = fair;
+  }
+
   @Override
   public Lock createLock(String lockId) {
-    return new ReentrantLock(true);
+    return new ReentrantLock(fair);
   }
 
 }
@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.management.stats;
 
 import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
 
 /**
  * Aggregate statistics for all services and flows in an application. Do this by looping through all of the applications'
@@ -123,4 +124,32 @@ public class ApplicationStatistics extends DefaultFlowConstructStatistics {
     }
     return total;
   }
+
+  @Override
+  public LatencySnapshot getProcessingTimeSnapshot() {
+    LatencySnapshot snapshot = LatencySnapshot.empty();
+    for (FlowConstructStatistics stats : parent.getServiceStatistics()) {
+      if (!(stats instanceof ApplicationStatistics)) {
+        snapshot = snapshot.merge(stats.getProcessingTimeSnapshot());
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This starts a new interval on every flow. Use {@link AllStatistics#getProcessingTimeIntervalSnapshots()} to get the interval
+   * snapshots of both the flows and the application.
+   */
+  @Override
+  public LatencySnapshot getProcessingTimeIntervalSnapshot() {
+    LatencySnapshot snapshot = LatencySnapshot.empty();
+    for (FlowConstructStatistics stats : parent.getServiceStatistics()) {
+      if (!(stats instanceof ApplicationStatistics)) {
+        snapshot = snapshot.merge(stats.getProcessingTimeIntervalSnapshot());
+      }
+    }
+    return snapshot;
+  }
 }
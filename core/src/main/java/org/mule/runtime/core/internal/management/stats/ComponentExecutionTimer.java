@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.System.currentTimeMillis;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.ComponentStatistics;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures the time each event takes to be processed by a component and records it in the {@link ComponentStatistics} of that
+ * component.
+ * <p>
+ * Events are tracked by their {@link EventContext} from the moment they get to the component until its result or error for that
+ * event is seen. Events for which neither is seen, such as the ones filtered by the component or that fail before a
+ * {@link org.mule.runtime.core.api.event.CoreEvent} is available for the error, are not measured and stop being tracked once
+ * their {@link EventContext} terminates. Nothing is tracked while the statistics are disabled.
+ *
+ * @since 4.5.0
+ */
+public final class ComponentExecutionTimer {
+
+  private final ComponentStatistics statistics;
+  private final Map<EventContext, Long> startTimes = new ConcurrentHashMap<>();
+
+  public ComponentExecutionTimer(ComponentStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  /**
+   * Starts measuring the execution of the component for the given {@code event}.
+   *
+   * @param event the event that gets to the component
+   */
+  public void start(CoreEvent event) {
+    if (!statistics.isEnabled()) {
+      return;
+    }
+
+    EventContext context = event.getContext();
+    if (startTimes.put(context, currentTimeMillis()) == null && context instanceof BaseEventContext) {
+      ((BaseEventContext) context).onTerminated((response, throwable) -> startTimes.remove(context));
+    }
+  }
+
+  /**
+   * Records the execution time of the component for the given {@code event}, if it was measured.
+   *
+   * @param event the result of the component, or the event of the error it raised
+   */
+  public void stop(CoreEvent event) {
+    if (event == null || startTimes.isEmpty()) {
+      return;
+    }
+
+    Long startTime = startTimes.remove(event.getContext());
+    if (startTime != null) {
+      statistics.addExecutionTime(currentTimeMillis() - startTime);
+    }
+  }
+
+  /**
+   * @return the amount of events whose execution is being measured.
+   */
+  public int getPendingExecutions() {
+    return startTimes.size();
+  }
+}
@@ -12,6 +12,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.mule.runtime.core.api.management.stats.ComponentStatistics;
 import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
 
 public class DefaultFlowConstructStatistics implements FlowConstructStatistics {
 
@@ -122,6 +123,16 @@ public class DefaultFlowConstructStatistics implements FlowConstructStatistics {
     return flowStatistics.getTotalExecutionTime();
   }
 
+  @Override
+  public LatencySnapshot getProcessingTimeSnapshot() {
+    return flowStatistics.getExecutionTimeSnapshot();
+  }
+
+  @Override
+  public LatencySnapshot getProcessingTimeIntervalSnapshot() {
+    return flowStatistics.getExecutionTimeIntervalSnapshot();
+  }
+
   @Override
   public long getExecutionErrors() {
     return executionError.get();
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.copyOf;
+
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, fixed-memory histogram of latencies, in the style of an HDR histogram.
+ * <p>
+ * Values up to {@link #LINEAR_BUCKETS} are counted exactly. Above that, each power of two is split in {@link #SUB_BUCKETS}
+ * buckets, so the relative error of any reported value is under 1 / {@link #SUB_BUCKETS}. Values above
+ * {@link #MAX_TRACKABLE_VALUE} are counted in the last bucket.
+ * <p>
+ * Recording threads are spread across stripes, each with its own counters, so that concurrent recordings don't contend on the
+ * same memory. Stripes are allocated on first use, up to a fixed amount. Recording never blocks.
+ * <p>
+ * Snapshots add up the stripes while recordings keep happening, so a snapshot may miss the values recorded while it is being
+ * taken. Those are reported on the next one. Clearing and interval snapshots don't reset the counters: they keep a baseline which
+ * is subtracted from the current counts instead, so they don't interfere with recording threads either.
+ *
+ * @since 4.5.0
+ */
+public class LatencyHistogram {
+
+  /**
+   * The amount of buckets each power of two is split in, above {@link #LINEAR_BUCKETS}
+   */
+  static final int SUB_BUCKETS = 32;
+
+  /**
+   * Values below this one have a bucket of their own
+   */
+  static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+
+  /**
+   * The highest value that may be told apart from the ones above it
+   */
+  static final long MAX_TRACKABLE_VALUE = (1L << 24) - 1;
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int BUCKETS_COUNT = indexFor(MAX_TRACKABLE_VALUE) + 1;
+  private static final int MAX_STRIPES = 8;
+
+  private final int stripeMask;
+  private final AtomicReferenceArray<AtomicLongArray> stripes;
+
+  private long[] clearBaseline = new long[BUCKETS_COUNT];
+  private long[] intervalBaseline = new long[BUCKETS_COUNT];
+
+  public LatencyHistogram() {
+    this(min(MAX_STRIPES, getRuntime().availableProcessors()));
+  }
+
+  LatencyHistogram(int maxStripes) {
+    final int stripesCount = highestOneBit(max(1, maxStripes));
+    stripeMask = stripesCount - 1;
+    stripes = new AtomicReferenceArray<>(stripesCount);
+  }
+
+  /**
+   * Records the given latency
+   *
+   * @param value the latency to record
+   */
+  public void record(long value) {
+    stripe().incrementAndGet(indexFor(value));
+  }
+
+  /**
+   * @return a snapshot of the values recorded since this histogram was created or last {@link #clear() cleared}.
+   */
+  public LatencySnapshot snapshot() {
+    long[] baseline;
+    synchronized (this) {
+      baseline = clearBaseline;
+    }
+    return toSnapshot(currentCounts(), baseline);
+  }
+
+  /**
+   * Returns a snapshot of the values recorded since the previous call to this method, or since this histogram was created or last
+   * {@link #clear() cleared} if this is the first call after that.
+   *
+   * @return a snapshot of the values recorded in the current interval
+   */
+  public LatencySnapshot intervalSnapshot() {
+    final long[] current = currentCounts();
+    long[] baseline;
+    synchronized (this) {
+      baseline = intervalBaseline;
+      intervalBaseline = current;
+    }
+    return toSnapshot(current, baseline);
+  }
+
+  /**
+   * Discards the values recorded so far from the following snapshots.
+   */
+  public void clear() {
+    final long[] current = currentCounts();
+    synchronized (this) {
+      clearBaseline = current;
+      intervalBaseline = current;
+    }
+  }
+
+  private AtomicLongArray stripe() {
+    final int index = (int) (currentThread().getId() & stripeMask);
+    AtomicLongArray stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS_COUNT));
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  private long[] currentCounts() {
+    final long[] counts = new long[BUCKETS_COUNT];
+    for (int i = 0; i < stripes.length(); ++i) {
+      final AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0; j < BUCKETS_COUNT; ++j) {
+          counts[j] += stripe.get(j);
+        }
+      }
+    }
+    return counts;
+  }
+
+  private static LatencySnapshot toSnapshot(long[] current, long[] baseline) {
+    long[] values = new long[BUCKETS_COUNT];
+    long[] counts = new long[BUCKETS_COUNT];
+    int nonEmpty = 0;
+    for (int i = 0; i < BUCKETS_COUNT; ++i) {
+      final long count = current[i] - baseline[i];
+      if (count > 0) {
+        values[nonEmpty] = highestValueFor(i);
+        counts[nonEmpty++] = count;
+      }
+    }
+
+    return new LatencySnapshot(copyOf(values, nonEmpty), copyOf(counts, nonEmpty));
+  }
+
+  static int indexFor(long value) {
+    if (value < LINEAR_BUCKETS) {
+      return (int) max(0, value);
+    }
+
+    value = min(value, MAX_TRACKABLE_VALUE);
+    final int shift = 63 - numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  static long highestValueFor(int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+
+    final int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+    final long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
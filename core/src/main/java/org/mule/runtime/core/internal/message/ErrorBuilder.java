@@ -263,6 +263,20 @@ public final class ErrorBuilder {
                                                  errorMessage, errors, suppressedErrors);
   }
 
+  /**
+   * Creates an instance of {@code Error} from the state of one that was serialized, for serializers that do not rely on Java
+   * serialization.
+   *
+   * @return the error instance
+   * @since 4.5.0
+   */
+  public static Error deserializedError(Throwable exception, String description, String detailedDescription,
+                                        String failingComponent, ErrorType errorType, Message errorMessage,
+                                        List<Error> errors, List<Error> suppressedErrors) {
+    return new DeserializableErrorImplementation(exception, description, detailedDescription, failingComponent, errorType,
+                                                 errorMessage, errors, suppressedErrors);
+  }
+
   /**
    * Default and only implementation of {@link Error}.
    *
@@ -405,10 +419,18 @@ public final class ErrorBuilder {
     private DeserializableErrorImplementation(Throwable exception, String description, String detailedDescription,
                                               Component failingComponent, ErrorType errorType,
                                               Message errorMessage, List<Error> errors, List<Error> suppressedErrors) {
+      this(exception, description, detailedDescription,
+           failingComponent != null ? failingComponent.getRepresentation() : null, errorType,
+           errorMessage, errors, suppressedErrors);
+    }
+
+    private DeserializableErrorImplementation(Throwable exception, String description, String detailedDescription,
+                                              String failingComponent, ErrorType errorType,
+                                              Message errorMessage, List<Error> errors, List<Error> suppressedErrors) {
       this.exception = exception;
       this.description = description;
       this.detailedDescription = detailedDescription;
-      this.failingComponent = failingComponent != null ? failingComponent.getRepresentation() : null;
+      this.failingComponent = failingComponent;
       this.errorType = errorType;
       this.muleMessage = errorMessage;
       this.errors = unmodifiableList(errors);
@@ -113,6 +113,14 @@ public abstract class AbstractProcessingStrategy implements ProcessingStrategyAd
 
     void prepareDispose();
 
+    /**
+     * @return how many more events this sink can buffer before applying back-pressure, or {@link Long#MAX_VALUE} if it is not
+     *         bounded.
+     */
+    default long remainingCapacity() {
+      return Long.MAX_VALUE;
+    }
+
   }
 
   /**
@@ -172,6 +180,11 @@ public abstract class AbstractProcessingStrategy implements ProcessingStrategyAd
       return (E) event;
     }
 
+    @Override
+    public long remainingCapacity() {
+      return fluxSink.requestedFromDownstream();
+    }
+
     @Override
     public void prepareDispose() {
       prepareDisposeTimestamp = currentTimeMillis();
@@ -56,8 +56,31 @@ public abstract class AbstractStreamProcessingStrategyFactory extends AbstractPr
   // required to achieve absolute minimum latency for the scenarios where this is important.
   protected static final int DEFAULT_SUBSCRIBER_COUNT =
       getInteger(SYSTEM_PROPERTY_PREFIX + "DEFAULT_SUBSCRIBER_COUNT", max(1, (CORES / 2)));
+  protected static final String SINK_SELECTION_PROPERTY = SYSTEM_PROPERTY_PREFIX + "DEFAULT_SINK_SELECTION";
+  protected static final SinkSelection DEFAULT_SINK_SELECTION = resolveSinkSelection(getProperty(SINK_SELECTION_PROPERTY));
   private int bufferSize = DEFAULT_BUFFER_SIZE;
   private int subscriberCount = DEFAULT_SUBSCRIBER_COUNT;
+  private SinkSelection sinkSelection = DEFAULT_SINK_SELECTION;
+
+  /**
+   * Resolves the {@link SinkSelection} named by the value of the {@link #SINK_SELECTION_PROPERTY} system property.
+   *
+   * @param value the name of the sink selection, may be {@code null}
+   * @return the named sink selection, or {@link SinkSelection#ROUND_ROBIN} if there is no value or it doesn't name one.
+   */
+  static SinkSelection resolveSinkSelection(String value) {
+    if (value == null) {
+      return SinkSelection.ROUND_ROBIN;
+    }
+
+    try {
+      return SinkSelection.valueOf(value.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Invalid value '{}' for system property '{}', using '{}' instead", value, SINK_SELECTION_PROPERTY,
+                  SinkSelection.ROUND_ROBIN);
+      return SinkSelection.ROUND_ROBIN;
+    }
+  }
 
   /**
    * Configure the size of the ring-buffer size used to buffer and de-multiplexes events from multiple source threads. This value
@@ -84,10 +107,24 @@ public abstract class AbstractStreamProcessingStrategyFactory extends AbstractPr
     this.subscriberCount = subscriberCount;
   }
 
+  /**
+   * Configure how the ring-buffer for each event is picked when the processing strategy uses more than one ring-buffer.
+   *
+   * @param sinkSelection the selection mode to use.
+   * @since 4.5.0
+   */
+  public void setSinkSelection(SinkSelection sinkSelection) {
+    this.sinkSelection = requireNonNull(sinkSelection);
+  }
+
   protected int getBufferSize() {
     return bufferSize;
   }
 
+  protected SinkSelection getSinkSelection() {
+    return sinkSelection;
+  }
+
   protected int getSubscriberCount() {
     return subscriberCount;
   }
@@ -50,10 +50,7 @@ public class ProactorStreamEmitterProcessingStrategyFactory extends AbstractStre
                                                        getSubscriberCount(),
                                                        cpuLightSchedulerSupplier,
                                                        cpuLightSchedulerSupplier,
-                                                       () -> muleContext.getSchedulerService()
-                                                           .ioScheduler(muleContext.getSchedulerBaseConfig()
-                                                               .withName(
-                                                                         schedulersNamePrefix + "." + BLOCKING.name())),
+                                                       getBlockingSchedulerSupplier(muleContext, schedulersNamePrefix),
                                                        () -> muleContext.getSchedulerService()
                                                            .cpuIntensiveScheduler(muleContext.getSchedulerBaseConfig()
                                                                .withName(schedulersNamePrefix + "."
@@ -61,7 +58,18 @@ public class ProactorStreamEmitterProcessingStrategyFactory extends AbstractStre
                                                        resolveParallelism(),
                                                        getMaxConcurrency(),
                                                        isMaxConcurrencyEagerCheck(),
-                                                       () -> muleContext.getConfiguration().getShutdownTimeout());
+                                                       () -> muleContext.getConfiguration().getShutdownTimeout(),
+                                                       getSinkSelection());
+  }
+
+  /**
+   * @return the supplier for the scheduler that runs {@link ReactiveProcessor.ProcessingType#BLOCKING} and
+   *         {@link ReactiveProcessor.ProcessingType#IO_RW} processors.
+   */
+  protected Supplier<Scheduler> getBlockingSchedulerSupplier(MuleContext muleContext, String schedulersNamePrefix) {
+    return () -> muleContext.getSchedulerService()
+        .ioScheduler(muleContext.getSchedulerBaseConfig()
+            .withName(schedulersNamePrefix + "." + BLOCKING.name()));
   }
 
   @Override
@@ -89,8 +97,24 @@ public class ProactorStreamEmitterProcessingStrategyFactory extends AbstractStre
                                                    int maxConcurrency,
                                                    boolean maxConcurrencyEagerCheck,
                                                    Supplier<Long> shutdownTimeoutSupplier) {
+      this(bufferSize, subscriberCount, flowDispatchSchedulerSupplier, cpuLightSchedulerSupplier, blockingSchedulerSupplier,
+           cpuIntensiveSchedulerSupplier, parallelism, maxConcurrency, maxConcurrencyEagerCheck, shutdownTimeoutSupplier,
+           SinkSelection.ROUND_ROBIN);
+    }
+
+    public ProactorStreamEmitterProcessingStrategy(int bufferSize,
+                                                   int subscriberCount,
+                                                   Supplier<Scheduler> flowDispatchSchedulerSupplier,
+                                                   Supplier<Scheduler> cpuLightSchedulerSupplier,
+                                                   Supplier<Scheduler> blockingSchedulerSupplier,
+                                                   Supplier<Scheduler> cpuIntensiveSchedulerSupplier,
+                                                   int parallelism,
+                                                   int maxConcurrency,
+                                                   boolean maxConcurrencyEagerCheck,
+                                                   Supplier<Long> shutdownTimeoutSupplier,
+                                                   SinkSelection sinkSelection) {
       super(bufferSize, subscriberCount, flowDispatchSchedulerSupplier, cpuLightSchedulerSupplier, parallelism, maxConcurrency,
-            maxConcurrencyEagerCheck, shutdownTimeoutSupplier);
+            maxConcurrencyEagerCheck, shutdownTimeoutSupplier, sinkSelection);
       this.blockingSchedulerSupplier = blockingSchedulerSupplier;
       this.cpuIntensiveSchedulerSupplier = cpuIntensiveSchedulerSupplier;
     }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+/**
+ * Determines how a processing strategy that uses many ring-buffers for a single flow picks the ring-buffer for each incoming
+ * event.
+ *
+ * @since 4.5.0
+ */
+public enum SinkSelection {
+
+  /**
+   * Events are handed to each ring-buffer in turn, regardless of how busy they are.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Each event is handed to the ring-buffer with most remaining capacity. Ties are resolved in round-robin order.
+   */
+  LEAST_LOADED,
+
+  /**
+   * Each event is handed to the ring-buffer with most remaining capacity among two picked at random. Cheaper than
+   * {@link #LEAST_LOADED} when there are many ring-buffers, while still avoiding the overloaded ones.
+   */
+  POWER_OF_TWO_CHOICES
+}
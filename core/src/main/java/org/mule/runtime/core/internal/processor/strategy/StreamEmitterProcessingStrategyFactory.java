@@ -45,6 +45,7 @@ import org.mule.runtime.core.privileged.event.BaseEventContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -77,7 +78,8 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
                                                resolveParallelism(),
                                                getMaxConcurrency(),
                                                isMaxConcurrencyEagerCheck(),
-                                               () -> muleContext.getConfiguration().getShutdownTimeout());
+                                               () -> muleContext.getConfiguration().getShutdownTimeout(),
+                                               getSinkSelection());
   }
 
   @Override
@@ -123,6 +125,7 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
 
     private final int sinksCount;
     private final Supplier<Long> shutdownTimeoutSupplier;
+    private final SinkSelection sinkSelection;
 
     // This counter keeps track of how many sinks are created for fluxes that use this processing strategy.
     // Using it, an eager stop of the schedulers is implmented in `stopSchedulersIfNeeded`
@@ -136,11 +139,25 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
                                            int maxConcurrency,
                                            boolean maxConcurrencyEagerCheck,
                                            Supplier<Long> shutdownTimeoutSupplier) {
+      this(bufferSize, subscribers, flowDispatchSchedulerSupplier, cpuLightSchedulerSupplier, parallelism, maxConcurrency,
+           maxConcurrencyEagerCheck, shutdownTimeoutSupplier, SinkSelection.ROUND_ROBIN);
+    }
+
+    public StreamEmitterProcessingStrategy(int bufferSize,
+                                           int subscribers,
+                                           Supplier<Scheduler> flowDispatchSchedulerSupplier,
+                                           Supplier<Scheduler> cpuLightSchedulerSupplier,
+                                           int parallelism,
+                                           int maxConcurrency,
+                                           boolean maxConcurrencyEagerCheck,
+                                           Supplier<Long> shutdownTimeoutSupplier,
+                                           SinkSelection sinkSelection) {
       super(subscribers, cpuLightSchedulerSupplier, parallelism, maxConcurrency, maxConcurrencyEagerCheck);
       this.bufferSize = bufferSize;
       this.flowDispatchSchedulerLazy = new LazyValue<>(flowDispatchSchedulerSupplier);
       this.sinksCount = getSinksCount();
       this.shutdownTimeoutSupplier = shutdownTimeoutSupplier;
+      this.sinkSelection = sinkSelection;
     }
 
     @Override
@@ -253,7 +270,18 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
       }
 
       activeSinksCount.addAndGet(sinksCount);
-      return new RoundRobinReactorSink<>(sinks);
+      return createSelectingSink(sinks);
+    }
+
+    private ReactorSink<CoreEvent> createSelectingSink(List<ReactorSink<CoreEvent>> sinks) {
+      switch (sinkSelection) {
+        case LEAST_LOADED:
+          return new LeastLoadedReactorSink<>(sinks);
+        case POWER_OF_TWO_CHOICES:
+          return new PowerOfTwoChoicesReactorSink<>(sinks);
+        default:
+          return new RoundRobinReactorSink<>(sinks);
+      }
     }
 
     @Override
@@ -367,16 +395,15 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
       return bufferSize / sinksCount;
     }
 
-    static class RoundRobinReactorSink<E> implements AbstractProcessingStrategy.ReactorSink<E> {
+    /**
+     * Base class for sinks that hand each event to one of many sinks.
+     */
+    abstract static class SelectingReactorSink<E> implements AbstractProcessingStrategy.ReactorSink<E> {
 
-      private final List<AbstractProcessingStrategy.ReactorSink<E>> fluxSinks;
-      private final AtomicInteger index = new AtomicInteger(0);
-      // Saving update function to avoid creating the lambda every time
-      private final IntUnaryOperator update;
+      protected final List<AbstractProcessingStrategy.ReactorSink<E>> fluxSinks;
 
-      public RoundRobinReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks) {
+      protected SelectingReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks) {
         this.fluxSinks = sinks;
-        this.update = value -> (value + 1) % fluxSinks.size();
       }
 
       @Override
@@ -395,10 +422,6 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
         fluxSinks.get(nextIndex()).accept(event);
       }
 
-      private int nextIndex() {
-        return index.getAndUpdate(update);
-      }
-
       @Override
       public BackPressureReason emit(CoreEvent event) {
         return fluxSinks.get(nextIndex()).emit(event);
@@ -408,6 +431,80 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
       public E intoSink(CoreEvent event) {
         return (E) event;
       }
+
+      /**
+       * @return the index of the sink to hand the next event to.
+       */
+      protected abstract int nextIndex();
+    }
+
+    static class RoundRobinReactorSink<E> extends SelectingReactorSink<E> {
+
+      private final AtomicInteger index = new AtomicInteger(0);
+      // Saving update function to avoid creating the lambda every time
+      private final IntUnaryOperator update;
+
+      public RoundRobinReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks) {
+        super(sinks);
+        this.update = value -> (value + 1) % fluxSinks.size();
+      }
+
+      @Override
+      protected int nextIndex() {
+        return index.getAndUpdate(update);
+      }
+    }
+
+    /**
+     * Hands each event to the sink with the most remaining capacity, so a sink backed up with expensive events does not get the
+     * same share of the incoming events as the idle ones.
+     */
+    static class LeastLoadedReactorSink<E> extends RoundRobinReactorSink<E> {
+
+      public LeastLoadedReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks) {
+        super(sinks);
+      }
+
+      @Override
+      protected int nextIndex() {
+        // Start the scan on a rotating position so sinks with the same load are used in turns
+        final int size = fluxSinks.size();
+        final int start = super.nextIndex();
+        int selected = start;
+        long selectedCapacity = fluxSinks.get(start).remainingCapacity();
+        for (int i = 1; i < size; ++i) {
+          int candidate = (start + i) % size;
+          long candidateCapacity = fluxSinks.get(candidate).remainingCapacity();
+          if (candidateCapacity > selectedCapacity) {
+            selected = candidate;
+            selectedCapacity = candidateCapacity;
+          }
+        }
+        return selected;
+      }
+    }
+
+    /**
+     * Hands each event to the sink with the most remaining capacity among two picked at random.
+     */
+    static class PowerOfTwoChoicesReactorSink<E> extends SelectingReactorSink<E> {
+
+      public PowerOfTwoChoicesReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks) {
+        super(sinks);
+      }
+
+      @Override
+      protected int nextIndex() {
+        final int size = fluxSinks.size();
+        if (size == 1) {
+          return 0;
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        // Pick a different sink for the second choice
+        final int second = (first + 1 + random.nextInt(size - 1)) % size;
+        return fluxSinks.get(second).remainingCapacity() > fluxSinks.get(first).remainingCapacity() ? second : first;
+      }
     }
   }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.runtime.core.internal.util.rx.VirtualThreadScheduler;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Creates a processing strategy with same behavior as {@link TransactionAwareProactorStreamEmitterProcessingStrategyFactory}
+ * apart from the fact that {@link ReactiveProcessor.ProcessingType#BLOCKING} and {@link ReactiveProcessor.ProcessingType#IO_RW}
+ * processors run on virtual threads instead of on the IO scheduler pool.
+ * <p>
+ * The number of blocking processors running at the same time is still limited by {@code maxConcurrency}, and back-pressure is
+ * applied when that limit is reached, the same as when the IO scheduler pool is exhausted.
+ * <p>
+ * On JVMs that don't support virtual threads, the IO scheduler is used as in
+ * {@link TransactionAwareProactorStreamEmitterProcessingStrategyFactory}.
+ *
+ * @since 4.5.0
+ */
+public class VirtualThreadProactorStreamEmitterProcessingStrategyFactory
+    extends TransactionAwareProactorStreamEmitterProcessingStrategyFactory {
+
+  private static final Logger LOGGER = getLogger(VirtualThreadProactorStreamEmitterProcessingStrategyFactory.class);
+
+  @Override
+  protected Supplier<Scheduler> getBlockingSchedulerSupplier(MuleContext muleContext, String schedulersNamePrefix) {
+    if (!VirtualThreadScheduler.isSupported()) {
+      LOGGER.warn("Virtual threads are not supported by the running JVM. Blocking processors of '{}' will use the IO scheduler.",
+                  schedulersNamePrefix);
+      return super.getBlockingSchedulerSupplier(muleContext, schedulersNamePrefix);
+    }
+
+    return () -> new VirtualThreadScheduler(schedulersNamePrefix + "." + BLOCKING.name(),
+                                            muleContext.getSchedulerService()
+                                                .cpuLightScheduler(muleContext.getSchedulerBaseConfig()
+                                                    .withName(schedulersNamePrefix + "." + BLOCKING.name() + ".timer")),
+                                            getMaxConcurrency(),
+                                            muleContext.getConfiguration().getShutdownTimeout());
+  }
+}
@@ -9,7 +9,10 @@ package org.mule.runtime.core.internal.profiling.tracing.event.span;
 
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.export.optel.OpenetelemetryCoreEventInternalSpanExporterFactory.getOpenetelemetryCoreEventInternalSpanExporterFactory;
 
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import org.mule.runtime.api.component.Component;
@@ -35,6 +38,9 @@ public class CoreEventSpanUtils {
   private static final String CORE_EVENT_SPAN_NAME_SEPARATOR = ":";
   public static final String UNKNOWN = "unknown";
 
+  // Anchors the monotonic clock to the wall clock, so that span times have nanosecond resolution
+  private static final long EPOCH_NANOS_OFFSET = MILLISECONDS.toNanos(currentTimeMillis()) - nanoTime();
+
   private CoreEventSpanUtils() {}
 
   /**
@@ -88,6 +94,13 @@ public class CoreEventSpanUtils {
     return componentIdentifier.getNamespace();
   }
 
+  /**
+   * @return the current time, in nanoseconds since the epoch.
+   */
+  public static long getCurrentEpochNanos() {
+    return EPOCH_NANOS_OFFSET + nanoTime();
+  }
+
   /**
    * @return the default {@link InternalSpanExportManager}.
    */
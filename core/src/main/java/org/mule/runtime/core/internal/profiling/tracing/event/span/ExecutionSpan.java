@@ -6,32 +6,40 @@
  */
 package org.mule.runtime.core.internal.profiling.tracing.event.span;
 
-import static java.lang.System.currentTimeMillis;
-import static java.util.Optional.ofNullable;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanUtils.getCurrentEpochNanos;
 
-import static com.google.common.collect.ImmutableMap.copyOf;
+import static java.util.Arrays.copyOf;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 
 import org.mule.runtime.api.profiling.tracing.Span;
 import org.mule.runtime.api.profiling.tracing.SpanDuration;
 import org.mule.runtime.api.profiling.tracing.SpanIdentifier;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import com.google.common.collect.ImmutableMap;
+
 /**
  * A {@link Span} that represents the trace corresponding to the execution of mule flow or component.
+ * <p>
+ * The start and end times are in nanoseconds since the epoch. The attributes are kept as consecutive key and value pairs in an
+ * array, since spans only have a few of them.
  *
  * @since 4.5.0
  */
 public class ExecutionSpan implements InternalSpan {
 
+  private static final int INITIAL_ATTRIBUTES_CAPACITY = 8;
+
   private final String name;
   private final SpanIdentifier identifier;
   private final InternalSpan parent;
   private final Long startTime;
   private Long endTime;
-  private final Map<String, String> attributes = new HashMap<>();
+  private String[] attributes = new String[INITIAL_ATTRIBUTES_CAPACITY * 2];
+  private int attributesCount;
 
   public ExecutionSpan(String name, SpanIdentifier identifier, Long startTime, Long endTime,
                        InternalSpan parent) {
@@ -64,7 +72,7 @@ public class ExecutionSpan implements InternalSpan {
 
   @Override
   public void end() {
-    this.endTime = currentTimeMillis();
+    this.endTime = getCurrentEpochNanos();
   }
 
   @Override
@@ -74,7 +82,11 @@ public class ExecutionSpan implements InternalSpan {
 
   @Override
   public Map<String, String> attributesAsMap() {
-    return copyOf(attributes);
+    ImmutableMap.Builder<String, String> attributesMap = ImmutableMap.builder();
+    for (int i = 0; i < attributesCount * 2; i += 2) {
+      attributesMap.put(attributes[i], attributes[i + 1]);
+    }
+    return attributesMap.build();
   }
 
   /**
@@ -103,11 +115,32 @@ public class ExecutionSpan implements InternalSpan {
 
   @Override
   public void addAttribute(String key, String value) {
-    attributes.put(key, value);
+    final int index = indexOf(key);
+    if (index >= 0) {
+      attributes[index + 1] = value;
+      return;
+    }
+
+    if (attributesCount * 2 == attributes.length) {
+      attributes = copyOf(attributes, attributes.length * 2);
+    }
+    attributes[attributesCount * 2] = key;
+    attributes[attributesCount * 2 + 1] = value;
+    attributesCount++;
   }
 
   @Override
   public Optional<String> getAttribute(String key) {
-    return ofNullable(attributes.get(key));
+    final int index = indexOf(key);
+    return index >= 0 && attributes[index + 1] != null ? of(attributes[index + 1]) : empty();
+  }
+
+  private int indexOf(String key) {
+    for (int i = 0; i < attributesCount * 2; i += 2) {
+      if (attributes[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
   }
 }
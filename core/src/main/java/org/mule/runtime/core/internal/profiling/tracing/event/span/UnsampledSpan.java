@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.profiling.tracing.event.span;
+
+import org.mule.runtime.api.profiling.tracing.Span;
+import org.mule.runtime.api.profiling.tracing.SpanDuration;
+import org.mule.runtime.api.profiling.tracing.SpanIdentifier;
+
+/**
+ * The {@link InternalSpan} for the processing of an {@link org.mule.runtime.api.event.EventContext} that was not sampled.
+ * <p>
+ * It is set as the current span of the event context once it is decided not to sample it, so that the decision is kept for the
+ * rest of its processing. Nothing is recorded for it, and the same instance is used for every unsampled event context.
+ *
+ * @since 4.5.0
+ */
+public final class UnsampledSpan implements InternalSpan {
+
+  public static final InternalSpan UNSAMPLED_SPAN = new UnsampledSpan();
+
+  private UnsampledSpan() {}
+
+  @Override
+  public void end() {
+    // Nothing to do.
+  }
+
+  @Override
+  public <T> T visit(InternalSpanVisitor<T> visitor) {
+    return null;
+  }
+
+  @Override
+  public Span getParent() {
+    return null;
+  }
+
+  @Override
+  public SpanIdentifier getIdentifier() {
+    return null;
+  }
+
+  @Override
+  public String getName() {
+    return "unsampled";
+  }
+
+  @Override
+  public SpanDuration getDuration() {
+    return null;
+  }
+}
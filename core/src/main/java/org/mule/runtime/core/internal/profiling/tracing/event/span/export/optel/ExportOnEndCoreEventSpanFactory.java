@@ -10,10 +10,9 @@ package org.mule.runtime.core.internal.profiling.tracing.event.span.export.optel
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.ComponentSpanIdentifier.componentSpanIdentifierFrom;
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanUtils.getLocationAsString;
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanUtils.getSpanName;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanUtils.getCurrentEpochNanos;
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanUtils.getCurrentSpan;
 
-import static java.lang.System.currentTimeMillis;
-
 import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.event.EventContext;
 import org.mule.runtime.core.api.config.MuleConfiguration;
@@ -30,6 +29,7 @@ import org.mule.runtime.core.privileged.event.PrivilegedEvent;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * A {@link CoreEventSpanFactory} that provides {@link org.mule.runtime.api.profiling.tracing.Span} that exports the
@@ -39,7 +39,7 @@ import java.util.Optional;
  */
 public class ExportOnEndCoreEventSpanFactory implements CoreEventSpanFactory {
 
-  private static final CoreEventSpanCustomizer defaultCoreEventSpanCustomizer = new DefaultEventSpanCustomizer();
+  private static final DefaultEventSpanCustomizer defaultCoreEventSpanCustomizer = new DefaultEventSpanCustomizer();
   private final InternalSpanExportManager<EventContext> internalSpanExportManager;
 
   public ExportOnEndCoreEventSpanFactory(InternalSpanExportManager<EventContext> internalSpanExportManager) {
@@ -77,19 +77,14 @@ public class ExportOnEndCoreEventSpanFactory implements CoreEventSpanFactory {
                                                                                                         component.getLocation(),
                                                                                                         eventContext
                                                                                                             .getCorrelationId()),
-                                                                            currentTimeMillis(),
+                                                                            getCurrentEpochNanos(),
                                                                             null,
                                                                             getCurrentSpan(eventContext).orElse(null)),
                                                           eventContext,
                                                           internalSpanExportManager);
 
 
-    Map<String, String> attributes =
-        defaultCoreEventSpanCustomizer.getAttributes(coreEvent, component, muleConfiguration, artifactType);
-
-    for (Map.Entry<String, String> entry : attributes.entrySet()) {
-      exportOnEndSpan.addAttribute(entry.getKey(), entry.getValue());
-    }
+    defaultCoreEventSpanCustomizer.addAttributes(exportOnEndSpan, coreEvent, component, muleConfiguration, artifactType);
 
     return exportOnEndSpan;
   }
@@ -112,22 +107,36 @@ public class ExportOnEndCoreEventSpanFactory implements CoreEventSpanFactory {
     public Map<String, String> getAttributes(CoreEvent coreEvent, Component component,
                                              MuleConfiguration muleConfiguration, ArtifactType artifactType) {
       Map<String, String> attributes = new HashMap<>();
-      attributes.put(LOCATION_KEY, getLocationAsString(component.getLocation()));
-      attributes.put(CORRELATION_ID_KEY, coreEvent.getCorrelationId());
-      attributes.put(ARTIFACT_ID_KEY, muleConfiguration.getId());
-      attributes.put(ARTIFACT_TYPE_ID, artifactType.getAsString());
-      attributes.put(THREAD_START_ID_KEY, Long.toString(Thread.currentThread().getId()));
-      attributes.put(THREAD_START_NAME_KEY, Thread.currentThread().getName());
-      addLogggingVariablesAsAttributes(coreEvent, attributes);
+      addAttributes(attributes::put, coreEvent, component, muleConfiguration, artifactType);
       return attributes;
     }
 
-    private void addLogggingVariablesAsAttributes(CoreEvent coreEvent, Map<String, String> attributes) {
+    /**
+     * Adds the attributes straight to the span, without building an intermediate {@link Map}.
+     */
+    private void addAttributes(InternalSpan span, CoreEvent coreEvent, Component component,
+                               MuleConfiguration muleConfiguration, ArtifactType artifactType) {
+      addAttributes(span::addAttribute, coreEvent, component, muleConfiguration, artifactType);
+    }
+
+    private void addAttributes(BiConsumer<String, String> attributes, CoreEvent coreEvent, Component component,
+                               MuleConfiguration muleConfiguration, ArtifactType artifactType) {
+      Thread currentThread = Thread.currentThread();
+      attributes.accept(LOCATION_KEY, getLocationAsString(component.getLocation()));
+      attributes.accept(CORRELATION_ID_KEY, coreEvent.getCorrelationId());
+      attributes.accept(ARTIFACT_ID_KEY, muleConfiguration.getId());
+      attributes.accept(ARTIFACT_TYPE_ID, artifactType.getAsString());
+      attributes.accept(THREAD_START_ID_KEY, Long.toString(currentThread.getId()));
+      attributes.accept(THREAD_START_NAME_KEY, currentThread.getName());
+      addLogggingVariablesAsAttributes(coreEvent, attributes);
+    }
+
+    private void addLogggingVariablesAsAttributes(CoreEvent coreEvent, BiConsumer<String, String> attributes) {
       if (coreEvent instanceof PrivilegedEvent) {
         Optional<Map<String, String>> loggingVariables = ((PrivilegedEvent) coreEvent).getLoggingVariables();
         if (loggingVariables.isPresent()) {
-          for (Map.Entry<String, String> entry : ((PrivilegedEvent) coreEvent).getLoggingVariables().get().entrySet()) {
-            attributes.put(entry.getKey(), entry.getValue());
+          for (Map.Entry<String, String> entry : loggingVariables.get().entrySet()) {
+            attributes.accept(entry.getKey(), entry.getValue());
           }
         }
       }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.profiling.tracing.event.span.sampling;
+
+import org.mule.runtime.api.event.EventContext;
+
+/**
+ * Decides whether the spans for the processing of an {@link EventContext} are recorded and exported.
+ * <p>
+ * The decision is taken once, when the first span of the {@link EventContext} is started, and it applies to all its spans and the
+ * spans of its child contexts.
+ *
+ * @since 4.5.0
+ */
+public interface CoreEventSpanSampler {
+
+  /**
+   * @param eventContext the {@link EventContext} whose first span is being started.
+   * @return whether the spans for the {@code eventContext} are to be recorded.
+   */
+  boolean isSampled(EventContext eventContext);
+}
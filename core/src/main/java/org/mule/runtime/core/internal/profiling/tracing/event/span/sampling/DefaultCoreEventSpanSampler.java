@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.profiling.tracing.event.span.sampling;
+
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.internal.event.trace.extractor.w3c.TraceParentContextFieldExtractor.TRACEPARENT;
+
+import static java.lang.Character.digit;
+import static java.lang.Double.parseDouble;
+import static java.lang.Long.getLong;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.internal.execution.tracing.DistributedTraceContextAware;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link CoreEventSpanSampler} that combines these strategies:
+ * <ul>
+ * <li>If the trace was started by a remote party and propagated through a W3C {@code traceparent}, its sampled flag is
+ * honored.</li>
+ * <li>Otherwise, a ratio of the root event contexts is sampled. The decision is derived from the root id, so every event context
+ * in the same root gets the same decision.</li>
+ * <li>The sampled traces may be limited to a maximum amount per second.</li>
+ * </ul>
+ *
+ * @since 4.5.0
+ */
+public class DefaultCoreEventSpanSampler implements CoreEventSpanSampler {
+
+  /**
+   * The ratio, between 0 and 1, of traces to sample. Defaults to 1.
+   */
+  public static final String SAMPLING_RATIO_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tracing.sampling.ratio";
+
+  /**
+   * The maximum amount of traces to sample per second. Non positive values mean no limit, which is the default.
+   */
+  public static final String SAMPLING_MAX_TRACES_PER_SECOND_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "tracing.sampling.maxTracesPerSecond";
+
+  private static final int TRACEPARENT_LENGTH = 55;
+  private static final int SAMPLED_FLAG = 0x01;
+  private static final long RATIO_PRECISION = 1_000_000L;
+  private static final long ONE_SECOND_NANOS = SECONDS.toNanos(1);
+
+  private final long sampledThreshold;
+  private final long intervalNanos;
+  private final AtomicLong nextAllowedNanos = new AtomicLong(nanoTime());
+
+  /**
+   * @return a {@link DefaultCoreEventSpanSampler} configured through the {@link #SAMPLING_RATIO_PROPERTY} and
+   *         {@link #SAMPLING_MAX_TRACES_PER_SECOND_PROPERTY} system properties.
+   */
+  public static CoreEventSpanSampler getDefaultCoreEventSpanSampler() {
+    return new DefaultCoreEventSpanSampler(parseDouble(getProperty(SAMPLING_RATIO_PROPERTY, "1")),
+                                           getLong(SAMPLING_MAX_TRACES_PER_SECOND_PROPERTY, 0L));
+  }
+
+  /**
+   * @param ratio              the ratio, between 0 and 1, of traces to sample.
+   * @param maxTracesPerSecond the maximum amount of traces to sample per second. Non positive values mean no limit.
+   */
+  public DefaultCoreEventSpanSampler(double ratio, long maxTracesPerSecond) {
+    this.sampledThreshold = (long) (RATIO_PRECISION * min(1, max(0, ratio)));
+    this.intervalNanos = maxTracesPerSecond > 0 ? max(1, ONE_SECOND_NANOS / maxTracesPerSecond) : 0;
+  }
+
+  @Override
+  public boolean isSampled(EventContext eventContext) {
+    final int remoteSampledFlag = getRemoteSampledFlag(eventContext);
+    if (remoteSampledFlag >= 0) {
+      return remoteSampledFlag == SAMPLED_FLAG && acquirePermit();
+    }
+
+    return isSampledByRatio(eventContext) && acquirePermit();
+  }
+
+  private int getRemoteSampledFlag(EventContext eventContext) {
+    if (!(eventContext instanceof DistributedTraceContextAware)) {
+      return -1;
+    }
+
+    final String traceparent = ((DistributedTraceContextAware) eventContext).getDistributedTraceContext().tracingFieldsAsMap()
+        .get(TRACEPARENT);
+    if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH) {
+      return -1;
+    }
+
+    // The flags are the last two hex digits of the traceparent, the sampled flag being the lowest bit.
+    final int flags = digit(traceparent.charAt(TRACEPARENT_LENGTH - 1), 16);
+    return flags < 0 ? -1 : flags & SAMPLED_FLAG;
+  }
+
+  private boolean isSampledByRatio(EventContext eventContext) {
+    if (sampledThreshold >= RATIO_PRECISION) {
+      return true;
+    }
+    if (sampledThreshold <= 0) {
+      return false;
+    }
+
+    final String rootId = eventContext.getRootId();
+    final long hash = rootId != null ? mix(rootId.hashCode()) : ThreadLocalRandom.current().nextLong();
+    return (hash >>> 1) % RATIO_PRECISION < sampledThreshold;
+  }
+
+  /**
+   * Spreads the bits of the hash, so that similar ids get independent decisions.
+   */
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    return hash ^ (hash >>> 33);
+  }
+
+  /**
+   * Allows up to a second worth of traces in a burst, and then one trace per interval.
+   */
+  private boolean acquirePermit() {
+    if (intervalNanos == 0) {
+      return true;
+    }
+
+    while (true) {
+      final long now = nanoTime();
+      final long nextAllowed = nextAllowedNanos.get();
+      if (nextAllowed - now > ONE_SECOND_NANOS) {
+        return false;
+      }
+
+      if (nextAllowedNanos.compareAndSet(nextAllowed, max(nextAllowed, now) + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+}
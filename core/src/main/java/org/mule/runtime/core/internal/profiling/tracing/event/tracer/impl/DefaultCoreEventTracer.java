@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.core.internal.profiling.tracing.event.tracer.impl;
 
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.sampling.DefaultCoreEventSpanSampler.getDefaultCoreEventSpanSampler;
+
 import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.event.EventContext;
 import org.mule.runtime.core.api.config.MuleConfiguration;
@@ -17,10 +20,16 @@ import org.mule.runtime.core.internal.profiling.tracing.event.span.InternalSpan;
 import org.mule.runtime.core.internal.profiling.tracing.event.span.CoreEventSpanCustomizer;
 import org.mule.runtime.core.internal.profiling.tracing.event.span.export.InternalSpanExportManager;
 import org.mule.runtime.core.internal.profiling.tracing.event.span.export.optel.ExportOnEndCoreEventSpanFactory;
+import org.mule.runtime.core.internal.profiling.tracing.event.span.sampling.CoreEventSpanSampler;
 import org.mule.runtime.core.internal.profiling.tracing.event.tracer.CoreEventTracer;
+import org.mule.runtime.core.internal.trace.DistributedTraceContext;
 
 /**
  * A default implementation for a {@link CoreEventTracer}.
+ * <p>
+ * Whether the spans of an {@link EventContext} are recorded is decided by a {@link CoreEventSpanSampler} when its first span is
+ * started. If it is not sampled, the {@link org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan} is set as
+ * its current span, so that the rest of its processing (and its child contexts) skip creating spans altogether.
  *
  * @since 4.5.0
  */
@@ -29,6 +38,7 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
   private final CoreEventSpanFactory coreEventSpanFactory;
   private final MuleConfiguration muleConfiguration;
   private final ArtifactType artifactType;
+  private final CoreEventSpanSampler spanSampler;
 
   /**
    * @return a builder for a {@link DefaultCoreEventTracer}.
@@ -39,14 +49,20 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
 
   private DefaultCoreEventTracer(MuleConfiguration muleConfiguration,
                                  ArtifactType artifactType,
-                                 InternalSpanExportManager<EventContext> spanExportManager) {
+                                 InternalSpanExportManager<EventContext> spanExportManager,
+                                 CoreEventSpanSampler spanSampler) {
     this.muleConfiguration = muleConfiguration;
     this.artifactType = artifactType;
     this.coreEventSpanFactory = new ExportOnEndCoreEventSpanFactory(spanExportManager);
+    this.spanSampler = spanSampler;
   }
 
   @Override
   public InternalSpan startComponentSpan(CoreEvent coreEvent, Component component) {
+    if (!isSampled(coreEvent)) {
+      return UNSAMPLED_SPAN;
+    }
+
     return startCurrentSpanIfPossible(coreEvent,
                                       coreEventSpanFactory.getSpan(coreEvent, component,
                                                                    muleConfiguration,
@@ -56,6 +72,10 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
   @Override
   public InternalSpan startComponentSpan(CoreEvent coreEvent, Component component,
                                          CoreEventSpanCustomizer coreEventSpanCustomizer) {
+    if (!isSampled(coreEvent)) {
+      return UNSAMPLED_SPAN;
+    }
+
     return startCurrentSpanIfPossible(coreEvent,
                                       coreEventSpanFactory.getSpan(coreEvent, component,
                                                                    muleConfiguration,
@@ -68,6 +88,30 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
     endCurrentSpanIfPossible(coreEvent);
   }
 
+  private boolean isSampled(CoreEvent coreEvent) {
+    EventContext eventContext = coreEvent.getContext();
+
+    if (!(eventContext instanceof DistributedTraceContextAware)) {
+      return spanSampler.isSampled(eventContext);
+    }
+
+    DistributedTraceContext distributedTraceContext =
+        ((DistributedTraceContextAware) eventContext).getDistributedTraceContext();
+    InternalSpan currentSpan = distributedTraceContext.getCurrentSpan().orElse(null);
+
+    if (currentSpan != null) {
+      // The decision was already taken for this context or its parent
+      return currentSpan != UNSAMPLED_SPAN;
+    }
+
+    if (spanSampler.isSampled(eventContext)) {
+      return true;
+    }
+
+    distributedTraceContext.setCurrentSpan(UNSAMPLED_SPAN);
+    return false;
+  }
+
   private InternalSpan startCurrentSpanIfPossible(CoreEvent coreEvent, InternalSpan currentSpan) {
     EventContext eventContext = coreEvent.getContext();
 
@@ -83,9 +127,8 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
   private void endCurrentSpanIfPossible(CoreEvent coreEvent) {
     EventContext eventContext = coreEvent.getContext();
     if (eventContext instanceof DistributedTraceContextAware) {
-      ((DistributedTraceContextAware) eventContext)
-          .getDistributedTraceContext()
-          .endCurrentContextSpan();
+      // The unsampled span is kept as the current one by the context, so the decision holds for the rest of the processing
+      ((DistributedTraceContextAware) eventContext).getDistributedTraceContext().endCurrentContextSpan();
     }
   }
 
@@ -99,6 +142,7 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
     private MuleConfiguration muleConfiguration;
     private InternalSpanExportManager<EventContext> spanExportManager;
     private ArtifactType artifactType;
+    private CoreEventSpanSampler spanSampler;
 
     public DefaultEventTracerBuilder withMuleConfiguration(MuleConfiguration muleConfiguration) {
       this.muleConfiguration = muleConfiguration;
@@ -115,8 +159,14 @@ public class DefaultCoreEventTracer implements CoreEventTracer {
       return this;
     }
 
+    public DefaultEventTracerBuilder withSpanSampler(CoreEventSpanSampler spanSampler) {
+      this.spanSampler = spanSampler;
+      return this;
+    }
+
     public DefaultCoreEventTracer build() {
-      return new DefaultCoreEventTracer(muleConfiguration, artifactType, spanExportManager);
+      return new DefaultCoreEventTracer(muleConfiguration, artifactType, spanExportManager,
+                                        spanSampler != null ? spanSampler : getDefaultCoreEventSpanSampler());
     }
   }
 }
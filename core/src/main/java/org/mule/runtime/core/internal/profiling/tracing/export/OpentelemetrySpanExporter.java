@@ -9,7 +9,7 @@ package org.mule.runtime.core.internal.profiling.tracing.export;
 
 import static org.mule.runtime.core.internal.profiling.tracing.event.span.InternalSpan.getAsInternalSpan;
 
-import static java.time.Instant.ofEpochMilli;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import static org.mule.runtime.core.internal.trace.DistributedTraceContext.emptyDistributedEventContext;
 
@@ -47,19 +47,17 @@ public class OpentelemetrySpanExporter implements InternalSpanExporter {
       new OpentelemetryParentSpanVisitor.OpentelemetrySpanVisitor();
 
   private final Tracer tracer;
-  private final Context remoteContext;
   private final io.opentelemetry.api.trace.Span openTelemetrySpan;
 
   public OpentelemetrySpanExporter(Tracer tracer, EventContext eventContext,
                                    InternalSpan internalSpan) {
     this.tracer = tracer;
-    remoteContext = resolveRemoteContext(eventContext);
-    openTelemetrySpan = resolveOpentelemetrySpan(internalSpan);
+    openTelemetrySpan = resolveOpentelemetrySpan(eventContext, internalSpan);
   }
 
   @Override
   public void export(InternalSpan internalSpan) {
-    openTelemetrySpan.end(ofEpochMilli(internalSpan.getDuration().getEnd()));
+    openTelemetrySpan.end(internalSpan.getDuration().getEnd(), NANOSECONDS);
   }
 
   @Override
@@ -67,7 +65,7 @@ public class OpentelemetrySpanExporter implements InternalSpanExporter {
     return internalSpanExporterVisitor.accept(this);
   }
 
-  private Context resolveParentOpentelemetrySpan(InternalSpan internalSpan) {
+  private Context resolveParentOpentelemetrySpan(EventContext eventContext, InternalSpan internalSpan) {
     InternalSpan parentSpan = getAsInternalSpan(internalSpan.getParent());
 
     if (parentSpan == null) {
@@ -80,12 +78,17 @@ public class OpentelemetrySpanExporter implements InternalSpanExporter {
       return Context.current().with(parentOpentelemetrySpan);
     }
 
-    return remoteContext;
+    // The remote context is only needed when there is no local parent span to hang from
+    return resolveRemoteContext(eventContext);
   }
 
   private Context resolveRemoteContext(EventContext eventContext) {
     DistributedTraceContext distributedTraceContext = resolveDistributedTraceContext(eventContext);
 
+    if (distributedTraceContext.tracingFieldsAsMap().isEmpty()) {
+      return Context.current();
+    }
+
     return GlobalOpenTelemetry.get().getPropagators().getTextMapPropagator()
         .extract(Context.current(), distributedTraceContext.tracingFieldsAsMap(), OPENTELEMETRY_SPAN_GETTER);
   }
@@ -99,16 +102,16 @@ public class OpentelemetrySpanExporter implements InternalSpanExporter {
   }
 
 
-  private io.opentelemetry.api.trace.Span resolveOpentelemetrySpan(InternalSpan internalSpan) {
+  private io.opentelemetry.api.trace.Span resolveOpentelemetrySpan(EventContext eventContext, InternalSpan internalSpan) {
     SpanBuilder spanBuilder = tracer.spanBuilder(internalSpan.getName());
 
-    Context parentSpanContext = resolveParentOpentelemetrySpan(internalSpan);
+    Context parentSpanContext = resolveParentOpentelemetrySpan(eventContext, internalSpan);
 
     if (parentSpanContext != null) {
       spanBuilder = spanBuilder.setParent(parentSpanContext);
     }
 
-    return spanBuilder.setStartTimestamp(ofEpochMilli(internalSpan.getDuration().getStart()))
+    return spanBuilder.setStartTimestamp(internalSpan.getDuration().getStart(), NANOSECONDS)
         .startSpan();
   }
 
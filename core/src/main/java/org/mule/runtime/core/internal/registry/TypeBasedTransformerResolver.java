@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.registry;
 
+import static java.util.Optional.ofNullable;
+
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
@@ -14,6 +16,7 @@ import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.core.api.config.i18n.CoreMessages;
 import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.internal.transformer.DataTypePairCache;
 import org.mule.runtime.core.internal.transformer.ResolverException;
 import org.mule.runtime.core.internal.transformer.graph.GraphTransformerResolver;
 import org.mule.runtime.core.internal.transformer.simple.ObjectToByteArray;
@@ -26,8 +29,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 import javax.inject.Inject;
 
@@ -51,7 +53,10 @@ public class TypeBasedTransformerResolver implements TransformerResolver, Dispos
 
   private TransformersRegistry transformersRegistry;
 
-  protected Map<String, Transformer> exactTransformerCache = new ConcurrentHashMap<>(8);
+  /**
+   * Caches the resolved transformers. An empty value means that there is no transformer for that pair of types.
+   */
+  protected DataTypePairCache<Optional<Transformer>> exactTransformerCache = new DataTypePairCache<>();
 
   protected TransformerResolver graphTransformerResolver = new GraphTransformerResolver();
 
@@ -63,11 +68,17 @@ public class TypeBasedTransformerResolver implements TransformerResolver, Dispos
 
   @Override
   public Transformer resolve(DataType source, DataType result) throws ResolverException {
-    Transformer transformer = exactTransformerCache.get(source.toString() + result.toString());
-    if (transformer != null) {
-      return transformer;
+    Optional<Transformer> cached = exactTransformerCache.get(source, result);
+    if (cached != null) {
+      return cached.orElse(null);
     }
 
+    Transformer transformer = doResolve(source, result);
+    exactTransformerCache.putIfAbsent(source, result, ofNullable(transformer));
+    return transformer;
+  }
+
+  private Transformer doResolve(DataType source, DataType result) throws ResolverException {
     List<Transformer> trans = transformersRegistry.lookupTransformers(source, result);
 
     Transformer compositeTransformer = graphTransformerResolver.resolve(source, result);
@@ -77,7 +88,7 @@ public class TypeBasedTransformerResolver implements TransformerResolver, Dispos
       trans.add(compositeTransformer);
     }
 
-    transformer = getNearestTransformerMatch(trans, source.getType(), result.getType());
+    Transformer transformer = getNearestTransformerMatch(trans, source.getType(), result.getType());
     // If an exact mach is not found, we have a 'second pass' transformer that can be used to converting to String or
     // byte[]
     Transformer secondPass;
@@ -105,9 +116,6 @@ public class TypeBasedTransformerResolver implements TransformerResolver, Dispos
       }
     }
 
-    if (transformer != null) {
-      exactTransformerCache.put(source.toString() + result.toString(), transformer);
-    }
     return transformer;
   }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import org.mule.runtime.api.serialization.ObjectSerializer;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+
+/**
+ * Serializes objects using the {@link CompactSerializationProtocol} for the data kept by the runtime, such as persistent object
+ * stores and queues, and the default Java serialization mechanism for the data exchanged with other parties.
+ * <p>
+ * It is registered by the registry bootstrap as {@value #COMPACT_OBJECT_SERIALIZER_NAME}, so an application may use it instead of
+ * the default serializer with:
+ *
+ * <pre>
+ * &lt;configuration defaultObjectSerializer-ref="_muleCompactObjectSerializer"/&gt;
+ * </pre>
+ *
+ * Data written by the internal protocol of another serializer, such as the content of a persistent object store, is not readable
+ * by this one.
+ *
+ * @since 4.5.0
+ */
+public class CompactObjectSerializer implements ObjectSerializer, MuleContextAware {
+
+  /**
+   * Name under which an instance of this serializer is available in the registry of every application.
+   */
+  public static final String COMPACT_OBJECT_SERIALIZER_NAME = "_muleCompactObjectSerializer";
+
+  private volatile CompactSerializationProtocol compactSerializationProtocol = new CompactSerializationProtocol();
+  private volatile JavaExternalSerializerProtocol javaSerializerProtocol = new JavaExternalSerializerProtocol();
+
+  @Override
+  public SerializationProtocol getInternalProtocol() {
+    return compactSerializationProtocol;
+  }
+
+  @Override
+  public SerializationProtocol getExternalProtocol() {
+    return javaSerializerProtocol;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    compactSerializationProtocol.setMuleContext(context);
+    javaSerializerProtocol.setMuleContext(context);
+  }
+}
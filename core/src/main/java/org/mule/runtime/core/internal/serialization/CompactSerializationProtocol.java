@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.internal.serialization.compact.CompactInput;
+import org.mule.runtime.core.internal.serialization.compact.CompactOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * Implementation of {@link SerializationProtocol} that uses a compact and versioned binary format.
+ * <p>
+ * Events, messages, data types, typed values, errors and the values kept by object stores are written by hand written codecs,
+ * which take a fraction of the space and time of Java serialization. Any other value is written with Java serialization, so the
+ * same values are supported as with {@link JavaExternalSerializerProtocol}, that is, {@link Serializable} ones.
+ * <p>
+ * The format is not compatible with Java serialization, so the data written with one protocol can't be read with the other.
+ *
+ * @since 4.5.0
+ */
+public class CompactSerializationProtocol extends AbstractSerializationProtocol {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(Object object, OutputStream out) throws SerializationException {
+    try {
+      final CompactOutput compactOutput = write(object);
+      compactOutput.writeTo(out);
+      out.flush();
+    } catch (IOException e) {
+      throw new SerializationException("Could not write to output stream", e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected byte[] doSerialize(Object object) throws Exception {
+    return write(object).toByteArray();
+  }
+
+  private CompactOutput write(Object object) throws IOException {
+    final CompactOutput compactOutput = new CompactOutput();
+    compactOutput.writeHeader();
+    compactOutput.writeValue(object);
+    return compactOutput;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected <T> T doDeserialize(InputStream inputStream, ClassLoader classLoader) throws Exception {
+    final CompactInput compactInput = new CompactInput(inputStream, classLoader, muleContext);
+    compactInput.readHeader();
+    return (T) compactInput.readValue();
+  }
+
+  @Override
+  protected <T> T postInitialize(T object) {
+    // does nothing since the values are already initialized as they are read
+    return object;
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import static org.mule.runtime.core.internal.serialization.compact.ValueCodecs.codecForTag;
+
+import static java.lang.Double.longBitsToDouble;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.util.CaseInsensitiveHashMap;
+import org.mule.runtime.core.internal.util.SerializationUtils;
+import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads values written by a {@link CompactOutput}.
+ * <p>
+ * Instances are not thread safe and are meant to be used for reading a single object graph. The given {@link InputStream} is
+ * read in chunks, so bytes after the end of the object graph may be consumed from it.
+ *
+ * @since 4.5.0
+ */
+public final class CompactInput {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final InputStream inputStream;
+  private final ClassLoader classLoader;
+  private final MuleContext muleContext;
+
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+
+  private List<String> symbols;
+  private Map<String, Class<?>> classes;
+
+  /**
+   * @param inputStream the stream to read from. It is not closed by this class.
+   * @param classLoader the class loader to resolve the classes of the read values with.
+   * @param muleContext the context to initialize the read values with.
+   */
+  public CompactInput(InputStream inputStream, ClassLoader classLoader, MuleContext muleContext) {
+    this.inputStream = inputStream;
+    this.classLoader = classLoader;
+    this.muleContext = muleContext;
+  }
+
+  /**
+   * Reads and validates the header written by {@link CompactOutput#writeHeader()}.
+   *
+   * @throws SerializationException if the stream was not written in the compact format, or in a newer version of it.
+   */
+  public void readHeader() throws IOException {
+    final byte magic = readByte();
+    if (magic != CompactOutput.MAGIC) {
+      throw new SerializationException("The stream was not written with the compact serialization protocol");
+    }
+    final byte version = readByte();
+    if (version < 1 || version > CompactOutput.FORMAT_VERSION) {
+      throw new SerializationException(format("Unsupported compact serialization format version %d, the latest supported is %d",
+                                              version, CompactOutput.FORMAT_VERSION));
+    }
+  }
+
+  /**
+   * Reads a value written by {@link CompactOutput#writeValue(Object)}.
+   *
+   * @return the read value, may be {@code null}.
+   */
+  public Object readValue() throws IOException {
+    final byte tag = readByte();
+    switch (tag) {
+      case ValueTags.NULL:
+        return null;
+      case ValueTags.STRING:
+        return readString();
+      case ValueTags.INTEGER:
+        return (int) unZigZag(readVarLong());
+      case ValueTags.LONG:
+        return unZigZag(readVarLong());
+      case ValueTags.TRUE:
+        return true;
+      case ValueTags.FALSE:
+        return false;
+      case ValueTags.DOUBLE:
+        return longBitsToDouble(readFixedLong());
+      case ValueTags.BYTES:
+        return readBytes();
+      case ValueTags.ARRAY_LIST:
+        return readList();
+      case ValueTags.HASH_MAP:
+        return readMap(new HashMap<>());
+      case ValueTags.LINKED_HASH_MAP:
+        return readMap(new LinkedHashMap<>());
+      case ValueTags.CASE_INSENSITIVE_MAP:
+        return readMap(new CaseInsensitiveHashMap<>());
+      case ValueTags.JAVA_SERIALIZED:
+        return SerializationUtils.deserialize(new ByteArrayInputStream(readBytes()), classLoader, muleContext);
+      default:
+        final ValueCodec<?> codec = codecForTag(tag);
+        if (codec == null) {
+          throw new SerializationException(format("Unknown value tag %d in compact serialized stream", tag));
+        }
+        return codec.read(this);
+    }
+  }
+
+  private List<Object> readList() throws IOException {
+    final int size = readVarInt();
+    final List<Object> list = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      list.add(readValue());
+    }
+    return list;
+  }
+
+  private Map<Object, Object> readMap(Map<Object, Object> map) throws IOException {
+    final int size = readVarInt();
+    for (int i = 0; i < size; ++i) {
+      map.put(readValue(), readValue());
+    }
+    return map;
+  }
+
+  /**
+   * Reads the entries written by {@link CompactOutput#writeStringKeyedMap(Map)} into the given {@code map}.
+   */
+  @SuppressWarnings("unchecked")
+  <V> void readStringKeyedMap(Map<String, V> map) throws IOException {
+    final int size = readVarInt();
+    for (int i = 0; i < size; ++i) {
+      map.put(readString(), (V) readValue());
+    }
+  }
+
+  String readSymbol() throws IOException {
+    if (symbols == null) {
+      symbols = new ArrayList<>();
+    }
+
+    final int reference = readVarInt();
+    if (reference == 0) {
+      final String symbol = readString();
+      symbols.add(symbol);
+      return symbol;
+    }
+    if (reference > symbols.size()) {
+      throw new SerializationException(format("Unknown symbol reference %d in compact serialized stream", reference));
+    }
+    return symbols.get(reference - 1);
+  }
+
+  /**
+   * Reads a class name written as a symbol, and resolves it with the class loader of this input.
+   */
+  Class<?> readClass() throws IOException {
+    final String className = readSymbol();
+    if (classes == null) {
+      classes = new HashMap<>();
+    }
+
+    Class<?> type = classes.get(className);
+    if (type == null) {
+      try {
+        type = Class.forName(className, false, classLoader);
+      } catch (ClassNotFoundException e) {
+        throw new SerializationException(format("Could not load class '%s'", className), e);
+      }
+      classes.put(className, type);
+    }
+    return type;
+  }
+
+  String readNullableString() throws IOException {
+    return readBoolean() ? readString() : null;
+  }
+
+  String readString() throws IOException {
+    final int length = readVarInt();
+    if (limit - position >= length) {
+      final String value = new String(buffer, position, length, UTF_8);
+      position += length;
+      return value;
+    }
+    return new String(readRaw(length), UTF_8);
+  }
+
+  byte[] readBytes() throws IOException {
+    return readRaw(readVarInt());
+  }
+
+  boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  byte readByte() throws IOException {
+    if (position == limit && !fill()) {
+      throw new EOFException("Unexpected end of compact serialized stream");
+    }
+    return buffer[position++];
+  }
+
+  int readVarInt() throws IOException {
+    final long value = readVarLong();
+    if (value > Integer.MAX_VALUE) {
+      throw new SerializationException(format("Invalid length or index %d in compact serialized stream", value));
+    }
+    return (int) value;
+  }
+
+  long readVarLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      final byte b = readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new SerializationException("Malformed variable length number in compact serialized stream");
+  }
+
+  private long readFixedLong() throws IOException {
+    long value = 0;
+    for (int i = 0; i < 8; ++i) {
+      value = (value << 8) | (readByte() & 0xFF);
+    }
+    return value;
+  }
+
+  private byte[] readRaw(int length) throws IOException {
+    final byte[] bytes = new byte[length];
+    int read = 0;
+    while (read < length) {
+      if (position == limit && !fill()) {
+        throw new EOFException("Unexpected end of compact serialized stream");
+      }
+      final int chunk = min(length - read, limit - position);
+      System.arraycopy(buffer, position, bytes, read, chunk);
+      position += chunk;
+      read += chunk;
+    }
+    return bytes;
+  }
+
+  private boolean fill() throws IOException {
+    final int read = inputStream.read(buffer, 0, buffer.length);
+    if (read <= 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Performs the initialization that Java deserialization does for the given {@code value}, if it is a
+   * {@link DeserializationPostInitialisable}.
+   */
+  <T> T postInitialize(T value) {
+    if (value instanceof DeserializationPostInitialisable) {
+      try {
+        DeserializationPostInitialisable.Implementation.init(value, muleContext);
+      } catch (Exception e) {
+        throw new SerializationException(format("Could not initialize instance of %s after deserialization",
+                                                value.getClass().getName()),
+                                         e);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+import static org.mule.runtime.core.internal.serialization.compact.ValueCodecs.codecFor;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.util.CaseInsensitiveHashMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Writes values in the compact format into an in-memory buffer.
+ * <p>
+ * Each value is preceded by a tag from {@link ValueTags}. Strings, numbers, byte arrays and the common collections are written
+ * directly, the core runtime types through their {@link ValueCodec}, and any other value with Java serialization. Integers are
+ * written as variable length quantities, and repeated symbols such as class names and media types are written only once per
+ * stream.
+ * <p>
+ * Instances are not thread safe and are meant to be used for writing a single object graph.
+ *
+ * @since 4.5.0
+ */
+public final class CompactOutput {
+
+  /**
+   * First byte of the header of the compact format.
+   */
+  static final byte MAGIC = (byte) 0xC5;
+
+  /**
+   * The version of the compact format written by this class.
+   */
+  static final byte FORMAT_VERSION = 1;
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int count;
+  private Map<String, Integer> symbols;
+
+  /**
+   * Writes the header that identifies the format and its version. To be called once, before the first value.
+   */
+  public void writeHeader() {
+    writeByte(MAGIC);
+    writeByte(FORMAT_VERSION);
+  }
+
+  /**
+   * Writes the given {@code value}, along with its tag.
+   *
+   * @param value the value to write, may be {@code null}.
+   * @throws SerializationException if the value is not supported by the format nor {@link Serializable}.
+   */
+  public void writeValue(Object value) throws IOException {
+    if (value == null) {
+      writeByte(ValueTags.NULL);
+      return;
+    }
+
+    final Class<?> type = value.getClass();
+    if (type == String.class) {
+      writeByte(ValueTags.STRING);
+      writeString((String) value);
+    } else if (type == Integer.class) {
+      writeByte(ValueTags.INTEGER);
+      writeVarLong(zigZag((Integer) value));
+    } else if (type == Long.class) {
+      writeByte(ValueTags.LONG);
+      writeVarLong(zigZag((Long) value));
+    } else if (type == Boolean.class) {
+      writeByte((Boolean) value ? ValueTags.TRUE : ValueTags.FALSE);
+    } else if (type == Double.class) {
+      writeByte(ValueTags.DOUBLE);
+      writeFixedLong(doubleToRawLongBits((Double) value));
+    } else if (type == byte[].class) {
+      writeByte(ValueTags.BYTES);
+      writeBytes((byte[]) value);
+    } else if (type == ArrayList.class) {
+      writeByte(ValueTags.ARRAY_LIST);
+      writeCollection((Collection<?>) value);
+    } else if (type == HashMap.class) {
+      writeByte(ValueTags.HASH_MAP);
+      writeMap((Map<?, ?>) value);
+    } else if (type == LinkedHashMap.class) {
+      writeByte(ValueTags.LINKED_HASH_MAP);
+      writeMap((Map<?, ?>) value);
+    } else if (type == CaseInsensitiveHashMap.class) {
+      writeByte(ValueTags.CASE_INSENSITIVE_MAP);
+      writeMap((Map<?, ?>) value);
+    } else if (value instanceof CursorStreamProvider) {
+      // Same as Java serialization does, the content of the stream is written instead
+      try (CursorStream cursor = ((CursorStreamProvider) value).openCursor()) {
+        writeByte(ValueTags.BYTES);
+        writeBytes(toByteArray(cursor));
+      }
+    } else {
+      final ValueCodec<Object> codec = codecFor(value);
+      if (codec != null) {
+        writeByte(codec.getTag());
+        codec.write(value, this);
+      } else {
+        writeJavaSerialized(value);
+      }
+    }
+  }
+
+  private void writeJavaSerialized(Object value) {
+    if (!(value instanceof Serializable)) {
+      throw new SerializationException(format("Was expecting a Serializable type. %s was found instead",
+                                              value.getClass().getName()));
+    }
+    writeByte(ValueTags.JAVA_SERIALIZED);
+    writeBytes(org.apache.commons.lang3.SerializationUtils.serialize((Serializable) value));
+  }
+
+  private void writeCollection(Collection<?> collection) throws IOException {
+    writeVarInt(collection.size());
+    for (Object item : collection) {
+      writeValue(item);
+    }
+  }
+
+  private void writeMap(Map<?, ?> map) throws IOException {
+    writeVarInt(map.size());
+    for (Entry<?, ?> entry : map.entrySet()) {
+      writeValue(entry.getKey());
+      writeValue(entry.getValue());
+    }
+  }
+
+  /**
+   * Writes the entries of a map with {@link String} keys, without a tag.
+   */
+  void writeStringKeyedMap(Map<String, ?> map) throws IOException {
+    writeVarInt(map.size());
+    for (Entry<String, ?> entry : map.entrySet()) {
+      writeString(entry.getKey());
+      writeValue(entry.getValue());
+    }
+  }
+
+  /**
+   * Writes a string that is expected to be repeated many times in the stream, such as a class name. Only the first occurrence is
+   * written, the following ones just reference it.
+   */
+  void writeSymbol(String symbol) {
+    if (symbols == null) {
+      symbols = new HashMap<>();
+    }
+
+    final Integer index = symbols.get(symbol);
+    if (index != null) {
+      writeVarInt(index + 1);
+    } else {
+      symbols.put(symbol, symbols.size());
+      writeVarInt(0);
+      writeString(symbol);
+    }
+  }
+
+  void writeNullableString(String value) {
+    if (value == null) {
+      writeBoolean(false);
+    } else {
+      writeBoolean(true);
+      writeString(value);
+    }
+  }
+
+  void writeString(String value) {
+    final int length = value.length();
+    int i = 0;
+    // Fast path for ASCII strings, which are most of the strings written
+    ensureCapacity(5 + length);
+    final int lengthPosition = count;
+    writeVarInt(length);
+    for (; i < length; ++i) {
+      final char c = value.charAt(i);
+      if (c >= 0x80) {
+        break;
+      }
+      buffer[count++] = (byte) c;
+    }
+
+    if (i < length) {
+      count = lengthPosition;
+      final byte[] encoded = value.getBytes(UTF_8);
+      writeVarInt(encoded.length);
+      writeRaw(encoded, 0, encoded.length);
+    }
+  }
+
+  void writeBytes(byte[] bytes) {
+    writeVarInt(bytes.length);
+    writeRaw(bytes, 0, bytes.length);
+  }
+
+  void writeBoolean(boolean value) {
+    writeByte(value ? 1 : 0);
+  }
+
+  void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[count++] = (byte) value;
+  }
+
+  void writeVarInt(int value) {
+    writeVarLong(value & 0xFFFFFFFFL);
+  }
+
+  void writeVarLong(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[count++] = (byte) value;
+  }
+
+  private void writeFixedLong(long value) {
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[count++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void writeRaw(byte[] bytes, int offset, int length) {
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, buffer, count, length);
+    count += length;
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private void ensureCapacity(int extra) {
+    if (count + extra > buffer.length) {
+      buffer = copyOf(buffer, max(buffer.length << 1, count + extra));
+    }
+  }
+
+  /**
+   * @return the amount of bytes written so far.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * @return a copy of the bytes written so far.
+   */
+  public byte[] toByteArray() {
+    return copyOf(buffer, count);
+  }
+
+  /**
+   * Writes the bytes written so far into the given {@code out}.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    out.write(buffer, 0, count);
+  }
+}
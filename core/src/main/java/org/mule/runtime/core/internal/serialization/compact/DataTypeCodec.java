@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.core.internal.metadata.SimpleDataType;
+
+import java.io.IOException;
+
+/**
+ * {@link ValueCodec} for the {@link DataType}s of non primitive types that are not collections, maps or functions.
+ * <p>
+ * The type and the media type are written as symbols, so a {@link DataType} repeated in a stream costs just a couple of bytes.
+ * When read, the data types are built through the {@link DataType#builder()}, so equal ones are shared.
+ *
+ * @since 4.5.0
+ */
+final class DataTypeCodec implements ValueCodec<DataType> {
+
+  static final DataTypeCodec INSTANCE = new DataTypeCodec();
+
+  private DataTypeCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.DATA_TYPE;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value.getClass() == SimpleDataType.class && !((DataType) value).getType().isPrimitive();
+  }
+
+  @Override
+  public void write(DataType value, CompactOutput out) throws IOException {
+    out.writeSymbol(value.getType().getName());
+    out.writeSymbol(value.getMediaType().toRfcString());
+  }
+
+  @Override
+  public DataType read(CompactInput in) throws IOException {
+    final Class<?> type = in.readClass();
+    final MediaType mediaType = MediaType.parse(in.readSymbol());
+    return DataType.builder().type(type).mediaType(mediaType).build();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import static org.mule.runtime.core.internal.message.ErrorBuilder.deserializedError;
+
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.internal.message.ErrorBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ValueCodec} for the {@link Error}s built by the runtime.
+ * <p>
+ * The cause of the error is written with Java serialization, as is usual for {@link Throwable}s.
+ *
+ * @since 4.5.0
+ */
+final class ErrorCodec implements ValueCodec<Error> {
+
+  static final ErrorCodec INSTANCE = new ErrorCodec();
+
+  private ErrorCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.ERROR;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value instanceof Error && value.getClass().getEnclosingClass() == ErrorBuilder.class;
+  }
+
+  @Override
+  public void write(Error value, CompactOutput out) throws IOException {
+    out.writeValue(value.getCause());
+    out.writeNullableString(value.getDescription());
+    out.writeNullableString(value.getDetailedDescription());
+    out.writeNullableString(value.getFailingComponent());
+    out.writeValue(value.getErrorType());
+    out.writeValue(value.getErrorMessage());
+    writeErrors(value.getChildErrors(), out);
+    writeErrors(value.getSuppressedErrors(), out);
+  }
+
+  private void writeErrors(List<Error> errors, CompactOutput out) throws IOException {
+    out.writeVarInt(errors.size());
+    for (Error error : errors) {
+      out.writeValue(error);
+    }
+  }
+
+  @Override
+  public Error read(CompactInput in) throws IOException {
+    final Throwable exception = (Throwable) in.readValue();
+    final String description = in.readNullableString();
+    final String detailedDescription = in.readNullableString();
+    final String failingComponent = in.readNullableString();
+    final ErrorType errorType = (ErrorType) in.readValue();
+    final Message errorMessage = (Message) in.readValue();
+    final List<Error> errors = readErrors(in);
+    final List<Error> suppressedErrors = readErrors(in);
+    return deserializedError(exception, description, detailedDescription, failingComponent, errorType, errorMessage, errors,
+                             suppressedErrors);
+  }
+
+  private List<Error> readErrors(CompactInput in) throws IOException {
+    final int size = in.readVarInt();
+    final List<Error> errors = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      errors.add((Error) in.readValue());
+    }
+    return errors;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.core.internal.message.ErrorTypeBuilder;
+
+import java.io.IOException;
+
+/**
+ * {@link ValueCodec} for the {@link ErrorType}s built by the runtime, along with their parent types.
+ *
+ * @since 4.5.0
+ */
+final class ErrorTypeCodec implements ValueCodec<ErrorType> {
+
+  static final ErrorTypeCodec INSTANCE = new ErrorTypeCodec();
+
+  private ErrorTypeCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.ERROR_TYPE;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value instanceof ErrorType && value.getClass().getEnclosingClass() == ErrorTypeBuilder.class;
+  }
+
+  @Override
+  public void write(ErrorType value, CompactOutput out) throws IOException {
+    out.writeSymbol(value.getNamespace());
+    out.writeSymbol(value.getIdentifier());
+    out.writeValue(value.getParentErrorType());
+  }
+
+  @Override
+  public ErrorType read(CompactInput in) throws IOException {
+    final String namespace = in.readSymbol();
+    final String identifier = in.readSymbol();
+    final ErrorType parentErrorType = (ErrorType) in.readValue();
+    return ErrorTypeBuilder.builder()
+        .namespace(namespace)
+        .identifier(identifier)
+        .parentErrorType(parentErrorType)
+        .build();
+  }
+}
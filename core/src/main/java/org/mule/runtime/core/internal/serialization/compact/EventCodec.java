@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import static java.util.Optional.of;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.message.ItemSequenceInfo;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.security.SecurityContext;
+import org.mule.runtime.core.api.util.CaseInsensitiveHashMap;
+import org.mule.runtime.core.internal.event.DefaultEventBuilder.InternalEventImplementation;
+import org.mule.runtime.core.internal.message.InternalEvent;
+import org.mule.runtime.core.privileged.event.MuleSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * {@link ValueCodec} for the events of the runtime.
+ * <p>
+ * The same state as with Java serialization is written, that is, everything but the internal parameters and contexts. The
+ * message, variables, parameters and error are written compactly, while the event context, session and security context are
+ * written with Java serialization. The events are read back through an {@link InternalEvent.Builder} and initialized as Java
+ * deserialization does.
+ *
+ * @since 4.5.0
+ */
+final class EventCodec implements ValueCodec<InternalEvent> {
+
+  static final EventCodec INSTANCE = new EventCodec();
+
+  private EventCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.EVENT;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value.getClass() == InternalEventImplementation.class;
+  }
+
+  @Override
+  public void write(InternalEvent value, CompactOutput out) throws IOException {
+    out.writeValue(value.getContext());
+    out.writeValue(value.getMessage());
+    out.writeStringKeyedMap(value.getVariables());
+    out.writeStringKeyedMap(value.getParameters());
+
+    final Optional<Map<String, String>> loggingVariables = value.getLoggingVariables();
+    out.writeBoolean(loggingVariables.isPresent());
+    if (loggingVariables.isPresent()) {
+      out.writeStringKeyedMap(loggingVariables.get());
+    }
+
+    out.writeValue(value.getSession());
+    out.writeValue(value.getSecurityContext());
+
+    final Optional<ItemSequenceInfo> itemSequenceInfo = value.getItemSequenceInfo();
+    out.writeBoolean(itemSequenceInfo.isPresent());
+    if (itemSequenceInfo.isPresent()) {
+      out.writeVarInt(itemSequenceInfo.get().getPosition());
+      final OptionalInt sequenceSize = itemSequenceInfo.get().getSequenceSize();
+      out.writeBoolean(sequenceSize.isPresent());
+      if (sequenceSize.isPresent()) {
+        out.writeVarInt(sequenceSize.getAsInt());
+      }
+    }
+
+    out.writeValue(value.getError().orElse(null));
+    out.writeNullableString(value.getLegacyCorrelationId());
+    out.writeBoolean(value.isNotificationsEnabled());
+  }
+
+  @Override
+  public InternalEvent read(CompactInput in) throws IOException {
+    final InternalEvent.Builder builder = InternalEvent.builder((EventContext) in.readValue());
+    builder.message((Message) in.readValue());
+
+    final CaseInsensitiveHashMap<String, TypedValue<?>> variables = new CaseInsensitiveHashMap<>();
+    in.readStringKeyedMap(variables);
+    if (!variables.isEmpty()) {
+      builder.variablesTyped(variables);
+    }
+
+    final CaseInsensitiveHashMap<String, TypedValue<?>> parameters = new CaseInsensitiveHashMap<>();
+    in.readStringKeyedMap(parameters);
+    if (!parameters.isEmpty()) {
+      builder.parameters(parameters);
+    }
+
+    if (in.readBoolean()) {
+      final CaseInsensitiveHashMap<String, String> loggingVariables = new CaseInsensitiveHashMap<>();
+      in.readStringKeyedMap(loggingVariables);
+      loggingVariables.forEach(builder::addLoggingVariable);
+    }
+
+    final MuleSession session = (MuleSession) in.readValue();
+    if (session != null) {
+      builder.session(session);
+    }
+    builder.securityContext((SecurityContext) in.readValue());
+
+    if (in.readBoolean()) {
+      final int position = in.readVarInt();
+      builder.itemSequenceInfo(of(in.readBoolean()
+          ? ItemSequenceInfo.of(position, in.readVarInt())
+          : ItemSequenceInfo.of(position)));
+    }
+
+    final Error error = (Error) in.readValue();
+    if (error != null) {
+      builder.error(error);
+    }
+
+    final String legacyCorrelationId = in.readNullableString();
+    if (legacyCorrelationId != null) {
+      builder.correlationId(legacyCorrelationId);
+    }
+
+    if (!in.readBoolean()) {
+      builder.disableNotifications();
+    }
+
+    return in.postInitialize(builder.build());
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import static org.mule.runtime.core.internal.message.DefaultMessageBuilder.getMessageImplementationClass;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.internal.message.InternalMessage;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * {@link ValueCodec} for the {@link Message}s built by the runtime, made of a payload and attributes.
+ * <p>
+ * Messages with legacy properties or attachments, or with values that can only be written by transforming them, are left to Java
+ * serialization, which handles those.
+ *
+ * @since 4.5.0
+ */
+final class MessageCodec implements ValueCodec<Message> {
+
+  static final MessageCodec INSTANCE = new MessageCodec();
+
+  private MessageCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.MESSAGE;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    if (value.getClass() != getMessageImplementationClass()) {
+      return false;
+    }
+
+    final InternalMessage message = (InternalMessage) value;
+    return message.getInboundPropertyNames().isEmpty()
+        && message.getOutboundPropertyNames().isEmpty()
+        && message.getInboundAttachmentNames().isEmpty()
+        && message.getOutboundAttachmentNames().isEmpty()
+        && isWritable(message.getPayload())
+        && isWritable(message.getAttributes());
+  }
+
+  private boolean isWritable(TypedValue<?> typedValue) {
+    final Object value = typedValue.getValue();
+    return value == null || value instanceof Serializable || value instanceof CursorStreamProvider;
+  }
+
+  @Override
+  public void write(Message value, CompactOutput out) throws IOException {
+    TypedValueCodec.INSTANCE.write(value.getPayload(), out);
+    TypedValueCodec.INSTANCE.write(value.getAttributes(), out);
+  }
+
+  @Override
+  public Message read(CompactInput in) throws IOException {
+    final TypedValue<?> payload = TypedValueCodec.INSTANCE.read(in);
+    final TypedValue<?> attributes = TypedValueCodec.INSTANCE.read(in);
+    return Message.builder().payload(payload).attributes(attributes).build();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import org.mule.runtime.core.internal.util.store.PersistentObjectStorePartition.StoreValue;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * {@link ValueCodec} for the {@link StoreValue}s that persistent object stores write to disk.
+ *
+ * @since 4.5.0
+ */
+final class StoreValueCodec implements ValueCodec<StoreValue<?>> {
+
+  static final StoreValueCodec INSTANCE = new StoreValueCodec();
+
+  private StoreValueCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.STORE_VALUE;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value.getClass() == StoreValue.class;
+  }
+
+  @Override
+  public void write(StoreValue<?> value, CompactOutput out) throws IOException {
+    out.writeValue(value.getKey());
+    out.writeValue(value.getValue());
+  }
+
+  @Override
+  public StoreValue<?> read(CompactInput in) throws IOException {
+    final Serializable key = (Serializable) in.readValue();
+    final Object value = in.readValue();
+    return new StoreValue<>(key, value);
+  }
+}
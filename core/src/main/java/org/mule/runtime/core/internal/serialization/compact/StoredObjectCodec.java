@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import org.mule.runtime.core.internal.util.store.MonitoredObjectStoreWrapper.StoredObject;
+
+import java.io.IOException;
+
+/**
+ * {@link ValueCodec} for the {@link StoredObject}s that monitored object stores keep in the stores they wrap.
+ *
+ * @since 4.5.0
+ */
+final class StoredObjectCodec implements ValueCodec<StoredObject<?>> {
+
+  static final StoredObjectCodec INSTANCE = new StoredObjectCodec();
+
+  private StoredObjectCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.STORED_OBJECT;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value.getClass() == StoredObject.class;
+  }
+
+  @Override
+  public void write(StoredObject<?> value, CompactOutput out) throws IOException {
+    out.writeValue(value.getItem());
+    out.writeValue(value.getTimestamp());
+    out.writeNullableString(value.getKey());
+  }
+
+  @Override
+  public StoredObject<?> read(CompactInput in) throws IOException {
+    final Object item = in.readValue();
+    final Long timestamp = (Long) in.readValue();
+    final String key = in.readNullableString();
+    return new StoredObject<>(item, timestamp, key);
+  }
+}
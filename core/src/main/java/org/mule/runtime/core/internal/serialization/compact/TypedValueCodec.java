@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+import java.io.IOException;
+import java.util.OptionalLong;
+
+/**
+ * {@link ValueCodec} for {@link TypedValue}s.
+ * <p>
+ * As with Java serialization, the content of a {@link CursorStreamProvider} value is written instead of the provider, and it is
+ * read back as a byte array with the same media type.
+ *
+ * @since 4.5.0
+ */
+final class TypedValueCodec implements ValueCodec<TypedValue<?>> {
+
+  static final TypedValueCodec INSTANCE = new TypedValueCodec();
+
+  private TypedValueCodec() {}
+
+  @Override
+  public byte getTag() {
+    return ValueTags.TYPED_VALUE;
+  }
+
+  @Override
+  public boolean canWrite(Object value) {
+    return value.getClass() == TypedValue.class;
+  }
+
+  @Override
+  public void write(TypedValue<?> value, CompactOutput out) throws IOException {
+    DataType dataType = value.getDataType();
+    if (value.getValue() instanceof CursorStreamProvider) {
+      dataType = DataType.builder().type(byte[].class).mediaType(dataType.getMediaType()).build();
+    }
+
+    out.writeValue(value.getValue());
+    out.writeValue(dataType);
+
+    final OptionalLong byteLength = value.getByteLength();
+    out.writeBoolean(byteLength.isPresent());
+    if (byteLength.isPresent()) {
+      out.writeVarLong(byteLength.getAsLong());
+    }
+  }
+
+  @Override
+  public TypedValue<?> read(CompactInput in) throws IOException {
+    final Object value = in.readValue();
+    final DataType dataType = (DataType) in.readValue();
+    final OptionalLong byteLength = in.readBoolean() ? OptionalLong.of(in.readVarLong()) : OptionalLong.empty();
+    return new TypedValue<>(value, dataType, byteLength);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads the values of a specific type in the compact format, without the overhead of Java serialization.
+ *
+ * @param <T> the type of the values handled by this codec.
+ *
+ * @since 4.5.0
+ */
+interface ValueCodec<T> {
+
+  /**
+   * @return the tag that identifies the values written by this codec.
+   */
+  byte getTag();
+
+  /**
+   * @param value a non null value.
+   * @return whether {@code value} can be written by this codec and read back without losing any of its state.
+   */
+  boolean canWrite(Object value);
+
+  void write(T value, CompactOutput out) throws IOException;
+
+  T read(CompactInput in) throws IOException;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+/**
+ * Registry of the available {@link ValueCodec}s.
+ *
+ * @since 4.5.0
+ */
+final class ValueCodecs {
+
+  private static final ValueCodec<?>[] CODECS = {
+      EventCodec.INSTANCE,
+      MessageCodec.INSTANCE,
+      TypedValueCodec.INSTANCE,
+      DataTypeCodec.INSTANCE,
+      ErrorCodec.INSTANCE,
+      ErrorTypeCodec.INSTANCE,
+      StoredObjectCodec.INSTANCE,
+      StoreValueCodec.INSTANCE
+  };
+
+  private static final ValueCodec<?>[] CODECS_BY_TAG = new ValueCodec<?>[Byte.MAX_VALUE + 1];
+
+  static {
+    for (ValueCodec<?> codec : CODECS) {
+      if (CODECS_BY_TAG[codec.getTag()] != null) {
+        throw new IllegalStateException("Duplicate tag " + codec.getTag() + " for " + codec);
+      }
+      CODECS_BY_TAG[codec.getTag()] = codec;
+    }
+  }
+
+  private ValueCodecs() {}
+
+  /**
+   * @param value a non null value.
+   * @return the codec to write the given {@code value} with, or {@code null} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  static ValueCodec<Object> codecFor(Object value) {
+    for (ValueCodec<?> codec : CODECS) {
+      if (codec.canWrite(value)) {
+        return (ValueCodec<Object>) codec;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param tag a tag read from a stream.
+   * @return the codec that writes values with the given {@code tag}, or {@code null} if there is none.
+   */
+  static ValueCodec<?> codecForTag(byte tag) {
+    return tag >= 0 ? CODECS_BY_TAG[tag] : null;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization.compact;
+
+/**
+ * The tags that precede each value in the compact format, identifying how it was written.
+ * <p>
+ * Tags are part of the format, so existing ones must not be changed or reused. New ones may be added along with a new format
+ * version.
+ *
+ * @since 4.5.0
+ */
+final class ValueTags {
+
+  static final byte NULL = 0;
+  static final byte STRING = 1;
+  static final byte INTEGER = 2;
+  static final byte LONG = 3;
+  static final byte TRUE = 4;
+  static final byte FALSE = 5;
+  static final byte DOUBLE = 6;
+  static final byte BYTES = 7;
+  static final byte ARRAY_LIST = 8;
+  static final byte HASH_MAP = 9;
+  static final byte LINKED_HASH_MAP = 10;
+  static final byte CASE_INSENSITIVE_MAP = 11;
+  static final byte JAVA_SERIALIZED = 12;
+
+  static final byte DATA_TYPE = 16;
+  static final byte TYPED_VALUE = 17;
+  static final byte MESSAGE = 18;
+  static final byte ERROR_TYPE = 19;
+  static final byte ERROR = 20;
+  static final byte EVENT = 21;
+  static final byte STORED_OBJECT = 22;
+  static final byte STORE_VALUE = 23;
+
+  private ValueTags() {}
+}
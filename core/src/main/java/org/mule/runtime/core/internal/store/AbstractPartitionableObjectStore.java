@@ -14,6 +14,7 @@ import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.PartitionableObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -97,6 +98,35 @@ public abstract class AbstractPartitionableObjectStore<T extends Serializable> e
 
   protected abstract T doRemove(String key, String partitionName) throws ObjectStoreException;
 
+  /**
+   * Stores all the given entries in the given partition, replacing the values of the keys that are already present.
+   *
+   * @see BatchObjectStore#storeAll(Map)
+   * @since 4.5.0
+   */
+  public void storeAll(Map<String, ? extends T> entries, String partitionName) throws ObjectStoreException {
+    for (Map.Entry<String, ? extends T> entry : entries.entrySet()) {
+      if (contains(entry.getKey(), partitionName)) {
+        remove(entry.getKey(), partitionName);
+      }
+      store(entry.getKey(), entry.getValue(), partitionName);
+    }
+  }
+
+  /**
+   * Removes all the given keys from the given partition, ignoring the ones that are not present.
+   *
+   * @see BatchObjectStore#removeAll(Collection)
+   * @since 4.5.0
+   */
+  public void removeAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    for (String key : keys) {
+      if (contains(key, partitionName)) {
+        remove(key, partitionName);
+      }
+    }
+  }
+
   protected void validateKeyAndPartitionName(String key, String partitionName) throws ObjectStoreException {
     validateKey(key);
     if (partitionName == null || partitionName.trim().length() == 0) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * An {@link ObjectStore} that can store and remove many entries in a single operation.
+ * <p>
+ * The default implementations just go through each entry using the single entry operations. Stores that have to take a lock or
+ * reach a persistent medium on each operation should override them so that it is done once per batch. Batches are not atomic:
+ * if an error is thrown, some of the entries may have already been stored or removed.
+ * <p>
+ * Use {@link #asBatchObjectStore(ObjectStore)} to get a {@link BatchObjectStore} view of any {@link ObjectStore}.
+ *
+ * @param <T> the type of the stored values
+ *
+ * @since 4.5.0
+ */
+public interface BatchObjectStore<T extends Serializable> extends ObjectStore<T> {
+
+  /**
+   * Stores all the given entries. Unlike {@link #store(String, Serializable)}, the value of a key that is already present is
+   * replaced.
+   *
+   * @param entries the entries to store
+   * @throws ObjectStoreException if any of the entries could not be stored
+   */
+  default void storeAll(Map<String, ? extends T> entries) throws ObjectStoreException {
+    for (Map.Entry<String, ? extends T> entry : entries.entrySet()) {
+      if (contains(entry.getKey())) {
+        remove(entry.getKey());
+      }
+      store(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Removes all the given keys. Unlike {@link #remove(String)}, keys that are not present are ignored.
+   *
+   * @param keys the keys to remove
+   * @throws ObjectStoreException if any of the keys could not be removed
+   */
+  default void removeAll(Collection<String> keys) throws ObjectStoreException {
+    for (String key : keys) {
+      if (contains(key)) {
+        remove(key);
+      }
+    }
+  }
+
+  /**
+   * @param store an {@link ObjectStore}
+   * @return the given {@code store} if it's already a {@link BatchObjectStore}, or a view of it that uses the single entry
+   *         operations otherwise.
+   */
+  static <T extends Serializable> BatchObjectStore<T> asBatchObjectStore(ObjectStore<T> store) {
+    if (store instanceof BatchObjectStore) {
+      return (BatchObjectStore<T>) store;
+    }
+    return new DelegatingBatchObjectStore<>(store);
+  }
+}
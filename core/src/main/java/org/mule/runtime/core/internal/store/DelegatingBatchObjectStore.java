@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link BatchObjectStore} view of an {@link ObjectStore} that doesn't support batches, which uses the default implementation of
+ * the batch operations.
+ *
+ * @param <T> the type of the stored values
+ *
+ * @since 4.5.0
+ */
+final class DelegatingBatchObjectStore<T extends Serializable> implements BatchObjectStore<T> {
+
+  private final ObjectStore<T> delegate;
+
+  DelegatingBatchObjectStore(ObjectStore<T> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean contains(String key) throws ObjectStoreException {
+    return delegate.contains(key);
+  }
+
+  @Override
+  public void store(String key, T value) throws ObjectStoreException {
+    delegate.store(key, value);
+  }
+
+  @Override
+  public T retrieve(String key) throws ObjectStoreException {
+    return delegate.retrieve(key);
+  }
+
+  @Override
+  public T remove(String key) throws ObjectStoreException {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public boolean isPersistent() {
+    return delegate.isPersistent();
+  }
+
+  @Override
+  public void clear() throws ObjectStoreException {
+    delegate.clear();
+  }
+
+  @Override
+  public void open() throws ObjectStoreException {
+    delegate.open();
+  }
+
+  @Override
+  public void close() throws ObjectStoreException {
+    delegate.close();
+  }
+
+  @Override
+  public List<String> allKeys() throws ObjectStoreException {
+    return delegate.allKeys();
+  }
+
+  @Override
+  public Map<String, T> retrieveAll() throws ObjectStoreException {
+    return delegate.retrieveAll();
+  }
+}
@@ -6,10 +6,14 @@
  */
 package org.mule.runtime.core.internal.store;
 
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.internal.util.store.LogStructuredObjectStorePartition.containsSegments;
+import static org.mule.runtime.core.internal.util.store.LogStructuredObjectStorePartition.isLogStructuredPartition;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.i18n.I18nMessage;
+import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.PartitionableExpirableObjectStore;
 import org.mule.runtime.core.api.MuleContext;
@@ -18,12 +22,14 @@ import org.mule.runtime.core.api.config.i18n.CoreMessages;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.FileUtils;
 import org.mule.runtime.core.api.util.UUID;
+import org.mule.runtime.core.internal.util.store.LogStructuredObjectStorePartition;
 import org.mule.runtime.core.internal.util.store.PersistentObjectStorePartition;
 
 import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +37,7 @@ import java.util.Map;
 import org.slf4j.Logger;
 
 public class PartitionedPersistentObjectStore<T extends Serializable> extends AbstractPartitionableObjectStore<T>
-    implements PartitionableExpirableObjectStore<T>, InternalComponent, MuleContextAware {
+    implements PartitionableExpirableObjectStore<T>, InternalComponent, MuleContextAware, Disposable {
 
   private static final Logger LOGGER = getLogger(PartitionedPersistentObjectStore.class);
   public static final String OBJECT_STORE_DIR = "objectstore";
@@ -83,11 +89,30 @@ public class PartitionedPersistentObjectStore<T extends Serializable> extends Ab
 
   private void createPartition(String partitionName) throws ObjectStoreException {
     PersistentObjectStorePartition persistentObjectStorePartition =
-        new PersistentObjectStorePartition(muleContext, partitionName, getNewPartitionDirectory(partitionName));
+        createPartitionObjectStore(partitionName, getNewPartitionDirectory(partitionName));
     persistentObjectStorePartition.open();
     partitionsByName.putIfAbsent(partitionName, persistentObjectStorePartition);
   }
 
+  private PersistentObjectStorePartition createPartitionObjectStore(String partitionName, File partitionDirectory) {
+    if (useLogStructuredPartition(partitionName, partitionDirectory)) {
+      return new LogStructuredObjectStorePartition(muleContext, partitionName, partitionDirectory);
+    }
+    return new PersistentObjectStorePartition(muleContext, partitionName, partitionDirectory);
+  }
+
+  /**
+   * Partitions that were already written as a log keep using that format. Otherwise, it's selected through
+   * {@link LogStructuredObjectStorePartition#LOG_STRUCTURED_PARTITIONS_PROPERTY}, migrating any existing entries.
+   *
+   * @param partitionName      the name of the partition
+   * @param partitionDirectory the directory where the partition data is stored
+   * @return whether the partition has to be backed by a {@link LogStructuredObjectStorePartition}.
+   */
+  protected boolean useLogStructuredPartition(String partitionName, File partitionDirectory) {
+    return containsSegments(partitionDirectory) || isLogStructuredPartition(partitionName);
+  }
+
   private File getNewPartitionDirectory(String partitionName) {
     return new File(storeDirectory, getPartitionDirectoryName(partitionName));
   }
@@ -122,6 +147,16 @@ public class PartitionedPersistentObjectStore<T extends Serializable> extends Ab
     return getPartitionObjectStore(partitionName).remove(key.toString());
   }
 
+  @Override
+  public void storeAll(Map<String, ? extends T> entries, String partitionName) throws ObjectStoreException {
+    getPartitionObjectStore(partitionName).storeAll(entries);
+  }
+
+  @Override
+  public void removeAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    getPartitionObjectStore(partitionName).removeAll(keys);
+  }
+
   @Override
   public List<String> allKeys(String partitionName) throws ObjectStoreException {
     return getPartitionObjectStore(partitionName).allKeys();
@@ -193,6 +228,11 @@ public class PartitionedPersistentObjectStore<T extends Serializable> extends Ab
       try {
         PersistentObjectStorePartition persistentObjectStorePartition =
             new PersistentObjectStorePartition(muleContext, partitionDirectory);
+        if (useLogStructuredPartition(persistentObjectStorePartition.getPartitionName(), partitionDirectory)) {
+          persistentObjectStorePartition =
+              new LogStructuredObjectStorePartition(muleContext, persistentObjectStorePartition.getPartitionName(),
+                                                    partitionDirectory);
+        }
         persistentObjectStorePartition.open();
         partitionsByName.putIfAbsent(persistentObjectStorePartition.getPartitionName(), persistentObjectStorePartition);
       } catch (Exception e) {
@@ -225,4 +265,9 @@ public class PartitionedPersistentObjectStore<T extends Serializable> extends Ab
     return muleContext.getConfiguration().getWorkingDirectory();
   }
 
+  @Override
+  public void dispose() {
+    partitionsByName.values().forEach(partition -> disposeIfNeeded(partition, LOGGER));
+  }
+
 }
@@ -138,6 +138,20 @@ public class SharedPartitionedPersistentObjectStore<T extends Serializable> exte
     }
   }
 
+  /**
+   * The log structured format keeps an in-memory index which can't be shared between different instances, so this store always
+   * uses one file per entry.
+   */
+  @Override
+  protected boolean useLogStructuredPartition(String partitionName, File partitionDirectory) {
+    return false;
+  }
+
+  @Override
+  public void dispose() {
+    // Partitions are shared with other instances of this store
+  }
+
   @Override
   protected String getWorkingDirectory() {
     return workingDirectory.getAbsolutePath();
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.Files.deleteIfExists;
+import static org.mule.runtime.api.util.DataUnit.MB;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.internal.streaming.TempBufferFileUtils.createBufferFile;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+/**
+ * An append-only temporal file which is accessed through memory mapped regions of a fixed size.
+ * <p>
+ * Streaming buffers use it to spill the data that doesn't fit in their in-memory window. Data is appended at the end of the file
+ * and then read back through {@link #slice(long, int)}, which returns a view of the mapped region without copying it.
+ * <p>
+ * This class is not thread safe. Callers are expected to serialize appends and to not read while appending, as buffers already
+ * do through their read/write locks. The file is created on the first append and deleted on {@link #close()}.
+ *
+ * @since 4.5.0
+ */
+public final class MappedBufferFile {
+
+  private static final Logger LOGGER = getLogger(MappedBufferFile.class);
+
+  /**
+   * The size of each of the file's mapped regions
+   */
+  public static final int DEFAULT_MAPPED_REGION_SIZE =
+      getInteger(SYSTEM_PROPERTY_PREFIX + "streaming.fileStore.mappedRegionSize", MB.toBytes(8));
+
+  private final String name;
+  private final int regionSize;
+  private final List<MappedByteBuffer> regions = new ArrayList<>();
+
+  private File file;
+  private RandomAccessFile randomAccessFile;
+  private FileChannel channel;
+  private long size = 0;
+
+  /**
+   * Creates a new instance which uses {@link #DEFAULT_MAPPED_REGION_SIZE}
+   *
+   * @param name a descriptive name for the file
+   */
+  public MappedBufferFile(String name) {
+    this(name, DEFAULT_MAPPED_REGION_SIZE);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param name       a descriptive name for the file
+   * @param regionSize the size of each mapped region
+   */
+  public MappedBufferFile(String name, int regionSize) {
+    checkArgument(regionSize > 0, "regionSize must be greater than zero");
+    this.name = name;
+    this.regionSize = regionSize;
+  }
+
+  /**
+   * Appends the remaining content of {@code src} at the end of the file.
+   *
+   * @param src the data to append
+   * @return the position in the file at which the data was written
+   * @throws IOException if the file could not be created or mapped
+   */
+  public long append(ByteBuffer src) throws IOException {
+    final long start = size;
+    while (src.hasRemaining()) {
+      final int regionOffset = (int) (size % regionSize);
+      ByteBuffer target = region(toIntExact(size / regionSize)).duplicate();
+      target.position(regionOffset);
+
+      final int length = min(src.remaining(), target.remaining());
+      ByteBuffer chunk = src.duplicate();
+      chunk.limit(chunk.position() + length);
+      target.put(chunk);
+
+      src.position(src.position() + length);
+      size += length;
+    }
+
+    return start;
+  }
+
+  /**
+   * Returns a read only view of the content at the given {@code position}, without copying it. The view never spans more than one
+   * mapped region, so it may hold fewer bytes than requested.
+   *
+   * @param position  the position in the file
+   * @param maxLength the maximum amount of bytes to return
+   * @return a {@link ByteBuffer} or {@code null} if there's no data at the given {@code position}
+   */
+  public ByteBuffer slice(long position, int maxLength) {
+    if (position >= size) {
+      return null;
+    }
+
+    final int regionOffset = (int) (position % regionSize);
+    final int length = toIntExact(min(min(maxLength, regionSize - regionOffset), size - position));
+
+    ByteBuffer view = regions.get(toIntExact(position / regionSize)).asReadOnlyBuffer();
+    view.position(regionOffset);
+    view.limit(regionOffset + length);
+    return view.slice();
+  }
+
+  /**
+   * Copies {@code dest.length} bytes starting at the given {@code position} into {@code dest}.
+   *
+   * @param position the position in the file
+   * @param dest     the array to copy into
+   * @throws IllegalArgumentException if the file doesn't hold enough data
+   */
+  public void read(long position, byte[] dest) {
+    checkArgument(position + dest.length <= size, "Not enough data in buffer file");
+
+    int offset = 0;
+    while (offset < dest.length) {
+      ByteBuffer view = slice(position + offset, dest.length - offset);
+      final int length = view.remaining();
+      view.get(dest, offset, length);
+      offset += length;
+    }
+  }
+
+  /**
+   * @return the amount of bytes written to this file
+   */
+  public long size() {
+    return size;
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  /**
+   * Releases the mapped regions and deletes the file. Mapped regions are not forcefully unmapped, since views obtained through
+   * {@link #slice(long, int)} may still be referenced. They are released once garbage collected.
+   */
+  public void close() {
+    regions.clear();
+    if (channel != null) {
+      try {
+        randomAccessFile.close();
+      } catch (IOException e) {
+        LOGGER.debug("Found exception trying to close buffer file {}", file.getAbsolutePath(), e);
+      }
+      channel = null;
+      randomAccessFile = null;
+    }
+
+    if (file != null) {
+      try {
+        deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOGGER.debug("Could not delete buffer file {}. Will try again on exit.", file.getAbsolutePath(), e);
+        file.deleteOnExit();
+      }
+      file = null;
+    }
+  }
+
+  private MappedByteBuffer region(int index) throws IOException {
+    if (index < regions.size()) {
+      return regions.get(index);
+    }
+
+    if (channel == null) {
+      file = createBufferFile(name);
+      randomAccessFile = new RandomAccessFile(file, "rw");
+      channel = randomAccessFile.getChannel();
+    }
+
+    MappedByteBuffer region = channel.map(READ_WRITE, (long) index * regionSize, regionSize);
+    regions.add(region);
+    return region;
+  }
+}
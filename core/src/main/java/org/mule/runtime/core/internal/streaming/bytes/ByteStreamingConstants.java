@@ -6,12 +6,14 @@
  */
 package org.mule.runtime.core.internal.streaming.bytes;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.Integer.getInteger;
 import static java.lang.System.getProperty;
 import static org.mule.runtime.api.util.DataUnit.KB;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_STREAMING_BUCKET_SIZE;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_STREAMING_MAX_BUFFER_POOL_SIZE;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_STREAMING_MAX_HEAP_PERCENTAGE;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
 
 /**
  * Constants around byte streaming
@@ -39,6 +41,21 @@ public final class ByteStreamingConstants {
    */
   public static final int DEFAULT_BUFFER_POOL_SIZE = getInteger(MULE_STREAMING_MAX_BUFFER_POOL_SIZE, 2048);
 
+  /**
+   * System property to make in memory repeatable streams use a {@link SegmentedInMemoryStreamBuffer} instead of an
+   * {@link InMemoryStreamBuffer}
+   *
+   * @since 4.5.0
+   */
+  public static final String MULE_STREAMING_SEGMENTED_BUFFER = SYSTEM_PROPERTY_PREFIX + "streaming.bytes.segmentedBuffer";
+
+  /**
+   * Whether in memory repeatable streams use a {@link SegmentedInMemoryStreamBuffer}. Defaults to {@code false}.
+   *
+   * @since 4.5.0
+   */
+  public static final boolean SEGMENTED_BUFFER_ENABLED = getBoolean(MULE_STREAMING_SEGMENTED_BUFFER);
+
   private static double getMaxStreamingMemoryPercentage() {
     String v = getProperty(MULE_STREAMING_MAX_HEAP_PERCENTAGE);
     return v != null ? Double.valueOf(v) : 0.7;
@@ -6,16 +6,25 @@
  */
 package org.mule.runtime.core.internal.streaming.bytes;
 
+import static org.mule.runtime.core.internal.streaming.bytes.ByteStreamingConstants.SEGMENTED_BUFFER_ENABLED;
+
 import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
 import org.mule.runtime.core.api.streaming.bytes.factory.InMemoryCursorStreamProviderFactory;
+import org.mule.runtime.core.internal.streaming.bytes.factory.FileStoreCursorStreamProviderFactory;
 import org.mule.runtime.core.internal.streaming.bytes.factory.NullCursorStreamProviderFactory;
+import org.mule.runtime.core.internal.streaming.bytes.factory.SegmentedInMemoryCursorStreamProviderFactory;
 import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.api.streaming.bytes.ByteStreamingManager;
 import org.mule.runtime.core.api.streaming.bytes.CursorStreamProviderFactory;
+import org.mule.runtime.core.api.streaming.bytes.FileStoreCursorStreamConfig;
 import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
 
 /**
  * Default implementation of {@link ByteStreamingManager}
+ * <p>
+ * In memory cursor providers use a {@link SegmentedInMemoryStreamBuffer} when the
+ * {@link ByteStreamingConstants#MULE_STREAMING_SEGMENTED_BUFFER} system property is set, or when created with
+ * {@code segmentedBuffers} set to {@code true}.
  *
  * @since 4.0
  */
@@ -23,10 +32,25 @@ public class DefaultByteStreamingManager implements ByteStreamingManager {
 
   private final ByteBufferManager bufferManager;
   protected final StreamingManager streamingManager;
+  private final boolean segmentedBuffers;
 
   public DefaultByteStreamingManager(ByteBufferManager bufferManager, StreamingManager streamingManager) {
+    this(bufferManager, streamingManager, SEGMENTED_BUFFER_ENABLED);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param bufferManager    the {@link ByteBufferManager} that will be used to allocate all buffers
+   * @param streamingManager the {@link StreamingManager}
+   * @param segmentedBuffers whether in memory cursor providers should use a {@link SegmentedInMemoryStreamBuffer}
+   * @since 4.5.0
+   */
+  public DefaultByteStreamingManager(ByteBufferManager bufferManager, StreamingManager streamingManager,
+                                     boolean segmentedBuffers) {
     this.bufferManager = bufferManager;
     this.streamingManager = streamingManager;
+    this.segmentedBuffers = segmentedBuffers;
   }
 
   /**
@@ -34,9 +58,32 @@ public class DefaultByteStreamingManager implements ByteStreamingManager {
    */
   @Override
   public CursorStreamProviderFactory getInMemoryCursorProviderFactory(InMemoryCursorStreamConfig config) {
+    if (segmentedBuffers) {
+      return getSegmentedInMemoryCursorProviderFactory(config);
+    }
     return new InMemoryCursorStreamProviderFactory(bufferManager, config, streamingManager);
   }
 
+  /**
+   * Creates a {@link CursorStreamProviderFactory} which buffers in memory using a {@link SegmentedInMemoryStreamBuffer}, so
+   * that growing the buffer never copies the already buffered data.
+   *
+   * @param config the config for the generated providers
+   * @return a new {@link SegmentedInMemoryCursorStreamProviderFactory}
+   * @since 4.5.0
+   */
+  public CursorStreamProviderFactory getSegmentedInMemoryCursorProviderFactory(InMemoryCursorStreamConfig config) {
+    return new SegmentedInMemoryCursorStreamProviderFactory(bufferManager, config, streamingManager);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CursorStreamProviderFactory getFileStoreCursorProviderFactory(FileStoreCursorStreamConfig config) {
+    return new FileStoreCursorStreamProviderFactory(bufferManager, config, streamingManager);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -50,7 +97,7 @@ public class DefaultByteStreamingManager implements ByteStreamingManager {
    */
   @Override
   public CursorStreamProviderFactory getDefaultCursorProviderFactory() {
-    return new InMemoryCursorStreamProviderFactory(bufferManager, InMemoryCursorStreamConfig.getDefault(), streamingManager);
+    return getInMemoryCursorProviderFactory(InMemoryCursorStreamConfig.getDefault());
   }
 
   protected ByteBufferManager getBufferManager() {
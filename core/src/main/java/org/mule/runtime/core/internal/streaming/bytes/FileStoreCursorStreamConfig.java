@@ -19,7 +19,9 @@ import org.mule.runtime.api.util.DataSize;
  * Configuration for a {@link InputStreamBuffer} which uses a local file for buffering
  *
  * @since 4.0
+ * @deprecated Use {@link org.mule.runtime.core.api.streaming.bytes.FileStoreCursorStreamConfig} instead.
  */
+@Deprecated
 public final class FileStoreCursorStreamConfig {
 
   private final DataSize maxInMemorySize;
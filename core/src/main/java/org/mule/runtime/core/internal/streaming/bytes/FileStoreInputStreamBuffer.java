@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.ByteBuffer.wrap;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.api.streaming.bytes.FileStoreCursorStreamConfig;
+import org.mule.runtime.core.api.streaming.bytes.ManagedByteBufferWrapper;
+import org.mule.runtime.core.internal.streaming.MappedBufferFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of {@link AbstractInputStreamBuffer} which holds the first bytes of the stream in memory and spills the rest
+ * to a {@link MappedBufferFile}.
+ * <p>
+ * The in-memory window is split in {@link FileStoreCursorStreamConfig#getBucketsCount()} chunks of
+ * {@link FileStoreCursorStreamConfig#getBucketSize()} bytes each, allocated as needed. Once those are full, data read from the
+ * stream is appended to the file, so this buffer never fails because the stream is too big.
+ * <p>
+ * Reads are served as slices of the chunk or mapped region that holds the requested position, so they may return fewer bytes than
+ * requested, as allowed by {@link InputStreamBuffer#get(long, int)}.
+ *
+ * @since 4.5.0
+ */
+public class FileStoreInputStreamBuffer extends AbstractInputStreamBuffer {
+
+  private final List<ManagedByteBufferWrapper> chunks = new ArrayList<>();
+  private final int chunkSize;
+  private final long inMemoryCapacity;
+  private final MappedBufferFile bufferFile;
+
+  private ManagedByteBufferWrapper spillBuffer;
+  private long bufferTip = 0;
+
+  /**
+   * Creates a new instance
+   *
+   * @param stream        the stream to be buffered
+   * @param config        this buffer's configuration
+   * @param bufferManager the {@link ByteBufferManager} that will be used to allocate all buffers
+   */
+  public FileStoreInputStreamBuffer(InputStream stream, FileStoreCursorStreamConfig config, ByteBufferManager bufferManager) {
+    this(stream, config, bufferManager, new MappedBufferFile("stream"));
+  }
+
+  FileStoreInputStreamBuffer(InputStream stream, FileStoreCursorStreamConfig config, ByteBufferManager bufferManager,
+                             MappedBufferFile bufferFile) {
+    super(stream, bufferManager);
+    chunkSize = config.getBucketSize();
+    inMemoryCapacity = (long) chunkSize * config.getBucketsCount();
+    this.bufferFile = bufferFile;
+  }
+
+  @Override
+  protected ByteBuffer doGet(long position, int length) {
+    return doGet(position, length, true);
+  }
+
+  private ByteBuffer doGet(long position, int length, boolean consumeStreamIfNecessary) {
+    readLock.lock();
+    try {
+      ByteBuffer presentRead = getFromCurrentData(position, length);
+      if (presentRead != null) {
+        return presentRead;
+      }
+
+      if (consumeStreamIfNecessary) {
+        readLock.unlock();
+        writeLock.lock();
+
+        try {
+          ByteBuffer refetch = getFromCurrentData(position, length);
+          if (refetch != null) {
+            return refetch;
+          }
+
+          final long requiredUpperBound = position + length;
+          while (!streamFullyConsumed && bufferTip < requiredUpperBound) {
+            final int read = consumeForwardData();
+            if (read > 0) {
+              refetch = getFromCurrentData(position, min(length, read));
+              if (refetch != null) {
+                return refetch;
+              }
+            }
+          }
+          return doGet(position, length, false);
+        } catch (IOException e) {
+          throw new MuleRuntimeException(createStaticMessage("Could not read stream"), e);
+        } finally {
+          // classic lock downgrade
+          readLock.lock();
+          writeLock.unlock();
+        }
+      } else {
+        return getFromCurrentData(position, length);
+      }
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private ByteBuffer getFromCurrentData(long position, int length) {
+    if (streamFullyConsumed && position > bufferTip) {
+      return null;
+    }
+
+    if (position < bufferTip) {
+      length = min(length, toIntExact(min(bufferTip - position, Integer.MAX_VALUE)));
+      return copy(position, length);
+    }
+
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void doClose() {
+    chunks.forEach(ManagedByteBufferWrapper::release);
+    chunks.clear();
+    if (spillBuffer != null) {
+      spillBuffer.release();
+      spillBuffer = null;
+    }
+    bufferFile.close();
+  }
+
+  /**
+   * {@inheritDoc} Data is written into the in-memory window while it has capacity, and appended to the buffer file afterwards.
+   */
+  @Override
+  public int consumeForwardData() throws IOException {
+    if (bufferTip < inMemoryCapacity) {
+      return consumeIntoMemory();
+    }
+
+    if (spillBuffer == null) {
+      spillBuffer = bufferManager.allocateManaged(chunkSize);
+    }
+
+    ByteBuffer buffer = spillBuffer.getDelegate();
+    buffer.clear();
+    final int read = consumeStream(buffer);
+    if (read > 0) {
+      buffer.flip();
+      bufferFile.append(buffer);
+      bufferTip += read;
+    }
+
+    return read;
+  }
+
+  private int consumeIntoMemory() throws IOException {
+    ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1).getDelegate();
+    if (chunk == null || !chunk.hasRemaining()) {
+      ManagedByteBufferWrapper managedChunk = bufferManager.allocateManaged(chunkSize);
+      chunk = managedChunk.getDelegate();
+      chunk.clear();
+      chunks.add(managedChunk);
+    }
+
+    final int read = consumeStream(chunk);
+    if (read > 0) {
+      bufferTip += read;
+    }
+
+    return read;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned buffer is a slice of the chunk or mapped region that holds the given {@code position}.
+   */
+  @Override
+  protected ByteBuffer copy(long position, int length) {
+    if (position >= inMemoryCapacity) {
+      return bufferFile.slice(position - inMemoryCapacity, length);
+    }
+
+    final ByteBuffer chunk = chunks.get(toIntExact(position / chunkSize)).getDelegate();
+    final int offset = (int) (position % chunkSize);
+
+    return wrap(chunk.array(), chunk.arrayOffset() + offset, min(length, chunkSize - offset)).slice();
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.ByteBuffer.wrap;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.internal.streaming.bytes.ByteStreamingConstants.DEFAULT_BUFFER_BUCKET_SIZE;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.streaming.exception.StreamingBufferSizeExceededException;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.runtime.core.api.streaming.bytes.ManagedByteBufferWrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of {@link AbstractInputStreamBuffer} which holds the buffered information in memory, split in a list of
+ * fixed-size chunks.
+ * <p>
+ * Unlike {@link InMemoryStreamBuffer}, growing this buffer never copies the data that was already buffered: a new chunk is just
+ * appended to the list. Because buffered bytes never move, reads are always served as slices of the chunk that holds the
+ * requested position, without copying them. Such slices never span more than one chunk, so a read may return fewer bytes than
+ * requested, as allowed by {@link InputStreamBuffer#get(long, int)}.
+ * <p>
+ * The same size limits as in {@link InMemoryStreamBuffer} apply: if the buffer has no size increment, it may only hold the
+ * initial buffer size. Otherwise it may grow up to the max buffer size, or indefinitely if no max is set. Once that threshold is
+ * reached, a {@link StreamingBufferSizeExceededException} will be thrown.
+ *
+ * @since 4.5.0
+ */
+public class SegmentedInMemoryStreamBuffer extends AbstractInputStreamBuffer {
+
+  private static final int STREAM_FINISHED_PROBE = 10;
+
+  private final List<ManagedByteBufferWrapper> chunks = new ArrayList<>();
+  private final int chunkSize;
+  private final long capacity;
+  private final int maxBufferSize;
+  private long bufferTip = 0;
+
+  /**
+   * Creates a new instance which uses chunks of the default bucket size
+   *
+   * @param stream        the stream to be buffered
+   * @param config        this buffer's configuration.
+   * @param bufferManager the {@link ByteBufferManager} that will be used to allocate all chunks
+   */
+  public SegmentedInMemoryStreamBuffer(InputStream stream, InMemoryCursorStreamConfig config, ByteBufferManager bufferManager) {
+    this(stream, config, bufferManager, DEFAULT_BUFFER_BUCKET_SIZE);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param stream        the stream to be buffered
+   * @param config        this buffer's configuration.
+   * @param bufferManager the {@link ByteBufferManager} that will be used to allocate all chunks
+   * @param chunkSize     the size of each chunk
+   */
+  public SegmentedInMemoryStreamBuffer(InputStream stream, InMemoryCursorStreamConfig config, ByteBufferManager bufferManager,
+                                       int chunkSize) {
+    super(stream, bufferManager);
+    checkArgument(chunkSize > 0, "chunkSize must be greater than zero");
+    this.chunkSize = chunkSize;
+
+    final int bufferSizeIncrement = config.getBufferSizeIncrement() != null
+        ? config.getBufferSizeIncrement().toBytes()
+        : 0;
+
+    this.maxBufferSize = config.getMaxBufferSize().toBytes();
+    this.capacity = bufferSizeIncrement > 0 ? maxBufferSize : config.getInitialBufferSize().toBytes();
+  }
+
+  @Override
+  protected ByteBuffer doGet(long position, int length) {
+    return doGet(position, length, true);
+  }
+
+  private ByteBuffer doGet(long position, int length, boolean consumeStreamIfNecessary) {
+    readLock.lock();
+    try {
+      ByteBuffer presentRead = getFromCurrentData(position, length);
+      if (presentRead != null) {
+        return presentRead;
+      }
+
+      if (consumeStreamIfNecessary) {
+        readLock.unlock();
+        writeLock.lock();
+
+        try {
+          ByteBuffer refetch = getFromCurrentData(position, length);
+          if (refetch != null) {
+            return refetch;
+          }
+
+          final long requiredUpperBound = position + length;
+          while (!streamFullyConsumed && bufferTip < requiredUpperBound) {
+            final int read = consumeForwardData();
+            if (read > 0) {
+              refetch = getFromCurrentData(position, min(length, read));
+              if (refetch != null) {
+                return refetch;
+              }
+            }
+          }
+          return doGet(position, length, false);
+        } catch (IOException e) {
+          throw new MuleRuntimeException(createStaticMessage("Could not read stream"), e);
+        } finally {
+          // classic lock downgrade
+          readLock.lock();
+          writeLock.unlock();
+        }
+      } else {
+        return getFromCurrentData(position, length);
+      }
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private ByteBuffer getFromCurrentData(long position, int length) {
+    if (streamFullyConsumed && position > bufferTip) {
+      return null;
+    }
+
+    if (position < bufferTip) {
+      length = min(length, toIntExact(min(bufferTip - position, Integer.MAX_VALUE)));
+      return copy(position, length);
+    }
+
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void doClose() {
+    chunks.forEach(ManagedByteBufferWrapper::release);
+    chunks.clear();
+  }
+
+  /**
+   * {@inheritDoc} If the last chunk is full, a new one is appended before attempting to consume new information.
+   *
+   * @throws StreamingBufferSizeExceededException if the buffer is full and there's still data in the stream
+   */
+  @Override
+  public int consumeForwardData() throws IOException {
+    final ByteBuffer chunk = getWritableChunk();
+    if (chunk == null) {
+      return probeStreamFinished();
+    }
+
+    final int read = consumeStream(chunk);
+    if (read > 0) {
+      bufferTip += read;
+    }
+
+    return read;
+  }
+
+  private ByteBuffer getWritableChunk() {
+    if (!chunks.isEmpty()) {
+      ByteBuffer last = chunks.get(chunks.size() - 1).getDelegate();
+      if (last.hasRemaining()) {
+        return last;
+      }
+    }
+
+    int limit = chunkSize;
+    if (capacity > 0) {
+      final long remainingCapacity = capacity - bufferTip;
+      if (remainingCapacity <= 0) {
+        return null;
+      }
+      limit = toIntExact(min(limit, remainingCapacity));
+    }
+
+    ManagedByteBufferWrapper managedChunk = bufferManager.allocateManaged(chunkSize);
+    ByteBuffer chunk = managedChunk.getDelegate();
+    chunk.clear();
+    chunk.limit(limit);
+    chunks.add(managedChunk);
+
+    return chunk;
+  }
+
+  private int probeStreamFinished() throws IOException {
+    ManagedByteBufferWrapper probe = bufferManager.allocateManaged(STREAM_FINISHED_PROBE);
+    try {
+      final int read = consumeStream(probe.getDelegate());
+      if (read > 0) {
+        throw new StreamingBufferSizeExceededException(maxBufferSize);
+      }
+      return read;
+    } finally {
+      probe.release();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned buffer is a slice of the chunk that holds the given {@code position}, so it is truncated at the end of that
+   * chunk.
+   */
+  @Override
+  protected ByteBuffer copy(long position, int length) {
+    final ByteBuffer chunk = chunks.get(toIntExact(position / chunkSize)).getDelegate();
+    final int offset = (int) (position % chunkSize);
+
+    return wrap(chunk.array(), chunk.arrayOffset() + offset, min(length, chunkSize - offset)).slice();
+  }
+
+  /**
+   * @return the amount of chunks currently allocated by this buffer
+   */
+  int getChunksCount() {
+    return chunks.size();
+  }
+}
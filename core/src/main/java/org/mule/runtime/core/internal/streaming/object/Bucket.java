@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.streaming.object;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
@@ -83,4 +84,12 @@ public class Bucket<T> implements Serializable {
 
     return false;
   }
+
+  /**
+   * @return an unmodifiable view of the items added to this bucket
+   * @since 4.5.0
+   */
+  List<T> getItems() {
+    return unmodifiableList(items);
+  }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.object;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.api.streaming.object.FileStoreCursorIteratorConfig;
+import org.mule.runtime.core.internal.streaming.MappedBufferFile;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An {@link AbstractObjectStreamBuffer} implementation which holds the first buckets in memory and spills the rest to a
+ * {@link MappedBufferFile}.
+ * <p>
+ * All buckets have the same {@link FileStoreCursorIteratorConfig#getBucketSize() size}. The first
+ * {@link FileStoreCursorIteratorConfig#getBucketsCount()} buckets are kept in memory. Each bucket after those is serialized to
+ * the file once it's full, so besides the in-memory window only the bucket being filled is held in memory. Spilled buckets are
+ * deserialized again when a cursor reads them.
+ * <p>
+ * Items are serialized using the given {@link SerializationProtocol}, so they need to be supported by it.
+ *
+ * @param <T> The generic type of the items in the stream
+ * @since 4.5.0
+ */
+public class FileStoreObjectStreamBuffer<T> extends AbstractObjectStreamBuffer<T> {
+
+  private final FileStoreCursorIteratorConfig config;
+  private final SerializationProtocol serializationProtocol;
+  private final MappedBufferFile bufferFile;
+  private List<Bucket<T>> buckets;
+
+  public FileStoreObjectStreamBuffer(Iterator<T> stream, FileStoreCursorIteratorConfig config,
+                                     SerializationProtocol serializationProtocol) {
+    this(stream, config, serializationProtocol, new MappedBufferFile("objects"));
+  }
+
+  FileStoreObjectStreamBuffer(Iterator<T> stream, FileStoreCursorIteratorConfig config,
+                              SerializationProtocol serializationProtocol, MappedBufferFile bufferFile) {
+    super(stream);
+    this.config = config;
+    this.serializationProtocol = serializationProtocol;
+    this.bufferFile = bufferFile;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void doClose() {
+    buckets.clear();
+    bufferFile.close();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Position toPosition(long position) {
+    final int bucketSize = config.getBucketSize();
+    return new Position((int) (position / bucketSize), (int) (position % bucketSize));
+  }
+
+  @Override
+  protected void initialize(Optional<Position> maxPosition, Bucket<T> initialBucket) {
+    buckets = maxPosition.map(p -> new ArrayList<Bucket<T>>(p.getBucketIndex() + 1)).orElseGet(ArrayList::new);
+    initialBucket = new Bucket<>(0, config.getBucketSize());
+    buckets.add(initialBucket);
+    setCurrentBucket(initialBucket);
+  }
+
+  @Override
+  protected Bucket<T> getPresentBucket(Position position) {
+    if (position.getBucketIndex() < buckets.size()) {
+      return buckets.get(position.getBucketIndex());
+    }
+
+    return null;
+  }
+
+  @Override
+  protected Bucket<T> onBucketOverflow(Bucket<T> overflownBucket) {
+    if (overflownBucket.getIndex() >= config.getBucketsCount()) {
+      buckets.set(overflownBucket.getIndex(), spill(overflownBucket));
+    }
+
+    Bucket<T> newBucket = new Bucket<>(overflownBucket.getIndex() + 1, config.getBucketSize());
+    buckets.add(newBucket);
+
+    return newBucket;
+  }
+
+  /**
+   * Does nothing, since overflowing items are written to disk
+   */
+  @Override
+  protected void validateMaxBufferSizeNotExceeded(int instancesCount) {}
+
+  private Bucket<T> spill(Bucket<T> bucket) {
+    final List<T> items = bucket.getItems();
+    final byte[] bytes = serializationProtocol.serialize(new ArrayList<>(items));
+    try {
+      return new FileBucket(bucket.getIndex(), bufferFile.append(wrap(bytes)), bytes.length, items.size());
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not write objects to buffer file"), e);
+    }
+  }
+
+  /**
+   * A {@link Bucket} which items were spilled to the buffer file. Items are deserialized on first access and softly referenced
+   * afterwards, so that they can be reclaimed on memory pressure.
+   */
+  private class FileBucket extends Bucket<T> {
+
+    private final long offset;
+    private final int length;
+    private final int size;
+    private volatile SoftReference<List<T>> items = new SoftReference<>(null);
+
+    private FileBucket(int index, long offset, int length, int size) {
+      super(index, 0);
+      this.offset = offset;
+      this.length = length;
+      this.size = size;
+    }
+
+    @Override
+    public Optional<T> get(int index) {
+      if (index < size) {
+        return ofNullable(getItems().get(index));
+      }
+      return empty();
+    }
+
+    @Override
+    public boolean contains(Position position) {
+      return getIndex() == position.getBucketIndex() && position.getItemIndex() < size;
+    }
+
+    @Override
+    List<T> getItems() {
+      List<T> value = items.get();
+      if (value == null) {
+        byte[] bytes = new byte[length];
+        bufferFile.read(offset, bytes);
+        value = serializationProtocol.deserialize(bytes);
+        items = new SoftReference<>(value);
+      }
+
+      return value;
+    }
+  }
+}
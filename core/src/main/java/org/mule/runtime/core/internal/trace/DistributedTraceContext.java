@@ -59,6 +59,10 @@ public interface DistributedTraceContext extends CurrentSpanAware {
    */
   DistributedTraceContext copy();
 
+  /**
+   * Ends the current span and sets its parent as the current one. If the context was not sampled, its current span is kept, so
+   * that the decision holds for the rest of the processing.
+   */
   void endCurrentContextSpan();
 
   /**
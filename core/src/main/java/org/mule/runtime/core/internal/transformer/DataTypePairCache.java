@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer;
+
+import static java.lang.Integer.getInteger;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.api.metadata.DataType;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Bounded cache for values resolved from a source and a result {@link DataType}, such as transformers.
+ * <p>
+ * Values are kept in two levels: the first one keyed by the source {@link DataType} and the second one by the result
+ * {@link DataType}. This way no key has to be built for each lookup. The number of source types is bounded with an LRU-like
+ * eviction policy, and the number of result types for each source is bounded by evicting an arbitrary entry when full.
+ *
+ * @param <V> the type of the cached values
+ * @since 4.5.0
+ */
+public final class DataTypePairCache<V> {
+
+  public static final String MAX_SOURCES_PROPERTY = "mule.transformer.cache.maxSourceTypes";
+  public static final String MAX_RESULTS_PER_SOURCE_PROPERTY = "mule.transformer.cache.maxResultTypes";
+
+  private static final int DEFAULT_MAX_SOURCES = getInteger(MAX_SOURCES_PROPERTY, 256);
+  private static final int DEFAULT_MAX_RESULTS_PER_SOURCE = getInteger(MAX_RESULTS_PER_SOURCE_PROPERTY, 64);
+
+  private final Cache<DataType, Map<DataType, V>> cache;
+  private final int maxResultsPerSource;
+
+  /**
+   * Creates a cache with the sizes set through the {@link #MAX_SOURCES_PROPERTY} and {@link #MAX_RESULTS_PER_SOURCE_PROPERTY}
+   * system properties, or their defaults.
+   */
+  public DataTypePairCache() {
+    this(DEFAULT_MAX_SOURCES, DEFAULT_MAX_RESULTS_PER_SOURCE);
+  }
+
+  /**
+   * @param maxSources          the maximum number of source {@link DataType}s to keep values for
+   * @param maxResultsPerSource the maximum number of result {@link DataType}s to keep values for, for each source
+   */
+  public DataTypePairCache(int maxSources, int maxResultsPerSource) {
+    this.cache = newBuilder().maximumSize(maxSources).build();
+    this.maxResultsPerSource = maxResultsPerSource;
+  }
+
+  /**
+   * @param source the source {@link DataType}
+   * @param result the result {@link DataType}
+   * @return the value cached for the given pair, or {@code null} if there is none
+   */
+  public V get(DataType source, DataType result) {
+    Map<DataType, V> results = cache.getIfPresent(source);
+    return results == null ? null : results.get(result);
+  }
+
+  /**
+   * Caches a value for a pair of {@link DataType}s, unless there is already one.
+   *
+   * @param source the source {@link DataType}
+   * @param result the result {@link DataType}
+   * @param value  the value to cache
+   * @return the value that was already cached for the given pair, or {@code null} if there was none
+   */
+  public V putIfAbsent(DataType source, DataType result, V value) {
+    Map<DataType, V> results = cache.get(source, k -> new ConcurrentHashMap<>(4));
+    if (results.size() >= maxResultsPerSource && !results.containsKey(result)) {
+      Iterator<DataType> iterator = results.keySet().iterator();
+      if (iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
+    }
+    return results.putIfAbsent(result, value);
+  }
+
+  /**
+   * Removes all the cached values.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+}
@@ -33,8 +33,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 
@@ -51,8 +49,8 @@ public class DefaultTransformersRegistry implements TransformersRegistry, Initia
   /**
    * We cache transformer searches so that we only search once
    */
-  private final Map<String, Transformer> exactTransformerCache = new ConcurrentHashMap<>(8);
-  private final Map<String, List<Transformer>> transformerListCache = new ConcurrentHashMap<>(8);
+  private final DataTypePairCache<Transformer> exactTransformerCache = new DataTypePairCache<>();
+  private final DataTypePairCache<List<Transformer>> transformerListCache = new DataTypePairCache<>();
 
   /**
    * Transformer transformerResolvers are registered on context start, then they are not unregistered.
@@ -84,8 +82,7 @@ public class DefaultTransformersRegistry implements TransformersRegistry, Initia
     // the provided, it will be found.
     result = builder(result).mediaType(ANY).charset((Charset) null).build();
 
-    final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
-    Transformer cachedTransformer = exactTransformerCache.get(dataTypePairHash);
+    Transformer cachedTransformer = exactTransformerCache.get(source, result);
     if (cachedTransformer != null) {
       return cachedTransformer;
     }
@@ -93,7 +90,7 @@ public class DefaultTransformersRegistry implements TransformersRegistry, Initia
     Transformer trans = resolveTransformer(source, result);
 
     if (trans != null) {
-      Transformer concurrentlyAddedTransformer = exactTransformerCache.putIfAbsent(dataTypePairHash, trans);
+      Transformer concurrentlyAddedTransformer = exactTransformerCache.putIfAbsent(source, result, trans);
       if (concurrentlyAddedTransformer != null) {
         return concurrentlyAddedTransformer;
       } else {
@@ -127,9 +124,7 @@ public class DefaultTransformersRegistry implements TransformersRegistry, Initia
     // the provided, it will be found.
     result = builder(result).mediaType(ANY).charset((Charset) null).build();
 
-    final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
-
-    List<Transformer> results = transformerListCache.get(dataTypePairHash);
+    List<Transformer> results = transformerListCache.get(source, result);
     if (results != null) {
       return results;
     }
@@ -147,7 +142,7 @@ public class DefaultTransformersRegistry implements TransformersRegistry, Initia
       }
     }
 
-    List<Transformer> concurrentlyAddedTransformers = transformerListCache.putIfAbsent(dataTypePairHash, results);
+    List<Transformer> concurrentlyAddedTransformers = transformerListCache.putIfAbsent(source, result, results);
     if (concurrentlyAddedTransformers != null) {
       return concurrentlyAddedTransformers;
     }
@@ -178,10 +173,6 @@ public class DefaultTransformersRegistry implements TransformersRegistry, Initia
     }
   }
 
-  private String getDataTypeSourceResultPairHash(DataType source, DataType result) {
-    return source.getClass().getName() + source.hashCode() + ":" + result.getClass().getName() + result.hashCode();
-  }
-
   private class TransformerResolverComparator implements Comparator<TransformerResolver> {
 
     @Override
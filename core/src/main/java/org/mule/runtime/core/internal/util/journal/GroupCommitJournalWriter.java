@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.journal;
+
+import static java.lang.System.nanoTime;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+
+/**
+ * Appends serialized journal entries to a file, batching the writes of concurrent callers.
+ * <p>
+ * Callers enqueue their entries and a single writer thread takes them in batches of up to {@code maxBatchSize} entries, waiting at
+ * most {@code maxLingerMicros} for a batch to fill up. Each batch is written with a single gathering write followed by a single
+ * force, after which all of its callers are released.
+ *
+ * @since 4.5.0
+ */
+class GroupCommitJournalWriter {
+
+  private static final Logger LOGGER = getLogger(GroupCommitJournalWriter.class);
+
+  private static final PendingWrite SHUTDOWN = new PendingWrite(new byte[0]);
+
+  private final File journalFile;
+  private final int maxBatchSize;
+  private final long maxLingerNanos;
+  private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+  private final Thread writerThread;
+
+  private FileChannel channel;
+  private volatile boolean closed = false;
+
+  /**
+   * @param journalFile     file to append the entries to. Will be created if it doesn't exist.
+   * @param maxBatchSize    maximum number of entries to write with a single force
+   * @param maxLingerMicros maximum time to wait for more entries once the first one of a batch is available
+   */
+  GroupCommitJournalWriter(File journalFile, int maxBatchSize, long maxLingerMicros) {
+    this.journalFile = journalFile;
+    this.maxBatchSize = maxBatchSize;
+    this.maxLingerNanos = MICROSECONDS.toNanos(maxLingerMicros);
+    openChannel();
+
+    writerThread = new NamedThreadFactory("journal-writer-" + journalFile.getName()).newThread(this::writeLoop);
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  /**
+   * Enqueues an entry to be written.
+   *
+   * @param serializedEntry the bytes of the entry
+   * @return the pending write, which callers must {@link PendingWrite#await() await} for the entry to be durable.
+   */
+  PendingWrite append(byte[] serializedEntry) {
+    if (closed) {
+      throw new IllegalStateException("Journal writer for " + journalFile.getAbsolutePath() + " is already closed");
+    }
+    PendingWrite write = new PendingWrite(serializedEntry);
+    pendingWrites.add(write);
+    return write;
+  }
+
+  /**
+   * Blocks until all the entries enqueued so far are durable.
+   */
+  void flush() {
+    if (!closed) {
+      append(new byte[0]).await();
+    }
+  }
+
+  /**
+   * Truncates the journal file. Entries enqueued before this call are flushed first.
+   */
+  void truncate() {
+    flush();
+    synchronized (this) {
+      try {
+        channel.truncate(0);
+        channel.force(true);
+      } catch (IOException e) {
+        throw new MuleRuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * Flushes the pending entries and releases the file.
+   */
+  void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    pendingWrites.add(SHUTDOWN);
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    synchronized (this) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        LOGGER.warn("Error closing transaction journal file " + journalFile.getAbsolutePath(), e);
+      }
+    }
+  }
+
+  private void openChannel() {
+    try {
+      channel = FileChannel.open(journalFile.toPath(), CREATE, WRITE, APPEND);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
+  private void writeLoop() {
+    List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+    boolean running = true;
+    while (running) {
+      batch.clear();
+      try {
+        running = collectBatch(batch);
+      } catch (InterruptedException e) {
+        running = false;
+      }
+      if (!batch.isEmpty()) {
+        writeBatch(batch);
+      }
+    }
+
+    // Release anyone that enqueued after the shutdown
+    batch.clear();
+    pendingWrites.drainTo(batch);
+    batch.remove(SHUTDOWN);
+    if (!batch.isEmpty()) {
+      writeBatch(batch);
+    }
+  }
+
+  /**
+   * @return {@code false} if the writer has to stop after writing the collected batch.
+   */
+  private boolean collectBatch(List<PendingWrite> batch) throws InterruptedException {
+    PendingWrite first = pendingWrites.take();
+    if (first == SHUTDOWN) {
+      return false;
+    }
+    batch.add(first);
+
+    long deadline = nanoTime() + maxLingerNanos;
+    while (batch.size() < maxBatchSize) {
+      PendingWrite next = pendingWrites.poll();
+      if (next == null) {
+        long remaining = deadline - nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        next = pendingWrites.poll(remaining, NANOSECONDS);
+        if (next == null) {
+          break;
+        }
+      }
+      if (next == SHUTDOWN) {
+        return false;
+      }
+      batch.add(next);
+    }
+    return true;
+  }
+
+  private void writeBatch(List<PendingWrite> batch) {
+    ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+    long total = 0;
+    for (int i = 0; i < buffers.length; ++i) {
+      buffers[i] = ByteBuffer.wrap(batch.get(i).bytes);
+      total += buffers[i].remaining();
+    }
+
+    Throwable failure = null;
+    synchronized (this) {
+      try {
+        long written = 0;
+        while (written < total) {
+          written += channel.write(buffers);
+        }
+        channel.force(false);
+      } catch (IOException | RuntimeException e) {
+        failure = e;
+      }
+    }
+
+    for (PendingWrite write : batch) {
+      write.complete(failure);
+    }
+  }
+
+  /**
+   * An entry waiting to be written by the writer thread.
+   */
+  static final class PendingWrite {
+
+    /**
+     * A write that is already complete, for entries written directly by the logging thread.
+     */
+    static final PendingWrite COMPLETED = new PendingWrite(new byte[0]);
+
+    static {
+      COMPLETED.complete(null);
+    }
+
+    private final byte[] bytes;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile Throwable failure;
+
+    private PendingWrite(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    private void complete(Throwable failure) {
+      this.failure = failure;
+      done.countDown();
+    }
+
+    /**
+     * Blocks until the entry is durable.
+     *
+     * @throws MuleRuntimeException if the entry could not be written.
+     */
+    void await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          done.await();
+          break;
+        } catch (InterruptedException e) {
+          // The entry is already enqueued, so the caller has to wait for the outcome regardless
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      if (failure != null) {
+        throw new MuleRuntimeException(failure);
+      }
+    }
+  }
+}
@@ -6,7 +6,11 @@
  */
 package org.mule.runtime.core.internal.util.journal;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+
 import org.mule.runtime.api.util.Preconditions;
+import org.mule.runtime.core.internal.util.journal.GroupCommitJournalWriter.PendingWrite;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
@@ -25,12 +29,27 @@ import org.slf4j.LoggerFactory;
  *
  * Keeps a memory cache of the log entries for performance reasons. Once a transaction finishes the client of this class must
  * manually remove the entries related to such transaction to clear the cache.
+ *
+ * When group commit is enabled, entries logged concurrently are written and forced to the storage device together by a single
+ * writer per file, and logging an operation returns once its entry is durable.
  */
 public class TransactionJournal<T, K extends JournalEntry<T>> {
 
   public static final String TX1_LOG_FILE_NAME = "tx1.log";
   public static final String TX2_LOG_FILE_NAME = "tx2.log";
 
+  /**
+   * Maximum number of entries to make durable with a single force. Group commit is disabled when not set or lower than
+   * {@code 1}.
+   */
+  public static final String GROUP_COMMIT_MAX_BATCH_SIZE_PROPERTY = "mule.transaction.journal.groupCommit.maxBatchSize";
+  /**
+   * Maximum time, in microseconds, that a group commit waits for more entries once it has the first one.
+   */
+  public static final String GROUP_COMMIT_MAX_LINGER_PROPERTY = "mule.transaction.journal.groupCommit.maxLingerMicros";
+
+  private static final long DEFAULT_GROUP_COMMIT_MAX_LINGER_MICROS = 200;
+
   private static final int MAXIMUM_LOG_FILE_ENTRIES = 50000;
   private static final int ONE_MEGABYTE_IN_BYTES = 1024 * 1024;
 
@@ -62,6 +81,22 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
    */
   public TransactionJournal(String logFilesDirectory, TransactionCompletePredicate transactionCompletePredicate,
                             JournalEntrySerializer journalEntrySerializer, Integer maximumFileSizeInMegabytes) {
+    this(logFilesDirectory, transactionCompletePredicate, journalEntrySerializer, maximumFileSizeInMegabytes,
+         getInteger(GROUP_COMMIT_MAX_BATCH_SIZE_PROPERTY, 0),
+         getLong(GROUP_COMMIT_MAX_LINGER_PROPERTY, DEFAULT_GROUP_COMMIT_MAX_LINGER_MICROS));
+  }
+
+  /**
+   * @param logFilesDirectory          directory used to store the journal files.
+   * @param groupCommitMaxBatchSize    maximum number of entries to make durable with a single force. Group commit is disabled if
+   *                                   lower than {@code 1}.
+   * @param groupCommitMaxLingerMicros maximum time that a group commit waits for more entries once it has the first one.
+   *
+   * @since 4.5.0
+   */
+  public TransactionJournal(String logFilesDirectory, TransactionCompletePredicate transactionCompletePredicate,
+                            JournalEntrySerializer journalEntrySerializer, Integer maximumFileSizeInMegabytes,
+                            int groupCommitMaxBatchSize, long groupCommitMaxLingerMicros) {
     File logFileDirectory = new File(logFilesDirectory);
     if (!logFileDirectory.exists()) {
       Preconditions.checkState(logFileDirectory.mkdirs(),
@@ -73,9 +108,11 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
     logger.info(String.format("Using files for tx logs %s and %s", logFile1.getAbsolutePath(), logFile2.getAbsolutePath()));
 
     this.currentLogFile =
-        new TransactionJournalFile(logFile1, journalEntrySerializer, transactionCompletePredicate, clearFileMinimumSizeInBytes);
+        new TransactionJournalFile(logFile1, journalEntrySerializer, transactionCompletePredicate, clearFileMinimumSizeInBytes,
+                                   groupCommitMaxBatchSize, groupCommitMaxLingerMicros);
     this.notCurrentLogFile =
-        new TransactionJournalFile(logFile2, journalEntrySerializer, transactionCompletePredicate, clearFileMinimumSizeInBytes);
+        new TransactionJournalFile(logFile2, journalEntrySerializer, transactionCompletePredicate, clearFileMinimumSizeInBytes,
+                                   groupCommitMaxBatchSize, groupCommitMaxLingerMicros);
     this.transactionCompletePredicate = transactionCompletePredicate;
 
   }
@@ -92,9 +129,14 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
    *
    * @param journalEntry journal entry with the update operation details
    */
-  public synchronized void logUpdateOperation(JournalEntry<T> journalEntry) {
-    TransactionJournalFile logFile = determineLogFile(journalEntry.getTxId());
-    logFile.logOperation(journalEntry);
+  public void logUpdateOperation(JournalEntry<T> journalEntry) {
+    PendingWrite write;
+    synchronized (this) {
+      TransactionJournalFile logFile = determineLogFile(journalEntry.getTxId());
+      write = logFile.logOperationAsync(journalEntry);
+    }
+    // Wait outside the lock so concurrent operations get to be made durable together
+    write.await();
   }
 
   /**
@@ -104,12 +146,16 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
    *
    * @param journalEntry journal entry with the checkpoint operation details
    */
-  public synchronized void logCheckpointOperation(JournalEntry<T> journalEntry) {
-    TransactionJournalFile logFile = determineLogFile(journalEntry.getTxId());
-    logFile.logOperation(journalEntry);
-    if (transactionCompletePredicate.isTransactionComplete(journalEntry)) {
-      logFile.clearEntriesForTransaction(journalEntry.getTxId());
+  public void logCheckpointOperation(JournalEntry<T> journalEntry) {
+    PendingWrite write;
+    synchronized (this) {
+      TransactionJournalFile logFile = determineLogFile(journalEntry.getTxId());
+      write = logFile.logOperationAsync(journalEntry);
+      if (transactionCompletePredicate.isTransactionComplete(journalEntry)) {
+        logFile.clearEntriesForTransaction(journalEntry.getTxId());
+      }
     }
+    write.await();
   }
 
   /**
@@ -8,11 +8,13 @@ package org.mule.runtime.core.internal.util.journal;
 
 import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.internal.util.journal.GroupCommitJournalWriter.PendingWrite;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
@@ -51,6 +53,7 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
   private Multimap<T, K> entries = LinkedHashMultimap.create();
 
   private DataOutputStream logFileOutputStream;
+  private GroupCommitJournalWriter groupCommitWriter;
   private int journalOperations = 0;
 
   /**
@@ -61,13 +64,32 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
    */
   public TransactionJournalFile(File journalFile, JournalEntrySerializer journalEntrySerializer,
                                 TransactionCompletePredicate transactionCompletePredicate, Long clearFileMinimumSizeInBytes) {
+    this(journalFile, journalEntrySerializer, transactionCompletePredicate, clearFileMinimumSizeInBytes, 0, 0);
+  }
+
+  /**
+   * @param journalFile                  journal file to use. Will be created if it doesn't exists. If exists then transaction
+   *                                     entries will get loaded from it.
+   * @param journalEntrySerializer       serializer for {@link JournalEntry}
+   * @param transactionCompletePredicate a callback to determine if a transaction is complete.
+   * @param groupCommitMaxBatchSize      maximum number of entries to make durable together. If lower than {@code 1}, entries
+   *                                     are written directly by the logging thread, without forcing them to the storage device.
+   * @param groupCommitMaxLingerMicros   maximum time to wait for more entries to join a group commit.
+   */
+  public TransactionJournalFile(File journalFile, JournalEntrySerializer journalEntrySerializer,
+                                TransactionCompletePredicate transactionCompletePredicate, Long clearFileMinimumSizeInBytes,
+                                int groupCommitMaxBatchSize, long groupCommitMaxLingerMicros) {
     this.journalFile = journalFile;
     this.journalEntrySerializer = journalEntrySerializer;
     this.clearFileMinimumSizeInBytes = clearFileMinimumSizeInBytes;
     if (journalFile.exists()) {
       loadAllEntries(transactionCompletePredicate);
     }
-    createLogOutputStream();
+    if (groupCommitMaxBatchSize > 0) {
+      groupCommitWriter = new GroupCommitJournalWriter(journalFile, groupCommitMaxBatchSize, groupCommitMaxLingerMicros);
+    } else {
+      createLogOutputStream();
+    }
   }
 
   /**
@@ -75,10 +97,31 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
    * 
    * @param journalEntry operation details
    */
-  public synchronized void logOperation(K journalEntry) {
+  public void logOperation(K journalEntry) {
+    logOperationAsync(journalEntry).await();
+  }
+
+  /**
+   * Adds a journal entry for an operation done over a transactional resource, without waiting for it to be written.
+   * <p>
+   * The entry is visible in memory as soon as this method returns. Callers must {@link PendingWrite#await() await} the returned
+   * write before considering the operation durable, preferably without holding any lock so other entries can join the same
+   * group commit.
+   *
+   * @param journalEntry operation details
+   * @return the write of the entry to the journal file.
+   */
+  public synchronized PendingWrite logOperationAsync(K journalEntry) {
     entries.put(journalEntry.getTxId(), journalEntry);
-    journalEntrySerializer.serialize(journalEntry, logFileOutputStream);
     journalOperations++;
+    if (groupCommitWriter == null) {
+      journalEntrySerializer.serialize(journalEntry, logFileOutputStream);
+      return PendingWrite.COMPLETED;
+    }
+
+    ByteArrayOutputStream serializedEntry = new ByteArrayOutputStream();
+    journalEntrySerializer.serialize(journalEntry, new DataOutputStream(serializedEntry));
+    return groupCommitWriter.append(serializedEntry.toByteArray());
   }
 
   /**
@@ -120,6 +163,10 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
    * Will not remove the transaction context.
    */
   public synchronized void close() {
+    if (groupCommitWriter != null) {
+      groupCommitWriter.close();
+      return;
+    }
     try {
       logFileOutputStream.close();
     } catch (IOException e) {
@@ -156,6 +203,11 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
    * Remove all the entries from the transaction journal and cleans the transaction journal fle.
    */
   public synchronized void clear() {
+    if (groupCommitWriter != null) {
+      entries.clear();
+      groupCommitWriter.truncate();
+      return;
+    }
     close();
     entries.clear();
     FileUtils.deleteQuietly(journalFile);
@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * Wrapper for QueueStore so the cache in {@link AbstractQueueManager} gets cleaned up when a queue is not longer used.
@@ -46,6 +47,11 @@ public class CacheAwareQueueStore implements QueueStore {
     return queueStore.peek();
   }
 
+  @Override
+  public int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException {
+    return queueStore.drainTo(target, maxElements);
+  }
+
   @Override
   public void untake(Serializable item) throws InterruptedException {
     queueStore.untake(item);
@@ -11,6 +11,7 @@ import org.mule.runtime.core.api.util.queue.DefaultQueueConfiguration;
 import org.mule.runtime.core.api.util.queue.QueueConfiguration;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 import org.apache.commons.lang3.NotImplementedException;
 
@@ -42,7 +43,10 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     if (this.config == null) {
       this.config = new DefaultQueueConfiguration();
     }
-    if (this.config.isPersistent()) {
+    if (this.config.isPersistent() && MappedSegmentQueueStoreDelegate.isEnabled()) {
+      delegate = new MappedSegmentQueueStoreDelegate(this.name, muleContext.getConfiguration().getWorkingDirectory(),
+                                                     muleContext, this.config.getCapacity());
+    } else if (this.config.isPersistent()) {
       delegate = new DualRandomAccessFileQueueStoreDelegate(this.name, muleContext.getConfiguration().getWorkingDirectory(),
                                                             muleContext, this.config.getCapacity());
     } else {
@@ -80,6 +84,11 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     return delegate.peek();
   }
 
+  @Override
+  public int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException {
+    return delegate.drainTo(target, maxElements);
+  }
+
   public void untake(Serializable item) throws InterruptedException {
     delegate.untake(item);
   }
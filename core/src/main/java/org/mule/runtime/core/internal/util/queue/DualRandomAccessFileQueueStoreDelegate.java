@@ -90,6 +90,21 @@ public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDe
 
 
   public static File getFirstQueueFileForTesting(String queueName, String workingDirectory) {
+    return getFirstQueueFile(queueName, workingDirectory);
+  }
+
+  /**
+   * @param queueName        the name of the queue
+   * @param workingDirectory the working directory of the application
+   * @return whether there are queue files persisted by this implementation for the given queue.
+   * @since 4.5.0
+   */
+  public static boolean hasQueueFiles(String queueName, String workingDirectory) {
+    return getFirstQueueFile(queueName, workingDirectory).exists()
+        || new File(getQueuesDirectory(workingDirectory), queueName + QUEUE_STORE_2_SUFFIX).exists();
+  }
+
+  private static File getFirstQueueFile(String queueName, String workingDirectory) {
     return new File(getQueuesDirectory(workingDirectory), queueName + QUEUE_STORE_1_SUFFIX);
   }
 
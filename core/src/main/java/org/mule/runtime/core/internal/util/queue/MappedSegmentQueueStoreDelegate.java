@@ -0,0 +1,789 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.lang.System.getProperty;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.serialization.ObjectSerializer;
+import org.mule.runtime.api.util.Preconditions;
+import org.mule.runtime.core.api.MuleContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link TransactionalQueueStoreDelegate} that stores the queue elements in a chain of memory-mapped segment files.
+ * <p>
+ * Producers append at the tail segment and consumers read from the head segment, each side holding its own lock, so a producer
+ * and a consumer never wait on each other. Fully consumed segments are deleted as the head moves past them. Elements restored to
+ * the front of the queue through {@link #untake(Serializable)} are kept in a separate {@link RandomAccessFileQueueStore} which is
+ * drained before the segments.
+ * <p>
+ * Each record is laid out as a state byte followed by the length, a CRC32 of the serialized element and the serialized element.
+ * The state is written last, and the checksum is verified when the queue is restored, so a record interrupted by a crash is
+ * discarded even if the pages of the segment were written back out of order.
+ *
+ * @since 4.5.0
+ */
+public class MappedSegmentQueueStoreDelegate implements TransactionalQueueStoreDelegate {
+
+  /**
+   * When {@code true}, persistent queues are backed by this implementation instead of
+   * {@link DualRandomAccessFileQueueStoreDelegate}.
+   */
+  public static final String MAPPED_QUEUE_STORE_PROPERTY_KEY = "mule.queue.mapped";
+  public static final String SEGMENT_SIZE_PROPERTY_KEY = "mule.queue.mapped.segmentSize";
+  /**
+   * When {@code true} (the default), every write is forced to the storage device before returning.
+   */
+  public static final String SYNC_WRITES_PROPERTY_KEY = "mule.queue.mapped.syncWrites";
+
+  private static final Logger LOGGER = getLogger(MappedSegmentQueueStoreDelegate.class);
+
+  private static final int DEFAULT_SEGMENT_SIZE = getInteger(SEGMENT_SIZE_PROPERTY_KEY, 1024 * 1024);
+  private static final String QUEUE_STORE_DIRECTORY = "queuestore";
+  private static final String SEGMENTS_DIRECTORY_SUFFIX = "-mapped";
+  private static final String SEGMENT_FILE_PREFIX = "segment-";
+  private static final String FRONT_FILE_NAME = "front";
+  private static final String MIGRATION_FILE_NAME = "migration";
+  private static final String MIGRATED_FILE_NAME = "migrated";
+
+  private static final byte EMPTY = 0;
+  private static final byte LIVE = 1;
+  private static final byte REMOVED = 2;
+  private static final byte END_OF_SEGMENT = 3;
+  // state + length + crc32 of the element
+  private static final int RECORD_HEADER_SIZE = 9;
+
+  private final ObjectSerializer serializer;
+  private final int capacity;
+  private final int segmentSize;
+  private final boolean syncWrites;
+  private final File segmentsDirectory;
+  private final RandomAccessFileQueueStore front;
+
+  private final AtomicInteger count = new AtomicInteger();
+  private final ReentrantLock putLock = new ReentrantLock();
+  private final Condition notFull = putLock.newCondition();
+  private final ReentrantLock takeLock = new ReentrantLock();
+  private final Condition notEmpty = takeLock.newCondition();
+
+  // guarded by takeLock
+  private Segment head;
+  private int headPosition;
+  // guarded by putLock
+  private Segment tail;
+  private int tailPosition;
+  private long nextSegmentId;
+
+  /**
+   * @return whether persistent queues have to use this implementation, according to {@link #MAPPED_QUEUE_STORE_PROPERTY_KEY}.
+   */
+  public static boolean isEnabled() {
+    return parseBoolean(getProperty(MAPPED_QUEUE_STORE_PROPERTY_KEY));
+  }
+
+  public MappedSegmentQueueStoreDelegate(String queueName, String workingDirectory, MuleContext muleContext, int capacity) {
+    this(queueName, workingDirectory, muleContext, capacity, DEFAULT_SEGMENT_SIZE,
+         parseBoolean(getProperty(SYNC_WRITES_PROPERTY_KEY, "true")));
+  }
+
+  MappedSegmentQueueStoreDelegate(String queueName, String workingDirectory, MuleContext muleContext, int capacity,
+                                  int segmentSize, boolean syncWrites) {
+    this.serializer = muleContext.getObjectSerializer();
+    this.capacity = capacity;
+    this.segmentSize = segmentSize;
+    this.syncWrites = syncWrites;
+
+    File queuesDirectory = new File(workingDirectory, QUEUE_STORE_DIRECTORY);
+    this.segmentsDirectory = createSegmentsDirectory(queuesDirectory, queueName);
+    this.front = new RandomAccessFileQueueStore(new QueueFileProvider(segmentsDirectory, FRONT_FILE_NAME));
+
+    rollBackIncompleteMigration();
+    restore();
+    migrateDualFileQueue(queueName, workingDirectory, muleContext);
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(format("Queue %s has %s messages", queueName, getSize()));
+    }
+  }
+
+  private static File createSegmentsDirectory(File queuesDirectory, String queueName) {
+    File directory = new File(queuesDirectory, queueName + SEGMENTS_DIRECTORY_SUFFIX);
+    if (!directory.exists() && !directory.mkdirs()) {
+      // if file system does not support the name provided then use a hex representation of the name.
+      directory = new File(queuesDirectory, new BigInteger(queueName.getBytes(UTF_8)).toString(16) + SEGMENTS_DIRECTORY_SUFFIX);
+      Preconditions.checkState(directory.exists() || directory.mkdirs(),
+                               "Could not create queue store directory " + directory.getAbsolutePath());
+    }
+    return directory;
+  }
+
+  /**
+   * Moves the elements of a queue previously persisted by {@link DualRandomAccessFileQueueStoreDelegate} into this one.
+   * <p>
+   * The position of the tail before the migration is kept in a marker file, which is atomically renamed once all the elements are
+   * on disk. If the migration is interrupted by a crash, the elements written so far are discarded and it starts over, and if
+   * the legacy files weren't deleted after it finished, they are deleted without migrating them again.
+   */
+  private void migrateDualFileQueue(String queueName, String workingDirectory, MuleContext muleContext) {
+    File migrated = new File(segmentsDirectory, MIGRATED_FILE_NAME);
+    boolean hasLegacyFiles = DualRandomAccessFileQueueStoreDelegate.hasQueueFiles(queueName, workingDirectory);
+    if (!hasLegacyFiles) {
+      deleteQuietly(migrated);
+      return;
+    }
+
+    DualRandomAccessFileQueueStoreDelegate legacy =
+        new DualRandomAccessFileQueueStoreDelegate(queueName, workingDirectory, muleContext, 0);
+    if (!migrated.exists()) {
+      try {
+        Collection<Serializable> elements = legacy.allElements();
+        if (!elements.isEmpty()) {
+          LOGGER.info("Migrating {} elements of queue '{}' to memory mapped segments", elements.size(), queueName);
+          File migration = new File(segmentsDirectory, MIGRATION_FILE_NAME);
+          writeMarker(migration, tail.id + " " + tailPosition);
+          addAll(elements);
+          for (Segment segment = head; segment != null; segment = segment.next) {
+            segment.buffer.force();
+          }
+          Files.move(migration.toPath(), migrated.toPath(), ATOMIC_MOVE);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        legacy.close();
+        return;
+      } catch (IOException e) {
+        legacy.close();
+        throw new MuleRuntimeException(e);
+      }
+    }
+    legacy.dispose();
+    deleteQuietly(migrated);
+  }
+
+  /**
+   * Discards the elements written by a migration that didn't finish, so that it can start over.
+   */
+  private void rollBackIncompleteMigration() {
+    File migration = new File(segmentsDirectory, MIGRATION_FILE_NAME);
+    if (!migration.exists()) {
+      return;
+    }
+
+    try {
+      String[] tailBeforeMigration = new String(Files.readAllBytes(migration.toPath()), UTF_8).trim().split(" ");
+      long segmentId = Long.parseLong(tailBeforeMigration[0]);
+      int position = Integer.parseInt(tailBeforeMigration[1]);
+      for (File file : listSegmentFiles()) {
+        if (segmentId(file) > segmentId) {
+          deleteQuietly(file);
+        } else if (segmentId(file) == segmentId) {
+          Segment segment = openSegment(segmentId, (int) file.length());
+          discardFrom(segment, position);
+          segment.close();
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not roll back the migration of queue store "
+          + segmentsDirectory.getAbsolutePath()), e);
+    }
+    deleteQuietly(migration);
+  }
+
+  private static void writeMarker(File file, String content) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), CREATE, WRITE)) {
+      channel.truncate(0);
+      channel.write(ByteBuffer.wrap(content.getBytes(UTF_8)));
+      channel.force(true);
+    }
+  }
+
+  @Override
+  public void putNow(Serializable o) {
+    byte[] bytes = serializer.getInternalProtocol().serialize(o);
+    putLock.lock();
+    try {
+      append(bytes);
+      sync(tail);
+      count.incrementAndGet();
+    } finally {
+      putLock.unlock();
+    }
+    signalNotEmpty();
+  }
+
+  @Override
+  public boolean offer(Serializable o, int room, long timeout) throws InterruptedException {
+    checkInterrupted();
+    if (capacity > 0 && capacity <= room) {
+      throw new IllegalStateException("Can not add more objects than the capacity in one time");
+    }
+
+    byte[] bytes = o != null ? serializer.getInternalProtocol().serialize(o) : null;
+    putLock.lockInterruptibly();
+    try {
+      if (capacity > 0) {
+        long nanos = MILLISECONDS.toNanos(timeout);
+        while (count.get() >= capacity - room) {
+          if (timeout < 0) {
+            notFull.await();
+          } else {
+            if (nanos <= 0L) {
+              LOGGER.warn(format("Timeout of %d milliseconds reached, object could not be queued. Queue capacity of %d full.",
+                                 timeout, capacity));
+              return false;
+            }
+            nanos = notFull.awaitNanos(nanos);
+          }
+        }
+      }
+      if (bytes == null) {
+        return true;
+      }
+      append(bytes);
+      sync(tail);
+      if (count.incrementAndGet() < capacity) {
+        notFull.signal();
+      }
+    } finally {
+      putLock.unlock();
+    }
+    signalNotEmpty();
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Serializable> items) {
+    List<byte[]> serialized = new ArrayList<>(items.size());
+    for (Serializable item : items) {
+      serialized.add(serializer.getInternalProtocol().serialize(item));
+    }
+
+    putLock.lock();
+    try {
+      Segment first = tail;
+      for (byte[] bytes : serialized) {
+        append(bytes);
+      }
+      // A single sync for the whole batch, on every segment it was written to
+      for (Segment segment = first; segment != null; segment = segment.next) {
+        sync(segment);
+      }
+      count.addAndGet(serialized.size());
+    } finally {
+      putLock.unlock();
+    }
+    signalNotEmpty();
+    return true;
+  }
+
+  @Override
+  public Serializable poll(long timeout) throws InterruptedException {
+    checkInterrupted();
+    byte[] bytes;
+    int remaining;
+    takeLock.lockInterruptibly();
+    try {
+      long nanos = MILLISECONDS.toNanos(timeout);
+      while (count.get() == 0) {
+        if (nanos <= 0L) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      bytes = takeFirst();
+      remaining = count.decrementAndGet();
+      if (remaining > 0) {
+        notEmpty.signal();
+      }
+    } finally {
+      takeLock.unlock();
+    }
+    signalNotFull();
+    return deserialize(bytes);
+  }
+
+  @Override
+  public int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException {
+    checkInterrupted();
+    List<byte[]> drained;
+    takeLock.lockInterruptibly();
+    try {
+      int toDrain = min(maxElements, count.get());
+      drained = new ArrayList<>(toDrain);
+      for (int i = 0; i < toDrain; ++i) {
+        drained.add(takeFirst(false));
+      }
+      // Segments the head moved past are already deleted, only the current one needs to be synced
+      sync(head);
+      if (count.addAndGet(-toDrain) > 0) {
+        notEmpty.signal();
+      }
+    } finally {
+      takeLock.unlock();
+    }
+
+    if (!drained.isEmpty()) {
+      signalNotFull();
+    }
+    for (byte[] bytes : drained) {
+      target.add(deserialize(bytes));
+    }
+    return drained.size();
+  }
+
+  @Override
+  public Serializable peek() throws InterruptedException {
+    checkInterrupted();
+    byte[] bytes;
+    takeLock.lockInterruptibly();
+    try {
+      if (count.get() == 0) {
+        return null;
+      }
+      bytes = readFirst();
+    } finally {
+      takeLock.unlock();
+    }
+    return deserialize(bytes);
+  }
+
+  @Override
+  public void untake(Serializable item) throws InterruptedException {
+    checkInterrupted();
+    byte[] bytes = serializer.getInternalProtocol().serialize(item);
+    takeLock.lockInterruptibly();
+    try {
+      front.addFirst(bytes);
+      count.incrementAndGet();
+      notEmpty.signal();
+    } finally {
+      takeLock.unlock();
+    }
+  }
+
+  @Override
+  public int getSize() {
+    return count.get();
+  }
+
+  @Override
+  public void clear() throws InterruptedException {
+    checkInterrupted();
+    fullyLock();
+    try {
+      closeSegments();
+      for (File file : listSegmentFiles()) {
+        deleteQuietly(file);
+      }
+      front.clear();
+      nextSegmentId = 0;
+      head = tail = newSegment(segmentSize);
+      headPosition = tailPosition = 0;
+      count.set(0);
+      notFull.signalAll();
+    } finally {
+      fullyUnlock();
+    }
+  }
+
+  @Override
+  public void remove(Serializable value) {
+    fullyLock();
+    try {
+      if (front.remove(data -> deserialize(data).equals(value))) {
+        count.decrementAndGet();
+        return;
+      }
+
+      for (Segment segment = head; segment != null; segment = segment.next) {
+        int position = segment == head ? headPosition : 0;
+        int limit = segment == tail ? tailPosition : segment.capacity;
+        while (position + RECORD_HEADER_SIZE <= limit) {
+          byte state = segment.buffer.get(position);
+          if (state != LIVE && state != REMOVED) {
+            break;
+          }
+          int length = segment.buffer.getInt(position + 1);
+          if (state == LIVE && deserialize(read(segment, position + RECORD_HEADER_SIZE, length)).equals(value)) {
+            segment.buffer.put(position, REMOVED);
+            sync(segment);
+            count.decrementAndGet();
+            return;
+          }
+          position += RECORD_HEADER_SIZE + length;
+        }
+      }
+    } finally {
+      fullyUnlock();
+    }
+  }
+
+  @Override
+  public boolean contains(Serializable value) {
+    fullyLock();
+    try {
+      if (front.contains(data -> deserialize(data).equals(value))) {
+        return true;
+      }
+
+      for (Segment segment = head; segment != null; segment = segment.next) {
+        int position = segment == head ? headPosition : 0;
+        int limit = segment == tail ? tailPosition : segment.capacity;
+        while (position + RECORD_HEADER_SIZE <= limit) {
+          byte state = segment.buffer.get(position);
+          if (state != LIVE && state != REMOVED) {
+            break;
+          }
+          int length = segment.buffer.getInt(position + 1);
+          if (state == LIVE && deserialize(read(segment, position + RECORD_HEADER_SIZE, length)).equals(value)) {
+            return true;
+          }
+          position += RECORD_HEADER_SIZE + length;
+        }
+      }
+      return false;
+    } finally {
+      fullyUnlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    fullyLock();
+    try {
+      closeSegments();
+      front.close();
+    } finally {
+      fullyUnlock();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    fullyLock();
+    try {
+      closeSegments();
+      front.close();
+      deleteQuietly(segmentsDirectory);
+    } finally {
+      fullyUnlock();
+    }
+  }
+
+  /**
+   * Appends a record at the tail, moving to a new segment if it doesn't fit in the current one. Must be called holding
+   * {@link #putLock}.
+   */
+  private void append(byte[] bytes) {
+    int recordSize = RECORD_HEADER_SIZE + bytes.length;
+    if (tailPosition + recordSize > tail.capacity) {
+      if (tailPosition < tail.capacity) {
+        tail.buffer.put(tailPosition, END_OF_SEGMENT);
+      }
+      sync(tail);
+      Segment next = newSegment(max(segmentSize, recordSize));
+      // Published before the element is counted, so the consumer always finds it
+      tail.next = next;
+      tail = next;
+      tailPosition = 0;
+    }
+
+    MappedByteBuffer buffer = tail.buffer;
+    buffer.putInt(tailPosition + 1, bytes.length);
+    buffer.putInt(tailPosition + 5, checksum(bytes));
+    for (int i = 0; i < bytes.length; ++i) {
+      buffer.put(tailPosition + RECORD_HEADER_SIZE + i, bytes[i]);
+    }
+    // The state goes last, so that an incomplete record is never seen as live
+    buffer.put(tailPosition, LIVE);
+    tailPosition += recordSize;
+  }
+
+  /**
+   * Must be called holding {@link #takeLock}, with at least one element in the queue.
+   */
+  private byte[] takeFirst() {
+    return takeFirst(true);
+  }
+
+  private byte[] takeFirst(boolean sync) {
+    if (!front.isEmpty()) {
+      try {
+        return front.removeFirst();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new MuleRuntimeException(e);
+      }
+    }
+
+    moveHeadToNextLiveRecord();
+    int length = head.buffer.getInt(headPosition + 1);
+    byte[] bytes = read(head, headPosition + RECORD_HEADER_SIZE, length);
+    head.buffer.put(headPosition, REMOVED);
+    if (sync) {
+      sync(head);
+    }
+    headPosition += RECORD_HEADER_SIZE + length;
+    return bytes;
+  }
+
+  /**
+   * Must be called holding {@link #takeLock}, with at least one element in the queue.
+   */
+  private byte[] readFirst() throws InterruptedException {
+    if (!front.isEmpty()) {
+      return front.getFirst();
+    }
+
+    moveHeadToNextLiveRecord();
+    return read(head, headPosition + RECORD_HEADER_SIZE, head.buffer.getInt(headPosition + 1));
+  }
+
+  private void moveHeadToNextLiveRecord() {
+    while (true) {
+      if (headPosition + RECORD_HEADER_SIZE > head.capacity) {
+        releaseHead();
+        continue;
+      }
+
+      byte state = head.buffer.get(headPosition);
+      if (state == LIVE) {
+        return;
+      } else if (state == REMOVED) {
+        headPosition += RECORD_HEADER_SIZE + head.buffer.getInt(headPosition + 1);
+      } else {
+        releaseHead();
+      }
+    }
+  }
+
+  private void releaseHead() {
+    Segment consumed = head;
+    head = consumed.next;
+    headPosition = 0;
+    if (head == null) {
+      throw new IllegalStateException("Queue segment " + consumed.file.getName() + " is exhausted but there is no next segment");
+    }
+    consumed.close();
+    deleteQuietly(consumed.file);
+  }
+
+  private void restore() {
+    File[] files = listSegmentFiles();
+    Segment previous = null;
+    int restored = 0;
+
+    for (File file : files) {
+      Segment segment = openSegment(segmentId(file), (int) file.length());
+      int position = 0;
+      int firstLive = -1;
+      while (position + RECORD_HEADER_SIZE <= segment.capacity) {
+        byte state = segment.buffer.get(position);
+        if (state != LIVE && state != REMOVED) {
+          break;
+        }
+        int length = segment.buffer.getInt(position + 1);
+        if (length < 0 || position + RECORD_HEADER_SIZE + length > segment.capacity
+            || checksum(read(segment, position + RECORD_HEADER_SIZE, length)) != segment.buffer.getInt(position + 5)) {
+          LOGGER.warn("Discarding incomplete record at position {} of queue segment {}", position, file.getAbsolutePath());
+          discardFrom(segment, position);
+          break;
+        }
+        if (state == LIVE) {
+          restored++;
+          if (firstLive < 0) {
+            firstLive = position;
+          }
+        }
+        position += RECORD_HEADER_SIZE + length;
+      }
+
+      nextSegmentId = segment.id + 1;
+      if (firstLive < 0 && file != files[files.length - 1]) {
+        // Nothing left to consume in this one
+        segment.close();
+        deleteQuietly(file);
+        continue;
+      }
+
+      if (previous == null) {
+        head = segment;
+        headPosition = firstLive < 0 ? position : firstLive;
+      } else {
+        previous.next = segment;
+      }
+      previous = segment;
+      tail = segment;
+      tailPosition = position;
+    }
+
+    if (tail == null) {
+      head = tail = newSegment(segmentSize);
+      headPosition = tailPosition = 0;
+    }
+    count.set(restored + front.getSize());
+  }
+
+  /**
+   * Clears the segment from the given position on, so that neither the consumers nor a later restore read past it.
+   */
+  private static void discardFrom(Segment segment, int position) {
+    for (int i = position; i < segment.capacity; ++i) {
+      segment.buffer.put(i, EMPTY);
+    }
+    segment.buffer.force();
+  }
+
+  private static int checksum(byte[] bytes) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    return (int) crc.getValue();
+  }
+
+  private File[] listSegmentFiles() {
+    File[] files = segmentsDirectory.listFiles(file -> file.isFile() && file.getName().startsWith(SEGMENT_FILE_PREFIX));
+    if (files == null) {
+      return new File[0];
+    }
+    Arrays.sort(files, comparingLong(MappedSegmentQueueStoreDelegate::segmentId));
+    return files;
+  }
+
+  private static long segmentId(File file) {
+    return Long.parseLong(file.getName().substring(SEGMENT_FILE_PREFIX.length()));
+  }
+
+  private Segment newSegment(int size) {
+    return openSegment(nextSegmentId++, size);
+  }
+
+  private Segment openSegment(long id, int size) {
+    File file = new File(segmentsDirectory, format("%s%016d", SEGMENT_FILE_PREFIX, id));
+    try (FileChannel channel = FileChannel.open(file.toPath(), CREATE, READ, WRITE)) {
+      // The mapping stays valid after the channel is closed
+      return new Segment(id, file, channel.map(READ_WRITE, 0, size), size);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
+  private void closeSegments() {
+    for (Segment segment = head; segment != null; segment = segment.next) {
+      segment.close();
+    }
+    head = tail = null;
+  }
+
+  private void sync(Segment segment) {
+    if (syncWrites) {
+      segment.buffer.force();
+    }
+  }
+
+  private static byte[] read(Segment segment, int position, int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      bytes[i] = segment.buffer.get(position + i);
+    }
+    return bytes;
+  }
+
+  private Serializable deserialize(byte[] bytes) {
+    return serializer.getInternalProtocol().deserialize(bytes);
+  }
+
+  private void signalNotEmpty() {
+    takeLock.lock();
+    try {
+      notEmpty.signal();
+    } finally {
+      takeLock.unlock();
+    }
+  }
+
+  private void signalNotFull() {
+    putLock.lock();
+    try {
+      notFull.signal();
+    } finally {
+      putLock.unlock();
+    }
+  }
+
+  private void fullyLock() {
+    putLock.lock();
+    takeLock.lock();
+  }
+
+  private void fullyUnlock() {
+    takeLock.unlock();
+    putLock.unlock();
+  }
+
+  private static void checkInterrupted() throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+
+  private static final class Segment {
+
+    private final long id;
+    private final File file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private volatile Segment next;
+
+    private Segment(long id, File file, MappedByteBuffer buffer, int capacity) {
+      this.id = id;
+      this.file = file;
+      this.buffer = buffer;
+      this.capacity = capacity;
+    }
+
+    private void close() {
+      // There's no way to unmap the buffer other than letting it be collected, just make sure it's on disk
+      buffer.force();
+    }
+  }
+}
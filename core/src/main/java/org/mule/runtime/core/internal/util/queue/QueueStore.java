@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * Internal queue interface that hold queue configuration that will execute operations directly to the queue storage. Stores
@@ -24,6 +25,15 @@ public interface QueueStore {
 
   Serializable peek() throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxElements} elements from the front of the queue without waiting, and adds them to the given
+   * collection.
+   *
+   * @return the number of elements transferred
+   * @since 4.5.0
+   */
+  int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException;
+
   void untake(Serializable item) throws InterruptedException;
 
   int getSize();
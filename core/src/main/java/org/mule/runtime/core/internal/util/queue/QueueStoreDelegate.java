@@ -58,6 +58,24 @@ public interface QueueStoreDelegate {
    */
   boolean addAll(Collection<? extends Serializable> items);
 
+  /**
+   * Removes up to {@code maxElements} members from the front of the queue without waiting, and adds them to the given collection.
+   *
+   * @param target      the collection to transfer the members to
+   * @param maxElements the maximum number of members to transfer
+   * @return the number of members transferred
+   * @throws InterruptedException if the current thread was interrupted
+   */
+  default int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException {
+    int drained = 0;
+    Serializable item;
+    while (drained < maxElements && (item = poll(0)) != null) {
+      target.add(item);
+      drained++;
+    }
+    return drained;
+  }
+
   /**
    * Deletes the queue and it's content.
    */
@@ -14,6 +14,9 @@ import org.mule.runtime.core.api.util.queue.Queue;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 
@@ -92,6 +95,36 @@ public class TransactionAwareQueueStore implements Queue {
     }
   }
 
+  @Override
+  public int drainTo(Collection<Serializable> target, int maxElements) throws InterruptedException {
+    int drained = 0;
+    if (transactionContextProvider.isTransactional()) {
+      // Each element has to be registered in the transaction
+      QueueTransactionContext transactionalContext = transactionContextProvider.getTransactionalContext();
+      Serializable item;
+      while (drained < maxElements && (item = transactionalContext.poll(queue, 0)) != null) {
+        drained += addIfPostProcessed(target, item);
+      }
+      return drained;
+    }
+
+    List<Serializable> items = new ArrayList<>();
+    queue.drainTo(items, maxElements);
+    for (Serializable item : items) {
+      drained += addIfPostProcessed(target, item);
+    }
+    return drained;
+  }
+
+  private int addIfPostProcessed(Collection<Serializable> target, Serializable item) {
+    Serializable processed = postProcessIfNeeded(item);
+    if (processed == null) {
+      return 0;
+    }
+    target.add(processed);
+    return 1;
+  }
+
   @Override
   public Serializable peek() throws InterruptedException {
     if (transactionContextProvider.isTransactional()) {
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.rx;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link Scheduler} that runs each task on a new virtual thread.
+ * <p>
+ * Virtual threads are only available from Java 21, so they are created through reflection. Use {@link #isSupported()} to check
+ * if the running JVM supports them before creating an instance.
+ * <p>
+ * The number of tasks running at the same time may be limited, in which case tasks submitted over that limit are rejected with a
+ * {@link RejectedExecutionException}, the same as a busy {@link Scheduler} with a bounded pool. Delayed and periodic tasks are
+ * triggered by the given {@code timer} and then run on a virtual thread, so the timer thread is never held by the task itself.
+ *
+ * @since 4.5.0
+ */
+public class VirtualThreadScheduler extends AbstractExecutorService implements Scheduler {
+
+  private static final Logger LOGGER = getLogger(VirtualThreadScheduler.class);
+
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method builderName = null;
+    Method builderFactory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      builderName = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // Fails in JVMs where virtual threads are a preview feature that is not enabled
+      ofVirtual.invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.debug("Virtual threads not supported by the running JVM");
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_FACTORY = builderFactory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  /**
+   * @return whether the running JVM supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  private final String name;
+  private final Scheduler timer;
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+  private final long shutdownTimeoutMillis;
+
+  /**
+   * @param name                  the name of this scheduler, used as prefix for the names of its threads.
+   * @param timer                 scheduler used to trigger delayed and periodic tasks. Stopped along with this scheduler.
+   * @param maxConcurrent         maximum number of tasks to run at the same time, or {@link Integer#MAX_VALUE} for no limit.
+   * @param shutdownTimeoutMillis time to wait on {@link #stop()} for running tasks to finish before interrupting them.
+   * @throws UnsupportedOperationException if the running JVM does not support virtual threads.
+   */
+  public VirtualThreadScheduler(String name, Scheduler timer, int maxConcurrent, long shutdownTimeoutMillis) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by the running JVM");
+    }
+    this.name = name;
+    this.timer = timer;
+    this.delegate = createExecutor(name);
+    this.permits = maxConcurrent == MAX_VALUE ? null : new Semaphore(maxConcurrent);
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  private static ExecutorService createExecutor(String name) {
+    try {
+      Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name + ".", 1L);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, BUILDER_FACTORY.invoke(builder));
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Unable to create virtual threads executor", e);
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (permits == null) {
+      delegate.execute(command);
+      return;
+    }
+
+    if (!permits.tryAcquire()) {
+      throw new RejectedExecutionException("All the threads of '" + name + "' are busy");
+    }
+    try {
+      delegate.execute(() -> {
+        try {
+          command.run();
+        } finally {
+          permits.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return timer.schedule(() -> execute(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    TimerTriggeredFuture<V> future = new TimerTriggeredFuture<>();
+    future.trigger = timer.schedule(() -> {
+      if (future.isDone()) {
+        return;
+      }
+      try {
+        execute(() -> {
+          try {
+            future.complete(callable.call());
+          } catch (Throwable t) {
+            future.completeExceptionally(t);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        future.completeExceptionally(e);
+      }
+    }, delay, unit);
+    return future;
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return timer.scheduleAtFixedRate(() -> execute(command), initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return timer.scheduleWithFixedDelay(() -> execute(command), initialDelay, delay, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithCronExpression(Runnable command, String cronExpression) {
+    return timer.scheduleWithCronExpression(() -> execute(command), cronExpression);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithCronExpression(Runnable command, String cronExpression, TimeZone timeZone) {
+    return timer.scheduleWithCronExpression(() -> execute(command), cronExpression, timeZone);
+  }
+
+  @Override
+  public void stop() {
+    try {
+      // Stop triggering delayed tasks first, so nothing new is submitted while the running ones finish
+      timer.stop();
+    } finally {
+      delegate.shutdown();
+      try {
+        if (!delegate.awaitTermination(shutdownTimeoutMillis, MILLISECONDS)) {
+          List<Runnable> cancelled = delegate.shutdownNow();
+          LOGGER.warn("Scheduler '{}' did not shutdown gracefully in {} ms. {} pending tasks were cancelled.", name,
+                      shutdownTimeoutMillis, cancelled.size());
+        }
+      } catch (InterruptedException e) {
+        delegate.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualThreadScheduler{" + name + "}";
+  }
+
+  /**
+   * Result of a delayed {@link Callable}. Completed from the virtual thread that runs it, while the delay is the one of the
+   * {@code timer} task that triggers it.
+   */
+  private static final class TimerTriggeredFuture<V> extends CompletableFuture<V> implements ScheduledFuture<V> {
+
+    private volatile ScheduledFuture<?> trigger;
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return trigger.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return trigger.compareTo(o);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled && trigger != null) {
+        trigger.cancel(false);
+      }
+      return cancelled;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.store;
+
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory index of the keys of an expirable object store, ordered by the timestamp of their entries.
+ * <p>
+ * Allows finding the keys to expire, either because of their age or because the store has too many entries, without reading the
+ * entries from the store. Only the keys and their timestamps are held, never the stored values.
+ *
+ * @since 4.5.0
+ */
+final class ExpiryIndex {
+
+  private final Map<String, Long> timestamps = new HashMap<>();
+  private final NavigableMap<Long, Set<String>> keysByTimestamp = new TreeMap<>();
+
+  /**
+   * Indexes the {@code key} with the given {@code timestamp}, replacing its previous timestamp if it was already indexed.
+   */
+  synchronized void put(String key, long timestamp) {
+    final Long previous = timestamps.put(key, timestamp);
+    if (previous != null) {
+      if (previous == timestamp) {
+        return;
+      }
+      unindex(key, previous);
+    }
+    keysByTimestamp.computeIfAbsent(timestamp, t -> new LinkedHashSet<>()).add(key);
+  }
+
+  /**
+   * Indexes the {@code key} with the given {@code timestamp} only if it is not indexed already.
+   */
+  synchronized void putIfAbsent(String key, long timestamp) {
+    if (!timestamps.containsKey(key)) {
+      put(key, timestamp);
+    }
+  }
+
+  synchronized void remove(String key) {
+    final Long timestamp = timestamps.remove(key);
+    if (timestamp != null) {
+      unindex(key, timestamp);
+    }
+  }
+
+  synchronized void clear() {
+    timestamps.clear();
+    keysByTimestamp.clear();
+  }
+
+  synchronized int size() {
+    return timestamps.size();
+  }
+
+  /**
+   * @param timestamp the newest timestamp to include.
+   * @return the keys whose timestamp is not after {@code timestamp}, oldest first.
+   */
+  synchronized List<String> keysUpTo(long timestamp) {
+    final List<String> keys = new ArrayList<>();
+    for (Set<String> bucket : keysByTimestamp.headMap(timestamp, true).values()) {
+      keys.addAll(bucket);
+    }
+    return keys;
+  }
+
+  /**
+   * @param count the maximum amount of keys to return.
+   * @return the {@code count} keys with the oldest timestamps, oldest first.
+   */
+  synchronized List<String> oldestKeys(int count) {
+    final List<String> keys = new ArrayList<>(min(count, timestamps.size()));
+    final Iterator<Set<String>> buckets = keysByTimestamp.values().iterator();
+    while (keys.size() < count && buckets.hasNext()) {
+      for (String key : buckets.next()) {
+        if (keys.size() == count) {
+          break;
+        }
+        keys.add(key);
+      }
+    }
+    return keys;
+  }
+
+  private void unindex(String key, long timestamp) {
+    final Set<String> bucket = keysByTimestamp.get(timestamp);
+    if (bucket != null && bucket.remove(key) && bucket.isEmpty()) {
+      keysByTimestamp.remove(timestamp);
+    }
+  }
+}
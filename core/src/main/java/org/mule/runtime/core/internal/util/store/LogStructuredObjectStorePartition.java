@@ -0,0 +1,1031 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.core.internal.util.store;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.getProperty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparingLong;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.FileUtils.cleanDirectory;
+import static org.mule.runtime.core.internal.util.store.MuleObjectStoreManager.UNBOUNDED;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.serialization.ObjectSerializer;
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+
+/**
+ * A {@link PersistentObjectStorePartition} that keeps its entries in a set of append-only segment files instead of using one file
+ * per entry.
+ * <p>
+ * Every {@code store} and {@code remove} appends a record to the active segment, and an in-memory index keeps track of where the
+ * live value of each key is. Once the active segment reaches its configured size a new one is started. Sealed segments are
+ * merged in the background into a single <i>base</i> segment holding only live entries, which replaces all the segments it was
+ * built from. Writes are forced to disk in batches, either every {@link #SYNC_BATCH_SIZE_PROPERTY} records or after
+ * {@link #SYNC_INTERVAL_PROPERTY} milliseconds.
+ * <p>
+ * When opened over a directory written by {@link PersistentObjectStorePartition}, the existing entries are migrated into the log
+ * and their files are removed.
+ *
+ * @param <T> the serializable entity to be persisted by OS
+ *
+ * @since 4.5.0
+ */
+public class LogStructuredObjectStorePartition<T extends Serializable> extends PersistentObjectStorePartition<T>
+    implements Disposable {
+
+  /**
+   * Comma separated list of the names of the partitions that will use this implementation, or {@code *} for all of them.
+   */
+  public static final String LOG_STRUCTURED_PARTITIONS_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "objectstore.persistent.logStructured.partitions";
+  public static final String SEGMENT_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "objectstore.persistent.logStructured.segmentSize";
+  public static final String SYNC_BATCH_SIZE_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "objectstore.persistent.logStructured.syncBatchSize";
+  public static final String SYNC_INTERVAL_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "objectstore.persistent.logStructured.syncIntervalMillis";
+
+  private static final Logger LOGGER = getLogger(LogStructuredObjectStorePartition.class);
+
+  private static final long DEFAULT_SEGMENT_SIZE = getLong(SEGMENT_SIZE_PROPERTY, 64 * 1024 * 1024);
+  private static final int DEFAULT_SYNC_BATCH_SIZE = getInteger(SYNC_BATCH_SIZE_PROPERTY, 64);
+  private static final long DEFAULT_SYNC_INTERVAL = getLong(SYNC_INTERVAL_PROPERTY, 100);
+
+  static final String SEGMENT_FILE_PREFIX = "segment-";
+  static final String SEGMENT_FILE_EXTENSION = ".log";
+  private static final String COMPACTING_FILE_EXTENSION = ".compacting";
+  private static final String LEGACY_FILE_EXTENSION = ".obj";
+
+  private static final int SEGMENT_MAGIC = 0x4D4C4F47;
+  private static final int SEGMENT_FLAG_BASE = 1;
+  private static final int SEGMENT_HEADER_SIZE = 8;
+
+  // body length + crc32 of the body
+  private static final int RECORD_HEADER_SIZE = 8;
+  // op + timestamp + key length
+  private static final int RECORD_BODY_FIXED_SIZE = 13;
+  private static final byte OP_PUT = 1;
+  private static final byte OP_DELETE = 2;
+
+  private static final double COMPACTION_DEAD_RATIO = 0.5;
+  private static final int MAX_SEALED_SEGMENTS = 8;
+
+  private final MuleContext muleContext;
+  private final ObjectSerializer serializer;
+  private final long segmentSize;
+  private final int syncBatchSize;
+  private final long syncInterval;
+
+  private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+  private final Lock rLock = rwLock.readLock();
+  private final Lock wLock = rwLock.writeLock();
+  private final AtomicBoolean compacting = new AtomicBoolean(false);
+
+  // Iteration order of the index is the order in which the entries were stored, which is what expiration relies on.
+  private final LinkedHashMap<String, IndexEntry> index = new LinkedHashMap<>();
+  private final List<Segment> segments = new ArrayList<>();
+  private Segment active;
+  private long nextSegmentId;
+  private int unsyncedRecords;
+  private long lastSync;
+  // Incremented each time the segments are discarded so a concurrent compaction doesn't resurrect them.
+  private long generation;
+
+  private volatile boolean loaded = false;
+  private Scheduler compactionScheduler;
+
+  public LogStructuredObjectStorePartition(MuleContext muleContext, String partitionName, File partitionDirectory) {
+    this(muleContext, partitionName, partitionDirectory, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_SYNC_INTERVAL);
+  }
+
+  LogStructuredObjectStorePartition(MuleContext muleContext, String partitionName, File partitionDirectory, long segmentSize,
+                                    int syncBatchSize, long syncInterval) {
+    super(muleContext, partitionName, partitionDirectory);
+    this.muleContext = muleContext;
+    this.serializer = muleContext.getObjectSerializer();
+    this.segmentSize = segmentSize;
+    this.syncBatchSize = syncBatchSize;
+    this.syncInterval = syncInterval;
+  }
+
+  /**
+   * @param partitionName the name of a partition
+   * @return whether the partition with the given name has to use this implementation, according to
+   *         {@link #LOG_STRUCTURED_PARTITIONS_PROPERTY}.
+   */
+  public static boolean isLogStructuredPartition(String partitionName) {
+    String partitions = getProperty(LOG_STRUCTURED_PARTITIONS_PROPERTY);
+    if (partitions == null) {
+      return false;
+    }
+
+    for (String partition : partitions.split(",")) {
+      String trimmed = partition.trim();
+      if ("*".equals(trimmed) || trimmed.equals(partitionName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param partitionDirectory the directory of a partition
+   * @return whether the given directory already contains segments written by this implementation.
+   */
+  public static boolean containsSegments(File partitionDirectory) {
+    File[] files = partitionDirectory.listFiles(file -> file.isFile() && isSegmentFile(file.getName()));
+    return files != null && files.length > 0;
+  }
+
+  @Override
+  public void close() throws ObjectStoreException {
+    stopCompactionScheduler();
+    wLock.lock();
+    try {
+      closeSegments();
+      try {
+        cleanDirectory(getPartitionDirectory());
+        getPartitionDirectory().delete();
+      } catch (IOException e) {
+        throw new ObjectStoreException(createStaticMessage("Could not close object store partition"), e);
+      }
+      index.clear();
+      loaded = false;
+    } finally {
+      wLock.unlock();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    stopCompactionScheduler();
+    wLock.lock();
+    try {
+      if (active != null) {
+        try {
+          active.channel.force(false);
+        } catch (IOException e) {
+          LOGGER.warn(format("Could not sync object store partition '%s'", getPartitionName()), e);
+        }
+      }
+      closeSegments();
+      index.clear();
+      loaded = false;
+    } finally {
+      wLock.unlock();
+    }
+  }
+
+  @Override
+  public List<String> allKeys() throws ObjectStoreException {
+    assureLoaded();
+
+    rLock.lock();
+    try {
+      return unmodifiableList(new ArrayList<>(index.keySet()));
+    } finally {
+      rLock.unlock();
+    }
+  }
+
+  @Override
+  protected boolean doContains(String key) throws ObjectStoreException {
+    assureLoaded();
+
+    rLock.lock();
+    try {
+      return index.containsKey(key);
+    } finally {
+      rLock.unlock();
+    }
+  }
+
+  @Override
+  protected void doStore(String key, T value) throws ObjectStoreException {
+    assureLoaded();
+
+    byte[] bytes = serializer.getInternalProtocol().serialize(value);
+    boolean compact;
+
+    wLock.lock();
+    try {
+      if (index.containsKey(key)) {
+        throw new ObjectAlreadyExistsException();
+      }
+      index.put(key, append(OP_PUT, key, bytes, currentTimeMillis()));
+      compact = afterWrite();
+    } catch (IOException e) {
+      throw new ObjectStoreException(createStaticMessage("Could not store key " + key), e);
+    } finally {
+      wLock.unlock();
+    }
+
+    if (compact) {
+      scheduleCompaction();
+    }
+  }
+
+  @Override
+  protected T doRetrieve(String key) throws ObjectStoreException {
+    assureLoaded();
+
+    byte[] bytes;
+    rLock.lock();
+    try {
+      IndexEntry entry = index.get(key);
+      if (entry == null) {
+        throw new ObjectDoesNotExistException(createStaticMessage("Key does not exist: " + key));
+      }
+      bytes = read(entry);
+    } finally {
+      rLock.unlock();
+    }
+
+    return deserialize(bytes);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll() throws ObjectStoreException {
+    assureLoaded();
+
+    Map<String, byte[]> values;
+    rLock.lock();
+    try {
+      values = new LinkedHashMap<>(index.size());
+      for (Entry<String, IndexEntry> entry : index.entrySet()) {
+        values.put(entry.getKey(), read(entry.getValue()));
+      }
+    } finally {
+      rLock.unlock();
+    }
+
+    Map<String, T> result = new LinkedHashMap<>(values.size());
+    for (Entry<String, byte[]> entry : values.entrySet()) {
+      result.put(entry.getKey(), deserialize(entry.getValue()));
+    }
+    return result;
+  }
+
+  @Override
+  protected T doRemove(String key) throws ObjectStoreException {
+    assureLoaded();
+
+    byte[] bytes;
+    boolean compact;
+
+    wLock.lock();
+    try {
+      IndexEntry entry = index.get(key);
+      if (entry == null) {
+        throw new ObjectDoesNotExistException(createStaticMessage("Key does not exist: " + key));
+      }
+      bytes = read(entry);
+      delete(key);
+      compact = afterWrite();
+    } catch (IOException e) {
+      throw new ObjectStoreException(createStaticMessage("Could not remove key " + key), e);
+    } finally {
+      wLock.unlock();
+    }
+
+    if (compact) {
+      scheduleCompaction();
+    }
+    return deserialize(bytes);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * All the records of the batch are appended while holding the lock once, and forced to disk once after the last one.
+   */
+  @Override
+  public void storeAll(Map<String, ? extends T> entries) throws ObjectStoreException {
+    if (entries.isEmpty()) {
+      return;
+    }
+    assureLoaded();
+
+    Map<String, byte[]> values = new LinkedHashMap<>(entries.size());
+    for (Entry<String, ? extends T> entry : entries.entrySet()) {
+      validateKey(entry.getKey());
+      values.put(entry.getKey(), serializer.getInternalProtocol().serialize(entry.getValue()));
+    }
+
+    boolean compact;
+    wLock.lock();
+    try {
+      for (Entry<String, byte[]> entry : values.entrySet()) {
+        delete(entry.getKey());
+        index.put(entry.getKey(), append(OP_PUT, entry.getKey(), entry.getValue(), currentTimeMillis()));
+      }
+      compact = afterBatchWrite(values.size());
+    } catch (IOException e) {
+      throw new ObjectStoreException(createStaticMessage("Could not store a batch of " + values.size() + " keys"), e);
+    } finally {
+      wLock.unlock();
+    }
+
+    if (compact) {
+      scheduleCompaction();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * All the records of the batch are appended while holding the lock once, and forced to disk once after the last one.
+   */
+  @Override
+  public void removeAll(Collection<String> keys) throws ObjectStoreException {
+    if (keys.isEmpty()) {
+      return;
+    }
+    assureLoaded();
+
+    boolean compact;
+    wLock.lock();
+    try {
+      for (String key : keys) {
+        delete(key);
+      }
+      compact = afterBatchWrite(keys.size());
+    } catch (IOException e) {
+      throw new ObjectStoreException(createStaticMessage("Could not remove a batch of " + keys.size() + " keys"), e);
+    } finally {
+      wLock.unlock();
+    }
+
+    if (compact) {
+      scheduleCompaction();
+    }
+  }
+
+  @Override
+  public void clear() throws ObjectStoreException {
+    wLock.lock();
+    try {
+      closeSegments();
+      try {
+        cleanDirectory(getPartitionDirectory());
+        createOrRetrievePartitionDescriptorFile();
+        index.clear();
+        active = openSegment(nextSegmentId++, 0);
+        segments.add(active);
+        loaded = true;
+      } catch (IOException e) {
+        throw new ObjectStoreException(createStaticMessage("Could not clear ObjectStore"), e);
+      }
+    } finally {
+      wLock.unlock();
+    }
+  }
+
+  @Override
+  public void expire(long entryTTL, int maxEntries) throws ObjectStoreException {
+    assureLoaded();
+
+    wLock.lock();
+    try {
+      if (maxEntries != UNBOUNDED) {
+        int excess = index.size() - maxEntries;
+        Iterator<String> keys = index.keySet().iterator();
+        List<String> toDelete = new ArrayList<>(Math.max(excess, 0));
+        for (int i = 0; i < excess; i++) {
+          toDelete.add(keys.next());
+        }
+        for (String key : toDelete) {
+          delete(key);
+        }
+      }
+
+      if (entryTTL != UNBOUNDED) {
+        final long now = currentTimeMillis();
+        List<String> toDelete = new ArrayList<>();
+        for (Entry<String, IndexEntry> entry : index.entrySet()) {
+          if ((now - entry.getValue().timestamp) >= entryTTL) {
+            toDelete.add(entry.getKey());
+          } else {
+            break;
+          }
+        }
+        for (String key : toDelete) {
+          delete(key);
+        }
+      }
+
+      sync();
+    } catch (IOException e) {
+      throw new ObjectStoreException(createStaticMessage("Could not expire entries"), e);
+    } finally {
+      wLock.unlock();
+    }
+
+    // Expiration is already run by a monitor thread, so compaction can take place right here.
+    compact();
+  }
+
+  /**
+   * Merges all the sealed segments into a single one containing only the live entries, if enough of their content is obsolete.
+   *
+   * @throws ObjectStoreException if the merged segment could not be written.
+   */
+  void compact() throws ObjectStoreException {
+    if (!compacting.compareAndSet(false, true)) {
+      return;
+    }
+
+    File compactingFile = null;
+    try {
+      final List<Segment> sealed;
+      final Map<String, IndexEntry> toCopy = new LinkedHashMap<>();
+      final long compactionGeneration;
+
+      rLock.lock();
+      try {
+        if (!loaded || !needsCompaction()) {
+          return;
+        }
+        sealed = new ArrayList<>(segments.subList(0, segments.size() - 1));
+        Set<Segment> sealedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        sealedSet.addAll(sealed);
+        for (Entry<String, IndexEntry> entry : index.entrySet()) {
+          if (sealedSet.contains(entry.getValue().segment)) {
+            toCopy.put(entry.getKey(), entry.getValue());
+          }
+        }
+        compactionGeneration = generation;
+      } finally {
+        rLock.unlock();
+      }
+
+      // Sealed segments are immutable and only deleted by compaction, so they can be read without holding the lock.
+      final long baseId = sealed.get(sealed.size() - 1).id;
+      compactingFile = new File(getPartitionDirectory(), segmentFileName(baseId) + COMPACTING_FILE_EXTENSION);
+      final List<CompactedEntry> compacted = new ArrayList<>(toCopy.size());
+      try (FileChannel channel = FileChannel.open(compactingFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+        long position = writeHeader(channel, SEGMENT_FLAG_BASE);
+        for (Entry<String, IndexEntry> entry : toCopy.entrySet()) {
+          IndexEntry source = entry.getValue();
+          ByteBuffer record = encode(OP_PUT, entry.getKey(), readUnchecked(source), source.timestamp);
+          int recordLength = record.remaining();
+          writeFully(channel, record, position);
+          compacted.add(new CompactedEntry(entry.getKey(), source, position + recordLength - source.valueLength,
+                                           recordLength));
+          position += recordLength;
+        }
+        channel.force(true);
+      }
+
+      wLock.lock();
+      try {
+        if (generation != compactionGeneration) {
+          return;
+        }
+
+        for (Segment segment : sealed) {
+          segment.close();
+        }
+        File baseFile = segmentFile(baseId);
+        Files.move(compactingFile.toPath(), baseFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+        // The base segment already supersedes the ones before it, so it's safe if any of these deletions don't happen
+        for (Segment segment : sealed) {
+          if (segment.id != baseId) {
+            segment.file.delete();
+          }
+        }
+
+        Segment base = new Segment(baseId, baseFile, FileChannel.open(baseFile.toPath(), READ, WRITE));
+        base.size = base.channel.size();
+        for (CompactedEntry entry : compacted) {
+          IndexEntry newEntry = new IndexEntry(base, entry.valueOffset, entry.source.valueLength, entry.recordLength,
+                                               entry.source.timestamp);
+          if (!index.replace(entry.key, entry.source, newEntry)) {
+            base.deadBytes += entry.recordLength;
+          }
+        }
+
+        segments.removeAll(sealed);
+        segments.add(0, base);
+      } finally {
+        wLock.unlock();
+      }
+    } catch (IOException | RuntimeException e) {
+      throw new ObjectStoreException(createStaticMessage(format("Could not compact object store partition '%s'",
+                                                                getPartitionName())),
+                                     e);
+    } finally {
+      if (compactingFile != null && compactingFile.exists()) {
+        compactingFile.delete();
+      }
+      compacting.set(false);
+    }
+  }
+
+  private boolean needsCompaction() {
+    if (segments.size() < 2) {
+      return false;
+    }
+
+    long sealedSize = 0;
+    long sealedDeadBytes = 0;
+    for (int i = 0; i < segments.size() - 1; i++) {
+      sealedSize += segments.get(i).size - SEGMENT_HEADER_SIZE;
+      sealedDeadBytes += segments.get(i).deadBytes;
+    }
+
+    return segments.size() - 1 > MAX_SEALED_SEGMENTS
+        || (sealedDeadBytes > 0 && sealedDeadBytes >= sealedSize * COMPACTION_DEAD_RATIO);
+  }
+
+  private void scheduleCompaction() {
+    try {
+      getCompactionScheduler().execute(() -> {
+        try {
+          compact();
+        } catch (ObjectStoreException e) {
+          LOGGER.warn(e.getMessage(), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("Compaction of object store partition '{}' rejected: {}", getPartitionName(), e.getMessage());
+    }
+  }
+
+  private synchronized Scheduler getCompactionScheduler() {
+    if (compactionScheduler == null) {
+      compactionScheduler = muleContext.getSchedulerService()
+          .ioScheduler(muleContext.getSchedulerBaseConfig()
+              .withName("ObjectStore-Compaction-" + getPartitionName())
+              .withMaxConcurrentTasks(1));
+    }
+    return compactionScheduler;
+  }
+
+  private synchronized void stopCompactionScheduler() {
+    if (compactionScheduler != null) {
+      compactionScheduler.stop();
+      compactionScheduler = null;
+    }
+  }
+
+  private void assureLoaded() throws ObjectStoreException {
+    if (!loaded) {
+      load();
+    }
+  }
+
+  private void load() throws ObjectStoreException {
+    wLock.lock();
+    try {
+      // Re-checked here to avoid contention in {@link #assureLoaded}
+      if (loaded) {
+        return;
+      }
+
+      try {
+        deleteLeftoverCompactionFiles();
+        List<Segment> recovered = openExistingSegments();
+        Map<String, IndexEntry> entries = new HashMap<>();
+        for (Segment segment : recovered) {
+          replay(segment, entries);
+        }
+
+        segments.addAll(recovered);
+        if (!recovered.isEmpty() && recovered.get(recovered.size() - 1).size < segmentSize) {
+          active = recovered.get(recovered.size() - 1);
+          nextSegmentId = active.id + 1;
+        } else {
+          nextSegmentId = recovered.isEmpty() ? 0 : recovered.get(recovered.size() - 1).id + 1;
+          active = openSegment(nextSegmentId++, 0);
+          segments.add(active);
+        }
+
+        migrateLegacyFiles(entries);
+
+        List<Entry<String, IndexEntry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(comparingLong(entry -> entry.getValue().timestamp));
+        for (Entry<String, IndexEntry> entry : sorted) {
+          index.put(entry.getKey(), entry.getValue());
+        }
+        lastSync = currentTimeMillis();
+        loaded = true;
+      } catch (Exception e) {
+        closeSegments();
+        index.clear();
+        throw new ObjectStoreException(createStaticMessage(format("Could not restore object store data from %1s",
+                                                                  getPartitionDirectory().getAbsolutePath())),
+                                       e);
+      }
+    } finally {
+      wLock.unlock();
+    }
+  }
+
+  private void deleteLeftoverCompactionFiles() {
+    File[] files = getPartitionDirectory().listFiles(file -> file.getName().endsWith(COMPACTING_FILE_EXTENSION));
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+  }
+
+  private List<Segment> openExistingSegments() throws IOException {
+    File[] files = getPartitionDirectory().listFiles(file -> file.isFile() && isSegmentFile(file.getName()));
+    if (files == null) {
+      files = new File[0];
+    }
+    Arrays.sort(files, comparingLong(file -> segmentId(file.getName())));
+
+    List<Segment> opened = new ArrayList<>(files.length);
+    int baseIndex = 0;
+    for (File file : files) {
+      Segment segment = new Segment(segmentId(file.getName()), file, FileChannel.open(file.toPath(), READ, WRITE));
+      ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+      readFully(segment.channel, header, 0);
+      header.flip();
+      if (header.remaining() < SEGMENT_HEADER_SIZE || header.getInt() != SEGMENT_MAGIC) {
+        segment.close();
+        LOGGER.warn(format("Object store segment %s is not valid. The file will be skipped and moved to the Garbage folder",
+                           file.getName()));
+        moveToCorruptedFilesFolder(file);
+        continue;
+      }
+      if ((header.getInt() & SEGMENT_FLAG_BASE) != 0) {
+        baseIndex = opened.size();
+      }
+      segment.size = segment.channel.size();
+      opened.add(segment);
+    }
+
+    // A base segment contains all the live entries of the ones before it, which may remain after a crash during compaction
+    for (Segment superseded : opened.subList(0, baseIndex)) {
+      superseded.close();
+      superseded.file.delete();
+    }
+    return new ArrayList<>(opened.subList(baseIndex, opened.size()));
+  }
+
+  private void replay(Segment segment, Map<String, IndexEntry> entries) throws IOException {
+    long position = SEGMENT_HEADER_SIZE;
+    ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+    CRC32 crc = new CRC32();
+
+    while (position < segment.size) {
+      header.clear();
+      readFully(segment.channel, header, position);
+      header.flip();
+      if (header.remaining() < RECORD_HEADER_SIZE) {
+        break;
+      }
+      int bodyLength = header.getInt();
+      int checksum = header.getInt();
+      if (bodyLength < RECORD_BODY_FIXED_SIZE || position + RECORD_HEADER_SIZE + bodyLength > segment.size) {
+        break;
+      }
+
+      ByteBuffer body = ByteBuffer.allocate(bodyLength);
+      readFully(segment.channel, body, position + RECORD_HEADER_SIZE);
+      crc.reset();
+      crc.update(body.array(), 0, bodyLength);
+      if ((int) crc.getValue() != checksum) {
+        break;
+      }
+
+      body.flip();
+      byte op = body.get();
+      long timestamp = body.getLong();
+      int keyLength = body.getInt();
+      String key = new String(body.array(), RECORD_BODY_FIXED_SIZE, keyLength, UTF_8);
+      int recordLength = RECORD_HEADER_SIZE + bodyLength;
+
+      IndexEntry previous;
+      if (op == OP_PUT) {
+        int valueLength = bodyLength - RECORD_BODY_FIXED_SIZE - keyLength;
+        previous = entries.put(key, new IndexEntry(segment, position + recordLength - valueLength, valueLength, recordLength,
+                                                   timestamp));
+      } else {
+        previous = entries.remove(key);
+        segment.deadBytes += recordLength;
+      }
+      if (previous != null) {
+        previous.segment.deadBytes += previous.recordLength;
+      }
+      position += recordLength;
+    }
+
+    if (position < segment.size) {
+      // Torn write at the tail of the segment, most likely because of a crash. Discard it so that new records are appended after
+      // the last valid one.
+      LOGGER.warn(format("Object store segment %s has %d trailing bytes that could not be read. They will be discarded",
+                         segment.file.getName(), segment.size - position));
+      segment.channel.truncate(position);
+      segment.size = position;
+    }
+  }
+
+  private void migrateLegacyFiles(Map<String, IndexEntry> entries) throws IOException, ObjectStoreException {
+    File[] files = getPartitionDirectory().listFiles(file -> file.isFile() && file.getName().endsWith(LEGACY_FILE_EXTENSION));
+    if (files == null || files.length == 0) {
+      return;
+    }
+
+    LOGGER.info("Migrating {} entries of object store partition '{}' to the log structured format", files.length,
+                getPartitionName());
+    Arrays.sort(files, comparingLong(File::lastModified));
+    List<File> migrated = new ArrayList<>(files.length);
+    for (File file : files) {
+      StoreValue<T> storeValue;
+      try {
+        storeValue = deserialize(file);
+      } catch (ObjectStoreException e) {
+        LOGGER.warn(format("Could not deserialize the ObjectStore file: %s. The file will be skipped and moved to the Garbage folder",
+                           file.getName()));
+        moveToCorruptedFilesFolder(file);
+        continue;
+      }
+
+      String key = storeValue.getKey().toString();
+      // An entry in the log means the migration was already done for this file before a crash
+      if (!entries.containsKey(key)) {
+        entries.put(key, append(OP_PUT, key, serializer.getInternalProtocol().serialize(storeValue.getValue()),
+                                file.lastModified()));
+      }
+      migrated.add(file);
+    }
+
+    active.channel.force(true);
+    for (File file : migrated) {
+      file.delete();
+    }
+  }
+
+  private void delete(String key) throws IOException {
+    IndexEntry previous = index.remove(key);
+    if (previous != null) {
+      previous.segment.deadBytes += previous.recordLength;
+      IndexEntry tombstone = append(OP_DELETE, key, new byte[0], currentTimeMillis());
+      tombstone.segment.deadBytes += tombstone.recordLength;
+    }
+  }
+
+  private IndexEntry append(byte op, String key, byte[] value, long timestamp) throws IOException {
+    ByteBuffer record = encode(op, key, value, timestamp);
+    int recordLength = record.remaining();
+    if (active.size + recordLength > segmentSize && active.size > SEGMENT_HEADER_SIZE) {
+      roll();
+    }
+
+    long position = active.size;
+    writeFully(active.channel, record, position);
+    active.size += recordLength;
+    return new IndexEntry(active, position + recordLength - value.length, value.length, recordLength, timestamp);
+  }
+
+  private void roll() throws IOException {
+    active.channel.force(false);
+    unsyncedRecords = 0;
+    active = openSegment(nextSegmentId++, 0);
+    segments.add(active);
+  }
+
+  /**
+   * @return whether a compaction has to be scheduled after this write.
+   */
+  private boolean afterWrite() throws IOException {
+    if (++unsyncedRecords >= syncBatchSize || currentTimeMillis() - lastSync >= syncInterval) {
+      sync();
+    }
+    return !compacting.get() && needsCompaction();
+  }
+
+  /**
+   * Unlike {@link #afterWrite()}, the records are always forced to disk so that the whole batch is durable when it returns.
+   *
+   * @return whether a compaction has to be scheduled after this batch.
+   */
+  private boolean afterBatchWrite(int records) throws IOException {
+    unsyncedRecords += records;
+    sync();
+    return !compacting.get() && needsCompaction();
+  }
+
+  private void sync() throws IOException {
+    if (unsyncedRecords > 0) {
+      active.channel.force(false);
+      unsyncedRecords = 0;
+    }
+    lastSync = currentTimeMillis();
+  }
+
+  private byte[] read(IndexEntry entry) throws ObjectStoreException {
+    try {
+      return readUnchecked(entry);
+    } catch (IOException e) {
+      throw new ObjectStoreException(createStaticMessage("Could not read from " + entry.segment.file.getAbsolutePath()), e);
+    }
+  }
+
+  private byte[] readUnchecked(IndexEntry entry) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(entry.valueLength);
+    readFully(entry.segment.channel, buffer, entry.valueOffset);
+    if (buffer.hasRemaining()) {
+      throw new IOException("Unexpected end of segment " + entry.segment.file.getName());
+    }
+    return buffer.array();
+  }
+
+  private T deserialize(byte[] bytes) throws ObjectStoreException {
+    try {
+      T value = serializer.getInternalProtocol().deserialize(bytes);
+      if (value instanceof DeserializationPostInitialisable) {
+        DeserializationPostInitialisable.Implementation.init(value, muleContext);
+      }
+      return value;
+    } catch (Exception e) {
+      throw new ObjectStoreException(e);
+    }
+  }
+
+  private Segment openSegment(long id, int flags) throws IOException {
+    File file = segmentFile(id);
+    Segment segment = new Segment(id, file, FileChannel.open(file.toPath(), CREATE, READ, WRITE, TRUNCATE_EXISTING));
+    segment.size = writeHeader(segment.channel, flags);
+    return segment;
+  }
+
+  private void closeSegments() {
+    for (Segment segment : segments) {
+      segment.close();
+    }
+    segments.clear();
+    active = null;
+    unsyncedRecords = 0;
+    generation++;
+  }
+
+  private File segmentFile(long id) {
+    return new File(getPartitionDirectory(), segmentFileName(id));
+  }
+
+  private static String segmentFileName(long id) {
+    return format("%s%016d%s", SEGMENT_FILE_PREFIX, id, SEGMENT_FILE_EXTENSION);
+  }
+
+  private static boolean isSegmentFile(String fileName) {
+    return fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_EXTENSION);
+  }
+
+  private static long segmentId(String fileName) {
+    return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(), fileName.length() - SEGMENT_FILE_EXTENSION.length()));
+  }
+
+  private static ByteBuffer encode(byte op, String key, byte[] value, long timestamp) {
+    byte[] keyBytes = key.getBytes(UTF_8);
+    int bodyLength = RECORD_BODY_FIXED_SIZE + keyBytes.length + value.length;
+    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bodyLength);
+    record.putInt(bodyLength);
+    record.putInt(0);
+    record.put(op);
+    record.putLong(timestamp);
+    record.putInt(keyBytes.length);
+    record.put(keyBytes);
+    record.put(value);
+
+    CRC32 crc = new CRC32();
+    crc.update(record.array(), RECORD_HEADER_SIZE, bodyLength);
+    record.putInt(4, (int) crc.getValue());
+    record.flip();
+    return record;
+  }
+
+  private static long writeHeader(FileChannel channel, int flags) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+    header.putInt(SEGMENT_MAGIC);
+    header.putInt(flags);
+    header.flip();
+    writeFully(channel, header, 0);
+    return SEGMENT_HEADER_SIZE;
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        return;
+      }
+      position += read;
+    }
+  }
+
+  private static final class Segment {
+
+    private final long id;
+    private final File file;
+    private final FileChannel channel;
+    private long size;
+    private long deadBytes;
+
+    private Segment(long id, File file, FileChannel channel) {
+      this.id = id;
+      this.file = file;
+      this.channel = channel;
+    }
+
+    private void close() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        LOGGER.debug("Could not close segment " + file.getName(), e);
+      }
+    }
+  }
+
+  private static final class IndexEntry {
+
+    private final Segment segment;
+    private final long valueOffset;
+    private final int valueLength;
+    private final int recordLength;
+    private final long timestamp;
+
+    private IndexEntry(Segment segment, long valueOffset, int valueLength, int recordLength, long timestamp) {
+      this.segment = segment;
+      this.valueOffset = valueOffset;
+      this.valueLength = valueLength;
+      this.recordLength = recordLength;
+      this.timestamp = timestamp;
+    }
+  }
+
+  private static final class CompactedEntry {
+
+    private final String key;
+    private final IndexEntry source;
+    private final long valueOffset;
+    private final int recordLength;
+
+    private CompactedEntry(String key, IndexEntry source, long valueOffset, int recordLength) {
+      this.key = key;
+      this.source = source;
+      this.valueOffset = valueOffset;
+      this.recordLength = recordLength;
+    }
+  }
+}
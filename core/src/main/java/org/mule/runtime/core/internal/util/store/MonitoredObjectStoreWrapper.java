@@ -7,7 +7,6 @@
 package org.mule.runtime.core.internal.util.store;
 
 import static java.lang.System.currentTimeMillis;
-import static java.util.Comparator.comparing;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toMap;
 import static org.mule.runtime.api.store.ObjectStoreManager.BASE_PERSISTENT_OBJECT_STORE_KEY;
@@ -24,7 +23,6 @@ import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.api.store.TemplateObjectStore;
-import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.UUID;
@@ -32,9 +30,10 @@ import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
@@ -42,15 +41,30 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The MonitoredObjectStoreWrapper wraps an ObjectStore which does not support direct expiry and adds this behavior
+ * <p>
+ * The keys of the entries are kept in an {@link ExpiryIndex} along with their timestamps, so the expiry only has to go through
+ * the expired entries instead of reading all the entries from the wrapped store. The entries that were already in the wrapped
+ * store, such as those of a persistent store, are added to the index a batch at a time over the first expiry runs, so that a
+ * large store doesn't hold a monitor scheduler shared with other stores for long. The maximum number of entries is only enforced
+ * once all of them have been indexed.
  */
 public class MonitoredObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T>
     implements Runnable, MuleContextAware, Initialisable, Disposable {
 
   private static Logger LOGGER = LoggerFactory.getLogger(MonitoredObjectStoreWrapper.class);
 
+  /**
+   * The maximum number of entries read from the wrapped store to build the {@link ExpiryIndex} on each expiry run.
+   */
+  static final int EXPIRY_INDEX_LOAD_BATCH_SIZE = 1000;
+
   protected MuleContext context;
   private Scheduler scheduler;
+  private boolean ownScheduler;
   private ScheduledFuture<?> scheduledTask;
+  private final ExpiryIndex expiryIndex = new ExpiryIndex();
+  private volatile boolean expiryIndexLoaded;
+  private Iterator<String> keysToIndex;
   ObjectStore<StoredObject<T>> baseStore;
 
   /**
@@ -83,6 +97,17 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     expirationInterval = settings.getExpirationInterval();
   }
 
+  /**
+   * Creates a store whose expiry runs in the given {@code scheduler}, which may be shared with other stores. The scheduler is not
+   * stopped when this store is disposed.
+   *
+   * @since 4.5.0
+   */
+  public MonitoredObjectStoreWrapper(ObjectStore<StoredObject<T>> baseStore, ObjectStoreSettings settings, Scheduler scheduler) {
+    this(baseStore, settings);
+    this.scheduler = scheduler;
+  }
+
   @Override
   protected boolean doContains(String key) throws ObjectStoreException {
     return getStore().contains(key);
@@ -90,8 +115,9 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
 
   @Override
   protected void doStore(String key, T value) throws ObjectStoreException {
-    Long time = Long.valueOf(System.currentTimeMillis());
+    long time = currentTimeMillis();
     getStore().store(key, new StoredObject<>(value, time, key));
+    expiryIndex.put(key, time);
   }
 
   @Override
@@ -107,11 +133,13 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
   @Override
   public void clear() throws ObjectStoreException {
     this.getStore().clear();
+    expiryIndex.clear();
   }
 
   @Override
   protected T doRemove(String key) throws ObjectStoreException {
     StoredObject<T> object = getStore().remove(key);
+    expiryIndex.remove(key);
     if (object == null) {
       return null;
     } else {
@@ -159,39 +187,25 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     try {
       LOGGER.debug("Starting expiry on {}...", getStore());
 
-      final long now = currentTimeMillis();
-      List<String> keys = allKeys();
-      int excess = maxEntries != null ? (keys.size() - maxEntries) : 0;
-
-      PriorityQueue<Pair<String, Long>> sortedMaxEntries = null;
-
-      if (excess > 0) {
-        LOGGER.trace("Will expire {} entries from {}", excess, getStore());
-        sortedMaxEntries = new PriorityQueue<>(excess, comparing(Pair::getSecond));
+      if (!expiryIndexLoaded) {
+        loadExpiryIndex();
       }
 
-      for (String key : keys) {
-        StoredObject<T> obj = expiryRetrieve(key);
-        if (obj == null) {
-          excess--;
-          continue;
-        }
-
-        if (entryTtl != null && now - obj.getTimestamp() >= entryTtl) {
+      if (entryTtl != null) {
+        for (String key : expiryIndex.keysUpTo(currentTimeMillis() - entryTtl)) {
           LOGGER.trace("Expiring entry '{}' from {} due to TTL...", key, getStore());
           expiryRemove(key);
-        } else if (maxEntries != null && excess > 0) {
-          sortedMaxEntries.offer(new Pair<>(obj.getKey(), obj.getTimestamp()));
         }
       }
 
-      if (sortedMaxEntries != null) {
-        Pair<String, Long> obj = sortedMaxEntries.poll();
-        while (obj != null && excess > 0) {
-          LOGGER.trace("Expiring entry '{}' from {} due to size excess...", obj.getFirst(), getStore());
-          excess--;
-          expiryRemove(obj.getFirst());
-          obj = sortedMaxEntries.poll();
+      if (maxEntries != null && expiryIndexLoaded) {
+        int excess = expiryIndex.size() - maxEntries;
+        if (excess > 0) {
+          LOGGER.trace("Will expire {} entries from {}", excess, getStore());
+          for (String key : expiryIndex.oldestKeys(excess)) {
+            LOGGER.trace("Expiring entry '{}' from {} due to size excess...", key, getStore());
+            expiryRemove(key);
+          }
         }
       }
     } catch (Exception e) {
@@ -199,6 +213,29 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     }
   }
 
+  /**
+   * Indexes the next batch of entries already in the wrapped store. Entries stored through this wrapper in the meantime keep their
+   * timestamps.
+   */
+  private void loadExpiryIndex() throws ObjectStoreException {
+    if (keysToIndex == null) {
+      keysToIndex = new ArrayList<>(getStore().allKeys()).iterator();
+    }
+
+    for (int i = 0; i < EXPIRY_INDEX_LOAD_BATCH_SIZE && keysToIndex.hasNext(); ++i) {
+      String key = keysToIndex.next();
+      StoredObject<T> obj = expiryRetrieve(key);
+      if (obj != null) {
+        expiryIndex.putIfAbsent(key, obj.getTimestamp());
+      }
+    }
+
+    if (!keysToIndex.hasNext()) {
+      keysToIndex = null;
+      expiryIndexLoaded = true;
+    }
+  }
+
   private StoredObject<T> expiryRetrieve(String key) throws ObjectStoreException {
     try {
       return getStore().retrieve(key);
@@ -213,6 +250,7 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
       remove(key);
     } catch (ObjectDoesNotExistException e) {
       LOGGER.trace("Entry '{}' from {} already removed", key, getStore());
+      expiryIndex.remove(key);
     }
   }
 
@@ -220,7 +258,9 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
   public void dispose() {
     if (scheduledTask != null) {
       scheduledTask.cancel(true);
-      scheduler.stop();
+      if (ownScheduler) {
+        scheduler.stop();
+      }
     }
   }
 
@@ -238,9 +278,12 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
       throw new IllegalArgumentException(propertyHasInvalidValue("expirationInterval", new Long(expirationInterval)).toString());
     }
 
-    if (scheduler == null) {
-      this.scheduler = context.getSchedulerService()
-          .customScheduler(context.getSchedulerBaseConfig().withName(name + "-Monitor").withMaxConcurrentTasks(1));
+    if (scheduledTask == null) {
+      if (scheduler == null) {
+        this.scheduler = context.getSchedulerService()
+            .customScheduler(context.getSchedulerBaseConfig().withName(name + "-Monitor").withMaxConcurrentTasks(1));
+        ownScheduler = true;
+      }
       scheduledTask = scheduler.scheduleWithFixedDelay(this, 0, expirationInterval, MILLISECONDS);
     }
   }
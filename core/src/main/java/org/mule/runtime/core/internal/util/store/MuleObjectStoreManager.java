@@ -49,6 +49,8 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
 
   private final ConcurrentMap<String, ObjectStore<?>> stores = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, Scheduler> expirationSchedulers = new ConcurrentHashMap<>();
+  // Shared by all the monitored object store wrappers, whose expiry goes only through the expired entries
+  private Scheduler monitoredStoresScheduler;
 
   private String baseTransientStoreKey = BASE_IN_MEMORY_OBJECT_STORE_KEY;
   private String basePersistentStoreKey = BASE_PERSISTENT_OBJECT_STORE_KEY;
@@ -94,6 +96,13 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
 
     stores.values().forEach(store -> disposeIfNeeded(store, LOGGER));
     stores.clear();
+
+    synchronized (this) {
+      if (monitoredStoresScheduler != null) {
+        monitoredStoresScheduler.stop();
+        monitoredStoresScheduler = null;
+      }
+    }
   }
 
   @Override
@@ -210,7 +219,11 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
       // monitored object store wrapper for nothing and having to dispose
       // or putting an uninitialised ObjectStore
       synchronized (this) {
-        monObjectStore = new MonitoredObjectStoreWrapper(store, settings);
+        if (monitoredStoresScheduler == null) {
+          monitoredStoresScheduler = schedulerService.customScheduler(muleContext.getSchedulerBaseConfig()
+              .withName("ObjectStoreManager-Monitor").withMaxConcurrentTasks(1));
+        }
+        monObjectStore = new MonitoredObjectStoreWrapper(store, settings, monitoredStoresScheduler);
         monObjectStore.setMuleContext(muleContext);
         try {
           monObjectStore.initialise();
@@ -12,14 +12,18 @@ import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.api.store.PartitionableObjectStore;
+import org.mule.runtime.core.internal.store.AbstractPartitionableObjectStore;
+import org.mule.runtime.core.internal.store.BatchObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 
-public class ObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T> implements Disposable {
+public class ObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T>
+    implements BatchObjectStore<T>, Disposable {
 
   private static final Logger LOGGER = getLogger(ObjectStorePartition.class);
 
@@ -86,6 +90,24 @@ public class ObjectStorePartition<T extends Serializable> extends TemplateObject
     return partitionedObjectStore.retrieveAll(partitionName);
   }
 
+  @Override
+  public void storeAll(Map<String, ? extends T> entries) throws ObjectStoreException {
+    if (partitionedObjectStore instanceof AbstractPartitionableObjectStore) {
+      ((AbstractPartitionableObjectStore<T>) partitionedObjectStore).storeAll(entries, partitionName);
+    } else {
+      BatchObjectStore.super.storeAll(entries);
+    }
+  }
+
+  @Override
+  public void removeAll(Collection<String> keys) throws ObjectStoreException {
+    if (partitionedObjectStore instanceof AbstractPartitionableObjectStore) {
+      ((AbstractPartitionableObjectStore<T>) partitionedObjectStore).removeAll(keys, partitionName);
+    } else {
+      BatchObjectStore.super.removeAll(keys);
+    }
+  }
+
   public PartitionableObjectStore<T> getBaseStore() {
     return partitionedObjectStore;
   }
@@ -27,6 +27,7 @@ import org.mule.runtime.api.store.ObjectStoreNotAvailableException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.util.UUID;
+import org.mule.runtime.core.internal.store.BatchObjectStore;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import java.io.BufferedInputStream;
@@ -44,6 +45,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,7 +59,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class PersistentObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T>
-    implements ExpirableObjectStore<T> {
+    implements ExpirableObjectStore<T>, BatchObjectStore<T> {
 
   private static final String OBJECT_FILE_EXTENSION = ".obj";
   private static final String PARTITION_DESCRIPTOR_FILE = "partition-descriptor";
@@ -243,6 +245,55 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The whole batch is written while holding the lock of this partition once.
+   */
+  @Override
+  public void storeAll(Map<String, ? extends T> entries) throws ObjectStoreException {
+    assureLoaded();
+
+    wLock.lock();
+    try {
+      for (Map.Entry<String, ? extends T> entry : entries.entrySet()) {
+        String key = entry.getKey();
+        validateKey(key);
+        String previousFileName = (String) realKeyToUUIDIndex.get(key);
+        if (previousFileName != null) {
+          deleteStoreFile(getValueFile(previousFileName));
+        }
+        File newFile = createFileToStoreObject();
+        realKeyToUUIDIndex.put(key, newFile.getName());
+        serialize(newFile, new StoreValue<>(key, entry.getValue()));
+      }
+    } finally {
+      wLock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The whole batch is removed while holding the lock of this partition once.
+   */
+  @Override
+  public void removeAll(Collection<String> keys) throws ObjectStoreException {
+    assureLoaded();
+
+    wLock.lock();
+    try {
+      for (String key : keys) {
+        String fileName = (String) realKeyToUUIDIndex.get(key);
+        if (fileName != null) {
+          deleteStoreFile(getValueFile(fileName));
+        }
+      }
+    } finally {
+      wLock.unlock();
+    }
+  }
+
   @Override
   public boolean isPersistent() {
     return true;
@@ -297,7 +348,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     parentFile.mkdir();
   }
 
-  private void moveToCorruptedFilesFolder(File file) throws IOException {
+  protected void moveToCorruptedFilesFolder(File file) throws IOException {
     Path workingDirectory = (new File(muleContext.getConfiguration().getWorkingDirectory()))
         .toPath().normalize();
     Path absoluteFilePath = file.toPath();
@@ -62,6 +62,7 @@ import org.mule.runtime.core.api.context.notification.ServerNotificationHandler;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.FlowExceptionHandler;
 import org.mule.runtime.core.api.execution.ExceptionContextProvider;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
@@ -70,6 +71,7 @@ import org.mule.runtime.core.internal.context.DefaultMuleContext;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.interception.InterceptorManager;
 import org.mule.runtime.core.internal.interception.ReactiveInterceptor;
+import org.mule.runtime.core.internal.management.stats.ComponentExecutionTimer;
 import org.mule.runtime.core.internal.processor.chain.InterceptedReactiveProcessor;
 import org.mule.runtime.core.internal.processor.interceptor.ProcessorInterceptorFactoryAdapter;
 import org.mule.runtime.core.internal.processor.interceptor.ReactiveInterceptorAdapter;
@@ -86,9 +88,11 @@ import org.mule.runtime.core.privileged.exception.ErrorTypeLocator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
@@ -144,6 +148,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private final FlowExceptionHandler messagingExceptionHandler;
   private final ProcessingStrategy processingStrategy;
   private final List<ReactiveInterceptorAdapter> additionalInterceptors = new LinkedList<>();
+  private final Map<Processor, ComponentExecutionTimer> executionTimers = new HashMap<>();
 
   private boolean canProcessMessage = true;
 
@@ -398,6 +403,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
 
   private CoreEvent afterComponentProcessingStrategy(Processor processor, String processorPath, CoreEvent result) {
     try {
+      stopExecutionTimer(processor, result);
       postNotification(processor).accept(result);
       setCurrentEvent((PrivilegedEvent) result);
       muleEventTracer.endCurrentSpan(result);
@@ -425,6 +431,21 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
     }
     triggerStartingOperation(event, componentLocation);
     preNotification(event, processor);
+    startExecutionTimer(processor, event);
+  }
+
+  private void startExecutionTimer(Processor processor, CoreEvent event) {
+    ComponentExecutionTimer timer = executionTimers.get(processor);
+    if (timer != null) {
+      timer.start(event);
+    }
+  }
+
+  private void stopExecutionTimer(Processor processor, CoreEvent event) {
+    ComponentExecutionTimer timer = executionTimers.get(processor);
+    if (timer != null) {
+      timer.stop(event);
+    }
   }
 
   private void triggerOperationExecuted(CoreEvent event, ComponentLocation componentLocation) {
@@ -543,6 +564,9 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
         fireNotification(((MessagingException) exception).getEvent(), processor, (MessagingException) exception,
                          MESSAGE_PROCESSOR_POST_INVOKE);
       }
+      if (exception instanceof MessagingException) {
+        stopExecutionTimer(processor, ((MessagingException) exception).getEvent());
+      }
     };
   }
 
@@ -613,6 +637,17 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
 
     initialiseIfNeeded(getMessageProcessorsForLifecycle(), muleContext);
 
+    AllStatistics statistics = muleContext.getStatistics();
+    if (statistics != null) {
+      for (Processor processor : getProcessorsToExecute()) {
+        String processorPath = getProcessorPath(processor);
+        if (processorPath != null) {
+          executionTimers.put(processor,
+                              new ComponentExecutionTimer(statistics.computeComponentStatisticsIfAbsent(processorPath)));
+        }
+      }
+    }
+
     startingOperationExecutionDataProducer = profilingService.getProfilingDataProducer(STARTING_OPERATION_EXECUTION);
     endOperationExecutionDataProducer = profilingService.getProfilingDataProducer(OPERATION_EXECUTED);
 
@@ -80,7 +80,7 @@ public final class AttributeEvaluator {
         return new ExpressionAttributeEvaluatorDelegate(compile(attributeValue, expressionManager), expectedDataType);
       }
       if (isParseExpression(attributeValue)) {
-        return new ParseAttributeEvaluatorDelegate(attributeValue);
+        return new ParseAttributeEvaluatorDelegate(attributeValue, expressionManager);
       }
     }
     return new StaticAttributeEvaluatorDelegate(attributeValue);
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -123,6 +124,76 @@ public final class TemplateParser {
   }
 
   private String parseMule(Map<?, ?> props, String template, TemplateCallback callback, boolean insideExpression) {
+    StringBuilder result = new StringBuilder();
+    scanMule(template, insideExpression, result, (builder, enclosingTemplate) -> {
+      Object value = enclosingTemplate;
+      if (callback != null) {
+        value = callback.match(enclosingTemplate);
+        if (value == null) {
+          value = NULL_AS_STRING;
+        } else {
+          value = parseMule(props, escapeValue(enclosingTemplate, value.toString()), callback, value.equals(enclosingTemplate));
+        }
+      }
+      builder.append(value);
+    });
+    return result.toString();
+  }
+
+  /**
+   * Splits a template in its literal parts and the expressions in it, so it can be rendered many times without having to parse it
+   * again. Only supported for the {@link #WIGGLY_MULE_TEMPLATE_STYLE mule} style.
+   * <p>
+   * Rendering the returned parts in order, using {@link #resolveExpressionValue(String, Object, TemplateCallback)} for the
+   * expression ones, gives the same result as {@link #parse(TemplateCallback, String)}.
+   *
+   * @param template the string containing the expressions, i.e. My name is #[name]
+   * @return the parts of the template, in order.
+   * @since 4.5.0
+   */
+  public List<TemplatePart> split(String template) {
+    if (!styleIs(WIGGLY_MULE_TEMPLATE_STYLE)) {
+      throw new IllegalStateException("Templates can only be split with the " + WIGGLY_MULE_TEMPLATE_STYLE + " style");
+    }
+
+    List<TemplatePart> parts = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    scanMule(template, false, literal, (builder, enclosingTemplate) -> {
+      if (builder.length() > 0) {
+        parts.add(new TemplatePart(builder.toString(), false));
+        builder.setLength(0);
+      }
+      parts.add(new TemplatePart(enclosingTemplate, true));
+    });
+    if (literal.length() > 0) {
+      parts.add(new TemplatePart(literal.toString(), false));
+    }
+    return parts;
+  }
+
+  /**
+   * Resolves the text to render for an expression of a template split with {@link #split(String)}.
+   *
+   * @param expression the expression, as returned by {@link TemplatePart#getValue()}
+   * @param value      the result of evaluating the expression
+   * @param callback   the callback used to resolve the expressions nested in {@code value}, if any
+   * @return the text to render in place of the expression
+   * @since 4.5.0
+   */
+  public String resolveExpressionValue(String expression, Object value, TemplateCallback callback) {
+    if (value == null) {
+      return NULL_AS_STRING;
+    }
+    String valueString = value.toString();
+    if (valueString.indexOf(START_EXPRESSION) == -1 && valueString.indexOf('\\') == -1) {
+      // Nothing to escape or evaluate in the value
+      return valueString;
+    }
+    return parseMule(null, escapeValue(expression, valueString), callback, value.equals(expression));
+  }
+
+  private void scanMule(String template, boolean insideExpression, StringBuilder result,
+                        BiConsumer<StringBuilder, String> onExpression) {
     validateBalanceMuleStyle(template);
 
     boolean lastIsBackSlash = false;
@@ -130,7 +201,6 @@ public final class TemplateParser {
     boolean inExpression = insideExpression;
     boolean openSingleQuotes = false;
 
-    StringBuilder result = new StringBuilder();
     int currentPosition = 0;
     while (currentPosition < template.length()) {
       char c = template.charAt(currentPosition);
@@ -157,18 +227,7 @@ public final class TemplateParser {
 
       if (c == OPEN_EXPRESSION && lastStartedExpression && (!insideExpression || !openSingleQuotes)) {
         int closing = closingBracesPosition(template, currentPosition);
-        String enclosingTemplate = template.substring(currentPosition + 1, closing);
-
-        Object value = enclosingTemplate;
-        if (callback != null) {
-          value = callback.match(enclosingTemplate);
-          if (value == null) {
-            value = NULL_AS_STRING;
-          } else {
-            value = parseMule(props, escapeValue(enclosingTemplate, value.toString()), callback, value.equals(enclosingTemplate));
-          }
-        }
-        result.append(value);
+        onExpression.accept(result, template.substring(currentPosition + 1, closing));
 
         currentPosition = closing;
       } else if ((c != START_EXPRESSION || lastIsBackSlash) && c != '\\') {
@@ -179,8 +238,6 @@ public final class TemplateParser {
       lastIsBackSlash = c == '\\';
       currentPosition++;
     }
-
-    return result.toString();
   }
 
   private int closingBracesPosition(String template, int startingPosition) {
@@ -436,6 +493,36 @@ public final class TemplateParser {
     Object match(String token);
   }
 
+  /**
+   * A part of a template split with {@link #split(String)}: either literal text or an expression.
+   *
+   * @since 4.5.0
+   */
+  public static final class TemplatePart {
+
+    private final String value;
+    private final boolean expression;
+
+    TemplatePart(String value, boolean expression) {
+      this.value = value;
+      this.expression = expression;
+    }
+
+    /**
+     * @return the literal text, or the expression without its enclosing {@code #[} and {@code ]}
+     */
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * @return whether this part is an expression
+     */
+    public boolean isExpression() {
+      return expression;
+    }
+  }
+
 
   public static class PatternInfo {
 
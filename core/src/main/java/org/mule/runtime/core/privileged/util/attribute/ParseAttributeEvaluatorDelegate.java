@@ -10,6 +10,7 @@ import static org.mule.runtime.api.metadata.DataType.STRING;
 
 import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.el.CompiledTemplate;
 import org.mule.runtime.core.api.el.ExpressionManagerSession;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
@@ -22,13 +23,28 @@ import org.mule.runtime.core.api.event.CoreEvent;
 public final class ParseAttributeEvaluatorDelegate implements AttributeEvaluatorDelegate<String> {
 
   private String attributeValue;
+  private CompiledTemplate compiledTemplate;
 
   public ParseAttributeEvaluatorDelegate(String attributeValue) {
     this.attributeValue = attributeValue;
   }
 
+  /**
+   * Creates a delegate that parses the {@code attributeValue} once with the given {@code expressionManager}, instead of doing it
+   * for each event.
+   *
+   * @since 4.5.0
+   */
+  public ParseAttributeEvaluatorDelegate(String attributeValue, ExtendedExpressionManager expressionManager) {
+    this(attributeValue);
+    this.compiledTemplate = expressionManager.compileTemplate(attributeValue);
+  }
+
   @Override
   public TypedValue<String> resolve(CoreEvent event, ExtendedExpressionManager expressionManager) {
+    if (compiledTemplate != null) {
+      return new TypedValue<>(compiledTemplate.render(event, null), STRING);
+    }
     return new TypedValue<>(expressionManager.parse(attributeValue, event, null), STRING);
   }
 
@@ -19,6 +19,7 @@ import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.el.CompiledLogTemplate;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
@@ -53,6 +54,8 @@ public class LoggerMessageProcessor extends AbstractComponent
 
   protected MuleContext muleContext;
   ExtendedExpressionManager expressionManager;
+  // The message parsed once, so it isn't parsed again for each event
+  private CompiledLogTemplate compiledMessage;
 
   private volatile ProcessingType processingType;
 
@@ -61,6 +64,9 @@ public class LoggerMessageProcessor extends AbstractComponent
     initLogger();
     initProcessingTypeIfPossible();
     expressionManager = muleContext.getExpressionManager();
+    if (!StringUtils.isEmpty(message)) {
+      compiledMessage = expressionManager.compileLogTemplate(message);
+    }
   }
 
   protected void initLogger() {
@@ -111,7 +117,9 @@ public class LoggerMessageProcessor extends AbstractComponent
       } else {
         LogLevel logLevel = LogLevel.valueOf(level);
         if (LogLevel.valueOf(level).isEnabled(logger)) {
-          logLevel.log(logger, expressionManager.parseLogTemplate(message, event, getLocation(), NULL_BINDING_CONTEXT));
+          logLevel.log(logger, compiledMessage != null
+              ? compiledMessage.render(event, getLocation(), NULL_BINDING_CONTEXT)
+              : expressionManager.parseLogTemplate(message, event, getLocation(), NULL_BINDING_CONTEXT));
         }
       }
     }
@@ -26,6 +26,7 @@ import org.mule.runtime.api.el.CompiledExpression;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.core.api.el.CompiledLogTemplate;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.util.IOUtils;
@@ -58,6 +59,8 @@ public class ParseTemplateProcessor extends SimpleMessageProcessor implements Ha
   private String location;
   private String targetValue;
   private CompiledExpression targetValueExpression;
+  // The content parsed once, so it isn't parsed again for each event
+  private CompiledLogTemplate compiledContent;
 
   @Override
   public void initialise() throws InitialisationException {
@@ -80,6 +83,8 @@ public class ParseTemplateProcessor extends SimpleMessageProcessor implements Ha
     if (targetValue != null) {
       targetValueExpression = compile(targetValue, expressionManager);
     }
+
+    compiledContent = expressionManager.compileLogTemplate(content);
   }
 
   private void loadContentFromLocation() throws InitialisationException {
@@ -132,7 +137,9 @@ public class ParseTemplateProcessor extends SimpleMessageProcessor implements Ha
   public CoreEvent process(CoreEvent event) {
     evaluateCorrectArguments();
 
-    String result = expressionManager.parseLogTemplate(content, event, getLocation(), NULL_BINDING_CONTEXT);
+    String result = compiledContent != null
+        ? compiledContent.render(event, getLocation(), NULL_BINDING_CONTEXT)
+        : expressionManager.parseLogTemplate(content, event, getLocation(), NULL_BINDING_CONTEXT);
     Message.Builder messageBuilder = Message.builder(event.getMessage()).value(result).nullAttributesValue();
     MediaType configuredMediaType = buildMediaType();
     if (configuredMediaType != null) {
@@ -146,17 +146,17 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
   protected abstract Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original,
                                                                             CoreEvent.Builder resultBuilder);
 
-  private Function<RoutingPair, RoutingPair> addSequence(AtomicInteger count) {
+  static Function<RoutingPair, RoutingPair> addSequence(AtomicInteger count) {
     return pair -> of(builder(pair.getEvent()).groupCorrelation(Optional.of(GroupCorrelation.of(count.getAndIncrement())))
         .build(), pair.getRoute());
   }
 
-  private Function<RoutingPair, Publisher<Pair<CoreEvent, EventProcessingException>>> processRoutePair(ProcessingStrategy processingStrategy,
-                                                                                                       int maxConcurrency,
-                                                                                                       boolean delayErrors,
-                                                                                                       long timeout,
-                                                                                                       reactor.core.scheduler.Scheduler timeoutScheduler,
-                                                                                                       ErrorType timeoutErrorType) {
+  static Function<RoutingPair, Publisher<Pair<CoreEvent, EventProcessingException>>> processRoutePair(ProcessingStrategy processingStrategy,
+                                                                                                      int maxConcurrency,
+                                                                                                      boolean delayErrors,
+                                                                                                      long timeout,
+                                                                                                      reactor.core.scheduler.Scheduler timeoutScheduler,
+                                                                                                      ErrorType timeoutErrorType) {
 
     return pair -> {
       ReactiveProcessor route = publisher -> from(publisher)
@@ -179,21 +179,21 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
     };
   }
 
-  private Publisher<Pair<CoreEvent, EventProcessingException>> getPublisher(boolean delayErrors, EventProcessingException me) {
+  private static Publisher<Pair<CoreEvent, EventProcessingException>> getPublisher(boolean delayErrors, EventProcessingException me) {
     Pair<CoreEvent, EventProcessingException> pair = new Pair<>(me.getEvent(), me);
     return delayErrors ? just(pair) : error(me);
   }
 
 
-  private Mono<CoreEvent> onTimeout(ProcessingStrategy processingStrategy, boolean delayErrors, ErrorType timeoutErrorType,
-                                    RoutingPair pair) {
+  private static Mono<CoreEvent> onTimeout(ProcessingStrategy processingStrategy, boolean delayErrors,
+                                           ErrorType timeoutErrorType, RoutingPair pair) {
     return defer(() -> delayErrors ? just(createTimeoutErrorEvent(timeoutErrorType, pair))
         : error(new TimeoutException(buildDetailedDescription(pair))))
             .transform(processingStrategy.onPipeline(p -> p));
   }
 
-  private ReactiveProcessor applyProcessingStrategy(ProcessingStrategy processingStrategy, ReactiveProcessor processor,
-                                                    int maxConcurrency) {
+  private static ReactiveProcessor applyProcessingStrategy(ProcessingStrategy processingStrategy, ReactiveProcessor processor,
+                                                           int maxConcurrency) {
     if (maxConcurrency > 1) {
       return processingStrategy.onPipeline(processor);
     } else {
@@ -201,7 +201,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
     }
   }
 
-  private CoreEvent createTimeoutErrorEvent(ErrorType timeoutErrorType, RoutingPair pair) {
+  private static CoreEvent createTimeoutErrorEvent(ErrorType timeoutErrorType, RoutingPair pair) {
     final String detailedDescription = buildDetailedDescription(pair);
 
     return builder(pair.getEvent()).message(Message.of(null))
@@ -213,7 +213,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
         .build();
   }
 
-  private String buildDetailedDescription(RoutingPair pair) {
+  private static String buildDetailedDescription(RoutingPair pair) {
     return TIMEOUT_EXCEPTION_DETAILED_DESCRIPTION_PREFIX + " '"
         + pair.getEvent().getGroupCorrelation().get().getSequence() + "'";
   }
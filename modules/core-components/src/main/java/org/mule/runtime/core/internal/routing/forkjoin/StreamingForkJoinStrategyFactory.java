@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Thread.currentThread;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.core.internal.routing.forkjoin.AbstractForkJoinStrategyFactory.addSequence;
+import static org.mule.runtime.core.internal.routing.forkjoin.AbstractForkJoinStrategyFactory.processRoutePair;
+import static reactor.core.Exceptions.unwrap;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.fromCallable;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.object.CursorIteratorProviderFactory;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategyFactory;
+import org.mule.runtime.core.privileged.exception.EventProcessingException;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link ForkJoinStrategy} that:
+ * <ul>
+ * <li>Performs parallel execution of route pairs subject to {@code maxConcurrency}.
+ * <li>Emits the result event right away, without waiting for the routes to complete.
+ * <li>Makes the route results available as they complete through a repeatable {@link Iterator} of
+ * {@link org.mule.runtime.api.message.Message} in the payload, created by the given {@link CursorIteratorProviderFactory} or by
+ * the {@link StreamingManager}'s default one.
+ * <li>Does not merge variables, since the result is emitted before routes complete.
+ * </ul>
+ * <p>
+ * Routes start as soon as the result event is emitted, without waiting for the iterator to be read. At most
+ * {@code maxConcurrency} routes are in flight and at most {@code maxConcurrency} completed results wait to be read, so the
+ * memory used for routes doesn't grow with the amount of routing pairs. Further routes are started as results are read. Reading
+ * the iterator only waits when the next result isn't available yet. Note that results are still retained by the cursor provider
+ * for them to be repeatable, so a {@link CursorIteratorProviderFactory} which offloads them from memory, such as
+ * {@link org.mule.runtime.core.api.streaming.object.ObjectStreamingManager#getFileStoreCursorProviderFactory the file store
+ * one}, should be provided when a large amount of results is expected.
+ * <p>
+ * When the cursor provider is closed, either explicitly or because the event it belongs to completes, routes not started yet are
+ * cancelled and the results of the routes in flight are discarded once they finish, so that all the child contexts complete.
+ * <p>
+ * By default results keep the order of the routing pairs. In unordered mode they are made available in completion order instead,
+ * so that a slow route doesn't hold back the results of the routes after it.
+ * <p>
+ * A route error is thrown when the iterator reaches that route's result, wrapped in a {@link MuleRuntimeException}. If errors
+ * are not delayed, routes not started yet are cancelled.
+ *
+ * @since 4.5.0
+ */
+public class StreamingForkJoinStrategyFactory implements ForkJoinStrategyFactory {
+
+  private static final DataType RESULT_DATA_TYPE = DataType.builder().streamType(Iterator.class).itemType(Message.class).build();
+
+  private final boolean unordered;
+
+  @Inject
+  private StreamingManager streamingManager;
+
+  private CursorIteratorProviderFactory cursorProviderFactory;
+
+  public StreamingForkJoinStrategyFactory() {
+    this(false);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param unordered whether results should be available in completion order rather than in the order of the routing pairs
+   */
+  public StreamingForkJoinStrategyFactory(boolean unordered) {
+    this.unordered = unordered;
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param unordered        whether results should be available in completion order rather than in the order of the routing
+   *                         pairs
+   * @param streamingManager the {@link StreamingManager} used to make the results repeatable
+   */
+  public StreamingForkJoinStrategyFactory(boolean unordered, StreamingManager streamingManager) {
+    this(unordered);
+    this.streamingManager = streamingManager;
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param unordered             whether results should be available in completion order rather than in the order of the
+   *                              routing pairs
+   * @param cursorProviderFactory the {@link CursorIteratorProviderFactory} used to make the results repeatable
+   */
+  public StreamingForkJoinStrategyFactory(boolean unordered, CursorIteratorProviderFactory cursorProviderFactory) {
+    this(unordered);
+    this.cursorProviderFactory = cursorProviderFactory;
+  }
+
+  @Override
+  public ForkJoinStrategy createForkJoinStrategy(ProcessingStrategy processingStrategy, int maxConcurrency, boolean delayErrors,
+                                                 long timeout, Scheduler timeoutScheduler, ErrorType timeoutErrorType,
+                                                 boolean isDetailedLogEnabled) {
+    reactor.core.scheduler.Scheduler reactorTimeoutScheduler = Schedulers.fromExecutorService(timeoutScheduler);
+    Function<RoutingPair, Publisher<Pair<CoreEvent, EventProcessingException>>> routeProcessor =
+        processRoutePair(processingStrategy, maxConcurrency, delayErrors, timeout, reactorTimeoutScheduler, timeoutErrorType);
+
+    CursorIteratorProviderFactory resultsProviderFactory = cursorProviderFactory != null
+        ? cursorProviderFactory
+        : streamingManager.forObjects().getDefaultCursorProviderFactory();
+
+    return (original, routingPairs) -> fromCallable(() -> {
+      final AtomicInteger count = new AtomicInteger();
+      RouteResults results = new RouteResults(maxConcurrency, original.getError());
+      Flux<RoutingPair> pairs = from(routingPairs).map(addSequence(count)).takeWhile(pair -> !results.isClosed());
+      (unordered
+          ? pairs.flatMap(routeProcessor, maxConcurrency)
+          : pairs.flatMapSequential(routeProcessor, maxConcurrency))
+              .subscribe(results);
+
+      Object payload = resultsProviderFactory.of(original.getContext(), results, null);
+
+      return builder(original).message(Message.builder().payload(new TypedValue<>(payload, RESULT_DATA_TYPE)).build()).build();
+    });
+  }
+
+  @Override
+  public DataType getResultDataType() {
+    return RESULT_DATA_TYPE;
+  }
+
+  /**
+   * Subscribes to the route results as soon as the routes are forked and keeps up to {@code capacity} of them until they are read
+   * through its {@link Iterator}. Further routes are requested as results are read, so the routes are driven by the subscription
+   * rather than by the reads.
+   * <p>
+   * Closing it discards the buffered results and stops routes not started yet from being started. The routes already in flight
+   * are left to finish, with their results discarded, so that their child contexts are completed.
+   */
+  private static class RouteResults extends BaseSubscriber<Pair<CoreEvent, EventProcessingException>>
+      implements Iterator<Message>, Closeable {
+
+    private static final Object COMPLETE = new Object();
+
+    private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+    private final int capacity;
+    private final Optional<Error> originalError;
+    private volatile boolean closed = false;
+    private Object next;
+
+    private RouteResults(int capacity, Optional<Error> originalError) {
+      this.capacity = capacity;
+      this.originalError = originalError;
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      subscription.request(capacity);
+    }
+
+    @Override
+    protected void hookOnNext(Pair<CoreEvent, EventProcessingException> result) {
+      if (!closed) {
+        buffer.add(result);
+        if (closed) {
+          buffer.clear();
+        }
+      }
+    }
+
+    @Override
+    protected void hookOnComplete() {
+      buffer.add(COMPLETE);
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      buffer.add(throwable);
+    }
+
+    private boolean isClosed() {
+      return closed;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (closed) {
+        return false;
+      }
+
+      if (next == null) {
+        try {
+          next = buffer.take();
+        } catch (InterruptedException e) {
+          currentThread().interrupt();
+          throw new MuleRuntimeException(createStaticMessage("Interrupted while waiting for a route/part result"), e);
+        }
+      }
+
+      if (next == COMPLETE) {
+        return false;
+      }
+      if (next instanceof Throwable) {
+        Throwable failure = (Throwable) next;
+        next = COMPLETE;
+        throw routeFailed(unwrap(failure), null);
+      }
+      return true;
+    }
+
+    @Override
+    public Message next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      Pair<CoreEvent, EventProcessingException> result = (Pair<CoreEvent, EventProcessingException>) next;
+      next = null;
+      request(1);
+
+      CoreEvent event = result.getFirst();
+      Optional<Error> error = event.getError();
+      if (error.isPresent() && !error.equals(originalError)) {
+        throw routeFailed(result.getSecond() != null ? result.getSecond() : error.get().getCause(), event);
+      }
+
+      return event.getMessage();
+    }
+
+    private MuleRuntimeException routeFailed(Throwable cause, CoreEvent event) {
+      if (event == null && cause instanceof EventProcessingException) {
+        event = ((EventProcessingException) cause).getEvent();
+      }
+
+      String route = event != null && event.getGroupCorrelation().isPresent()
+          ? " '" + event.getGroupCorrelation().get().getSequence() + "'"
+          : "";
+      return new MuleRuntimeException(createStaticMessage("Error processing route/part" + route), cause);
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      buffer.clear();
+      next = null;
+      // Let the routes in flight finish so their child contexts complete. No new routes are started once closed.
+      requestUnbounded();
+    }
+  }
+}
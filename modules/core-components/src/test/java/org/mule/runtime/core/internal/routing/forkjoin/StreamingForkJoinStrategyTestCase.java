@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.error.Errors.ComponentIdentifiers.Handleable.TIMEOUT;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
+import static org.mule.tck.probe.PollingProber.probe;
+import static org.mule.test.allure.AllureConstants.ForkJoinStrategiesFeature.FORK_JOIN_STRATEGIES;
+import static org.mule.test.allure.AllureConstants.ForkJoinStrategiesFeature.ForkJoinStrategiesStory.STREAMING_RESULTS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static reactor.core.publisher.Flux.fromIterable;
+import static reactor.core.publisher.Mono.from;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
+
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.api.streaming.DefaultStreamingManager;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(FORK_JOIN_STRATEGIES)
+@Story(STREAMING_RESULTS)
+public class StreamingForkJoinStrategyTestCase extends AbstractMuleContextTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final List<MessageProcessorChain> chains = new ArrayList<>();
+  private DefaultStreamingManager streamingManager;
+  private ProcessingStrategy processingStrategy;
+  private Scheduler scheduler;
+  private ErrorType timeoutErrorType;
+
+  @Before
+  public void setup() throws Exception {
+    streamingManager = new DefaultStreamingManager();
+    initialiseIfNeeded(streamingManager, true, muleContext);
+
+    scheduler = muleContext.getSchedulerService().ioScheduler();
+    processingStrategy = mock(ProcessingStrategy.class);
+    when(processingStrategy.onPipeline(any(ReactiveProcessor.class)))
+        .thenAnswer(invocation -> {
+          ReactiveProcessor processor = invocation.getArgument(0);
+          return (ReactiveProcessor) publisher -> from(publisher).publishOn(fromExecutorService(scheduler)).transform(processor);
+        });
+    timeoutErrorType = muleContext.getErrorTypeRepository().getErrorType(TIMEOUT).get();
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.stop();
+    disposeIfNeeded(chains, getLogger(getClass()));
+    chains.clear();
+    disposeIfNeeded(streamingManager, getLogger(getClass()));
+  }
+
+  @Test
+  @Description("Route results are made available through a repeatable iterator in the order of the routing pairs.")
+  public void orderedResults() throws Throwable {
+    CoreEvent result = invokeStrategyBlocking(createStrategy(false, 4, true), createRoutingPairs(3, i -> 30 - i * 10));
+
+    assertThat(result.getMessage().getPayload().getDataType(), is(new StreamingForkJoinStrategyFactory().getResultDataType()));
+    assertThat(result.getMessage().getPayload().getValue(), instanceOf(CursorIteratorProvider.class));
+    assertThat(consume(result), contains(0, 1, 2));
+    assertThat("results are not repeatable", consume(result), contains(0, 1, 2));
+  }
+
+  @Test
+  @Description("In unordered mode route results are made available in completion order.")
+  public void unorderedResults() throws Throwable {
+    CoreEvent result = invokeStrategyBlocking(createStrategy(true, 4, true), createRoutingPairs(3, i -> 300 - i * 100));
+
+    assertThat(consume(result), contains(2, 1, 0));
+  }
+
+  @Test
+  @Description("The result event is emitted before the routes complete.")
+  public void resultEmittedBeforeRoutesComplete() throws Throwable {
+    CountDownLatch latch = new CountDownLatch(1);
+    List<RoutingPair> pairs = new ArrayList<>();
+    pairs.add(of(testEvent(), createChain(new TestProcessor(0, () -> latch.await(5, SECONDS)))));
+
+    CoreEvent result = invokeStrategyBlocking(createStrategy(false, 4, true), pairs);
+    latch.countDown();
+
+    assertThat(consume(result), contains(0));
+  }
+
+  @Test
+  @Description("Routes are executed without waiting for the results to be read.")
+  public void routesStartBeforeRead() throws Throwable {
+    AtomicInteger processed = new AtomicInteger();
+    CoreEvent result = invokeStrategyBlocking(createStrategy(false, 4, true),
+                                              createRoutingPairs(3, i -> {
+                                                processed.incrementAndGet();
+                                                return 0;
+                                              }));
+
+    probe(() -> processed.get() == 3);
+    assertThat(consume(result), contains(0, 1, 2));
+  }
+
+  @Test
+  @Description("The amount of routes processed ahead of the consumer is bounded by maxConcurrency.")
+  public void boundedByMaxConcurrency() throws Throwable {
+    AtomicInteger processed = new AtomicInteger();
+    CoreEvent result = invokeStrategyBlocking(createStrategy(false, 2, true),
+                                              createRoutingPairs(50, i -> {
+                                                processed.incrementAndGet();
+                                                return 0;
+                                              }));
+    sleep(200);
+
+    assertThat(processed.get(), lessThan(10));
+    assertThat(consume(result).size(), is(50));
+    assertThat(processed.get(), is(50));
+  }
+
+  @Test
+  @Description("A route error is thrown when the iterator reaches that route's result.")
+  public void errorThrownWhenReached() throws Throwable {
+    List<RoutingPair> pairs = createRoutingPairs(1, i -> 0);
+    pairs.add(of(testEvent(), createChain(new TestProcessor(1, () -> {
+      throw new IllegalStateException("expected");
+    }))));
+
+    CoreEvent result = invokeStrategyBlocking(createStrategy(false, 4, true), pairs);
+    CursorIterator<Message> cursor = openCursor(result);
+    try {
+      assertThat(cursor.next().getPayload().getValue(), is(0));
+
+      expectedException.expect(MuleRuntimeException.class);
+      expectedException.expectMessage("Error processing route/part '1'");
+      cursor.next();
+    } finally {
+      cursor.close();
+    }
+  }
+
+  @Test
+  @Description("Closing the results provider cancels the routes not started yet and completes the child contexts of the routes in flight.")
+  public void closeCancelsRemainingRoutes() throws Throwable {
+    AtomicInteger processed = new AtomicInteger();
+    CoreEvent original = testEvent();
+    CoreEvent result = from(createStrategy(false, 2, true).forkJoin(original, fromIterable(createRoutingPairs(50, i -> {
+      processed.incrementAndGet();
+      return 10;
+    })))).block();
+
+    CursorIteratorProvider provider = (CursorIteratorProvider) result.getMessage().getPayload().getValue();
+    try (CursorIterator<Message> cursor = provider.openCursor()) {
+      assertThat(cursor.next().getPayload().getValue(), is(0));
+    }
+    provider.close();
+
+    BaseEventContext context = (BaseEventContext) original.getContext();
+    context.success(result);
+    probe(context::isTerminated);
+    assertThat(processed.get(), lessThan(50));
+  }
+
+  private ForkJoinStrategy createStrategy(boolean unordered, int concurrency, boolean delayErrors) {
+    return new StreamingForkJoinStrategyFactory(unordered, streamingManager)
+        .createForkJoinStrategy(processingStrategy, concurrency, delayErrors, MAX_VALUE, scheduler, timeoutErrorType, false);
+  }
+
+  private CoreEvent invokeStrategyBlocking(ForkJoinStrategy strategy, List<RoutingPair> routingPairs) throws MuleException {
+    return from(strategy.forkJoin(testEvent(), fromIterable(routingPairs))).block();
+  }
+
+  private List<RoutingPair> createRoutingPairs(int number, SleepFunction sleep) {
+    return range(0, number).mapToObj(i -> {
+      try {
+        return of(testEvent(), createChain(new TestProcessor(i, () -> sleep(sleep.sleepFor(i)))));
+      } catch (MuleException e) {
+        throw new RuntimeException(e);
+      }
+    }).collect(toList());
+  }
+
+  private MessageProcessorChain createChain(Processor processor) throws MuleException {
+    MessageProcessorChain chain = newChain(Optional.empty(), processor);
+    chains.add(chain);
+    initialiseIfNeeded(chain, muleContext);
+    return chain;
+  }
+
+  private CursorIterator<Message> openCursor(CoreEvent result) {
+    return ((CursorIteratorProvider) result.getMessage().getPayload().getValue()).openCursor();
+  }
+
+  private List<Object> consume(CoreEvent result) throws Exception {
+    List<Object> payloads = new ArrayList<>();
+    try (CursorIterator<Message> cursor = openCursor(result)) {
+      cursor.forEachRemaining(message -> payloads.add(message.getPayload().getValue()));
+    }
+    return payloads;
+  }
+
+  @FunctionalInterface
+  private interface SleepFunction {
+
+    long sleepFor(int route);
+  }
+
+  @FunctionalInterface
+  private interface RouteAction {
+
+    void run() throws Exception;
+  }
+
+  private static class TestProcessor extends AbstractComponent implements Processor {
+
+    private final int result;
+    private final RouteAction action;
+
+    private TestProcessor(int result, RouteAction action) {
+      this.result = result;
+      this.action = action;
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) throws MuleException {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+      return CoreEvent.builder(event).message(of(result)).build();
+    }
+  }
+}
@@ -36,6 +36,7 @@ import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledTemplate;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
@@ -181,6 +182,24 @@ public class DefaultExpressionManagerMelDefaultTestCase extends AbstractMuleCont
                is(format("this is %s", TEST_PAYLOAD)));
   }
 
+  @Test
+  @Description("Verifies that a compiled template renders the same as parsing the template, for many events.")
+  public void compiledTemplate() throws MuleException {
+    CompiledTemplate template = expressionManager.compileTemplate("this is #[payload] and #[flowVars.myVar]!");
+    for (String value : new String[] {"first", "second"}) {
+      CoreEvent event = getEventBuilder().message(of(value)).addVariable("myVar", value + "Var").build();
+      assertThat(template.render(event, TEST_CONNECTOR_LOCATION), is(format("this is %s and %sVar!", value, value)));
+    }
+  }
+
+  @Test
+  @Description("Verifies that a malformed template can be compiled, and fails when rendered as when parsing it.")
+  public void compiledTemplateMalformed() throws MuleException {
+    CompiledTemplate template = expressionManager.compileTemplate("this is #[payload");
+    expectedException.expect(IllegalArgumentException.class);
+    template.render(testEvent(), TEST_CONNECTOR_LOCATION);
+  }
+
   @Test
   @Description("Verifies that parsing works for plain String scenarios.")
   public void parse() throws MuleException {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.nio.file.FileSystems.getDefault;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listens for changes in the deployment directories through a {@link WatchService}, so that changes are processed as soon as
+ * they happen instead of waiting for the next scan of the directories.
+ * <p>
+ * Changes usually come in bursts (for instance, while an archive is being copied), so the {@code onChange} callback is only
+ * triggered once no further changes have been detected for the configured debounce time.
+ * <p>
+ * Only the registered directories are watched, not their subdirectories. Events may also be lost if the underlying file system
+ * does not support them, so this does not replace a periodic scan of the deployment directories, it just reduces the latency of
+ * detecting the changes.
+ *
+ * @since 4.5.0
+ */
+final class DeploymentDirectoryWatchService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentDirectoryWatchService.class);
+
+  private final WatchService watchService;
+  private final ScheduledExecutorService executor;
+  private final long debounceMs;
+  private final Runnable onChange;
+  private final Thread watchThread;
+
+  private ScheduledFuture<?> pendingChange;
+
+  /**
+   * Creates a new watch service.
+   *
+   * @param executor   the executor where {@code onChange} will be run
+   * @param debounceMs the time without changes to wait for before running {@code onChange}
+   * @param onChange   the callback to run when changes are detected
+   * @throws IOException if the file system does not provide a {@link WatchService}
+   */
+  DeploymentDirectoryWatchService(ScheduledExecutorService executor, long debounceMs, Runnable onChange) throws IOException {
+    this.watchService = getDefault().newWatchService();
+    this.executor = executor;
+    this.debounceMs = debounceMs;
+    this.onChange = onChange;
+    this.watchThread = new ArtifactDeployerMonitorThreadFactory().newThread(this::watch);
+  }
+
+  /**
+   * Starts listening for changes on the registered directories.
+   */
+  void start() {
+    watchThread.start();
+  }
+
+  /**
+   * Watches for entries created, modified or deleted in the given directory. Registering the same directory again has no effect.
+   *
+   * @param directory the directory to watch
+   */
+  void register(File directory) {
+    if (!directory.isDirectory()) {
+      return;
+    }
+
+    try {
+      directory.toPath().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+    } catch (ClosedWatchServiceException e) {
+      // Already stopped, nothing to do
+    } catch (IOException e) {
+      LOGGER.warn("Unable to watch directory '{}' for changes, they will be detected by the periodic scan",
+                  directory.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Triggers the {@code onChange} callback as if a change had been detected, after the debounce time.
+   */
+  synchronized void changeDetected() {
+    if (pendingChange != null) {
+      pendingChange.cancel(false);
+    }
+
+    try {
+      pendingChange = executor.schedule(onChange, debounceMs, MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // Being stopped, nothing to do
+      pendingChange = null;
+    }
+  }
+
+  /**
+   * Stops listening for changes. Pending callbacks are discarded.
+   */
+  void stop() {
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOGGER.warn("Error closing deployment directories watch service", e);
+    }
+
+    synchronized (this) {
+      if (pendingChange != null) {
+        pendingChange.cancel(false);
+        pendingChange = null;
+      }
+    }
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        final WatchKey key = watchService.take();
+        // The contents of the events are not relevant, the whole deployment directory is checked anyway
+        if (!key.pollEvents().isEmpty()) {
+          changeDetected();
+        }
+        // An invalid key means its directory is gone, which the deletion event already accounts for
+        key.reset();
+      }
+    } catch (ClosedWatchServiceException e) {
+      // Stopped
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
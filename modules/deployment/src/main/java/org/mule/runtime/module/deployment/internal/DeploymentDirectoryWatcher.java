@@ -10,9 +10,11 @@ import static org.mule.runtime.api.util.MuleSystemProperties.DEPLOYMENT_APPLICAT
 import static org.mule.runtime.container.api.MuleFoldersUtil.getDomainsFolder;
 import static org.mule.runtime.core.internal.logging.LogUtil.log;
 import static org.mule.runtime.core.internal.util.splash.SplashScreen.miniSplash;
+import static org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptor.MULE_ARTIFACT_JSON_DESCRIPTOR_LOCATION;
 import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
 import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.ZIP_FILE_SUFFIX;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
 import static java.lang.Thread.currentThread;
@@ -36,7 +38,6 @@ import org.mule.runtime.deployment.model.api.application.Application;
 import org.mule.runtime.deployment.model.api.domain.Domain;
 import org.mule.runtime.module.artifact.api.Artifact;
 import org.mule.runtime.module.artifact.api.descriptor.ApplicationDescriptor;
-import org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptor;
 import org.mule.runtime.module.artifact.api.descriptor.DeployableArtifactDescriptor;
 import org.mule.runtime.module.artifact.api.descriptor.DomainDescriptor;
 import org.mule.runtime.module.deployment.internal.util.DebuggableReentrantLock;
@@ -47,6 +48,7 @@ import org.mule.runtime.module.deployment.internal.util.ObservableList;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -72,22 +74,30 @@ import org.slf4j.LoggerFactory;
  * It will deploy the applications at the container startup process. It will periodically scan the artifact directories in order
  * to process new deployments, remove artifacts that were previously deployed but the anchor file was removed and redeploy those
  * applications which configuration has changed.
+ * <p/>
+ * Unless disabled through {@link #WATCH_DIRECTORIES_PROPERTY}, changes in the artifact directories are also listened for with a
+ * {@link DeploymentDirectoryWatchService}, so they are processed as soon as they happen. In that case the periodic scan is just a
+ * reconciliation of the changes that could have been missed, and is done less frequently.
  */
 public class DeploymentDirectoryWatcher implements Runnable {
 
   public static final String ARTIFACT_ANCHOR_SUFFIX = "-anchor.txt";
   public static final String CHANGE_CHECK_INTERVAL_PROPERTY = "mule.launcher.changeCheckInterval";
+  public static final String WATCH_DIRECTORIES_PROPERTY = "mule.launcher.watchDirectories";
+  public static final String WATCH_DEBOUNCE_PROPERTY = "mule.launcher.watchDebounce";
   public static final IOFileFilter JAR_ARTIFACT_FILTER =
       new AndFileFilter(new SuffixFileFilter(JAR_FILE_SUFFIX, INSENSITIVE), FileFileFilter.FILE);
   public static final IOFileFilter ZIP_ARTIFACT_FILTER =
       new AndFileFilter(new SuffixFileFilter(ZIP_FILE_SUFFIX, INSENSITIVE), FileFileFilter.FILE);
 
   protected static final int DEFAULT_CHANGES_CHECK_INTERVAL_MS = 5000;
+  protected static final int DEFAULT_RECONCILIATION_INTERVAL_MS = 60000;
+  protected static final int DEFAULT_WATCH_DEBOUNCE_MS = 500;
 
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final ReentrantLock deploymentLock;
-  private final ArchiveDeployer<DomainDescriptor, Domain> domainArchiveDeployer;
+  protected final ArchiveDeployer<DomainDescriptor, Domain> domainArchiveDeployer;
   protected final ArchiveDeployer<ApplicationDescriptor, Application> applicationArchiveDeployer;
   protected final Supplier<SchedulerService> schedulerServiceSupplier;
   private final ArtifactTimestampListener<Application> applicationTimestampListener;
@@ -98,8 +108,10 @@ public class DeploymentDirectoryWatcher implements Runnable {
   private final File appsDir;
   private final File domainsDir;
   private ScheduledExecutorService artifactDirMonitorTimer;
+  private volatile DeploymentDirectoryWatchService directoryWatchService;
 
   protected volatile boolean dirty;
+  private volatile boolean cycleSkipped;
 
   public DeploymentDirectoryWatcher(DomainBundleArchiveDeployer domainBundleDeployer,
                                     final ArchiveDeployer<DomainDescriptor, Domain> domainArchiveDeployer,
@@ -122,6 +134,9 @@ public class DeploymentDirectoryWatcher implements Runnable {
         }
         dirty = true;
       }
+      if (e instanceof ElementAddedEvent) {
+        watchArtifactResources((Artifact<?>) e.getNewValue());
+      }
     });
     domains.addPropertyChangeListener(e -> {
       if (e instanceof ElementAddedEvent || e instanceof ElementRemovedEvent) {
@@ -130,6 +145,9 @@ public class DeploymentDirectoryWatcher implements Runnable {
         }
         dirty = true;
       }
+      if (e instanceof ElementAddedEvent) {
+        watchArtifactResources((Artifact<?>) e.getNewValue());
+      }
     });
     this.schedulerServiceSupplier = schedulerServiceSupplier;
     this.applicationTimestampListener = new ArtifactTimestampListener<>(applications);
@@ -218,22 +236,94 @@ public class DeploymentDirectoryWatcher implements Runnable {
   }
 
   private static int getChangesCheckIntervalMs() {
+    return getIntProperty(CHANGE_CHECK_INTERVAL_PROPERTY, DEFAULT_CHANGES_CHECK_INTERVAL_MS);
+  }
+
+  private static int getIntProperty(String propertyName, int defaultValue) {
     try {
-      String value = getProperty(CHANGE_CHECK_INTERVAL_PROPERTY);
+      String value = getProperty(propertyName);
       return Integer.parseInt(value);
     } catch (NumberFormatException e) {
-      return DEFAULT_CHANGES_CHECK_INTERVAL_MS;
+      return defaultValue;
     }
   }
 
+  private static boolean isWatchDirectoriesEnabled() {
+    return parseBoolean(getProperty(WATCH_DIRECTORIES_PROPERTY, "true"));
+  }
+
   private void scheduleChangeMonitor() {
-    final int reloadIntervalMs = getChangesCheckIntervalMs();
     // TODO MULE-12337 migrate this to an scheduler
     artifactDirMonitorTimer = newSingleThreadScheduledExecutor(new ArtifactDeployerMonitorThreadFactory());
 
+    final int reloadIntervalMs;
+    if (isWatchDirectoriesEnabled() && startDirectoryWatchService()) {
+      // An explicitly configured interval is honored, otherwise the scan is just a fallback for missed events
+      reloadIntervalMs = getIntProperty(CHANGE_CHECK_INTERVAL_PROPERTY, DEFAULT_RECONCILIATION_INTERVAL_MS);
+    } else {
+      reloadIntervalMs = getChangesCheckIntervalMs();
+    }
+
     artifactDirMonitorTimer.scheduleWithFixedDelay(this, reloadIntervalMs, reloadIntervalMs, MILLISECONDS);
 
-    log(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
+    if (directoryWatchService != null) {
+      log(miniSplash(format("Mule is up and kicking (watching for changes, every %dms)", reloadIntervalMs)));
+    } else {
+      log(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
+    }
+  }
+
+  private boolean startDirectoryWatchService() {
+    final DeploymentDirectoryWatchService watchService;
+    try {
+      watchService = new DeploymentDirectoryWatchService(artifactDirMonitorTimer,
+                                                         getIntProperty(WATCH_DEBOUNCE_PROPERTY, DEFAULT_WATCH_DEBOUNCE_MS),
+                                                         this::runOnDirectoryChange);
+    } catch (IOException | UnsupportedOperationException e) {
+      logger.warn("Unable to watch the deployment directories for changes, falling back to scanning them periodically", e);
+      return false;
+    }
+
+    watchService.register(domainsDir);
+    watchService.register(appsDir);
+    directoryWatchService = watchService;
+    // Artifacts deployed before the watch service was available
+    domains.forEach(this::watchArtifactResources);
+    applications.forEach(this::watchArtifactResources);
+
+    watchService.start();
+    return true;
+  }
+
+  private void runOnDirectoryChange() {
+    run();
+    if (cycleSkipped && directoryWatchService != null) {
+      // Another deployment operation was in progress, so the detected changes have to be processed once it is done
+      directoryWatchService.changeDetected();
+    }
+  }
+
+  /**
+   * Watches the directories where the resources of the given artifact are, so changes in them are processed without waiting for
+   * the next scan.
+   */
+  private void watchArtifactResources(Artifact<?> artifact) {
+    final DeploymentDirectoryWatchService watchService = directoryWatchService;
+    if (watchService == null || !(artifact.getDescriptor() instanceof DeployableArtifactDescriptor)) {
+      return;
+    }
+
+    final DeployableArtifactDescriptor descriptor = (DeployableArtifactDescriptor) artifact.getDescriptor();
+    if (!descriptor.isRedeploymentEnabled()) {
+      return;
+    }
+
+    for (File resourceFile : artifact.getResourceFiles()) {
+      watchService.register(resourceFile.getParentFile());
+    }
+    if (descriptor.getArtifactLocation() != null) {
+      watchService.register(new File(descriptor.getArtifactLocation(), MULE_ARTIFACT_JSON_DESCRIPTOR_LOCATION).getParentFile());
+    }
   }
 
   protected void deployPackedApps(String[] zips) {
@@ -274,12 +364,14 @@ public class DeploymentDirectoryWatcher implements Runnable {
       // use non-barging lock to preserve fairness, according to javadocs
       // if there's a lock present - wait for next poll to do anything
       if (!deploymentLock.tryLock(0, SECONDS)) {
+        cycleSkipped = true;
         if (logger.isDebugEnabled()) {
           logger.debug("Another deployment operation in progress, will skip this cycle. Owner thread: "
               + ((DebuggableReentrantLock) deploymentLock).getOwner());
         }
         return;
       }
+      cycleSkipped = false;
 
       undeployRemovedApps();
 
@@ -420,7 +512,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     return anchors;
   }
 
-  private void deployExplodedDomains(String[] domains) {
+  protected void deployExplodedDomains(String[] domains) {
     for (String addedDomain : domains) {
       try {
         if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
@@ -432,7 +524,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
-  private void deployPackedDomains(String[] zips) {
+  protected void deployPackedDomains(String[] zips) {
     for (String zip : zips) {
       try {
         domainArchiveDeployer.deployPackagedArtifact(zip, empty());
@@ -501,6 +593,10 @@ public class DeploymentDirectoryWatcher implements Runnable {
   }
 
   private void stopAppDirMonitorTimer() {
+    if (directoryWatchService != null) {
+      directoryWatchService.stop();
+      directoryWatchService = null;
+    }
     if (artifactDirMonitorTimer != null) {
       artifactDirMonitorTimer.shutdown();
       try {
@@ -547,7 +643,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
       }
       File descriptorFile =
           new File(((DeployableArtifactDescriptor) artifact.getDescriptor()).getArtifactLocation(),
-                   ArtifactDescriptor.MULE_ARTIFACT_JSON_DESCRIPTOR_LOCATION);
+                   MULE_ARTIFACT_JSON_DESCRIPTOR_LOCATION);
       if (descriptorFile.exists()) {
         timestampsPerResource.put(descriptorFile.getAbsolutePath(), descriptorFile.lastModified());
       }
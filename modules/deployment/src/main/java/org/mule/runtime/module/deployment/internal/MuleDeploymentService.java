@@ -13,7 +13,7 @@ import static org.mule.runtime.container.api.MuleFoldersUtil.getAppsFolder;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getDomainsFolder;
 import static org.mule.runtime.module.deployment.internal.ArtifactDeploymentTemplate.NOP_ARTIFACT_DEPLOYMENT_TEMPLATE;
 import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
-import static org.mule.runtime.module.deployment.internal.ParallelDeploymentDirectoryWatcher.MAX_APPS_IN_PARALLEL_DEPLOYMENT;
+import static org.mule.runtime.module.deployment.internal.ParallelDeploymentDirectoryWatcher.getMaxParallelDeployments;
 
 import static java.lang.String.format;
 import static java.lang.System.getProperties;
@@ -105,7 +105,7 @@ public class MuleDeploymentService implements DeploymentService {
     artifactStartExecutor = new LazyValue<>(() -> artifactStartExecutorSupplier.get()
         .customScheduler(config()
             .withName("ArtifactDeployer.start")
-            .withMaxConcurrentTasks(useParallelDeployment() ? MAX_APPS_IN_PARALLEL_DEPLOYMENT : 1),
+            .withMaxConcurrentTasks(useParallelDeployment() ? getMaxParallelDeployments() : 1),
                          MAX_QUEUED_STARTING_ARTIFACTS));
     // TODO MULE-9653 : Migrate domain class loader creation to use ArtifactClassLoaderBuilder which already has support for
     // artifact plugins.
@@ -8,7 +8,10 @@
 package org.mule.runtime.module.deployment.internal;
 
 import static org.mule.runtime.api.scheduler.SchedulerConfig.config;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
 import static java.lang.Thread.currentThread;
 import static java.util.Optional.empty;
 
@@ -29,7 +32,11 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
- * Provides parallel deployment of Mule applications.
+ * Provides parallel deployment of Mule domains and applications.
+ * <p>
+ * Domains are deployed in parallel first, and then the applications, also in parallel, so an application is always deployed after
+ * the domain it belongs to. Deployments are run in a pool that is kept for the lifetime of this watcher, with up to
+ * {@link #PARALLEL_DEPLOYMENT_MAX_CONCURRENCY_PROPERTY} concurrent deployments.
  *
  * @since 3.8.2
  */
@@ -37,6 +44,14 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
 
   public static final int MAX_APPS_IN_PARALLEL_DEPLOYMENT = 20;
 
+  /**
+   * The maximum amount of artifacts to deploy concurrently. Defaults to {@link #MAX_APPS_IN_PARALLEL_DEPLOYMENT}.
+   *
+   * @since 4.5.0
+   */
+  public static final String PARALLEL_DEPLOYMENT_MAX_CONCURRENCY_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "deployment.parallel.maxConcurrency";
+
   private Scheduler threadPoolExecutor;
 
   public ParallelDeploymentDirectoryWatcher(DomainBundleArchiveDeployer domainBundleDeployer,
@@ -48,12 +63,66 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
           schedulerServiceSupplier, deploymentLock);
   }
 
+  /**
+   * @return the maximum amount of artifacts to deploy concurrently.
+   * @since 4.5.0
+   */
+  static int getMaxParallelDeployments() {
+    return max(1, getInteger(PARALLEL_DEPLOYMENT_MAX_CONCURRENCY_PROPERTY, MAX_APPS_IN_PARALLEL_DEPLOYMENT));
+  }
+
   @Override
-  protected void deployPackedApps(String[] zips) {
-    if (zips.length == 0) {
-      return;
+  public void stop() {
+    try {
+      super.stop();
+    } finally {
+      synchronized (this) {
+        if (threadPoolExecutor != null) {
+          threadPoolExecutor.stop();
+          threadPoolExecutor = null;
+        }
+      }
     }
+  }
 
+  @Override
+  protected void deployPackedDomains(String[] zips) {
+    List<Callable<Object>> tasks = new ArrayList<>(zips.length);
+    for (final String zip : zips) {
+      tasks.add(() -> {
+        try {
+          domainArchiveDeployer.deployPackagedArtifact(zip, empty());
+        } catch (Exception e) {
+          // Ignore and continue
+        }
+        return null;
+      });
+    }
+
+    waitForTasksToFinish(tasks);
+  }
+
+  @Override
+  protected void deployExplodedDomains(String[] domains) {
+    List<Callable<Object>> tasks = new ArrayList<>(domains.length);
+    for (final String addedDomain : domains) {
+      if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
+        tasks.add(() -> {
+          try {
+            domainArchiveDeployer.deployExplodedArtifact(addedDomain, empty());
+          } catch (Exception e) {
+            logger.error("Error deploying domain '{}'", addedDomain, e);
+          }
+          return null;
+        });
+      }
+    }
+
+    waitForTasksToFinish(tasks);
+  }
+
+  @Override
+  protected void deployPackedApps(String[] zips) {
     List<Callable<Object>> tasks = new ArrayList<>(zips.length);
     for (final String zip : zips) {
       tasks.add(() -> {
@@ -87,17 +156,24 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
       }
     }
 
-    if (!tasks.isEmpty()) {
-      waitForTasksToFinish(tasks);
+    waitForTasksToFinish(tasks);
+  }
+
+  private synchronized Scheduler getThreadPoolExecutor() {
+    if (threadPoolExecutor == null) {
+      threadPoolExecutor = schedulerServiceSupplier.get()
+          .ioScheduler(config().withName("parallelDeployment").withMaxConcurrentTasks(getMaxParallelDeployments()));
     }
+    return threadPoolExecutor;
   }
 
   private void waitForTasksToFinish(List<Callable<Object>> tasks) {
-    this.threadPoolExecutor =
-        schedulerServiceSupplier.get()
-            .ioScheduler(config().withName("parallelDeployment").withMaxConcurrentTasks(MAX_APPS_IN_PARALLEL_DEPLOYMENT));
+    if (tasks.isEmpty()) {
+      return;
+    }
+
     try {
-      final List<Future<Object>> futures = threadPoolExecutor.invokeAll(tasks);
+      final List<Future<Object>> futures = getThreadPoolExecutor().invokeAll(tasks);
 
       for (Future<Object> future : futures) {
         try {
@@ -109,8 +185,6 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
 
     } catch (InterruptedException e) {
       currentThread().interrupt();
-    } finally {
-      threadPoolExecutor.stop();
     }
   }
 }
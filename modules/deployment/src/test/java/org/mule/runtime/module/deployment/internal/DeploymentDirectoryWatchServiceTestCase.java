@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static org.mule.test.allure.AllureConstants.ArtifactDeploymentFeature.APP_DEPLOYMENT;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(APP_DEPLOYMENT)
+public class DeploymentDirectoryWatchServiceTestCase extends AbstractMuleTestCase {
+
+  private static final long DEBOUNCE_MS = 200;
+  private static final long TIMEOUT_MS = 10000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final AtomicInteger changes = new AtomicInteger();
+  private ScheduledExecutorService executor;
+  private DeploymentDirectoryWatchService watchService;
+
+  @Before
+  public void setUp() throws Exception {
+    executor = newSingleThreadScheduledExecutor();
+    watchService = new DeploymentDirectoryWatchService(executor, DEBOUNCE_MS, changes::incrementAndGet);
+    watchService.register(temporaryFolder.getRoot());
+    watchService.start();
+  }
+
+  @After
+  public void tearDown() {
+    watchService.stop();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void burstOfChangesIsDebounced() throws Exception {
+    for (int i = 0; i < 10; ++i) {
+      temporaryFolder.newFile("app" + i + ".jar");
+    }
+
+    new PollingProber(TIMEOUT_MS, DEBOUNCE_MS).check(new JUnitLambdaProbe(() -> changes.get() == 1));
+    Thread.sleep(DEBOUNCE_MS * 3);
+    assertThat(changes.get(), is(1));
+  }
+
+  @Test
+  public void changesInRegisteredSubdirectory() throws Exception {
+    final File appDir = temporaryFolder.newFolder("app");
+    new PollingProber(TIMEOUT_MS, DEBOUNCE_MS).check(new JUnitLambdaProbe(() -> changes.get() == 1));
+
+    watchService.register(appDir);
+    new File(appDir, "mule-config.xml").createNewFile();
+
+    new PollingProber(TIMEOUT_MS, DEBOUNCE_MS).check(new JUnitLambdaProbe(() -> changes.get() == 2));
+  }
+
+  @Test
+  public void noChangesAfterStop() throws Exception {
+    watchService.stop();
+    temporaryFolder.newFile("app.jar");
+
+    Thread.sleep(DEBOUNCE_MS * 3);
+    assertThat(changes.get(), is(0));
+  }
+}
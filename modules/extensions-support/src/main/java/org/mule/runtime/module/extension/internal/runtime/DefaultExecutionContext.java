@@ -27,6 +27,7 @@ import org.mule.runtime.core.internal.message.InternalEvent;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
 import org.mule.runtime.module.extension.internal.runtime.operation.ProcessorChainExecutor;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResultMap;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -140,6 +141,10 @@ public class DefaultExecutionContext<M extends ComponentModel> implements Execut
    */
   @Override
   public Map<String, Object> getParameters() {
+    if (parameters instanceof ResolverSetResultMap) {
+      // already immutable
+      return parameters;
+    }
     return unmodifiableMap(parameters);
   }
 
@@ -6,10 +6,11 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Integer.getInteger;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
-import static org.mule.runtime.api.util.collection.Collectors.toImmutableList;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.assertNotStopping;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -50,14 +51,16 @@ import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvin
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 import org.mule.runtime.module.extension.internal.value.ValueProviderMediator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 
@@ -77,15 +80,18 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   private static final Logger LOGGER = getLogger(DynamicConfigurationProvider.class);
 
+  private static final int DEFAULT_MAX_INSTANCES = getInteger("mule.dynamicConfig.maxInstances", MAX_VALUE);
+
   private final ConfigurationInstanceFactory configurationInstanceFactory;
   private final ResolverSet resolverSet;
   private final ConnectionProviderValueResolver connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
 
-  private final Map<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> cache = new ConcurrentHashMap<>();
-  private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
-  private final Lock cacheReadLock = cacheLock.readLock();
-  private final Lock cacheWriteLock = cacheLock.writeLock();
+  private final Map<CacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
+  private final Queue<ConfigurationInstance> evicted = new ConcurrentLinkedQueue<>();
+  // Only used when there is a maximum of instances, in the order the entries were first used or last given a second chance
+  private final Queue<EvictionCandidate> evictionCandidates = new ConcurrentLinkedQueue<>();
+  private final int maxInstances;
   private final ReflectionCache reflectionCache;
   private final ExpressionManager expressionManager;
 
@@ -111,6 +117,36 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
                                       ReflectionCache reflectionCache,
                                       ExpressionManager expressionManager,
                                       MuleContext muleContext) {
+    this(name, extension, config, resolverSet, connectionProviderResolver, expirationPolicy, reflectionCache, expressionManager,
+         muleContext, DEFAULT_MAX_INSTANCES);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param name                       this provider's name
+   * @param extension                  the model that owns the {@code configurationModel}
+   * @param config                     the model for the returned configurations
+   * @param resolverSet                the {@link ResolverSet} that provides the configuration's parameter values
+   * @param connectionProviderResolver a {@link ValueResolver} used to obtain a {@link ConnectionProvider}
+   * @param expirationPolicy           the {@link ExpirationPolicy} for the unused instances
+   * @param reflectionCache            the {@link ReflectionCache} used to improve reflection lookups performance
+   * @param expressionManager          the {@link ExpressionManager} used to create a session used to evaluate the attributes.
+   * @param muleContext                the {@link MuleContext} that will own the configuration instances
+   * @param maxInstances               the maximum number of live configuration instances, or {@link Integer#MAX_VALUE} for no
+   *                                   limit
+   * @since 4.5.0
+   */
+  public DynamicConfigurationProvider(String name,
+                                      ExtensionModel extension,
+                                      ConfigurationModel config,
+                                      ResolverSet resolverSet,
+                                      ConnectionProviderValueResolver connectionProviderResolver,
+                                      ExpirationPolicy expirationPolicy,
+                                      ReflectionCache reflectionCache,
+                                      ExpressionManager expressionManager,
+                                      MuleContext muleContext,
+                                      int maxInstances) {
     super(name, extension, config, muleContext);
     this.configurationInstanceFactory =
         new ConfigurationInstanceFactory<>(extension, config, resolverSet, expressionManager, muleContext);
@@ -119,6 +155,7 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     this.resolverSet = resolverSet;
     this.connectionProviderResolver = connectionProviderResolver;
     this.expirationPolicy = expirationPolicy;
+    this.maxInstances = maxInstances;
   }
 
   /**
@@ -138,30 +175,84 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
         if (connectionProviderResolver.getResolverSet().isPresent()) {
           providerResult = ((ResolverSet) connectionProviderResolver.getResolverSet().get()).resolve(resolvingContext);
         }
-        return getConfiguration(new Pair<>(result, providerResult), (CoreEvent) event);
+        return getConfiguration(new CacheKey(result, providerResult), (CoreEvent) event);
       }
     });
   }
 
-  private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult, CoreEvent event)
-      throws Exception {
-
-    ConfigurationInstance configuration;
-    cacheReadLock.lock();
+  private ConfigurationInstance getConfiguration(CacheKey key, CoreEvent event) throws Exception {
     try {
-      configuration = cache.computeIfAbsent(resolverSetResult, (r) -> createConfiguration(r, event));
-      updateUsageStatistic(configuration);
-      return configuration;
+      while (true) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+          entry = cache.computeIfAbsent(key, k -> new CacheEntry(createConfiguration(k.getValues(), event)));
+          evictIfNeeded(entry);
+        }
+
+        // The last usage has to be updated before the stamp, otherwise an expiration check could see the new stamp along with
+        // the old last usage and remove the instance that is about to be returned
+        MutableConfigurationStats stats = (MutableConfigurationStats) entry.getConfiguration().getStatistics();
+        stats.updateLastUsed();
+        long previousStamp = entry.markUsed();
+        if (previousStamp != CacheEntry.REMOVED) {
+          if (previousStamp == 0) {
+            stats.addCacheMiss();
+            if (maxInstances != MAX_VALUE) {
+              evictionCandidates.add(new EvictionCandidate(key, entry, previousStamp + 1));
+            }
+          } else {
+            stats.addCacheHit();
+          }
+          return entry.getConfiguration();
+        }
+
+        // expired or evicted while being looked up, make sure it's gone before creating a new one
+        cache.remove(key, entry);
+      }
     } catch (WrappingRuntimeException e) {
       throw e.getWrappedException();
-    } finally {
-      cacheReadLock.unlock();
     }
   }
 
-  private void updateUsageStatistic(ConfigurationInstance configuration) {
-    MutableConfigurationStats stats = (MutableConfigurationStats) configuration.getStatistics();
-    stats.updateLastUsed();
+  /**
+   * Evicts an idle instance that was not used recently when there are more than {@link #maxInstances} cached.
+   * <p>
+   * The candidates are kept in a queue and given a second chance if they were used since they were queued, which approximates
+   * evicting the least recently used instance without going through the whole cache on each miss.
+   *
+   * @param keep the entry which was just looked up, which is never evicted
+   */
+  private void evictIfNeeded(CacheEntry keep) {
+    if (maxInstances == MAX_VALUE || cache.size() <= maxInstances) {
+      return;
+    }
+
+    // Every candidate may be given a second chance once before one is evicted
+    int attempts = 2 * cache.size();
+    EvictionCandidate candidate;
+    while (attempts-- > 0 && (candidate = evictionCandidates.poll()) != null) {
+      CacheEntry entry = candidate.entry;
+      // the stamp has to be read before the stats so that a concurrent use makes the eviction fail
+      long stamp = entry.getStamp();
+      if (stamp == CacheEntry.REMOVED) {
+        continue;
+      }
+
+      if (entry == keep || stamp != candidate.stamp || entry.getConfiguration().getStatistics().getActiveComponents() > 0) {
+        evictionCandidates.add(new EvictionCandidate(candidate.key, entry, stamp));
+        continue;
+      }
+
+      if (entry.remove(stamp)) {
+        cache.remove(candidate.key, entry);
+        evicted.add(entry.getConfiguration());
+        LOGGER.debug("Evicted least recently used instance of dynamic configuration '{}'", getName());
+        return;
+      }
+      evictionCandidates.add(new EvictionCandidate(candidate.key, entry, entry.getStamp()));
+    }
+
+    LOGGER.debug("Dynamic configuration '{}' has more than {} instances but all of them are in use", getName(), maxInstances);
   }
 
   private ConfigurationInstance createConfiguration(Pair<ResolverSetResult, ResolverSetResult> values, CoreEvent event) {
@@ -228,16 +319,30 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   @Override
   public List<ConfigurationInstance> getExpired() {
-    cacheWriteLock.lock();
-    try {
-      return cache.entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
-        cache.remove(entry.getKey());
-        unRegisterConfiguration(entry.getValue());
-        return entry.getValue();
-      }).collect(toImmutableList());
-    } finally {
-      cacheWriteLock.unlock();
+    List<ConfigurationInstance> expired = new ArrayList<>();
+
+    ConfigurationInstance evictedConfiguration;
+    while ((evictedConfiguration = evicted.poll()) != null) {
+      unRegisterConfiguration(evictedConfiguration);
+      expired.add(evictedConfiguration);
+    }
+
+    for (Map.Entry<CacheKey, CacheEntry> entry : cache.entrySet()) {
+      CacheEntry cacheEntry = entry.getValue();
+      // the stamp has to be read before the stats so that a concurrent use makes the removal fail
+      long stamp = cacheEntry.getStamp();
+      if (stamp != CacheEntry.REMOVED && isExpired(cacheEntry.getConfiguration()) && cacheEntry.remove(stamp)) {
+        cache.remove(entry.getKey(), cacheEntry);
+        unRegisterConfiguration(cacheEntry.getConfiguration());
+        expired.add(cacheEntry.getConfiguration());
+      }
+    }
+
+    if (!expired.isEmpty() && maxInstances != MAX_VALUE) {
+      evictionCandidates.removeIf(candidate -> candidate.entry.getStamp() == CacheEntry.REMOVED);
     }
+
+    return expired;
   }
 
   private boolean isExpired(ConfigurationInstance configuration) {
@@ -354,6 +459,102 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
         .map(ob -> ((ConnectionProviderObjectBuilder) ob).providerModel);
   }
 
+  /**
+   * Key of the instances cache. The hash of the resolved values is computed once, so that lookups don't have to go through
+   * each {@link ResolverSetResult} again.
+   */
+  private static final class CacheKey {
+
+    private final Pair<ResolverSetResult, ResolverSetResult> values;
+    private final int hash;
+
+    private CacheKey(ResolverSetResult result, ResolverSetResult providerResult) {
+      this.values = new Pair<>(result, providerResult);
+      this.hash = 31 * Objects.hashCode(result) + Objects.hashCode(providerResult);
+    }
+
+    private Pair<ResolverSetResult, ResolverSetResult> getValues() {
+      return values;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) obj;
+      return hash == other.hash
+          && Objects.equals(values.getFirst(), other.values.getFirst())
+          && Objects.equals(values.getSecond(), other.values.getSecond());
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * A cached {@link ConfigurationInstance} along with a stamp that changes each time it is used. Removing an entry only succeeds
+   * if its stamp is still the one seen when deciding to remove it, so an instance is never removed right after being handed out.
+   */
+  private static final class CacheEntry {
+
+    private static final long REMOVED = -1;
+
+    private final ConfigurationInstance configuration;
+    private final AtomicLong stamp = new AtomicLong(0);
+
+    private CacheEntry(ConfigurationInstance configuration) {
+      this.configuration = configuration;
+    }
+
+    private ConfigurationInstance getConfiguration() {
+      return configuration;
+    }
+
+    private long getStamp() {
+      return stamp.get();
+    }
+
+    /**
+     * @return the stamp before this use, or {@link #REMOVED} if this entry can no longer be used.
+     */
+    private long markUsed() {
+      long current;
+      do {
+        current = stamp.get();
+        if (current == REMOVED) {
+          return REMOVED;
+        }
+      } while (!stamp.compareAndSet(current, current + 1));
+      return current;
+    }
+
+    private boolean remove(long expectedStamp) {
+      return stamp.compareAndSet(expectedStamp, REMOVED);
+    }
+  }
+
+  /**
+   * An entry queued for eviction, along with its stamp when it was queued. If the stamp changed, the entry was used since then.
+   */
+  private static final class EvictionCandidate {
+
+    private final CacheKey key;
+    private final CacheEntry entry;
+    private final long stamp;
+
+    private EvictionCandidate(CacheKey key, CacheEntry entry, long stamp) {
+      this.key = key;
+      this.entry = entry;
+      this.stamp = stamp;
+    }
+  }
+
   /**
    * Used to preserve exception throwing behaviour in {@link #getConfiguration} as the method {@link #createConfiguration} can no
    * longer throw checked exception as it is used inside {@link Map#computeIfAbsent}.
@@ -79,4 +79,33 @@ public interface MutableConfigurationStats extends ConfigurationStats {
    * @since 4.2.3 4.3.1 4.4.0
    */
   int discountActiveComponent();
+
+  /**
+   * Increments the return value of {@link #getCacheHits()} by one
+   *
+   * @return the new value
+   * @since 4.5.0
+   */
+  long addCacheHit();
+
+  /**
+   * Increments the return value of {@link #getCacheMisses()} by one
+   *
+   * @return the new value
+   * @since 4.5.0
+   */
+  long addCacheMiss();
+
+  /**
+   * @return how many times this configuration was obtained from the cache of a dynamic configuration provider
+   * @since 4.5.0
+   */
+  long getCacheHits();
+
+  /**
+   * @return how many times this configuration had to be created because it was not in the cache of a dynamic configuration
+   *         provider
+   * @since 4.5.0
+   */
+  long getCacheMisses();
 }
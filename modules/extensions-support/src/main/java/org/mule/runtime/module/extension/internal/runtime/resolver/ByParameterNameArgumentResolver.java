@@ -8,8 +8,13 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 
+import java.util.Map;
+
 /**
  * An implementation of {@link ArgumentResolver} which resolves to a parameter value of name {@link #parameterName}
+ * <p>
+ * When the parameters were obtained from a {@link ResolverSet}, the position of the parameter in its results is remembered, so
+ * that following invocations with results of the same {@link ResolverSet} read the value by index.
  *
  * @param <T> the type of the argument to be resolved
  * @since 3.7.0
@@ -17,6 +22,7 @@ import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 public class ByParameterNameArgumentResolver<T> implements ArgumentResolver<T> {
 
   private final String parameterName;
+  private volatile ParameterIndex parameterIndex;
 
   public ByParameterNameArgumentResolver(String parameterName) {
     this.parameterName = parameterName;
@@ -30,11 +36,35 @@ public class ByParameterNameArgumentResolver<T> implements ArgumentResolver<T> {
    */
   @Override
   public T resolve(ExecutionContext executionContext) {
-    return (T) executionContext.getParameters().get(parameterName);
+    final Map<String, Object> parameters = executionContext.getParameters();
+    if (parameters instanceof ResolverSetResultMap) {
+      final ResolverSetResultMap resolverSetResult = (ResolverSetResultMap) parameters;
+
+      ParameterIndex index = parameterIndex;
+      if (index == null || index.layout != resolverSetResult.getLayout()) {
+        index = new ParameterIndex(resolverSetResult.getLayout(), resolverSetResult.getLayout().indexOf(parameterName));
+        parameterIndex = index;
+      }
+
+      return index.index < 0 ? null : (T) resolverSetResult.getValue(index.index);
+    }
+
+    return (T) parameters.get(parameterName);
   }
 
   @Override
   public String toString() {
     return "ByParameterNameArgumentResolver(" + parameterName + ")";
   }
+
+  private static final class ParameterIndex {
+
+    private final ResolverSetResultMap.Layout layout;
+    private final int index;
+
+    private ParameterIndex(ResolverSetResultMap.Layout layout, int index) {
+      this.layout = layout;
+      this.index = index;
+    }
+  }
 }
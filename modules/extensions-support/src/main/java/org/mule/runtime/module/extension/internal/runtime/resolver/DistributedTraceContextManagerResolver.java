@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
 import static org.mule.runtime.core.internal.profiling.tracing.export.OpentelemetrySpanExporter.OPENTELEMETRY_SPAN_VISITOR;
 import static org.mule.runtime.core.internal.trace.DistributedTraceContext.emptyDistributedEventContext;
 
@@ -26,11 +27,21 @@ import java.util.Map;
 import java.util.Optional;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.context.propagation.TextMapSetter;
+import io.opentelemetry.sdk.trace.IdGenerator;
 
 /**
  * {@link ArgumentResolver} that yields instances of {@link DistributedTraceContextManager}
+ * <p>
+ * The context of the current span is injected into the propagated fields. If the event was not sampled, a context with the
+ * sampled flag unset is injected instead, so that the decision is honored downstream.
  *
  * @since 4.5.0
  */
@@ -40,6 +51,19 @@ public class DistributedTraceContextManagerResolver implements ArgumentResolver<
   TextMapSetter<Map<String, String>> setter =
       Map::put;
 
+  private static final TextMapGetter<Map<String, String>> GETTER = new TextMapGetter<Map<String, String>>() {
+
+    @Override
+    public Iterable<String> keys(Map<String, String> carrier) {
+      return carrier.keySet();
+    }
+
+    @Override
+    public String get(Map<String, String> carrier, String key) {
+      return carrier == null ? null : carrier.get(key);
+    }
+  };
+
   @Override
   public DistributedTraceContextManager resolve(ExecutionContext executionContext) {
     return new PropagateAllDistributedTraceContextManager(getDistributedTraceContext(((ExecutionContextAdapter<?>) executionContext)
@@ -49,14 +73,17 @@ public class DistributedTraceContextManagerResolver implements ArgumentResolver<
   private DistributedTraceContext getDistributedTraceContext(CoreEvent event) {
     if (event instanceof DistributedTraceContextAware) {
       DistributedTraceContext distributedTraceContext = ((DistributedTraceContextAware) event).getDistributedTraceContext();
-      ExportOnEndSpan span = distributedTraceContext.getCurrentSpan().map(
-                                                                          e -> getInternalSpanOpentelemetryExecutionSpanFunction(e))
-          .orElse(null);
+      InternalSpan currentSpan = distributedTraceContext.getCurrentSpan().orElse(null);
+      ExportOnEndSpan span = getInternalSpanOpentelemetryExecutionSpanFunction(currentSpan);
       Map<String, String> map = new HashMap<>();
       map.putAll(distributedTraceContext.tracingFieldsAsMap());
       map.putAll(distributedTraceContext.baggageItemsAsMap());
-      GlobalOpenTelemetry.get().getPropagators().getTextMapPropagator()
-          .inject(Context.current().with(span.getSpanExporter().visit(OPENTELEMETRY_SPAN_VISITOR)), map, setter);
+      TextMapPropagator propagator = GlobalOpenTelemetry.get().getPropagators().getTextMapPropagator();
+      if (span != null) {
+        propagator.inject(Context.current().with(span.getSpanExporter().visit(OPENTELEMETRY_SPAN_VISITOR)), map, setter);
+      } else if (currentSpan == UNSAMPLED_SPAN) {
+        propagator.inject(getUnsampledContext(propagator, map), map, setter);
+      }
 
       return new DistributedTraceContext() {
 
@@ -105,6 +132,23 @@ public class DistributedTraceContextManagerResolver implements ArgumentResolver<
     return emptyDistributedEventContext();
   }
 
+  private Context getUnsampledContext(TextMapPropagator propagator, Map<String, String> fields) {
+    // Keeps the ids of the remote trace, if there is one, so that the trace is not broken downstream
+    SpanContext remoteSpanContext = Span.fromContext(propagator.extract(Context.root(), fields, GETTER)).getSpanContext();
+    String traceId;
+    String spanId;
+    if (remoteSpanContext.isValid()) {
+      traceId = remoteSpanContext.getTraceId();
+      spanId = remoteSpanContext.getSpanId();
+    } else {
+      IdGenerator idGenerator = IdGenerator.random();
+      traceId = idGenerator.generateTraceId();
+      spanId = idGenerator.generateSpanId();
+    }
+
+    return Context.root().with(Span.wrap(SpanContext.create(traceId, spanId, TraceFlags.getDefault(), TraceState.getDefault())));
+  }
+
   private ExportOnEndSpan getInternalSpanOpentelemetryExecutionSpanFunction(InternalSpan internalSpan) {
     if (internalSpan instanceof ExportOnEndSpan) {
       return (ExportOnEndSpan) internalSpan;
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static java.util.Arrays.copyOf;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -39,6 +40,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   private final Map<String, ValueResolver<?>> resolvers = new LinkedHashMap<>();
   private boolean dynamic = false;
   private final MuleContext muleContext;
+  private volatile ResolutionPlan resolutionPlan;
 
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
@@ -64,6 +66,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     if (!dynamic && resolver.isDynamic()) {
       dynamic = true;
     }
+    resolutionPlan = null;
     return this;
   }
 
@@ -101,13 +104,13 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
    */
   @Override
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
-    ResolverSetResult.Builder builder = getResolverSetBuilder();
-
-    for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
-      builder.add(entry.getKey(), resolveRecursively(entry.getValue(), context));
+    ResolutionPlan plan = resolutionPlan;
+    if (plan == null) {
+      plan = new ResolutionPlan(resolvers);
+      resolutionPlan = plan;
     }
 
-    return builder.build();
+    return new ResolverSetResult(plan.resolve(context));
   }
 
   /**
@@ -133,10 +136,69 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(resolvers.values(), muleContext);
+    try {
+      resolutionPlan = new ResolutionPlan(resolvers);
+    } catch (MuleException e) {
+      throw new InitialisationException(e, this);
+    }
   }
 
-  ResolverSetResult.Builder getResolverSetBuilder() {
-    return ResolverSetResult.newBuilder();
+  /**
+   * The resolvers of a {@link ResolverSet}, arranged so that they can be evaluated without building a new {@link Map} each time.
+   * <p>
+   * Each key gets a fixed position. The values of resolvers which always return the same literal value are obtained once, when
+   * the plan is created, and only the rest are evaluated for each resolution, writing their values in their position of an array.
+   */
+  private static final class ResolutionPlan {
+
+    private final ResolverSetResultMap.Layout layout;
+    private final Object[] staticValues;
+    private final int[] resolvableIndexes;
+    private final ValueResolver<?>[] resolvableResolvers;
+
+    private ResolutionPlan(Map<String, ValueResolver<?>> resolvers) throws MuleException {
+      final String[] keys = new String[resolvers.size()];
+      staticValues = new Object[keys.length];
+      final int[] indexes = new int[keys.length];
+      final ValueResolver<?>[] resolvables = new ValueResolver<?>[keys.length];
+
+      int i = 0;
+      int resolvableCount = 0;
+      for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
+        keys[i] = entry.getKey();
+        final ValueResolver<?> resolver = entry.getValue();
+
+        Object staticValue = null;
+        if (isStatic(resolver)) {
+          // These resolvers don't use the context
+          staticValue = resolver.resolve(null);
+        }
+
+        if (staticValue != null && !(staticValue instanceof ValueResolver)) {
+          staticValues[i] = staticValue;
+        } else {
+          indexes[resolvableCount] = i;
+          resolvables[resolvableCount++] = resolver;
+        }
+        ++i;
+      }
+
+      layout = new ResolverSetResultMap.Layout(keys);
+      resolvableIndexes = copyOf(indexes, resolvableCount);
+      resolvableResolvers = copyOf(resolvables, resolvableCount);
+    }
+
+    private static boolean isStatic(ValueResolver<?> resolver) {
+      return resolver instanceof StaticValueResolver || resolver instanceof StaticLiteralValueResolver;
+    }
+
+    private ResolverSetResultMap resolve(ValueResolvingContext context) throws MuleException {
+      final Object[] values = staticValues.clone();
+      for (int i = 0; i < resolvableIndexes.length; ++i) {
+        values[resolvableIndexes[i]] = resolveRecursively(resolvableResolvers[i], context);
+      }
+      return new ResolverSetResultMap(layout, values);
+    }
   }
 
 }
@@ -10,7 +10,6 @@ import static java.util.Collections.unmodifiableMap;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
-import org.mule.runtime.api.util.LazyValue;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -21,7 +20,9 @@ import com.google.common.base.Objects;
  * This class represents the outcome of the evaluation of a {@link ResolverSet}. This class maps a set of {@link ParameterModel}
  * to a set of result {@link Object}s.
  * <p>
- * Instances of this class can only be created through a {@link Builder} obtained via {@link #newBuilder()}
+ * Instances of this class are created through a {@link Builder} obtained via {@link #newBuilder()}, or by
+ * {@link ResolverSet#resolve(ValueResolvingContext)}, which backs them with a {@link ResolverSetResultMap} built according to the
+ * resolution plan of the {@link ResolverSet}.
  *
  * @since 3.7.0
  */
@@ -73,7 +74,7 @@ public class ResolverSetResult {
   }
 
   private final Map<String, Object> evaluationResult;
-  private final LazyValue<Integer> hashCode = new LazyValue<>(this::calculateHashCode);
+  private int hashCode;
 
   ResolverSetResult(Map<String, Object> evaluationResult) {
     this.evaluationResult = evaluationResult;
@@ -114,7 +115,12 @@ public class ResolverSetResult {
 
   @Override
   public int hashCode() {
-    return hashCode.get();
+    int h = hashCode;
+    if (h == 0) {
+      h = calculateHashCode();
+      hashCode = h;
+    }
+    return h;
   }
 
   private int calculateHashCode() {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable {@link Map} with the values obtained by evaluating a {@link ResolverSet}.
+ * <p>
+ * Values are kept in an array, in the same order as the keys were added to the {@link ResolverSet}. The keys and their positions
+ * are described by a {@link Layout} which is shared by all the results of the same {@link ResolverSet}, so creating a result only
+ * allocates the array of values. Components that know the {@link Layout} beforehand may access the values by index through
+ * {@link #getValue(int)}, avoiding the lookup by key.
+ *
+ * @since 4.5.0
+ */
+public final class ResolverSetResultMap extends AbstractMap<String, Object> {
+
+  /**
+   * The keys of a {@link ResolverSetResultMap} and their positions.
+   */
+  static final class Layout {
+
+    private final String[] keys;
+    private final Map<String, Integer> indexes;
+
+    Layout(String[] keys) {
+      this.keys = keys;
+      indexes = new HashMap<>(keys.length * 2);
+      for (int i = 0; i < keys.length; ++i) {
+        indexes.put(keys[i], i);
+      }
+    }
+
+    /**
+     * @return the position of the given {@code key}, or {@code -1} if it is not part of this layout
+     */
+    int indexOf(Object key) {
+      final Integer index = indexes.get(key);
+      return index == null ? -1 : index;
+    }
+  }
+
+  private final Layout layout;
+  private final Object[] values;
+  private Set<Entry<String, Object>> entrySet;
+
+  ResolverSetResultMap(Layout layout, Object[] values) {
+    this.layout = layout;
+    this.values = values;
+  }
+
+  Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * @param index the position of a key in this map's {@link Layout}
+   * @return the value associated to the key in that position
+   */
+  Object getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public Object get(Object key) {
+    final int index = layout.indexOf(key);
+    return index < 0 ? null : values[index];
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return layout.indexOf(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new Iterator<Entry<String, Object>>() {
+
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+          return index < values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          final Entry<String, Object> entry = new SimpleImmutableEntry<>(layout.keys[index], values[index]);
+          ++index;
+          return entry;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
@@ -14,6 +14,7 @@ import static org.mule.runtime.api.store.ObjectStoreSettings.unmanagedPersistent
 import static org.mule.runtime.api.store.ObjectStoreSettings.unmanagedTransient;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
+import static org.mule.runtime.core.internal.store.BatchObjectStore.asBatchObjectStore;
 import static org.mule.runtime.core.internal.util.ConcurrencyUtils.safeUnlock;
 import static org.mule.runtime.module.extension.internal.runtime.source.poll.WatermarkStatus.ON_HIGH;
 import static org.mule.runtime.module.extension.internal.runtime.source.poll.WatermarkStatus.ON_NEW_HIGH;
@@ -46,6 +47,7 @@ import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.SystemExceptionHandler;
 import org.mule.runtime.core.api.util.func.CheckedRunnable;
+import org.mule.runtime.core.internal.store.BatchObjectStore;
 import org.mule.runtime.module.extension.internal.runtime.source.SourceCallbackContextAdapter;
 import org.mule.runtime.module.extension.internal.runtime.source.SourceWrapper;
 import org.mule.sdk.api.runtime.operation.Result;
@@ -58,7 +60,8 @@ import org.mule.sdk.api.runtime.source.SourceCallbackContext;
 
 import java.io.Serializable;
 import java.util.Comparator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -73,6 +76,10 @@ import org.slf4j.Logger;
 /**
  * A {@link SourceWrapper} implementation that provides Polling related capabilities to any wrapped {@link Source}, like scheduled
  * polling, watermarking and idempotent processing.
+ * <p>
+ * The ids and watermarks of the items accepted during a poll are kept in memory and written to the object stores in batches once
+ * the poll finishes, right before the watermark is committed. If the runtime stops before that, the items accepted in that poll
+ * are polled and processed again.
  *
  * @param <T>
  * @param <A>
@@ -117,8 +124,8 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
 
   private ObjectStore<Serializable> watermarkObjectStore;
   private ObjectStore<Serializable> inflightIdsObjectStore;
-  private ObjectStore<Serializable> recentlyProcessedIds;
-  private ObjectStore<Serializable> idsOnUpdatedWatermark;
+  private BatchObjectStore<Serializable> recentlyProcessedIds;
+  private BatchObjectStore<Serializable> idsOnUpdatedWatermark;
 
   private ComponentLocation componentLocation;
   private String flowName;
@@ -143,11 +150,11 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
     inflightIdsObjectStore = objectStoreManager.getOrCreateObjectStore(formatKey(INFLIGHT_IDS_OS_NAME_SUFFIX),
                                                                        unmanagedTransient());
 
-    recentlyProcessedIds = objectStoreManager.getOrCreateObjectStore(formatKey(RECENTLY_PROCESSED_IDS_OS_NAME_SUFFIX),
-                                                                     unmanagedPersistent());
+    recentlyProcessedIds = asBatchObjectStore(objectStoreManager
+        .getOrCreateObjectStore(formatKey(RECENTLY_PROCESSED_IDS_OS_NAME_SUFFIX), unmanagedPersistent()));
 
-    idsOnUpdatedWatermark = objectStoreManager.getOrCreateObjectStore(formatKey(IDS_ON_UPDATED_WATERMARK_OS_NAME_SUFFIX),
-                                                                      unmanagedPersistent());
+    idsOnUpdatedWatermark = asBatchObjectStore(objectStoreManager
+        .getOrCreateObjectStore(formatKey(IDS_ON_UPDATED_WATERMARK_OS_NAME_SUFFIX), unmanagedPersistent()));
 
     watermarkObjectStore = objectStoreManager.getOrCreateObjectStore(formatKey(WATERMARK_OS_NAME_SUFFIX),
                                                                      unmanagedPersistent());
@@ -218,10 +225,19 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
                             flowName, e.getMessage()),
                      e);
         systemExceptionHandler.handleException(e, componentLocation);
+        // the items accepted before the failure were already dispatched, so they still have to be tracked
+        try {
+          pollContext.commit();
+        } catch (RuntimeException commitException) {
+          LOGGER.error(format("Found exception trying to save processed items ids on source at flow '%s'. %s",
+                              flowName, commitException.getMessage()),
+                       commitException);
+        }
         return;
       }
 
       try {
+        pollContext.commit();
         if (!isRequestedToStop()) {
           pollContext.getUpdatedWatermark()
               .ifPresent(w -> updateWatermark(w, pollContext.getWatermarkComparator(),
@@ -277,6 +293,13 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
 
     private int currentPollItems;
 
+    // Changes to the object stores, which are written in batches by commit()
+    private final Map<String, Serializable> pendingRecentlyProcessedIds = new LinkedHashMap<>();
+    private final Map<String, Serializable> pendingIdsOnUpdatedWatermark = new LinkedHashMap<>();
+    private boolean clearIdsOnUpdatedWatermark = false;
+    private boolean updatedWatermarkChanged = false;
+    private Map<String, Serializable> recentlyProcessedIdsSnapshot;
+
     private DefaultPollContext(SourceCallback<T, A> sourceCallback, Serializable currentWatermark,
                                Serializable updatedWatermark) {
       this.sourceCallback = sourceCallback;
@@ -364,43 +387,63 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
     }
 
     private void renewUpdatedWatermark(Serializable itemWatermark) {
-      try {
-        idsOnUpdatedWatermark.clear();
-        this.updatedWatermark = itemWatermark;
-        removeWatermark(UPDATED_WATERMARK_ITEM_OS_KEY);
-        saveWatermark(UPDATED_WATERMARK_ITEM_OS_KEY, updatedWatermark);
-      } catch (ObjectStoreException e) {
-        throw new MuleRuntimeException(
-                                       createStaticMessage("An error occurred while trying to update the updatedWatermark in the the object store"),
-                                       e);
-      }
+      clearIdsOnUpdatedWatermark = true;
+      pendingIdsOnUpdatedWatermark.clear();
+      this.updatedWatermark = itemWatermark;
+      updatedWatermarkChanged = true;
     }
 
     private void addToUpdatedWatermark(String itemId, Serializable itemWatermark) {
       if (itemId != null) {
-        try {
-          idsOnUpdatedWatermark.store(itemId, itemWatermark);
-        } catch (ObjectStoreException e) {
-          throw new MuleRuntimeException(
-                                         createStaticMessage("An error occurred while updating the watermark for Item with ID [%s]",
-                                                             itemId),
-                                         e);
-        }
+        pendingIdsOnUpdatedWatermark.put(itemId, itemWatermark);
       }
     }
 
     private void addToRecentlyProcessedIds(String itemId, Serializable itemWatermark) {
+      if (itemId != null) {
+        pendingRecentlyProcessedIds.put(itemId, itemWatermark);
+        if (recentlyProcessedIdsSnapshot != null) {
+          recentlyProcessedIdsSnapshot.put(itemId, itemWatermark);
+        }
+      }
+    }
+
+    /**
+     * @return the watermark with which the item of the given id was recently processed, or {@code null} if it wasn't.
+     */
+    private Serializable getRecentlyProcessedWatermark(String itemId) throws ObjectStoreException {
+      if (recentlyProcessedIdsSnapshot == null) {
+        // Only this poll writes to the store while holding the watermark lock, so it can be read once
+        recentlyProcessedIdsSnapshot = new HashMap<>(recentlyProcessedIds.retrieveAll());
+        recentlyProcessedIdsSnapshot.putAll(pendingRecentlyProcessedIds);
+      }
+      return recentlyProcessedIdsSnapshot.get(itemId);
+    }
+
+    /**
+     * Writes the ids and the updated watermark of the items accepted so far to the object stores.
+     */
+    private void commit() {
       try {
-        if (itemId != null) {
-          if (recentlyProcessedIds.contains(itemId)) {
-            recentlyProcessedIds.remove(itemId);
-          }
-          recentlyProcessedIds.store(itemId, itemWatermark);
+        if (clearIdsOnUpdatedWatermark) {
+          idsOnUpdatedWatermark.clear();
+          clearIdsOnUpdatedWatermark = false;
+        }
+        if (!pendingIdsOnUpdatedWatermark.isEmpty()) {
+          idsOnUpdatedWatermark.storeAll(pendingIdsOnUpdatedWatermark);
+          pendingIdsOnUpdatedWatermark.clear();
+        }
+        if (!pendingRecentlyProcessedIds.isEmpty()) {
+          recentlyProcessedIds.storeAll(pendingRecentlyProcessedIds);
+          pendingRecentlyProcessedIds.clear();
+        }
+        if (updatedWatermarkChanged) {
+          removeWatermark(UPDATED_WATERMARK_ITEM_OS_KEY);
+          saveWatermark(UPDATED_WATERMARK_ITEM_OS_KEY, updatedWatermark);
+          updatedWatermarkChanged = false;
         }
       } catch (ObjectStoreException e) {
-        throw new MuleRuntimeException(
-                                       createStaticMessage("An error occurred while updating the watermark for Item with ID [%s]",
-                                                           itemId),
+        throw new MuleRuntimeException(createStaticMessage("An error occurred while saving the ids and watermarks of the items processed by the poll"),
                                        e);
       }
     }
@@ -455,8 +498,8 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
             : -1;
         if (compare < 0) {
           try {
-            if (itemId != null && recentlyProcessedIds.contains(itemId)) {
-              Serializable previousItemWatermark = recentlyProcessedIds.retrieve(itemId);
+            Serializable previousItemWatermark = itemId != null ? getRecentlyProcessedWatermark(itemId) : null;
+            if (previousItemWatermark != null) {
               if (compareWatermarks("itemWatermark", itemWatermark, "previousItemWatermark", previousItemWatermark,
                                     watermarkComparator) <= 0) {
                 status = REJECT;
@@ -483,7 +526,7 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
           }
         } else if (compare == 0 && pollItem.getItemId().isPresent()) {
           try {
-            status = recentlyProcessedIds.contains(itemId) ? REJECT : PASSED;
+            status = getRecentlyProcessedWatermark(itemId) != null ? REJECT : PASSED;
           } catch (ObjectStoreException e) {
             throw new MuleRuntimeException(
                                            createStaticMessage("An error occurred while checking the existence for Item with ID [%s]",
@@ -644,17 +687,9 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> implements R
     Lock osClearingLock = lockFactory.createLock(UPDATE_PROCESSED_LOCK);
     try {
       osClearingLock.lock();
-      List<String> strings = idsOnUpdatedWatermark.allKeys();
+      Map<String, Serializable> idsOnWatermark = idsOnUpdatedWatermark.retrieveAll();
       recentlyProcessedIds.clear();
-      strings.forEach(key -> {
-        try {
-          recentlyProcessedIds.store(key, idsOnUpdatedWatermark.retrieve(key));
-        } catch (ObjectStoreException e) {
-          throw new MuleRuntimeException(createStaticMessage("An error occurred while updating the watermark Ids. Failed to update key '%s' in Watermark-IDs ObjectStore: %s",
-                                                             key, e.getMessage()),
-                                         e);
-        }
-      });
+      recentlyProcessedIds.storeAll(idsOnWatermark);
       idsOnUpdatedWatermark.clear();
     } finally {
       safeUnlock(osClearingLock);
@@ -63,4 +63,15 @@ public class DefaultMutableConfigurationStatsTestCase extends AbstractMuleTestCa
     assertThat(stats.discountActiveComponent(), is(0));
     assertThat(stats.getActiveComponents(), is(0));
   }
+
+  @Test
+  public void cacheHitsAndMisses() {
+    assertThat(stats.getCacheHits(), is(0L));
+    assertThat(stats.getCacheMisses(), is(0L));
+    assertThat(stats.addCacheMiss(), is(1L));
+    assertThat(stats.addCacheHit(), is(1L));
+    assertThat(stats.addCacheHit(), is(2L));
+    assertThat(stats.getCacheHits(), is(2L));
+    assertThat(stats.getCacheMisses(), is(1L));
+  }
 }
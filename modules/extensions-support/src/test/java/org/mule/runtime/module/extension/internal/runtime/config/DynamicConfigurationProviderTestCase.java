@@ -278,6 +278,74 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     assertThat(instance.getDispose(), is(1));
   }
 
+  @Test
+  public void cacheStatistics() throws Exception {
+    ConfigurationInstance config = provider.get(event);
+    provider.get(event);
+    provider.get(event);
+
+    MutableConfigurationStats stats = (MutableConfigurationStats) config.getStatistics();
+    assertThat(stats.getCacheMisses(), is(1L));
+    assertThat(stats.getCacheHits(), is(2L));
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedInstance() throws Exception {
+    recreateProvider(1);
+
+    HeisenbergExtension instance1 = (HeisenbergExtension) provider.get(event).getValue();
+    timeSupplier.move(1, MINUTES);
+    HeisenbergExtension instance2 = makeAlternateInstance();
+
+    List<ConfigurationInstance> expired = ((DynamicConfigurationProvider) provider).getExpired();
+    assertThat(expired.size(), is(1));
+    assertThat(expired.get(0).getValue(), is(sameInstance(instance1)));
+    assertThat(provider.get(event).getValue(), is(sameInstance(instance2)));
+    assertThat(((DynamicConfigurationProvider) provider).getExpired().isEmpty(), is(true));
+  }
+
+  @Test
+  public void recentlyUsedInstanceIsNotEvicted() throws Exception {
+    recreateProvider(2);
+
+    HeisenbergExtension instance1 = (HeisenbergExtension) provider.get(event).getValue();
+    HeisenbergExtension instance2 = makeAlternateInstance();
+
+    // Use the first instance again, so the second one becomes the least recently used
+    when(resolverSet.resolve(ValueResolvingContext.builder(event).withExpressionManager(expressionManager).build()))
+        .thenReturn(resolverSetResult);
+    assertThat(provider.get(event).getValue(), is(sameInstance(instance1)));
+
+    makeAlternateInstance();
+
+    List<ConfigurationInstance> expired = ((DynamicConfigurationProvider) provider).getExpired();
+    assertThat(expired.size(), is(1));
+    assertThat(expired.get(0).getValue(), is(sameInstance(instance2)));
+  }
+
+  private void recreateProvider(int maxInstances) throws Exception {
+    provider.stop();
+    provider.dispose();
+    provider = new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet,
+                                                connectionProviderResolver, expirationPolicy, new ReflectionCache(),
+                                                expressionManager, muleContext, maxInstances);
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+  }
+
+  @Test
+  public void expiredInstanceIsNotHandedOutAgain() throws Exception {
+    ConfigurationInstance config = provider.get(event);
+    timeSupplier.move(10, MINUTES);
+
+    List<ConfigurationInstance> expired = ((DynamicConfigurationProvider) provider).getExpired();
+    assertThat(expired.size(), is(1));
+
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    assertThat(provider.get(event), is(not(sameInstance(config))));
+  }
+
   private HeisenbergExtension makeAlternateInstance() throws Exception {
     ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     when(alternateResult.asMap()).thenReturn(new HashMap<>());
@@ -18,6 +18,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +43,7 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.util.SystemUtils.getDefaultEncoding;
 import static org.mule.runtime.core.internal.event.EventQuickCopy.quickCopy;
 import static org.mule.runtime.core.internal.interception.DefaultInterceptionEvent.INTERCEPTION_RESOLVED_CONTEXT;
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
 import static org.mule.runtime.core.internal.streaming.CursorUtils.unwrap;
 import static org.mule.runtime.core.privileged.util.EventUtils.getRoot;
 import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
@@ -52,6 +54,7 @@ import static org.mule.runtime.module.extension.internal.ExtensionProperties.ENC
 import static org.mule.runtime.module.extension.internal.ExtensionProperties.MIME_TYPE_PARAMETER_NAME;
 import static org.mule.runtime.module.extension.internal.runtime.operation.OperationMessageProcessor.INVALID_TARGET_MESSAGE;
 import static org.mule.tck.MuleTestUtils.stubComponentExecutor;
+import static org.mule.tck.MuleTestUtils.stubFailingComponentExecutor;
 import static org.mule.tck.junit4.matcher.DataTypeMatcher.like;
 import static org.mule.tck.util.MuleContextUtils.registerIntoMockContext;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.toMetadataType;
@@ -81,9 +84,11 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.api.streaming.CursorProviderFactory;
 import org.mule.runtime.core.internal.el.DefaultExpressionManager;
 import org.mule.runtime.core.internal.exception.EnrichedErrorMapping;
+import org.mule.runtime.core.internal.execution.tracing.DistributedTraceContextAware;
 import org.mule.runtime.core.internal.policy.OperationExecutionFunction;
 import org.mule.runtime.core.internal.policy.OperationParametersProcessor;
 import org.mule.runtime.core.internal.policy.PolicyManager;
+import org.mule.runtime.core.internal.trace.DistributedTraceContext;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 import org.mule.runtime.extension.api.declaration.type.DefaultExtensionsTypeLoaderFactory;
 import org.mule.runtime.extension.api.model.ImmutableOutputModel;
@@ -520,6 +525,23 @@ public class OperationMessageProcessorTestCase extends AbstractOperationMessageP
     assertThat(unwrap(providerCaptor.getValue()), is(sameInstance(provider)));
   }
 
+  @Test
+  public void failedOperationKeepsEventUnsampled() throws Exception {
+    DistributedTraceContext distributedTraceContext =
+        ((DistributedTraceContextAware) event.getContext()).getDistributedTraceContext();
+    distributedTraceContext.setCurrentSpan(UNSAMPLED_SPAN);
+    stubFailingComponentExecutor(operationExecutor, new IllegalStateException("Expected"));
+
+    try {
+      messageProcessor.process(event);
+      fail("The operation should have failed");
+    } catch (Exception e) {
+      // Expected
+    }
+
+    assertThat(distributedTraceContext.getCurrentSpan().orElse(null), is(sameInstance(UNSAMPLED_SPAN)));
+  }
+
   private void assertProcessingType(ExecutionType executionType, ProcessingType expectedProcessingType) {
     when(operationModel.getExecutionType()).thenReturn(executionType);
     assertThat(messageProcessor.getInnerProcessingType(), is(expectedProcessingType));
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import static org.mule.runtime.core.internal.profiling.tracing.event.span.UnsampledSpan.UNSAMPLED_SPAN;
+import static org.mule.test.allure.AllureConstants.EventContextFeature.EVENT_CONTEXT;
+import static org.mule.test.allure.AllureConstants.EventContextFeature.EventContextStory.DISTRIBUTED_TRACE_CONTEXT;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Optional.empty;
+
+import static com.google.common.collect.ImmutableMap.of;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.execution.tracing.DistributedTraceContextAware;
+import org.mule.runtime.core.internal.trace.DistributedTraceContext;
+import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
+import org.mule.sdk.api.runtime.source.DistributedTraceContextManager;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.Optional;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.Test;
+
+@Feature(EVENT_CONTEXT)
+@Story(DISTRIBUTED_TRACE_CONTEXT)
+public class DistributedTraceContextManagerResolverTestCase extends AbstractMuleTestCase {
+
+  private static final String TRACE_FIELD = "traceField";
+  private static final String TRACE_FIELD_VALUE = "traceFieldValue";
+
+  private final DistributedTraceContextManagerResolver resolver = new DistributedTraceContextManagerResolver();
+
+  @Test
+  public void propagatesFieldsOfUnsampledEvent() {
+    DistributedTraceContextManager manager = resolver.resolve(executionContextWith(distributedTraceContext(true)));
+
+    assertThat(manager.getRemoteTraceContextMap(), hasEntry(TRACE_FIELD, TRACE_FIELD_VALUE));
+  }
+
+  @Test
+  public void propagatesFieldsOfEventWithoutSpan() {
+    DistributedTraceContextManager manager = resolver.resolve(executionContextWith(distributedTraceContext(false)));
+
+    assertThat(manager.getRemoteTraceContextMap(), hasEntry(TRACE_FIELD, TRACE_FIELD_VALUE));
+  }
+
+  private DistributedTraceContext distributedTraceContext(boolean unsampled) {
+    DistributedTraceContext distributedTraceContext = mock(DistributedTraceContext.class);
+    when(distributedTraceContext.tracingFieldsAsMap()).thenReturn(of(TRACE_FIELD, TRACE_FIELD_VALUE));
+    when(distributedTraceContext.baggageItemsAsMap()).thenReturn(emptyMap());
+    when(distributedTraceContext.getCurrentSpan()).thenReturn(unsampled ? Optional.of(UNSAMPLED_SPAN) : empty());
+    return distributedTraceContext;
+  }
+
+  private ExecutionContextAdapter<?> executionContextWith(DistributedTraceContext distributedTraceContext) {
+    CoreEvent event = mock(CoreEvent.class, withSettings().extraInterfaces(DistributedTraceContextAware.class));
+    when(((DistributedTraceContextAware) event).getDistributedTraceContext()).thenReturn(distributedTraceContext);
+    ExecutionContextAdapter<?> executionContext = mock(ExecutionContextAdapter.class);
+    when(executionContext.getEvent()).thenReturn(event);
+    return executionContext;
+  }
+}
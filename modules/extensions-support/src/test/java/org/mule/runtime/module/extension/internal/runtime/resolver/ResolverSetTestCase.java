@@ -8,7 +8,14 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
 import org.mule.runtime.api.lifecycle.Lifecycle;
@@ -16,6 +23,7 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 import org.mule.test.module.extension.internal.util.ExtensionsTestUtils;
@@ -100,6 +108,39 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertThat(set.isDynamic(), is(true));
   }
 
+  @Test
+  public void staticValuesResolvedOnce() throws Exception {
+    ValueResolver<String> staticResolver = spy(new StaticValueResolver<>("literal"));
+    set.add("literal", staticResolver);
+
+    assertThat(set.resolve(resolvingContext).get("literal"), is("literal"));
+    assertThat(set.resolve(resolvingContext).get("literal"), is("literal"));
+    verify(staticResolver, times(1)).resolve(any());
+  }
+
+  @Test
+  public void resultKeepsParametersOrder() throws Exception {
+    set.add("literal", new StaticValueResolver<>("literal"));
+
+    assertThat(set.resolve(resolvingContext).asMap().keySet(), contains("myName", "age", "literal"));
+  }
+
+  @Test
+  public void argumentResolvedFromResult() throws Exception {
+    ExecutionContext executionContext = mock(ExecutionContext.class);
+    when(executionContext.getParameters()).thenReturn(set.resolve(resolvingContext).asMap());
+
+    ByParameterNameArgumentResolver<Integer> ageResolver = new ByParameterNameArgumentResolver<>("age");
+    ByParameterNameArgumentResolver<Object> missingResolver = new ByParameterNameArgumentResolver<>("missing");
+    assertThat(ageResolver.resolve(executionContext), is(AGE));
+    assertThat(missingResolver.resolve(executionContext), is(nullValue()));
+
+    // a result with a different layout
+    set.add("literal", new StaticValueResolver<>("literal"));
+    when(executionContext.getParameters()).thenReturn(set.resolve(resolvingContext).asMap());
+    assertThat(ageResolver.resolve(executionContext), is(AGE));
+  }
+
   private void assertResult(ResolverSetResult result, Map<ParameterModel, ValueResolver> mapping) throws Exception {
     assertThat(result, is(notNullValue()));
     for (Map.Entry<ParameterModel, ValueResolver> entry : mapping.entrySet()) {
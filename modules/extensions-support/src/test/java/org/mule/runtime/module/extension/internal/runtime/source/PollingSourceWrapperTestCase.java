@@ -9,12 +9,15 @@ package org.mule.runtime.module.extension.internal.runtime.source;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.store.ObjectStoreSettings.DEFAULT_EXPIRATION_INTERVAL;
@@ -35,10 +38,12 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.api.scheduler.SchedulingStrategy;
+import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.core.api.exception.SystemExceptionHandler;
 import org.mule.runtime.core.api.util.UUID;
+import org.mule.runtime.core.internal.store.BatchObjectStore;
 import org.mule.runtime.module.extension.internal.runtime.source.poll.PollingSourceWrapper;
 import org.mule.sdk.api.runtime.operation.Result;
 import org.mule.sdk.api.runtime.source.PollContext;
@@ -51,6 +56,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -170,13 +176,10 @@ public class PollingSourceWrapperTestCase {
     stubPollItem(ids, watermarks);
     logger = createMockLogger(traceMessages, TRACE);
     startSourcePollWithMockedLogger();
-    verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 1, TEST_FLOW_NAME);
     verifyLogMessage(traceMessages, WATERMARK_COMPARISON_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 1, "itemWatermark", 3,
                      TEST_FLOW_NAME, -1);
-    verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 3, TEST_FLOW_NAME);
     verifyLogMessage(traceMessages, WATERMARK_COMPARISON_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 3, "itemWatermark", 5,
                      TEST_FLOW_NAME, -1);
-    verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 5, TEST_FLOW_NAME);
     verifyLogMessage(traceMessages, WATERMARK_COMPARISON_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 5, "itemWatermark", 8,
                      TEST_FLOW_NAME, -1);
     verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 8, TEST_FLOW_NAME);
@@ -191,13 +194,10 @@ public class PollingSourceWrapperTestCase {
     stubPollItem(ids, watermarks);
     logger = createMockLogger(traceMessages, TRACE);
     startSourcePollWithMockedLogger();
-    verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 1, TEST_FLOW_NAME);
     verifyLogMessage(traceMessages, WATERMARK_COMPARISON_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 1, "itemWatermark", 3,
                      TEST_FLOW_NAME, -1);
-    verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 3, TEST_FLOW_NAME);
     verifyLogMessage(traceMessages, WATERMARK_COMPARISON_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 3, "itemWatermark", 5,
                      TEST_FLOW_NAME, -1);
-    verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 5, TEST_FLOW_NAME);
     verifyLogMessage(traceMessages, WATERMARK_COMPARISON_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 5, "itemWatermark", 8,
                      TEST_FLOW_NAME, -1);
     verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, UPDATED_WATERMARK_ITEM_OS_KEY, 8, TEST_FLOW_NAME);
@@ -206,6 +206,22 @@ public class PollingSourceWrapperTestCase {
     verifyLogMessage(traceMessages, WATERMARK_SAVED_MESSAGE, WATERMARK_ITEM_OS_KEY, 4, TEST_FLOW_NAME);
   }
 
+  @Test
+  public void processedIdsAreStoredOncePerPoll() throws Exception {
+    BatchObjectStore<Serializable> recentlyProcessedIds = mock(BatchObjectStore.class);
+    when(objectStoreManagerMock.getOrCreateObjectStore(eq(EXPECTED_RECENT_IDS_OS), any()))
+        .thenReturn((ObjectStore) recentlyProcessedIds);
+    stubPollItem(Arrays.asList("id1", "id2", "id3"), Arrays.asList(1, 3, 5));
+
+    pollingSourceWrapper.onStart(callbackMock);
+
+    ArgumentCaptor<Map> storedIds = forClass(Map.class);
+    // the second batch replaces them with the ids on the new watermark
+    verify(recentlyProcessedIds, times(2)).storeAll(storedIds.capture());
+    assertThat(storedIds.getAllValues().get(0).keySet(), contains("id1", "id2", "id3"));
+    verify(recentlyProcessedIds, never()).store(anyString(), any());
+  }
+
   private void assertPersistentStoreIsCreated(String expectedName, Long expirationInterval) {
     assertStoreIsCreated(expectedName, true, expirationInterval);
   }
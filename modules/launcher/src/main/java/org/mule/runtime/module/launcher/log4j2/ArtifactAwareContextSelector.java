@@ -67,6 +67,9 @@ class ArtifactAwareContextSelector implements ContextSelector, Disposable {
       .weakKeys()
       .weakValues()
       .build(key -> getLoggerClassLoader(key));
+  // Consecutive resolutions on the same thread are usually for the same class loader, so remembering the last one spares a cache
+  // lookup on each log call
+  private static final ThreadLocal<ClassLoaderMemo<ClassLoader>> lastResolvedClassLoader = new ThreadLocal<>();
 
   ArtifactAwareContextSelector() {}
 
@@ -109,7 +112,19 @@ class ArtifactAwareContextSelector implements ContextSelector, Disposable {
    * @return the {@link ClassLoader} owner of the logger context
    */
   static ClassLoader resolveLoggerContextClassLoader(ClassLoader classLoader) {
-    return classLoaderLoggerCache.get(classLoader == null ? resolveTcclOrSystemCl() : classLoader);
+    final ClassLoader key = classLoader == null ? resolveTcclOrSystemCl() : classLoader;
+
+    final ClassLoaderMemo<ClassLoader> lastResolved = lastResolvedClassLoader.get();
+    if (lastResolved != null) {
+      final ClassLoader resolved = lastResolved.get(key);
+      if (resolved != null) {
+        return resolved;
+      }
+    }
+
+    final ClassLoader resolved = classLoaderLoggerCache.get(key);
+    lastResolvedClassLoader.set(new ClassLoaderMemo<>(key, resolved));
+    return resolved;
   }
 
   protected static ClassLoader resolveTcclOrSystemCl() {
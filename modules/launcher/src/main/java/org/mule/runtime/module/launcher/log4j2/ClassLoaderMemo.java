@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.launcher.log4j2;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Remembers the value that was last resolved for a {@link ClassLoader}, so that consecutive resolutions for the same
+ * {@link ClassLoader} avoid going through a cache lookup.
+ * <p/>
+ * Both the {@link ClassLoader} and the value are weakly referenced, so keeping a memo doesn't prevent an artifact's
+ * {@link ClassLoader} from being collected once the artifact is undeployed. Instances are immutable, so they may be safely
+ * published to other threads.
+ *
+ * @param <T> the type of the resolved value
+ * @since 4.5.0
+ */
+final class ClassLoaderMemo<T> {
+
+  private final WeakReference<ClassLoader> classLoader;
+  private final WeakReference<T> value;
+
+  ClassLoaderMemo(ClassLoader classLoader, T value) {
+    this.classLoader = new WeakReference<>(classLoader);
+    this.value = new WeakReference<>(value);
+  }
+
+  /**
+   * @param classLoader the {@link ClassLoader} to get the value for
+   * @return the remembered value if it was resolved for the given {@code classLoader} and it's still reachable, {@code null}
+   *         otherwise.
+   */
+  T get(ClassLoader classLoader) {
+    return this.classLoader.get() == classLoader ? value.get() : null;
+  }
+}
@@ -20,6 +20,7 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
@@ -62,6 +63,16 @@ abstract class DispatchingLogger extends Logger {
       .weakValues()
       .build(key -> new Reference<>());
 
+  // The loggers that were last resolved by each thread, to avoid the cache lookup when the same artifact logs repeatedly. They are
+  // kept per thread so that threads logging for different artifacts don't keep overwriting each other's memo, and in a single
+  // thread local shared by all the instances so that each thread has one entry in its ThreadLocalMap regardless of the amount of
+  // loggers.
+  private static final ThreadLocal<LastResolvedLoggers> LAST_RESOLVED_LOGGERS = ThreadLocal.withInitial(LastResolvedLoggers::new);
+  private static final AtomicLong NEXT_ID = new AtomicLong();
+
+  // Identifies this logger in LAST_RESOLVED_LOGGERS without holding a reference to it
+  private final long id = NEXT_ID.incrementAndGet();
+
   private Method updateConfigurationMethod = null;
 
   DispatchingLogger(Logger originalLogger, int ownerClassLoaderHash, LoggerContext loggerContext, ContextSelector contextSelector,
@@ -81,6 +92,15 @@ abstract class DispatchingLogger extends Logger {
       return originalLogger;
     }
 
+    final LastResolvedLoggers lastResolvedLoggers = LAST_RESOLVED_LOGGERS.get();
+    final ClassLoaderMemo<Logger> lastResolved = lastResolvedLoggers.get(id);
+    if (lastResolved != null) {
+      final Logger logger = lastResolved.get(resolvedCtxClassLoader);
+      if (logger != null) {
+        return logger;
+      }
+    }
+
     Reference<Logger> loggerReference;
 
     // Switch back the tccl for the cache lookup, to avoid caffeine internal threads to have a reference to an app classloader.
@@ -111,6 +131,7 @@ abstract class DispatchingLogger extends Logger {
         }
       }
     }
+    lastResolvedLoggers.set(id, new ClassLoaderMemo<>(resolvedCtxClassLoader, logger));
     return logger;
   }
 
@@ -994,4 +1015,28 @@ abstract class DispatchingLogger extends Logger {
   public void warn(String message, Throwable t) {
     getLogger().warn(message, t);
   }
+
+  /**
+   * The {@link ClassLoaderMemo} of the loggers that were last resolved by a thread, in a fixed number of slots indexed by the
+   * {@link #id} of the {@link DispatchingLogger}. A logger whose slot was taken by another one just falls back to the cache
+   * lookup.
+   */
+  private static final class LastResolvedLoggers {
+
+    private static final int SLOTS = 16;
+
+    private final long[] ids = new long[SLOTS];
+    private final ClassLoaderMemo<Logger>[] memos = new ClassLoaderMemo[SLOTS];
+
+    ClassLoaderMemo<Logger> get(long id) {
+      final int slot = (int) (id & (SLOTS - 1));
+      return ids[slot] == id ? memos[slot] : null;
+    }
+
+    void set(long id, ClassLoaderMemo<Logger> memo) {
+      final int slot = (int) (id & (SLOTS - 1));
+      ids[slot] = id;
+      memos[slot] = memo;
+    }
+  }
 }
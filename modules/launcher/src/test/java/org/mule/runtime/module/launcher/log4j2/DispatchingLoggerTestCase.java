@@ -8,6 +8,7 @@ package org.mule.runtime.module.launcher.log4j2;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -114,6 +115,62 @@ public class DispatchingLoggerTestCase extends AbstractMuleTestCase {
     });
   }
 
+  @Test
+  public void alternateRegionClassLoaders() {
+    RegionClassLoader anotherRegionClassLoader = mock(RegionClassLoader.class);
+    Logger regionLogger = mockLoggerFor(regionClassLoader);
+    Logger anotherRegionLogger = mockLoggerFor(anotherRegionClassLoader);
+
+    for (int i = 0; i < 2; ++i) {
+      withContextClassLoader(regionClassLoader, () -> logger.info(MESSAGE));
+      withContextClassLoader(anotherRegionClassLoader, () -> logger.info(MESSAGE));
+    }
+
+    verify(regionLogger, times(2)).info(MESSAGE);
+    verify(anotherRegionLogger, times(2)).info(MESSAGE);
+    verify(contextSelector, times(1)).getContext(LOGGER_NAME, regionClassLoader, true);
+    verify(contextSelector, times(1)).getContext(LOGGER_NAME, anotherRegionClassLoader, true);
+  }
+
+  @Test
+  public void loggersOnSameThreadKeepTheirOwnResolvedLogger() {
+    String otherLoggerName = LOGGER_NAME + ".other";
+    Logger otherLogger =
+        new DispatchingLogger(originalLogger, currentClassLoader.hashCode(), containerLoggerContext, contextSelector,
+                              messageFactory) {
+
+          @Override
+          public String getName() {
+            return otherLoggerName;
+          }
+        };
+
+    Logger regionLogger = mock(Logger.class);
+    Logger otherRegionLogger = mock(Logger.class);
+    LoggerContext artifactLoggerContext = mock(LoggerContext.class);
+    when(artifactLoggerContext.getLogger(eq(LOGGER_NAME), any(MessageFactory.class))).thenReturn(regionLogger);
+    when(artifactLoggerContext.getLogger(eq(otherLoggerName), any(MessageFactory.class))).thenReturn(otherRegionLogger);
+    when(contextSelector.getContext(anyString(), eq(regionClassLoader), eq(true))).thenReturn(artifactLoggerContext);
+
+    for (int i = 0; i < 2; ++i) {
+      withContextClassLoader(regionClassLoader, () -> {
+        logger.info(MESSAGE);
+        otherLogger.info(MESSAGE);
+      });
+    }
+
+    verify(regionLogger, times(2)).info(MESSAGE);
+    verify(otherRegionLogger, times(2)).info(MESSAGE);
+  }
+
+  private Logger mockLoggerFor(ClassLoader classLoader) {
+    Logger artifactLogger = mock(Logger.class);
+    LoggerContext artifactLoggerContext = mock(LoggerContext.class);
+    when(artifactLoggerContext.getLogger(anyString(), any(MessageFactory.class))).thenReturn(artifactLogger);
+    when(contextSelector.getContext(LOGGER_NAME, classLoader, true)).thenReturn(artifactLoggerContext);
+    return artifactLogger;
+  }
+
   @Test
   public void whenRecursiveLoggerContextInstantiationExceptionExpectFallbackUsingContainerClassLoader() {
     // Expected Loggers
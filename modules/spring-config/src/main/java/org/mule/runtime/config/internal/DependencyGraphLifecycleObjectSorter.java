@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.lang.Math.max;
 import static java.util.Arrays.stream;
 import static java.util.Collections.reverse;
 import static java.util.Objects.requireNonNull;
@@ -22,8 +23,10 @@ import org.mule.runtime.core.internal.lifecycle.phases.LifecycleObjectSorter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 
 import org.jgrapht.alg.connectivity.ConnectivityInspector;
@@ -162,34 +165,84 @@ public class DependencyGraphLifecycleObjectSorter implements LifecycleObjectSort
    */
   @Override
   public List<Object> getSortedObjects() {
-    List<BeanWrapper> res = dependencyGraphs.stream().map(graph -> {
+    List<BeanWrapper> res = dependencyGraphs.stream().map(this::getSortedVertices)
+        .reduce(new ArrayList<>(), (sortedObjectList, b) -> {
+          for (BeanWrapper v : b) {
+            if (!sortedObjectList.contains(v)) {
+              sortedObjectList.add(v);
+            }
+          }
+          return sortedObjectList;
+
+        });
+
+    return res.stream().map(BeanWrapper::getWrappedObject).collect(toList());
+
+  }
 
-      List<BeanWrapper> sortedObjects = newArrayList(new TopologicalOrderIterator<>(graph, new Comparator<BeanWrapper>() {
+  /**
+   * Groups the objects of each graph(bucket) by their depth in it: objects with no prerequisites in the graph go in the first
+   * group, and every other object goes in the group after the one of its deepest prerequisite. So, the objects in a group don't
+   * depend on each other. The groups of each graph(bucket) come after the ones of the previous graph, and objects already present
+   * in a previous graph are not repeated.
+   *
+   * @return the groups of objects, in the order in which they must be initialised/disposed
+   */
+  @Override
+  public List<List<Object>> getSortedObjectGroups() {
+    List<List<Object>> groups = new ArrayList<>();
+    Set<BeanWrapper> processed = new HashSet<>();
+
+    for (DefaultDirectedGraph<BeanWrapper, DefaultEdge> graph : dependencyGraphs) {
+      List<List<Object>> graphGroups = new ArrayList<>();
+      Map<BeanWrapper, Integer> depths = new HashMap<>();
 
-        @Override
-        public int compare(BeanWrapper o1, BeanWrapper o2) {
-          if (getLifeCycleObjectNameOrder().getOrDefault(o1.getName(), -1) > getLifeCycleObjectNameOrder()
-              .getOrDefault(o2.getName(), -1)) {
-            return -1;
-          } else {
-            return 1;
+      // prerequisites always come before the objects depending on them
+      for (BeanWrapper vertex : getSortedVertices(graph)) {
+        if (!processed.add(vertex)) {
+          continue;
+        }
+
+        int depth = 0;
+        for (DefaultEdge edge : graph.outgoingEdgesOf(vertex)) {
+          Integer prerequisiteDepth = depths.get(graph.getEdgeTarget(edge));
+          if (prerequisiteDepth != null) {
+            depth = max(depth, prerequisiteDepth + 1);
           }
         }
-      }));
-      reverse(sortedObjects);
-      return sortedObjects;
-    }).reduce(new ArrayList<>(), (sortedObjectList, b) -> {
-      for (BeanWrapper v : b) {
-        if (!sortedObjectList.contains(v)) {
-          sortedObjectList.add(v);
+        depths.put(vertex, depth);
+
+        while (graphGroups.size() <= depth) {
+          graphGroups.add(new ArrayList<>());
         }
+        graphGroups.get(depth).add(vertex.getWrappedObject());
       }
-      return sortedObjectList;
 
-    });
+      groups.addAll(graphGroups);
+    }
 
-    return res.stream().map(BeanWrapper::getWrappedObject).collect(toList());
+    return groups;
+  }
 
+  /**
+   * The objects in the graph(bucket) will be sorted based on the topological order. By reversing the order, The object that
+   * should be initialised/disposed first will come first.
+   */
+  private List<BeanWrapper> getSortedVertices(DefaultDirectedGraph<BeanWrapper, DefaultEdge> graph) {
+    List<BeanWrapper> sortedObjects = newArrayList(new TopologicalOrderIterator<>(graph, new Comparator<BeanWrapper>() {
+
+      @Override
+      public int compare(BeanWrapper o1, BeanWrapper o2) {
+        if (getLifeCycleObjectNameOrder().getOrDefault(o1.getName(), -1) > getLifeCycleObjectNameOrder()
+            .getOrDefault(o2.getName(), -1)) {
+          return -1;
+        } else {
+          return 1;
+        }
+      }
+    }));
+    reverse(sortedObjects);
+    return sortedObjects;
   }
 
   /**
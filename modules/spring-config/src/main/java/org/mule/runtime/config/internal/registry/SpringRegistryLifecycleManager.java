@@ -77,7 +77,7 @@ public class SpringRegistryLifecycleManager extends RegistryLifecycleManager {
 
     registerPhase(NotInLifecyclePhase.PHASE_NAME, new NotInLifecyclePhase(), new EmptyLifecycleCallback<>());
     registerPhase(Initialisable.PHASE_NAME, new SpringContextInitialisePhase(), callback);
-    registerPhase(Startable.PHASE_NAME, new MuleContextStartPhase(), callback);
+    registerPhase(Startable.PHASE_NAME, new SpringContextStartPhase(), callback);
     registerPhase(Stoppable.PHASE_NAME, new MuleContextStopPhase(), callback);
     registerPhase(Disposable.PHASE_NAME, new SpringContextDisposePhase(), callback);
   }
@@ -154,18 +154,37 @@ public class SpringRegistryLifecycleManager extends RegistryLifecycleManager {
       if (USE_LEGACY_SORTER) {
         return new SpringLifecycleObjectSorter(orderedLifecycleTypes, getSpringRegistry());
       }
-      AutoDiscoveredDependencyResolver autoDiscoveredDependencyResolver =
-          new AutoDiscoveredDependencyResolver(getSpringRegistry());
-      DeclaredDependencyResolver declaredDependencyResolver = new DeclaredDependencyResolver(getSpringRegistry());
-      ConfigurationDependencyResolver configurationDependencyResolver =
-          getSpringRegistry().getConfigurationDependencyResolver();
-      DependencyGraphBeanDependencyResolver dependencyGraphBeanDependencyResolver =
-          new DependencyGraphBeanDependencyResolver(configurationDependencyResolver, declaredDependencyResolver,
-                                                    autoDiscoveredDependencyResolver, getSpringRegistry());
-      return new DependencyGraphLifecycleObjectSorter(dependencyGraphBeanDependencyResolver, orderedLifecycleTypes);
+      return newDependencyGraphLifecycleObjectSorter(orderedLifecycleTypes);
     }
   }
 
+  /**
+   * A start phase that, when the lifecycle is applied in parallel, sorts the objects by their dependencies so that independent
+   * objects may be started concurrently.
+   */
+  class SpringContextStartPhase extends MuleContextStartPhase {
+
+    @Override
+    public LifecycleObjectSorter newLifecycleObjectSorter() {
+      if (USE_LEGACY_SORTER || !isParallelLifecycleEnabled()) {
+        return super.newLifecycleObjectSorter();
+      }
+      return newDependencyGraphLifecycleObjectSorter(orderedLifecycleTypes);
+    }
+  }
+
+  private LifecycleObjectSorter newDependencyGraphLifecycleObjectSorter(Class<?>[] orderedLifecycleTypes) {
+    AutoDiscoveredDependencyResolver autoDiscoveredDependencyResolver =
+        new AutoDiscoveredDependencyResolver(getSpringRegistry());
+    DeclaredDependencyResolver declaredDependencyResolver = new DeclaredDependencyResolver(getSpringRegistry());
+    ConfigurationDependencyResolver configurationDependencyResolver =
+        getSpringRegistry().getConfigurationDependencyResolver();
+    DependencyGraphBeanDependencyResolver dependencyGraphBeanDependencyResolver =
+        new DependencyGraphBeanDependencyResolver(configurationDependencyResolver, declaredDependencyResolver,
+                                                  autoDiscoveredDependencyResolver, getSpringRegistry());
+    return new DependencyGraphLifecycleObjectSorter(dependencyGraphBeanDependencyResolver, orderedLifecycleTypes);
+  }
+
   /**
    * Detects if a bean is an inner bean to prevent applying lifecycle to it since lifecycle is already applied by the owner, i.e.:
    * a flow
@@ -218,15 +237,7 @@ public class SpringRegistryLifecycleManager extends RegistryLifecycleManager {
       if (USE_LEGACY_SORTER) {
         return new SpringLifecycleObjectSorter(orderedLifecycleTypes, getSpringRegistry());
       }
-      AutoDiscoveredDependencyResolver autoDiscoveredDependencyResolver =
-          new AutoDiscoveredDependencyResolver(getSpringRegistry());
-      DeclaredDependencyResolver declaredDependencyResolver = new DeclaredDependencyResolver(getSpringRegistry());
-      ConfigurationDependencyResolver configurationDependencyResolver =
-          getSpringRegistry().getConfigurationDependencyResolver();
-      DependencyGraphBeanDependencyResolver dependencyGraphBeanDependencyResolver =
-          new DependencyGraphBeanDependencyResolver(configurationDependencyResolver, declaredDependencyResolver,
-                                                    autoDiscoveredDependencyResolver, getSpringRegistry());
-      return new DependencyGraphLifecycleObjectSorter(dependencyGraphBeanDependencyResolver, orderedLifecycleTypes);
+      return newDependencyGraphLifecycleObjectSorter(orderedLifecycleTypes);
     }
   }
 
@@ -16,6 +16,7 @@ import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
@@ -190,6 +191,35 @@ public class DependencyGraphLifecycleObjectSorterTestCase {
                                                 containsInRelativeOrder(objectC, objectB)));
   }
 
+  @Test
+  @Description("Group components that don't depend on each other. " +
+      "A -> C, B -> C: C should be alone in the first group, and A and B should be together in the second one.")
+  public void groupComponentsWithSharedChildTest() {
+    BeanWrapper componentA = new BeanWrapper("objectA", objectA);
+    BeanWrapper componentB = new BeanWrapper("objectB", objectB);
+    BeanWrapper componentC = new BeanWrapper("objectC", objectC);
+
+    Map<BeanWrapper, List<BeanWrapper>> transitiveDependenciesOfA = new HashMap<>();
+    transitiveDependenciesOfA.put(componentA, asList(componentC));
+    transitiveDependenciesOfA.put(componentC, emptyList());
+    Map<BeanWrapper, List<BeanWrapper>> transitiveDependenciesOfB = new HashMap<>();
+    transitiveDependenciesOfB.put(componentB, asList(componentC));
+    transitiveDependenciesOfB.put(componentC, emptyList());
+
+    when(resolver.getTransitiveDependencies("objectA", 5)).thenReturn(transitiveDependenciesOfA);
+    when(resolver.getTransitiveDependencies("objectB", 5)).thenReturn(transitiveDependenciesOfB);
+    when(resolver.getTransitiveDependencies("objectC", 5)).thenReturn(emptyMap());
+
+    sorter.addObject("objectA", objectA);
+    sorter.addObject("objectB", objectB);
+    sorter.addObject("objectC", objectC);
+
+    List<List<Object>> groups = sorter.getSortedObjectGroups();
+    assertThat(groups.size(), is(2));
+    assertThat(groups.get(0), contains(objectC));
+    assertThat(groups.get(1), containsInAnyOrder(objectA, objectB));
+  }
+
   @Test(expected = NullPointerException.class)
   @Description("If a null component is added to the graph, it will throw NullPointerException.")
   public void handleNullObjectTest() {
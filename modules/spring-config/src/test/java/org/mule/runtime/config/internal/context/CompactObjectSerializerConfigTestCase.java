@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.context;
+
+import static org.mule.runtime.core.internal.serialization.CompactObjectSerializer.COMPACT_OBJECT_SERIALIZER_NAME;
+
+import static java.util.Collections.emptyMap;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.serialization.ObjectSerializer;
+import org.mule.runtime.config.internal.SpringXmlConfigurationBuilder;
+import org.mule.runtime.core.api.config.ConfigurationBuilder;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
+import org.mule.runtime.core.internal.serialization.CompactObjectSerializer;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.io.Serializable;
+
+import org.junit.Test;
+
+public class CompactObjectSerializerConfigTestCase extends AbstractMuleContextTestCase {
+
+  @Override
+  protected ConfigurationBuilder getBuilder() throws Exception {
+    return new SpringXmlConfigurationBuilder(new String[] {"./compact-object-serializer-config.xml"}, emptyMap());
+  }
+
+  @Test
+  public void selectedAsDefaultObjectSerializer() throws Exception {
+    ObjectSerializer serializer = muleContext.getObjectSerializer();
+    assertThat(serializer, is(instanceOf(CompactObjectSerializer.class)));
+    assertThat(serializer, is(sameInstance(((MuleContextWithRegistry) muleContext).getRegistry()
+        .lookupObject(COMPACT_OBJECT_SERIALIZER_NAME))));
+  }
+
+  @Test
+  public void roundTrip() throws Exception {
+    ObjectSerializer serializer = muleContext.getObjectSerializer();
+    Serializable value = "compact";
+    byte[] bytes = serializer.getInternalProtocol().serialize(value);
+    assertThat(serializer.getInternalProtocol().deserialize(bytes), is(value));
+  }
+}
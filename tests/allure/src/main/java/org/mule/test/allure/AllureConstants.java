@@ -441,6 +441,7 @@ public interface AllureConstants {
       String COLLECT_LIST = "Collect List";
       String COLLECT_MAP = "Collect Map";
       String JOIN_ONLY = "Join Only";
+      String STREAMING_RESULTS = "Streaming Results";
     }
 
   }
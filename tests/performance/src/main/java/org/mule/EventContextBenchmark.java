@@ -41,6 +41,10 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Measures the cost of creating and completing event contexts. Since many contexts are created for each event, run with
+ * {@code -prof gc} to also compare the memory allocated per operation ({@code gc.alloc.rate.norm}).
+ */
 @Warmup(iterations = 20)
 @Measurement(iterations = 100)
 @OutputTimeUnit(NANOSECONDS)
@@ -162,4 +166,35 @@ public class EventContextBenchmark extends AbstractBenchmark {
     return new Object[] {result, complete};
   }
 
+  @Benchmark
+  public Object[] createChildEventContextAndComplete() {
+    BaseEventContext eventContext = (BaseEventContext) create(flow, CONNECTOR_LOCATION);
+    BaseEventContext child = child(eventContext, empty());
+    child.success(event);
+    eventContext.success(event);
+    return new Object[] {eventContext, child};
+  }
+
+  @Benchmark
+  public BaseEventContext createEventContextWith10NestedChildren() {
+    return nestedChildEventContexts(10);
+  }
+
+  private BaseEventContext nestedChildEventContexts(int depth) {
+    BaseEventContext eventContext = (BaseEventContext) create(flow, CONNECTOR_LOCATION);
+
+    List<BaseEventContext> contexts = new ArrayList<>(depth);
+    BaseEventContext current = eventContext;
+    for (int i = 0; i < depth; ++i) {
+      current = child(current, empty());
+      contexts.add(current);
+    }
+
+    for (int i = depth - 1; i >= 0; --i) {
+      contexts.get(i).success(event);
+    }
+    eventContext.success(event);
+    return eventContext;
+  }
+
 }
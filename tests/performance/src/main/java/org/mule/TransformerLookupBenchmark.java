@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.internal.registry.TypeBasedTransformerResolver;
+import org.mule.runtime.core.privileged.transformer.TransformersRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+@OutputTimeUnit(NANOSECONDS)
+@Threads(3)
+public class TransformerLookupBenchmark extends AbstractBenchmark {
+
+  private final DataType unresolvableSource = fromType(Thread.class);
+  private final DataType unresolvableResult = fromType(Integer.class);
+
+  private MuleContext muleContext;
+  private TransformersRegistry transformersRegistry;
+  private TypeBasedTransformerResolver resolver;
+
+  // The previous cache, keyed by the string representation of both types
+  private final Map<String, Transformer> stringKeyedCache = new ConcurrentHashMap<>(8);
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    transformersRegistry = lookupObject(muleContext, TransformersRegistry.class);
+    resolver = new TypeBasedTransformerResolver();
+    resolver.setTransformersRegistry(transformersRegistry);
+    resolver.initialise();
+
+    Transformer transformer = resolver.resolve(INPUT_STREAM, BYTE_ARRAY);
+    if (transformer != null) {
+      stringKeyedCache.put(INPUT_STREAM.toString() + BYTE_ARRAY.toString(), transformer);
+    }
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Transformer stringKeyedCacheHit() {
+    return stringKeyedCache.get(INPUT_STREAM.toString() + BYTE_ARRAY.toString());
+  }
+
+  @Benchmark
+  public Transformer resolverHit() throws Exception {
+    return resolver.resolve(INPUT_STREAM, BYTE_ARRAY);
+  }
+
+  @Benchmark
+  public Transformer resolverMiss() throws Exception {
+    return resolver.resolve(unresolvableSource, unresolvableResult);
+  }
+
+  @Benchmark
+  public Transformer registryLookup() throws Exception {
+    return transformersRegistry.lookupTransformer(STRING, BYTE_ARRAY);
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.core.internal.connection.ConnectionPool.ConnectionLifecycle;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the borrow/return throughput of the {@link ConnectionPoolEngine}s with a pool smaller than the number of threads
+ * using it.
+ */
+@State(Benchmark)
+@BenchmarkMode(Throughput)
+public class ConnectionPoolBenchmark extends AbstractBenchmark {
+
+  @Param({"COMMONS_POOL", "LOCK_FREE"})
+  public ConnectionPoolEngine engine;
+
+  @Param({"16"})
+  public int maxActive;
+
+  private SimpleUnitTestSupportSchedulerService schedulerService;
+  private ConnectionPool<Object> pool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    schedulerService = new SimpleUnitTestSupportSchedulerService();
+    PoolingProfile poolingProfile = new PoolingProfile(maxActive, maxActive, -1, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE);
+    pool = engine.createPool(poolingProfile, new ConnectionLifecycle<Object>() {
+
+      @Override
+      public Object create() {
+        return new Object();
+      }
+
+      @Override
+      public void destroy(Object connection) {}
+    }, schedulerService::ioScheduler);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    pool.close();
+    schedulerService.stop();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object borrowReturn1Thread() throws Exception {
+    return borrowReturn();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object borrowReturn8Threads() throws Exception {
+    return borrowReturn();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public Object borrowReturn64Threads() throws Exception {
+    return borrowReturn();
+  }
+
+  private Object borrowReturn() throws Exception {
+    PooledConnection<Object> connection = pool.borrowConnection();
+    try {
+      return connection.getConnection();
+    } finally {
+      pool.returnConnection(connection);
+    }
+  }
+}
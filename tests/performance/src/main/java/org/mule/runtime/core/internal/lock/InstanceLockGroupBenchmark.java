@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lock;
+
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.mule.AbstractBenchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the throughput of locking and unlocking through an {@link InstanceLockGroup} with an increasing amount of threads.
+ * <p>
+ * With the {@code hot} distribution all the threads contend for a few lock ids, while with the {@code cold} one each operation
+ * very likely uses an id not currently locked by another thread, so the cost of registering and releasing the entries prevails.
+ */
+@BenchmarkMode(Throughput)
+public class InstanceLockGroupBenchmark extends AbstractBenchmark {
+
+  private static final int HOT_KEYS = 4;
+  private static final int COLD_KEYS = 1 << 16;
+
+  @Param({"hot", "cold"})
+  public String distribution;
+
+  @Param({"true", "false"})
+  public boolean fair;
+
+  private InstanceLockGroup lockGroup;
+  private String[] lockIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    lockGroup = new InstanceLockGroup(new SingleServerLockProvider(fair));
+    lockIds = new String["hot".equals(distribution) ? HOT_KEYS : COLD_KEYS];
+    for (int i = 0; i < lockIds.length; ++i) {
+      lockIds[i] = "lock-" + i;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    lockGroup.dispose();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void lockUnlock1Thread() {
+    lockUnlock();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void lockUnlock4Threads() {
+    lockUnlock();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void lockUnlock16Threads() {
+    lockUnlock();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void lockUnlock64Threads() {
+    lockUnlock();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public boolean tryLockUnlock64Threads() {
+    final String lockId = nextLockId();
+    if (lockGroup.tryLock(lockId)) {
+      lockGroup.unlock(lockId);
+      return true;
+    }
+    return false;
+  }
+
+  private void lockUnlock() {
+    final String lockId = nextLockId();
+    lockGroup.lock(lockId);
+    lockGroup.unlock(lockId);
+  }
+
+  private String nextLockId() {
+    return lockIds[ThreadLocalRandom.current().nextInt(lockIds.length)];
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.profiling.tracing;
+
+import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.profiling.tracing.event.tracer.impl.DefaultCoreEventTracer.getCoreEventTracerBuilder;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+
+import static java.lang.Double.parseDouble;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.profiling.tracing.event.span.InternalSpan;
+import org.mule.runtime.core.internal.profiling.tracing.event.span.export.InternalSpanExportManager;
+import org.mule.runtime.core.internal.profiling.tracing.event.span.sampling.DefaultCoreEventSpanSampler;
+import org.mule.runtime.core.internal.profiling.tracing.event.tracer.CoreEventTracer;
+import org.mule.runtime.core.internal.profiling.tracing.export.InternalSpanExporter;
+import org.mule.runtime.core.internal.profiling.tracing.export.OpentelemetrySpanExporter;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of tracing the processing of an event through a flow with some components, exporting the spans to an
+ * in-memory exporter. Run with {@code -prof gc} to also compare the memory allocated per event ({@code gc.alloc.rate.norm}).
+ * <p>
+ * The {@code sampling} param is either {@code off}, for no tracing at all, or the ratio of the event contexts to sample.
+ */
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@OutputTimeUnit(NANOSECONDS)
+public class CoreEventTracerBenchmark extends AbstractBenchmark {
+
+  private static final String TRACING_OFF = "off";
+  private static final int COMPONENTS = 10;
+
+  @Param({TRACING_OFF, "1", "0.01"})
+  public String sampling;
+
+  private MuleContext muleContext;
+  private Flow flow;
+  private Message message;
+  private CoreEventTracer coreEventTracer;
+  private SdkTracerProvider tracerProvider;
+  private final LongAdder exportedSpans = new LongAdder();
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    flow = createFlow(muleContext);
+    registerObject(muleContext, FLOW_NAME, flow);
+    message = Message.of(PAYLOAD);
+
+    if (!TRACING_OFF.equals(sampling)) {
+      tracerProvider = SdkTracerProvider.builder()
+          .addSpanProcessor(SimpleSpanProcessor.create(new InMemorySpanExporter(exportedSpans)))
+          .build();
+      coreEventTracer = getCoreEventTracerBuilder()
+          .withMuleConfiguration(muleContext.getConfiguration())
+          .withArtifactType(APP)
+          .withSpanExporterManager(new InMemorySpanExportManager(tracerProvider.get("benchmark")))
+          .withSpanSampler(new DefaultCoreEventSpanSampler(parseDouble(sampling), 0))
+          .build();
+    }
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown();
+    }
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent processEvent() {
+    final CoreEvent event = CoreEvent.builder(create(flow, CONNECTOR_LOCATION)).message(message).build();
+    if (coreEventTracer == null) {
+      return event;
+    }
+
+    coreEventTracer.startComponentSpan(event, flow);
+    for (int i = 0; i < COMPONENTS; ++i) {
+      coreEventTracer.startComponentSpan(event, flow);
+      coreEventTracer.endCurrentSpan(event);
+    }
+    coreEventTracer.endCurrentSpan(event);
+    return event;
+  }
+
+  /**
+   * Exports the spans through OpenTelemetry with the given {@link Tracer}.
+   */
+  private static class InMemorySpanExportManager implements InternalSpanExportManager<EventContext> {
+
+    private final Tracer tracer;
+
+    private InMemorySpanExportManager(Tracer tracer) {
+      this.tracer = tracer;
+    }
+
+    @Override
+    public InternalSpanExporter getInternalSpanExporter(EventContext context, InternalSpan internalSpan) {
+      return new OpentelemetrySpanExporter(tracer, context, internalSpan);
+    }
+  }
+
+  /**
+   * Only counts the exported spans, so that the cost of sending them somewhere doesn't hide the cost of tracing.
+   */
+  private static class InMemorySpanExporter implements SpanExporter {
+
+    private final LongAdder exportedSpans;
+
+    private InMemorySpanExporter(LongAdder exportedSpans) {
+      this.exportedSpans = exportedSpans;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      exportedSpans.add(spans.size());
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
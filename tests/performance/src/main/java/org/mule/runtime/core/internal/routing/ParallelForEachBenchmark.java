@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.component.location.ConfigurationComponentLocator.REGISTRY_KEY;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.tck.junit4.AbstractMuleContextTestCase.getAppleFlowComponentLocationAnnotations;
+import static org.mule.tck.util.MuleContextUtils.eventBuilder;
+import static org.openjdk.jmh.annotations.Mode.SingleShotTime;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.object.CursorIteratorProviderFactory;
+import org.mule.runtime.core.api.streaming.object.FileStoreCursorIteratorConfig;
+import org.mule.runtime.core.internal.routing.forkjoin.CollectListForkJoinStrategyFactory;
+import org.mule.runtime.core.internal.routing.forkjoin.StreamingForkJoinStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares aggregating the results of a {@link ParallelForEach} into a list against consuming them as they complete through a
+ * {@link StreamingForkJoinStrategyFactory}.
+ * <p>
+ * Each route replaces its part with a payload of {@link #PART_SIZE} bytes. When collecting, all of them are retained until the
+ * last route completes. When streaming, only the results of the routes in flight and the ones waiting to be consumed are
+ * retained, which is bounded by {@link #CONCURRENCY}. The results are still buffered by the cursor provider so that they are
+ * repeatable: the in-memory one keeps them all in the heap, while the file store one only keeps {@link #IN_MEMORY_RESULTS} of
+ * them. Run with {@code -prof gc} to compare allocation rates.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 20)
+@OutputTimeUnit(MILLISECONDS)
+public class ParallelForEachBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = getLogger(ParallelForEachBenchmark.class);
+  private static final int PAYLOADS = 20000;
+  private static final int PART_SIZE = 4096;
+  private static final int CONCURRENCY = 16;
+  private static final int IN_MEMORY_RESULTS = 256;
+
+  private ConfigurationComponentLocator configurationComponentLocator;
+
+  private MuleContext muleContext;
+  private CoreEvent event;
+  private ParallelForEach collectListForEach;
+  private ParallelForEach streamingForEach;
+  private ParallelForEach fileStoreStreamingForEach;
+  private ParallelForEach unorderedFileStoreStreamingForEach;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    configurationComponentLocator = mock(ConfigurationComponentLocator.class, RETURNS_DEEP_STUBS.get());
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+
+    List<String> payload = new ArrayList<>();
+    for (int i = 0; i < PAYLOADS; i++) {
+      payload.add("" + i);
+    }
+    event = eventBuilder(muleContext).message(of(payload)).build();
+
+    StreamingManager streamingManager = lookupObject(muleContext, StreamingManager.class);
+    collectListForEach = createParallelForEach(new CollectListForkJoinStrategyFactory(false));
+    streamingForEach = createParallelForEach(new StreamingForkJoinStrategyFactory(false, streamingManager));
+
+    CursorIteratorProviderFactory fileStoreProviderFactory = streamingManager.forObjects()
+        .getFileStoreCursorProviderFactory(new FileStoreCursorIteratorConfig(IN_MEMORY_RESULTS));
+    fileStoreStreamingForEach =
+        createParallelForEach(new StreamingForkJoinStrategyFactory(false, fileStoreProviderFactory));
+    unorderedFileStoreStreamingForEach =
+        createParallelForEach(new StreamingForkJoinStrategyFactory(true, fileStoreProviderFactory));
+  }
+
+  private ParallelForEach createParallelForEach(ForkJoinStrategyFactory forkJoinStrategyFactory) throws Exception {
+    ParallelForEach parallelForEach = new ParallelForEach();
+    parallelForEach.setAnnotations(getAppleFlowComponentLocationAnnotations());
+    parallelForEach.setMaxConcurrency(CONCURRENCY);
+    parallelForEach.setForkJoinStrategyFactory(forkJoinStrategyFactory);
+
+    Processor partProcessor = event -> CoreEvent.builder(event).message(of(new byte[PART_SIZE])).build();
+    parallelForEach.setMessageProcessors(singletonList(partProcessor));
+    initialiseIfNeeded(parallelForEach, muleContext);
+
+    return parallelForEach;
+  }
+
+  @TearDown
+  public void tearDown() {
+    disposeIfNeeded(collectListForEach, LOGGER);
+    disposeIfNeeded(streamingForEach, LOGGER);
+    disposeIfNeeded(fileStoreStreamingForEach, LOGGER);
+    disposeIfNeeded(unorderedFileStoreStreamingForEach, LOGGER);
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  @BenchmarkMode(SingleShotTime)
+  public int collectList() {
+    try {
+      List<Message> results = (List<Message>) collectListForEach.process(event).getMessage().getPayload().getValue();
+      return results.size();
+    } catch (Throwable t) {
+      LOGGER.error("Unexpected error on collectList", t);
+      return -1;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(SingleShotTime)
+  public int streaming() {
+    return consume(streamingForEach, "streaming");
+  }
+
+  @Benchmark
+  @BenchmarkMode(SingleShotTime)
+  public int fileStoreStreaming() {
+    return consume(fileStoreStreamingForEach, "fileStoreStreaming");
+  }
+
+  @Benchmark
+  @BenchmarkMode(SingleShotTime)
+  public int unorderedFileStoreStreaming() {
+    return consume(unorderedFileStoreStreamingForEach, "unorderedFileStoreStreaming");
+  }
+
+  private int consume(ParallelForEach parallelForEach, String benchmark) {
+    int count = 0;
+    try {
+      CursorIteratorProvider provider =
+          (CursorIteratorProvider) parallelForEach.process(event).getMessage().getPayload().getValue();
+      try (CursorIterator<Message> cursor = provider.openCursor()) {
+        while (cursor.hasNext()) {
+          cursor.next();
+          count++;
+        }
+      } finally {
+        provider.close();
+      }
+    } catch (Throwable t) {
+      LOGGER.error("Unexpected error on " + benchmark, t);
+    }
+    return count;
+  }
+
+  @Override
+  protected Map<String, Object> getStartUpRegistryObjects() {
+    when(configurationComponentLocator.find(any(Location.class))).thenReturn(empty());
+    when(configurationComponentLocator.find(any(ComponentIdentifier.class))).thenReturn(emptyList());
+
+    return singletonMap(REGISTRY_KEY, configurationComponentLocator);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.AuxCounters.Type.EVENTS;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.util.store.MonitoredObjectStoreWrapper.StoredObject;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Java and compact serialization protocols when serializing and deserializing the values the runtime usually
+ * persists: events, messages and the entries of monitored object stores.
+ * <p>
+ * Besides the time, the {@code serialize} benchmark reports the size of the serialized value in the {@code serializedBytes}
+ * counter.
+ */
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@OutputTimeUnit(NANOSECONDS)
+public class SerializationProtocolBenchmark extends AbstractBenchmark {
+
+  private static final int VARIABLES = 5;
+
+  @Param({"java", "compact"})
+  public String protocol;
+
+  @Param({"event", "message", "storedObject"})
+  public String value;
+
+  private MuleContext muleContext;
+  private SerializationProtocol serializationProtocol;
+  private Object toSerialize;
+  private byte[] serialized;
+
+  @State(Scope.Thread)
+  @AuxCounters(EVENTS)
+  public static class SerializedSize {
+
+    public long serializedBytes;
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    currentMuleContext.set(muleContext);
+    Flow flow = createFlow(muleContext);
+    registerObject(muleContext, FLOW_NAME, flow);
+
+    if ("compact".equals(protocol)) {
+      CompactSerializationProtocol compactSerializationProtocol = new CompactSerializationProtocol();
+      compactSerializationProtocol.setMuleContext(muleContext);
+      serializationProtocol = compactSerializationProtocol;
+    } else {
+      JavaExternalSerializerProtocol javaSerializerProtocol = new JavaExternalSerializerProtocol();
+      javaSerializerProtocol.setMuleContext(muleContext);
+      serializationProtocol = javaSerializerProtocol;
+    }
+
+    CoreEvent.Builder eventBuilder = CoreEvent.builder(create(flow, CONNECTOR_LOCATION)).message(Message.of(PAYLOAD));
+    for (int i = 0; i < VARIABLES; ++i) {
+      eventBuilder.addVariable(KEY + i, VALUE + i);
+    }
+    CoreEvent event = eventBuilder.build();
+
+    switch (value) {
+      case "event":
+        toSerialize = event;
+        break;
+      case "message":
+        toSerialize = event.getMessage();
+        break;
+      default:
+        toSerialize = new StoredObject<>(event.getMessage(), currentTimeMillis(), KEY);
+    }
+    serialized = serializationProtocol.serialize(toSerialize);
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    currentMuleContext.set(null);
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public byte[] serialize(SerializedSize serializedSize) {
+    byte[] bytes = serializationProtocol.serialize(toSerialize);
+    serializedSize.serializedBytes = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return serializationProtocol.deserialize(serialized);
+  }
+}
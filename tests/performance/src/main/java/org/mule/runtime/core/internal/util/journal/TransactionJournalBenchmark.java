@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.journal;
+
+import static java.nio.file.Files.createTempDirectory;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.internal.util.journal.queue.LocalTxQueueTransactionJournal.createLocalTxQueueJournalEntrySerializer;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.util.journal.queue.LocalQueueTxJournalEntry;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+
+/**
+ * Compares the throughput of {@link TransactionJournal} with concurrent transactions, writing each entry directly from the
+ * logging thread ({@code groupCommitMaxBatchSize = 0}) or through group commit.
+ * <p>
+ * Note that direct writes are not forced to the storage device, while group commits are.
+ */
+@State(Benchmark)
+@BenchmarkMode(Throughput)
+public class TransactionJournalBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = getLogger(TransactionJournalBenchmark.class);
+
+  private static final String QUEUE_NAME = "queue";
+  private static final byte ADD_OPERATION = 5;
+  private static final byte COMMIT_OPERATION = 1;
+
+  @Param({"0", "64"})
+  public int groupCommitMaxBatchSize;
+
+  @Param({"200"})
+  public long groupCommitMaxLingerMicros;
+
+  private final AtomicInteger txIds = new AtomicInteger();
+
+  private MuleContext muleContext;
+  private File journalDirectory;
+  private TransactionJournal<Integer, LocalQueueTxJournalEntry> journal;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    muleContext = createMuleContextWithServices();
+    journalDirectory = createTempDirectory("tx-journal").toFile();
+    journal = new TransactionJournal<>(journalDirectory.getAbsolutePath(),
+                                       entry -> ((LocalQueueTxJournalEntry) entry).isCommit(),
+                                       createLocalTxQueueJournalEntrySerializer(muleContext), null,
+                                       groupCommitMaxBatchSize, groupCommitMaxLingerMicros);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    journal.close();
+    deleteQuietly(journalDirectory);
+    disposeIfNeeded(muleContext, LOGGER);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void transactionSingleThread() {
+    logTransaction();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void transaction8Threads() {
+    logTransaction();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void transaction64Threads() {
+    logTransaction();
+  }
+
+  private void logTransaction() {
+    int txId = txIds.incrementAndGet();
+    journal.logUpdateOperation(new LocalQueueTxJournalEntry(txId, ADD_OPERATION, QUEUE_NAME, PAYLOAD));
+    journal.logCheckpointOperation(new LocalQueueTxJournalEntry(txId, COMMIT_OPERATION, null, null));
+  }
+}
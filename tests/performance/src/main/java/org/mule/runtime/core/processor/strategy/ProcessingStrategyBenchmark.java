@@ -6,7 +6,11 @@
  */
 package org.mule.runtime.core.processor.strategy;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.internal.processor.strategy.SinkSelection.LEAST_LOADED;
+import static org.mule.runtime.core.internal.processor.strategy.SinkSelection.POWER_OF_TWO_CHOICES;
+import static org.mule.runtime.core.internal.processor.strategy.SinkSelection.ROUND_ROBIN;
 import static reactor.core.publisher.FluxSink.OverflowStrategy.ERROR;
 
 import org.mule.AbstractBenchmark;
@@ -18,14 +22,17 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.SinkSelection;
 import org.mule.runtime.core.internal.processor.strategy.TransactionAwareStreamEmitterProcessingStrategyFactory;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -41,6 +48,10 @@ import reactor.core.publisher.MonoSink;
 @BenchmarkMode(Mode.Throughput)
 public class ProcessingStrategyBenchmark extends AbstractBenchmark {
 
+  // One in every SKEW_PERIOD events is SKEW_FACTOR times more expensive than the rest
+  private static final int SKEW_PERIOD = 16;
+  private static final int SKEW_FACTOR = 100;
+
   private MuleContext muleContext;
 
   private ProcessingStrategy directPs;
@@ -59,6 +70,11 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
   private Sink directAllSink;
   private Sink emitterAllSink;
 
+  private final AtomicLong skewedEvents = new AtomicLong();
+  private Sink emitterRoundRobinSkewedSink;
+  private Sink emitterLeastLoadedSkewedSink;
+  private Sink emitterPowerOfTwoChoicesSkewedSink;
+
   @Setup(Level.Trial)
   public void setUp() throws MuleException {
     muleContext = createMuleContextWithServices();
@@ -94,6 +110,22 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
         directPs.createSink(flow, publisher -> baseFlux(publisher, directPs.onPipeline(directPs.onProcessor(processor))));
     emitterAllSink =
         emitterPs.createSink(flow, publisher -> baseFlux(publisher, emitterPs.onPipeline(emitterPs.onProcessor(processor))));
+
+    final ReactiveProcessor skewedProcessor = p -> Flux.from(p).doOnNext(e -> {
+      Blackhole.consumeCPU(skewedEvents.incrementAndGet() % SKEW_PERIOD == 0 ? 100 * SKEW_FACTOR : 100);
+    });
+    emitterRoundRobinSkewedSink = createSkewedSink(ROUND_ROBIN, "emitter_rr", skewedProcessor);
+    emitterLeastLoadedSkewedSink = createSkewedSink(LEAST_LOADED, "emitter_ll", skewedProcessor);
+    emitterPowerOfTwoChoicesSkewedSink = createSkewedSink(POWER_OF_TWO_CHOICES, "emitter_p2c", skewedProcessor);
+  }
+
+  private Sink createSkewedSink(SinkSelection sinkSelection, String schedulersNamePrefix, ReactiveProcessor processor)
+      throws MuleException {
+    TransactionAwareStreamEmitterProcessingStrategyFactory factory = new TransactionAwareStreamEmitterProcessingStrategyFactory();
+    factory.setSinkSelection(sinkSelection);
+    ProcessingStrategy ps = factory.create(muleContext, schedulersNamePrefix);
+    startIfNeeded(ps);
+    return ps.createSink(flow, publisher -> baseFlux(publisher, processor));
   }
 
   private Flux<CoreEvent> baseFlux(Publisher<CoreEvent> publisher,
@@ -153,4 +185,29 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
   public CoreEvent emitterAllSink() {
     return Mono.<CoreEvent>create(resultSink -> emitterAllSink.accept(createEvent(flow, resultSink))).block();
   }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(MICROSECONDS)
+  public CoreEvent emitterRoundRobinSkewedSink() {
+    return Mono.<CoreEvent>create(resultSink -> emitterRoundRobinSkewedSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(MICROSECONDS)
+  public CoreEvent emitterLeastLoadedSkewedSink() {
+    return Mono.<CoreEvent>create(resultSink -> emitterLeastLoadedSkewedSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(MICROSECONDS)
+  public CoreEvent emitterPowerOfTwoChoicesSkewedSink() {
+    return Mono.<CoreEvent>create(resultSink -> emitterPowerOfTwoChoicesSkewedSink.accept(createEvent(flow, resultSink)))
+        .block();
+  }
 }
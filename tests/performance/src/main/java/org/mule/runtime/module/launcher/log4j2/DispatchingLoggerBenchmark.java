@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.launcher.log4j2;
+
+import static java.lang.Thread.currentThread;
+
+import static org.mockito.Mockito.mock;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.module.artifact.api.classloader.ClassLoaderLookupPolicy;
+import org.mule.runtime.module.artifact.api.classloader.RegionClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.ApplicationDescriptor;
+
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the cost of log calls on a container logger held in a static field, when they are done from the context of different
+ * artifacts, as happens with the libraries shared by many deployed applications. The logged level is disabled, so only the cost
+ * of dispatching the call to the logger of the right artifact is measured.
+ */
+@BenchmarkMode(Throughput)
+@Threads(4)
+public class DispatchingLoggerBenchmark extends AbstractBenchmark {
+
+  private static final String MESSAGE = "Hello Log!";
+
+  @Param({"1", "50"})
+  public int artifacts;
+
+  private MuleLog4jContextFactory contextFactory;
+  private RegionClassLoader[] artifactClassLoaders;
+  private Logger logger;
+
+  @State(Scope.Thread)
+  public static class ArtifactCursor {
+
+    private int next;
+
+    ClassLoader nextClassLoader(RegionClassLoader[] classLoaders) {
+      final ClassLoader classLoader = classLoaders[next];
+      next = (next + 1) % classLoaders.length;
+      return classLoader;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    contextFactory = new MuleLog4jContextFactory(true);
+    logger = contextFactory.getContext(DispatchingLoggerBenchmark.class.getName(), getClass().getClassLoader(), null, false)
+        .getLogger(DispatchingLoggerBenchmark.class.getName());
+
+    artifactClassLoaders = new RegionClassLoader[artifacts];
+    for (int i = 0; i < artifacts; ++i) {
+      final String artifactName = "app-" + i;
+      artifactClassLoaders[i] = new RegionClassLoader(artifactName, new ApplicationDescriptor(artifactName),
+                                                      getClass().getClassLoader(), mock(ClassLoaderLookupPolicy.class));
+      // Creates the logger context of the artifact beforehand
+      logFrom(artifactClassLoaders[i]);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    for (RegionClassLoader artifactClassLoader : artifactClassLoaders) {
+      artifactClassLoader.dispose();
+    }
+    contextFactory.dispose();
+  }
+
+  @Benchmark
+  public void logFromSameArtifact() {
+    logFrom(artifactClassLoaders[0]);
+  }
+
+  @Benchmark
+  public void logFromAlternateArtifacts(ArtifactCursor cursor) {
+    logFrom(cursor.nextClassLoader(artifactClassLoaders));
+  }
+
+  @Benchmark
+  public boolean isEnabledFromSameArtifact() {
+    final Thread thread = currentThread();
+    final ClassLoader original = thread.getContextClassLoader();
+    thread.setContextClassLoader(artifactClassLoaders[0]);
+    try {
+      return logger.isDebugEnabled();
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  private void logFrom(ClassLoader artifactClassLoader) {
+    final Thread thread = currentThread();
+    final ClassLoader original = thread.getContextClassLoader();
+    thread.setContextClassLoader(artifactClassLoader);
+    try {
+      logger.debug(MESSAGE);
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+}
@@ -29,6 +29,7 @@ import org.mockito.Answers;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 public abstract class QueueStoreTestCase extends AbstractMuleContextTestCase {
 
@@ -118,6 +119,22 @@ public abstract class QueueStoreTestCase extends AbstractMuleContextTestCase {
     }
   }
 
+  @Test
+  public void drainSeveral() throws Exception {
+    QueueStore queue = createQueue();
+    for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+      queue.offer(String.valueOf(i), 0, NUMBER_OF_ITEMS);
+    }
+
+    List<Serializable> drained = new ArrayList<>();
+    assertThat(queue.drainTo(drained, NUMBER_OF_ITEMS - 1), is(NUMBER_OF_ITEMS - 1));
+    assertThat(queue.drainTo(drained, NUMBER_OF_ITEMS), is(1));
+    for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+      assertThat((String) drained.get(i), is(String.valueOf(i)));
+    }
+    assertThat(queue.poll(SHORT_POLL_TIMEOUT), nullValue());
+  }
+
   @Test
   public void offerSeveralRetrieveAllMuleEvents() throws Exception {
     QueueStore queue = createQueue();